@@ -0,0 +1,26 @@
+package com.example.benchmark.pricing;
+
+import com.example.payment.strategy.discount.DefaultDiscountStrategy;
+import com.example.payment.strategy.discount.DiscountStrategy;
+import com.example.payment.strategy.tax.KoreaTaxStrategy;
+import com.example.payment.strategy.tax.TaxStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * com.example.payment - double 기반 Strategy
+ * PaymentService.execute()의 할인 → 세금 계산 구간
+ */
+@State(Scope.Benchmark)
+public class BasePricingBenchmark {
+
+    private final DiscountStrategy discountStrategy = new DefaultDiscountStrategy();
+    private final TaxStrategy taxStrategy = new KoreaTaxStrategy();
+
+    @Benchmark
+    public double price(PricingInput input) {
+        double discounted = discountStrategy.apply(input.amount, input.vip);
+        return taxStrategy.apply(discounted);
+    }
+}
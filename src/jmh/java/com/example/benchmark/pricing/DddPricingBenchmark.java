@@ -0,0 +1,38 @@
+package com.example.benchmark.pricing;
+
+import com.example.payment_ddd.domain.model.Country;
+import com.example.payment_ddd.domain.model.Money;
+import com.example.payment_ddd.domain.model.Payment;
+import com.example.payment_ddd.domain.policy.KoreaTaxPolicy;
+import com.example.payment_ddd.domain.policy.UsTaxPolicy;
+import com.example.payment_ddd.domain.policy.VipDiscountPolicy;
+import com.example.payment_ddd.domain.service.PaymentDomainService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * payment_ddd - Domain Service + Aggregate
+ * PaymentDomainService.createPayment() 전체 (세금 정책 탐색, Payment 생성 포함)
+ * taxedAmount: calculateTaxedAmount() - 원 단위 정수 경로 (Money/Payment 생성 없음)
+ */
+@State(Scope.Benchmark)
+public class DddPricingBenchmark {
+
+    private final PaymentDomainService domainService = new PaymentDomainService(
+            new VipDiscountPolicy(),
+            List.of(new KoreaTaxPolicy(), new UsTaxPolicy())
+    );
+
+    @Benchmark
+    public Payment price(PricingInput input) {
+        return domainService.createPayment(Money.of(input.amount), Country.of(input.country), input.vip);
+    }
+
+    @Benchmark
+    public long taxedAmount(PricingInput input) {
+        return domainService.calculateTaxedAmount(Math.round(input.amount), Country.of(input.country), input.vip);
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.benchmark.pricing;
+
+import com.example.payment_ddd_v1.domain.model.Country;
+import com.example.payment_ddd_v1.domain.model.Money;
+import com.example.payment_ddd_v1.domain.policy.CustomerDiscountPolicy;
+import com.example.payment_ddd_v1.domain.policy.DiscountPolicy;
+import com.example.payment_ddd_v1.domain.policy.KoreaTaxPolicy;
+import com.example.payment_ddd_v1.domain.policy.TaxPolicy;
+import com.example.payment_ddd_v1.domain.policy.VipDiscountPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * payment_ddd_v1 - 할인액 계산 후 차감하는 Policy
+ * application.PaymentService.createPayment()의 할인 정책 선택 → 할인액 차감 → 세금 계산 구간
+ */
+@State(Scope.Benchmark)
+public class DddV1PricingBenchmark {
+
+    private final DiscountPolicy customerDiscountPolicy = new CustomerDiscountPolicy();
+    private final DiscountPolicy vipDiscountPolicy = new VipDiscountPolicy();
+    private final TaxPolicy taxPolicy = new KoreaTaxPolicy();
+
+    @Benchmark
+    public Money price(PricingInput input, Blackhole blackhole) {
+        Money originalPrice = Money.of(input.amount);
+        blackhole.consume(Country.of(input.country));
+
+        DiscountPolicy discountPolicy = input.vip ? vipDiscountPolicy : customerDiscountPolicy;
+        Money discount = discountPolicy.calculateDiscount(originalPrice);
+        Money discountedAmount = originalPrice.subtract(discount);
+        return taxPolicy.apply(discountedAmount);
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.benchmark.pricing;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * PricingInput - 모든 가격 계산 벤치마크가 공유하는 입력값
+ *
+ * [@Param]
+ * - 값 조합마다 벤치마크가 따로 실행됩니다 (금액 2개 x VIP 여부 2개 = 4가지)
+ * - 60000원은 카드 한도 검사(50000원 초과) 구간을 대표합니다
+ */
+@State(Scope.Benchmark)
+public class PricingInput {
+
+    @Param({"10000", "60000"})
+    public double amount;
+
+    @Param({"true", "false"})
+    public boolean vip;
+
+    public final String country = "KR";
+}
@@ -0,0 +1,32 @@
+package com.example.benchmark.pricing;
+
+import com.example.payment_step2.domain.model.Country;
+import com.example.payment_step2.domain.model.Money;
+import com.example.payment_step2.policy.discount.CustomerDiscountPolicy;
+import com.example.payment_step2.policy.discount.VipDiscountPolicy;
+import com.example.payment_step2.policy.tax.KoreaVatPolicy;
+import com.example.payment_step2.policy.tax.TaxPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * payment_step2 - Money/Country 값 객체 + Policy
+ * PaymentService의 Money.of/Country.of 생성과 할인 → 세금 계산 구간
+ */
+@State(Scope.Benchmark)
+public class Step2PricingBenchmark {
+
+    private final CustomerDiscountPolicy discountPolicy = new VipDiscountPolicy();
+    private final TaxPolicy taxPolicy = new KoreaVatPolicy();
+
+    @Benchmark
+    public Money price(PricingInput input, Blackhole blackhole) {
+        Money originalPrice = Money.of(input.amount);
+        blackhole.consume(Country.of(input.country));
+
+        Money discounted = discountPolicy.apply(originalPrice, input.vip);
+        return taxPolicy.apply(discounted);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.benchmark.pricing;
+
+import com.example.payment_ul.policy.discount.CustomerDiscountPolicy;
+import com.example.payment_ul.policy.discount.VipDiscountPolicy;
+import com.example.payment_ul.policy.tax.KoreaVatPolicy;
+import com.example.payment_ul.policy.tax.TaxPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * payment_ul - double 기반 Policy (유비쿼터스 랭귀지)
+ * PaymentService.processPayment()의 할인 → 세금 계산 구간
+ */
+@State(Scope.Benchmark)
+public class UlPricingBenchmark {
+
+    private final CustomerDiscountPolicy discountPolicy = new VipDiscountPolicy();
+    private final TaxPolicy taxPolicy = new KoreaVatPolicy();
+
+    @Benchmark
+    public double price(PricingInput input) {
+        double discounted = discountPolicy.apply(input.amount, input.vip);
+        return taxPolicy.apply(discounted);
+    }
+}
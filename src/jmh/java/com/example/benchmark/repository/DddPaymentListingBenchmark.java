@@ -0,0 +1,95 @@
+package com.example.benchmark.repository;
+
+import com.example.payment_ddd.PaymentDddApplication;
+import com.example.payment_ddd.application.service.PaymentCommandService;
+import com.example.payment_ddd.application.service.PaymentQueryService;
+import com.example.payment_ddd.infrastructure.persistence.PaymentJpaEntity;
+import com.example.payment_ddd.infrastructure.persistence.PaymentJpaRepository;
+import com.example.payment_ddd.interfaces.dto.PaymentResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * payment_ddd - GET /api/v2/payments 목록 조회 (10만 건)
+ *
+ * [비교]
+ * - read=aggregate: PaymentCommandService.getAllPayments() → PaymentResponse.from(Payment)
+ *   (엔티티 조회 + reconstitute로 Money/Country/이벤트 목록 생성)
+ * - read=view: PaymentQueryService.getAllPayments() → PaymentResponse.from(PaymentView)
+ *   (SELECT new PaymentView(...), 엔티티/Aggregate 없음)
+ *
+ * [구성]
+ * - 10만 건을 유스케이스로 만들면 아웃박스 행까지 쌓이므로 JPA 엔티티를 직접 일괄 저장합니다
+ * - 호출당 지연은 sample 모드, 메모리는 gc 프로파일러의 gc.alloc.rate.norm으로 비교합니다
+ */
+@State(Scope.Benchmark)
+public class DddPaymentListingBenchmark {
+
+    private static final int PAYMENT_COUNT = 100_000;
+    private static final int INSERT_CHUNK = 1_000;
+
+    @Param({"aggregate", "view"})
+    public String read;
+
+    private ConfigurableApplicationContext context;
+    private PaymentCommandService commandService;
+    private PaymentQueryService queryService;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(PaymentDddApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "payment.ddd.outbox.relay-enabled=false",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.orm.jdbc.bind=OFF")
+                .run();
+        commandService = context.getBean(PaymentCommandService.class);
+        queryService = context.getBean(PaymentQueryService.class);
+
+        PaymentJpaRepository jpaRepository = context.getBean(PaymentJpaRepository.class);
+        TransactionTemplate transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < PAYMENT_COUNT; from += INSERT_CHUNK) {
+            List<PaymentJpaEntity> chunk = new ArrayList<>(INSERT_CHUNK);
+            for (int i = from; i < from + INSERT_CHUNK; i++) {
+                double price = 10000 + i;
+                chunk.add(new PaymentJpaEntity(null, price, price * 0.9, price * 0.99,
+                        i % 2 == 0 ? "KR" : "US", i % 3 == 0, "COMPLETED", now, now));
+            }
+            transaction.executeWithoutResult(status -> jpaRepository.saveAll(chunk));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<PaymentResponse> listAll() {
+        if ("view".equals(read)) {
+            return queryService.getAllPayments().stream()
+                    .map(PaymentResponse::from)
+                    .toList();
+        }
+        return commandService.getAllPayments().stream()
+                .map(PaymentResponse::from)
+                .toList();
+    }
+}
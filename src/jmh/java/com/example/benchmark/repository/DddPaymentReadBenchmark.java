@@ -0,0 +1,75 @@
+package com.example.benchmark.repository;
+
+import com.example.payment_ddd.PaymentDddApplication;
+import com.example.payment_ddd.application.command.CreatePaymentCommand;
+import com.example.payment_ddd.application.service.PaymentCommandService;
+import com.example.payment_ddd.domain.model.Payment;
+import com.example.payment_ddd.domain.repository.PaymentRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * payment_ddd - PaymentRepository.findById (Aggregate 조회)
+ *
+ * [비교]
+ * - aggregateCache=false: JpaPaymentRepository (엔티티 조회 + reconstitute)
+ * - aggregateCache=true: CachingPaymentRepository (스냅샷에서 복원)
+ *
+ * [구성]
+ * - PaymentDddApplication을 웹 서버 없이 띄우고 결제 1,000건을 미리 저장합니다
+ * - SQL 로그와 아웃박스 릴레이는 측정에 섞이지 않도록 끕니다
+ * - 조회 ID는 저장된 결제 중에서 무작위로 고릅니다 (캐시 크기 안에 모두 들어감)
+ */
+@State(Scope.Benchmark)
+public class DddPaymentReadBenchmark {
+
+    private static final int PAYMENT_COUNT = 1_000;
+
+    @Param({"false", "true"})
+    public boolean aggregateCache;
+
+    private ConfigurableApplicationContext context;
+    private PaymentRepository paymentRepository;
+    private long firstId;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(PaymentDddApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "payment.ddd.cache.enabled=" + aggregateCache,
+                        "payment.ddd.outbox.relay-enabled=false",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.orm.jdbc.bind=OFF")
+                .run();
+        paymentRepository = context.getBean(PaymentRepository.class);
+
+        PaymentCommandService commandService = context.getBean(PaymentCommandService.class);
+        firstId = commandService.createAndCompletePayment(new CreatePaymentCommand(10000, "KR", false)).getId();
+        for (int i = 1; i < PAYMENT_COUNT; i++) {
+            commandService.createAndCompletePayment(new CreatePaymentCommand(10000 + i, i % 2 == 0 ? "KR" : "US", i % 3 == 0));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public Payment findById() {
+        long id = firstId + ThreadLocalRandom.current().nextInt(PAYMENT_COUNT);
+        return paymentRepository.findById(id).orElseThrow();
+    }
+}
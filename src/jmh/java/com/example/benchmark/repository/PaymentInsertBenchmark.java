@@ -0,0 +1,146 @@
+package com.example.benchmark.repository;
+
+import com.example.persistence.PooledSequenceGenerator;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 INSERT 처리량 - IDENTITY vs 시퀀스(pooled-lo) + JDBC 배치
+ *
+ * [비교]
+ * - IDENTITY: INSERT를 실행해야 ID를 알 수 있어 Hibernate가 배치 INSERT를 끕니다 (1행 = 1왕복)
+ * - SEQUENCE_1: 시퀀스는 쓰지만 블록이 1 → 행마다 시퀀스 조회 + 배치 INSERT
+ * - SEQUENCE_50: 결제 엔티티와 같은 설정 (PooledSequenceGenerator, 블록 50, pooled-lo)
+ *   → 50행마다 시퀀스 조회 1번 + 배치 INSERT 1번
+ *
+ * [구성]
+ * - 애플리케이션 설정과 섞이지 않도록 Hibernate만 띄우고 벤치마크 전용 테이블 두 개를 만듭니다
+ * - 한 번 호출에 1,000행을 한 트랜잭션으로 저장하며 50행마다 flush/clear 합니다
+ *   (PaymentService.executeBatch → saveAllInBatch와 같은 방식)
+ * - 테이블을 비우지 않으므로 측정 내내 행이 계속 쌓입니다 (지속적인 쓰기 부하)
+ * - @OperationsPerInvocation으로 결과는 행 단위 처리량/지연 시간입니다
+ */
+@State(Scope.Benchmark)
+public class PaymentInsertBenchmark {
+
+    private static final int ROWS_PER_INVOCATION = 1_000;
+    private static final int BATCH_SIZE = 50;
+
+    @Param({"IDENTITY", "SEQUENCE_1", "SEQUENCE_50"})
+    public String idStrategy;
+
+    private SessionFactory sessionFactory;
+
+    @Setup(Level.Trial)
+    public void startHibernate() {
+        int incrementSize = "SEQUENCE_1".equals(idStrategy) ? 1 : BATCH_SIZE;
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(IdentityPaymentRow.class)
+                .addAnnotatedClass(SequencePaymentRow.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL,
+                        "jdbc:h2:mem:insert_" + idStrategy.toLowerCase() + ";DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, "")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(BATCH_SIZE))
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .setProperty(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo")
+                .setProperty(PooledSequenceGenerator.INCREMENT_SIZE_SETTING, String.valueOf(incrementSize))
+                .buildSessionFactory();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopHibernate() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_INVOCATION)
+    public void insert() {
+        boolean identity = "IDENTITY".equals(idStrategy);
+        LocalDateTime now = LocalDateTime.now();
+
+        try (Session session = sessionFactory.openSession()) {
+            Transaction transaction = session.beginTransaction();
+            for (int i = 0; i < ROWS_PER_INVOCATION; i++) {
+                double amount = 10000 + i;
+                String country = i % 2 == 0 ? "KR" : "US";
+                session.persist(identity
+                        ? new IdentityPaymentRow(amount, country, now)
+                        : new SequencePaymentRow(amount, country, now));
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+            transaction.commit();
+        }
+    }
+
+    @Entity(name = "IdentityPaymentRow")
+    @Table(name = "bench_payments_identity")
+    public static class IdentityPaymentRow {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        private double amount;
+        private String country;
+        private LocalDateTime createdAt;
+
+        protected IdentityPaymentRow() {
+        }
+
+        IdentityPaymentRow(double amount, String country, LocalDateTime createdAt) {
+            this.amount = amount;
+            this.country = country;
+            this.createdAt = createdAt;
+        }
+    }
+
+    @Entity(name = "SequencePaymentRow")
+    @Table(name = "bench_payments_sequence")
+    public static class SequencePaymentRow {
+
+        @Id
+        @GeneratedValue(generator = "bench_payments_id_gen")
+        @GenericGenerator(name = "bench_payments_id_gen", type = PooledSequenceGenerator.class,
+                parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "bench_payments_seq"))
+        private Long id;
+
+        private double amount;
+        private String country;
+        private LocalDateTime createdAt;
+
+        protected SequencePaymentRow() {
+        }
+
+        SequencePaymentRow(double amount, String country, LocalDateTime createdAt) {
+            this.amount = amount;
+            this.country = country;
+            this.createdAt = createdAt;
+        }
+    }
+}
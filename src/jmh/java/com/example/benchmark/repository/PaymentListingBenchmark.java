@@ -0,0 +1,79 @@
+package com.example.benchmark.repository;
+
+import com.example.payment.PaymentApplication;
+import com.example.payment.dto.PaymentRequest;
+import com.example.payment.dto.PaymentResponse;
+import com.example.payment.service.PaymentService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * payment - GET /api/payments 목록 조회 (10만 건)
+ *
+ * [비교]
+ * - read=entity: getList() → PaymentResponse.from() (엔티티 조회 + 영속성 컨텍스트 + 2차 캐시 적재)
+ * - read=projection: getResponseList() (SELECT new PaymentResponse(...))
+ *
+ * [구성]
+ * - PaymentApplication을 웹 서버 없이 띄우고 executeBatch로 결제 10만 건을 미리 저장합니다
+ * - 한 번 호출에 수십~수백 ms가 걸리므로 sample 모드의 p50/p99와
+ *   gc 프로파일러의 gc.alloc.rate.norm(호출당 할당 바이트)을 비교합니다
+ */
+@State(Scope.Benchmark)
+public class PaymentListingBenchmark {
+
+    private static final int PAYMENT_COUNT = 100_000;
+    private static final int INSERT_CHUNK = 1_000;
+
+    @Param({"entity", "projection"})
+    public String read;
+
+    private ConfigurableApplicationContext context;
+    private PaymentService paymentService;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(PaymentApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.orm.jdbc.bind=OFF")
+                .run();
+        paymentService = context.getBean(PaymentService.class);
+
+        for (int from = 0; from < PAYMENT_COUNT; from += INSERT_CHUNK) {
+            List<PaymentRequest> requests = new ArrayList<>(INSERT_CHUNK);
+            for (int i = from; i < from + INSERT_CHUNK; i++) {
+                requests.add(new PaymentRequest(10000 + i, i % 2 == 0 ? "KR" : "US", i % 3 == 0));
+            }
+            paymentService.executeBatch(requests);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<PaymentResponse> listAll() {
+        if ("projection".equals(read)) {
+            return paymentService.getResponseList();
+        }
+        return paymentService.getList().stream()
+                .map(PaymentResponse::from)
+                .toList();
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.payment.loadtest;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * SimulatedJdbcLatency - SQL마다 고정 지연을 넣는 StatementInspector
+ *
+ * [왜 필요한가요?]
+ * - 인메모리 H2는 네트워크 왕복이 없어서 실제 DB보다 훨씬 빨리 응답합니다
+ * - 운영 DB처럼 요청 스레드가 JDBC에서 기다리는 상황을 흉내 내야
+ *   플랫폼 스레드 풀과 가상 스레드의 차이가 드러납니다
+ *
+ * [설정]
+ * - 설정 값으로 클래스 이름을 넘기므로 public + 기본 생성자가 필요합니다
+ * - 지연 시간은 애플리케이션을 띄우기 전에 latencyMillis에 넣습니다
+ */
+public class SimulatedJdbcLatency implements StatementInspector {
+
+    static volatile long latencyMillis = 0;
+
+    @Override
+    public String inspect(String sql) {
+        long millis = latencyMillis;
+        if (millis > 0) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,259 @@
+package com.example.payment.loadtest;
+
+import com.example.payment.PaymentApplication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ============================================================================
+ * VirtualThreadLoadTest - 플랫폼 스레드 vs 가상 스레드 부하 테스트
+ * ============================================================================
+ *
+ * [무엇을 비교하나요?]
+ * - 같은 PaymentApplication을 spring.threads.virtual.enabled=false/true로 각각 띄우고
+ * - 동시 요청 수(concurrency)를 단계별로 늘리면서 RPS와 p99 지연 시간을 잽니다
+ * - 최대 지속 RPS: 오류율 1% 미만, p99가 SLO 이하인 단계 중 가장 높은 RPS
+ *
+ * [요청 구성]
+ * - 80%: GET /api/payments/{id} (미리 저장한 결제 중 무작위)
+ * - 20%: POST /api/payments (결제 생성)
+ * - 모든 SQL에 loadtest.jdbcLatencyMs만큼 지연을 넣어 JDBC 대기를 흉내 냅니다
+ *
+ * [설정] -Dloadtest.xxx (기본값)
+ * - durationSeconds (10): 단계별 측정 시간
+ * - concurrency (50,200,800): 동시 요청 수 단계
+ * - jdbcLatencyMs (5): SQL당 지연
+ * - p99SloMillis (1000): 지속 가능으로 볼 p99 상한
+ *
+ * [결과]
+ * - 콘솔 표 + build/reports/loadtest/virtual-threads.csv
+ * - 어느 쪽이 빠른지는 환경(CPU 수, 커넥션 풀 크기)에 따라 달라서 단정하지 않고,
+ *   두 모드 모두 오류 없이 부하를 받아내는지만 검증합니다
+ */
+@DisplayName("가상 스레드 부하 테스트")
+class VirtualThreadLoadTest {
+
+    private static final Pattern ID_PATTERN = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final int SEED_PAYMENTS = 200;
+
+    private final Duration stepDuration = Duration.ofSeconds(Long.getLong("loadtest.durationSeconds", 10));
+    private final int[] concurrencyLevels = Arrays.stream(
+                    System.getProperty("loadtest.concurrency", "50,200,800").split(","))
+            .map(String::trim)
+            .mapToInt(Integer::parseInt)
+            .toArray();
+    private final long jdbcLatencyMillis = Long.getLong("loadtest.jdbcLatencyMs", 5);
+    private final long p99SloMillis = Long.getLong("loadtest.p99SloMillis", 1000);
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    @Test
+    @DisplayName("플랫폼 스레드와 가상 스레드의 최대 지속 RPS와 p99를 비교한다")
+    void comparePlatformAndVirtualThreads() throws Exception {
+        // when
+        List<StepResult> results = new ArrayList<>();
+        results.addAll(runMode(false));
+        results.addAll(runMode(true));
+
+        // then
+        printAndWrite(results);
+        for (String mode : List.of("platform", "virtual")) {
+            assertThat(results)
+                    .as("%s 모드에서 지속 가능한 단계가 하나 이상 있어야 합니다", mode)
+                    .anyMatch(result -> result.mode().equals(mode) && result.sustained(p99SloMillis));
+        }
+    }
+
+    private List<StepResult> runMode(boolean virtual) throws Exception {
+        String mode = virtual ? "virtual" : "platform";
+        SimulatedJdbcLatency.latencyMillis = 0;
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(PaymentApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtual,
+                        "spring.datasource.url=jdbc:h2:mem:loadtest-" + mode,
+                        // 커넥션 풀이 먼저 막히지 않도록 Tomcat 기본 스레드 수(200)보다 크게
+                        "spring.datasource.hikari.maximum-pool-size=400",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                                + SimulatedJdbcLatency.class.getName(),
+                        "logging.level.root=WARN",
+                        "logging.level.com.example.payment=WARN",
+                        "logging.level.org.hibernate.orm.jdbc.bind=OFF")
+                .run();
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI base = URI.create("http://localhost:" + port + "/api/payments");
+            long[] paymentIds = seed(base);
+            SimulatedJdbcLatency.latencyMillis = jdbcLatencyMillis;
+
+            // 워밍업 (JIT, 커넥션 풀) - 결과에 넣지 않음
+            runStep(mode, base, paymentIds, concurrencyLevels[0], Duration.ofSeconds(3));
+
+            List<StepResult> results = new ArrayList<>();
+            for (int concurrency : concurrencyLevels) {
+                results.add(runStep(mode, base, paymentIds, concurrency, stepDuration));
+            }
+            return results;
+        } finally {
+            SimulatedJdbcLatency.latencyMillis = 0;
+            context.close();
+        }
+    }
+
+    private long[] seed(URI base) throws IOException, InterruptedException {
+        for (int i = 0; i < SEED_PAYMENTS; i++) {
+            send(createRequest(base, 10000 + i));
+        }
+        String body = client.send(HttpRequest.newBuilder(base).GET().build(),
+                HttpResponse.BodyHandlers.ofString()).body();
+        Matcher matcher = ID_PATTERN.matcher(body);
+        List<Long> ids = new ArrayList<>();
+        while (matcher.find()) {
+            ids.add(Long.parseLong(matcher.group(1)));
+        }
+        assertThat(ids).as("미리 저장한 결제를 조회할 수 있어야 합니다").isNotEmpty();
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private StepResult runStep(String mode, URI base, long[] paymentIds, int concurrency, Duration duration)
+            throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<WorkerResult>> workers = new ArrayList<>(concurrency);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(executor.submit(() -> work(base, paymentIds, deadline)));
+            }
+            long total = 0;
+            long errors = 0;
+            List<long[]> latencies = new ArrayList<>(concurrency);
+            for (Future<WorkerResult> worker : workers) {
+                WorkerResult result = worker.get();
+                total += result.count();
+                errors += result.errors();
+                latencies.add(Arrays.copyOf(result.latencyNanos(), result.count()));
+            }
+            long[] all = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+            double rps = total / (double) duration.toMillis() * 1000.0;
+            return new StepResult(mode, concurrency, total, errors, rps,
+                    percentileMillis(all, 0.50), percentileMillis(all, 0.99));
+        }
+    }
+
+    private WorkerResult work(URI base, long[] paymentIds, long deadline) {
+        long[] latencyNanos = new long[1024];
+        int count = 0;
+        int errors = 0;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        while (System.nanoTime() < deadline) {
+            HttpRequest request = random.nextInt(5) == 0
+                    ? createRequest(base, 10000 + random.nextInt(50000))
+                    : HttpRequest.newBuilder(base.resolve("/api/payments/" + paymentIds[random.nextInt(paymentIds.length)]))
+                            .timeout(Duration.ofSeconds(30))
+                            .GET()
+                            .build();
+            long start = System.nanoTime();
+            try {
+                if (send(request) >= 400) {
+                    errors++;
+                }
+            } catch (IOException e) {
+                errors++;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (count == latencyNanos.length) {
+                latencyNanos = Arrays.copyOf(latencyNanos, count * 2);
+            }
+            latencyNanos[count++] = System.nanoTime() - start;
+        }
+        return new WorkerResult(latencyNanos, count, errors);
+    }
+
+    private HttpRequest createRequest(URI base, double amount) {
+        String json = "{\"amt1\":" + amount + ",\"cd\":\"KR\",\"flag\":false}";
+        return HttpRequest.newBuilder(base)
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private int send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static double percentileMillis(long[] sortedNanos, double percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private void printAndWrite(List<StepResult> results) throws IOException {
+        StringBuilder csv = new StringBuilder("mode,concurrency,requests,errors,rps,p50_ms,p99_ms,sustained\n");
+        System.out.printf("%n%-9s %11s %9s %7s %9s %9s %9s%n",
+                "mode", "concurrency", "requests", "errors", "rps", "p50(ms)", "p99(ms)");
+        for (StepResult result : results) {
+            System.out.printf("%-9s %11d %9d %7d %9.1f %9.1f %9.1f%n", result.mode(), result.concurrency(),
+                    result.requests(), result.errors(), result.rps(), result.p50Millis(), result.p99Millis());
+            csv.append(String.format("%s,%d,%d,%d,%.1f,%.1f,%.1f,%s%n", result.mode(), result.concurrency(),
+                    result.requests(), result.errors(), result.rps(), result.p50Millis(), result.p99Millis(),
+                    result.sustained(p99SloMillis)));
+        }
+        for (String mode : List.of("platform", "virtual")) {
+            results.stream()
+                    .filter(result -> result.mode().equals(mode) && result.sustained(p99SloMillis))
+                    .mapToDouble(StepResult::rps)
+                    .max()
+                    .ifPresent(rps -> System.out.printf("[%s] 최대 지속 RPS: %.1f (p99 <= %dms, 오류율 < 1%%)%n",
+                            mode, rps, p99SloMillis));
+        }
+
+        Path reportDir = Path.of(System.getProperty("loadtest.reportDir", "build/reports/loadtest"));
+        Files.createDirectories(reportDir);
+        Files.writeString(reportDir.resolve("virtual-threads.csv"), csv);
+    }
+
+    private record WorkerResult(long[] latencyNanos, int count, int errors) {
+    }
+
+    private record StepResult(String mode, int concurrency, long requests, long errors,
+                              double rps, double p50Millis, double p99Millis) {
+
+        boolean sustained(long p99SloMillis) {
+            return requests > 0 && errors < requests * 0.01 && p99Millis <= p99SloMillis;
+        }
+    }
+}
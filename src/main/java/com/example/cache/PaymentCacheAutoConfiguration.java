@@ -0,0 +1,73 @@
+package com.example.cache;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.UUID;
+
+/**
+ * ====================================================================
+ * PaymentCacheAutoConfiguration - Hibernate 2차 캐시용 CacheManager
+ * ====================================================================
+ *
+ * [왜 직접 만드나요?]
+ * - hibernate-jcache는 CacheManager를 따로 주지 않으면 JVM 전체에서
+ *   하나뿐인 기본 CacheManager를 사용합니다
+ * - 여러 애플리케이션 컨텍스트(테스트마다 다른 인메모리 DB)가 같은 캐시를 보면
+ *   다른 DB에서 읽은 같은 ID의 엔티티가 섞여 나올 수 있습니다
+ * - 그래서 컨텍스트마다 이름이 다른 CacheManager를 만들고 종료 시 닫습니다
+ *
+ * [리전 설정]
+ * - Caffeine JCache 설정은 resources/application.conf에 있습니다
+ *   (리전별 최대 크기, 만료 시간, 통계 수집)
+ *
+ * [메트릭]
+ * - MeterRegistry가 있으면 리전마다 JCacheMetrics를 연결합니다
+ * - /actuator/metrics/cache.gets?tag=result:hit (miss), cache.puts, cache.evictions
+ *
+ * [등록]
+ * - 애플리케이션마다 스캔 패키지가 달라서 자동 설정으로 등록합니다
+ *   (META-INF/spring/...AutoConfiguration.imports)
+ */
+@AutoConfiguration(before = HibernateJpaAutoConfiguration.class)
+@ConditionalOnClass({JCacheRegionFactory.class, CaffeineCachingProvider.class})
+public class PaymentCacheAutoConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager paymentCacheManager() {
+        ClassLoader classLoader = PaymentCacheAutoConfiguration.class.getClassLoader();
+        return Caching.getCachingProvider(CaffeineCachingProvider.class.getName(), classLoader)
+                .getCacheManager(URI.create("payment-cache:" + UUID.randomUUID()), classLoader);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer paymentCacheManagerCustomizer(CacheManager paymentCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, paymentCacheManager);
+    }
+
+    /**
+     * 리전은 SessionFactory가 만들어질 때 생기므로 모든 싱글톤 생성 후에 연결합니다
+     */
+    @Bean
+    public SmartInitializingSingleton paymentCacheMetricsBinder(CacheManager paymentCacheManager,
+                                                                ObjectProvider<MeterRegistry> meterRegistry) {
+        return () -> meterRegistry.ifAvailable(registry -> {
+            for (String cacheName : paymentCacheManager.getCacheNames()) {
+                JCacheMetrics.monitor(registry, paymentCacheManager.getCache(cacheName));
+            }
+        });
+    }
+}
@@ -1,7 +1,18 @@
 package com.example.payment.config;
 
+import com.example.payment.observer.ObserverDispatchProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * ====================================================================
  * PaymentConfig - 스프링 빈(Bean) 설정 클래스
@@ -20,6 +31,8 @@ import org.springframework.context.annotation.Configuration;
  * - DiscountPolicy: DefaultDiscountPolicy에 @Component @Primary
  * - TaxPolicy: KoreaTaxPolicy에 @Component @Primary, UsTaxPolicy에 @Component
  * - PaymentListener: LoggingListener, SettlementListener에 @Component
+ * - PaymentObserverDispatcher: @Component (옵저버 알림 전달)
+ * - paymentObserverExecutor: 이 클래스의 @Bean (JDK ThreadPoolExecutor)
  * - PaymentProcessor, PaymentService: @Service
  * - PaymentController: @RestController
  * - PaymentRepository: @Repository (Spring Data JPA 자동)
@@ -29,7 +42,7 @@ import org.springframework.context.annotation.Configuration;
  *   PaymentListener 타입의 모든 빈을 자동으로 수집합니다
  * - 명시적으로 빈을 등록할 필요가 없습니다
  *
- * [왜 @Bean 메서드가 없어졌나요?]
+ * [왜 @Bean 메서드가 거의 없나요?]
  * - 이전에는 PaymentConfig에서 @Bean으로 모든 빈을 수동 등록했습니다
  * - Spring Boot 권장 방식인 @Component 스캔으로 변경했습니다
  * - 각 클래스에 직접 @Component를 붙이면:
@@ -38,18 +51,72 @@ import org.springframework.context.annotation.Configuration;
  *   3. 빈 등록과 클래스 정의가 분리되지 않음 (응집도)
  */
 @Configuration
+@EnableConfigurationProperties(ObserverDispatchProperties.class)
 public class PaymentConfig {
-    // 현재 모든 빈이 @Component 스캔으로 자동 등록되므로
-    // 추가적인 @Bean 정의가 필요하지 않습니다.
+    // 대부분의 빈은 @Component 스캔으로 자동 등록됩니다.
     //
-    // 외부 라이브러리 클래스를 빈으로 등록해야 할 때만
+    // 외부 라이브러리(JDK 포함) 클래스를 빈으로 등록해야 할 때만
     // 여기에 @Bean 메서드를 추가하세요.
-    //
-    // 예시:
-    // @Bean
-    // public ObjectMapper objectMapper() {
-    //     return new ObjectMapper()
-    //         .registerModule(new JavaTimeModule())
-    //         .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-    // }
+
+    /**
+     * [옵저버 알림용 스레드 풀] - PaymentObserverDispatcher의 ASYNC 모드에서 사용
+     *
+     * [구성]
+     * - 고정 크기 스레드 풀 (payment.observer.threads)
+     * - 크기가 제한된 대기열 (payment.observer.queue-capacity)
+     *   → 무제한 대기열은 옵저버가 느릴 때 메모리가 계속 늘어납니다
+     * - 대기열이 가득 차면 payment.observer.rejection-policy에 따라 처리
+     *
+     * [가상 스레드] payment.observer.thread-type (기본값 VIRTUAL)
+     * - 작업 스레드만 가상 스레드로 만들고 풀 크기/대기열/거절 정책은 그대로 둡니다
+     * - 풀 크기가 옵저버 동시 실행 수(정산 DB 호출 등)의 상한 역할을 계속 합니다
+     * - 요청 스레드 설정(spring.threads.virtual.enabled)과는 따로 정합니다
+     *
+     * [종료]
+     * - 스프링이 ExecutorService의 shutdown()을 자동으로 호출합니다
+     */
+    @Bean
+    public ThreadPoolExecutor paymentObserverExecutor(ObserverDispatchProperties properties) {
+        return new ThreadPoolExecutor(
+                properties.threads(),
+                properties.threads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.queueCapacity()),
+                namedThreadFactory("payment-observer-",
+                        properties.threadType() == ObserverDispatchProperties.ThreadType.VIRTUAL),
+                rejectionHandler(properties.rejectionPolicy())
+        );
+    }
+
+    private static ThreadFactory namedThreadFactory(String prefix, boolean virtual) {
+        if (virtual) {
+            // 가상 스레드는 항상 데몬 스레드입니다
+            return Thread.ofVirtual().name(prefix, 1).factory();
+        }
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static RejectedExecutionHandler rejectionHandler(ObserverDispatchProperties.RejectionPolicy policy) {
+        return switch (policy) {
+            case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+            // 거절 예외를 PaymentObserverDispatcher가 받아 dropped 카운터에 기록
+            case DROP -> new ThreadPoolExecutor.AbortPolicy();
+            case BLOCK -> (runnable, executor) -> {
+                if (executor.isShutdown()) {
+                    throw new RejectedExecutionException("옵저버 스레드 풀이 종료되었습니다");
+                }
+                try {
+                    executor.getQueue().put(runnable);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RejectedExecutionException("대기 중 인터럽트", e);
+                }
+            };
+        };
+    }
 }
@@ -1,15 +1,28 @@
 package com.example.payment.controller;
 
+import com.example.payment.dto.PaymentPageResponse;
+import com.example.payment.dto.PaymentRecentPageResponse;
 import com.example.payment.dto.PaymentRequest;
 import com.example.payment.dto.PaymentResponse;
 import com.example.payment.dto.PaymentResult;
 import com.example.payment.entity.Payment;
 import com.example.payment.entity.PaymentStatus;
 import com.example.payment.service.PaymentService;
+import com.example.payment.stats.RevenueStat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -44,15 +57,28 @@ import java.util.List;
 @RequestMapping("/api/payments")
 public class PaymentController {
 
+    /**
+     * [NDJSON (Newline Delimited JSON)]
+     * - 한 줄에 JSON 객체 하나씩 쓰는 형식입니다
+     * - 클라이언트가 전체 응답을 기다리지 않고 한 줄씩 처리할 수 있습니다
+     */
+    static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final PaymentService paymentService;
+    private final ObjectWriter lineWriter;
 
     /**
      * [생성자 주입]
-     * - PaymentService를 주입받습니다
+     * - PaymentService와 스프링이 설정한 ObjectMapper를 주입받습니다
      * - @Autowired 생략 가능 (생성자가 하나일 때)
+     *
+     * [AUTO_CLOSE_TARGET 비활성화]
+     * - 기본 설정은 JSON을 한 번 쓰면 출력 스트림을 닫아버립니다
+     * - 스트리밍 응답은 여러 줄을 이어서 써야 하므로 끕니다
      */
-    public PaymentController(PaymentService paymentService) {
+    public PaymentController(PaymentService paymentService, ObjectMapper objectMapper) {
         this.paymentService = paymentService;
+        this.lineWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
     }
 
     /**
@@ -89,6 +115,22 @@ public class PaymentController {
         return ResponseEntity.status(HttpStatus.CREATED).body(result);
     }
 
+    /**
+     * [결제 일괄 처리 API] - POST /api/payments/batch
+     *
+     * [정산 파일처럼 여러 건을 한 번에 등록합니다]
+     * - 요청 본문은 PaymentRequest의 JSON 배열입니다
+     * - 한 건이라도 잘못된 값이면 400을 반환하고 아무것도 저장하지 않습니다
+     *
+     * @param requests 결제 요청 목록
+     * @return 201 Created + 결제 결과 목록 (요청 순서와 동일)
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<PaymentResult>> processBatch(@RequestBody List<PaymentRequest> requests) {
+        List<PaymentResult> results = paymentService.executeBatch(requests);
+        return ResponseEntity.status(HttpStatus.CREATED).body(results);
+    }
+
     /**
      * [결제 단건 조회 API] - GET /api/payments/{id}
      *
@@ -127,19 +169,67 @@ public class PaymentController {
      * - JSON 배열로 자동 변환됩니다
      * - 예: [{"id": 1, ...}, {"id": 2, ...}]
      *
-     * [.toList()]
-     * - Java 16+ 의 Stream API 메서드
-     * - collect(Collectors.toList())와 동일
+     * [DTO 프로젝션]
+     * - 엔티티를 조회해 PaymentResponse.from()으로 바꾸지 않고
+     *   Repository에서 PaymentResponse를 바로 조회합니다 (SELECT new ...)
+     * - 영속성 컨텍스트/2차 캐시를 거치지 않아 목록이 클수록 메모리와 시간이 줄어듭니다
      *
      * @return 200 OK + 결제 목록
      */
     @GetMapping
     public ResponseEntity<List<PaymentResponse>> getAll() {
-        List<Payment> payments = paymentService.getList();
-        List<PaymentResponse> responses = payments.stream()
-                .map(PaymentResponse::from)
-                .toList();
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok(paymentService.getResponseList());
+    }
+
+    /**
+     * [커서 페이지 조회 API] - GET /api/payments?size=100&cursor=123
+     *
+     * [size 파라미터가 있으면 이 메서드가 처리합니다]
+     * - params = "size": 요청에 size 파라미터가 있을 때만 매핑
+     * - size가 없으면 기존 getAll()이 처리 (하위 호환)
+     *
+     * [사용 방법]
+     * 1. 첫 페이지: GET /api/payments?size=100
+     * 2. 다음 페이지: GET /api/payments?size=100&cursor={응답의 nextCursor}
+     * 3. hasNext가 false가 될 때까지 반복
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 생략)
+     * @param size 페이지 크기 (1 ~ 1000)
+     * @return 200 OK + 결제 페이지
+     */
+    @GetMapping(params = "size")
+    public ResponseEntity<PaymentPageResponse> getPage(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam int size) {
+        return ResponseEntity.ok(paymentService.getPage(cursor, size));
+    }
+
+    /**
+     * [전체 결제 스트리밍 API] - GET /api/payments/stream
+     *
+     * [목록을 만들지 않고 한 건씩 바로 응답에 씁니다]
+     * - 응답 형식: NDJSON (한 줄에 결제 하나)
+     * - 행이 아무리 많아도 서버 메모리는 일정하게 유지됩니다
+     *
+     * [StreamingResponseBody]
+     * - 응답 본문을 직접 OutputStream에 쓰는 방식입니다
+     * - 요청 스레드를 반환하고 별도 스레드에서 실행됩니다 (비동기)
+     *
+     * @return 200 OK + NDJSON 스트림
+     */
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> stream() {
+        StreamingResponseBody body = out -> paymentService.streamAll(payment -> {
+            try {
+                lineWriter.writeValue(out, PaymentResponse.from(payment));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_NDJSON)
+                .body(body);
     }
 
     /**
@@ -160,11 +250,44 @@ public class PaymentController {
      */
     @GetMapping("/status")
     public ResponseEntity<List<PaymentResponse>> getByStat(@RequestParam PaymentStatus stat) {
-        List<Payment> payments = paymentService.getListByStat(stat);
-        List<PaymentResponse> responses = payments.stream()
-                .map(PaymentResponse::from)
-                .toList();
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok(paymentService.getResponseListByStat(stat));
+    }
+
+    /**
+     * [상태별 커서 페이지 조회 API] - GET /api/payments/status?stat=C&size=100&cursor=123
+     *
+     * [size 파라미터가 있으면 이 메서드가 처리합니다]
+     * - 사용 방법은 getPage()와 같습니다
+     *
+     * @param stat 조회할 상태 (P, C, F, R)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 생략)
+     * @param size 페이지 크기 (1 ~ 1000)
+     * @return 200 OK + 해당 상태의 결제 페이지
+     */
+    @GetMapping(value = "/status", params = "size")
+    public ResponseEntity<PaymentPageResponse> getPageByStat(
+            @RequestParam PaymentStatus stat,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam int size) {
+        return ResponseEntity.ok(paymentService.getPageByStat(stat, cursor, size));
+    }
+
+    /**
+     * [매출 집계 API] - GET /api/payments/stats?cd=KR&stat=C
+     *
+     * [메모리에 유지되는 집계값을 반환합니다]
+     * - 버킷: (국가, 상태, VIP 여부, 결제 생성일)
+     * - DB를 조회하지 않으므로 테이블 크기와 무관하게 빠릅니다
+     *
+     * @param cd 국가 코드 (생략 시 전체)
+     * @param stat 결제 상태 (생략 시 전체)
+     * @return 200 OK + 버킷별 건수/합계 목록
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<List<RevenueStat>> getStats(
+            @RequestParam(required = false) String cd,
+            @RequestParam(required = false) PaymentStatus stat) {
+        return ResponseEntity.ok(paymentService.getStats(cd, stat));
     }
 
     /**
@@ -206,11 +329,27 @@ public class PaymentController {
     @GetMapping("/recent")
     public ResponseEntity<List<PaymentResponse>> getRecent(
             @RequestParam(defaultValue = "10") int limit) {
-        List<Payment> payments = paymentService.getRecent(limit);
-        List<PaymentResponse> responses = payments.stream()
-                .map(PaymentResponse::from)
-                .toList();
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok(paymentService.getRecentResponses(limit));
+    }
+
+    /**
+     * [최근 결제 커서 페이지 조회 API] - GET /api/payments/recent?size=100&cursorCdt=...&cursorId=123
+     *
+     * [size 파라미터가 있으면 이 메서드가 처리합니다]
+     * - size가 없으면 기존 getRecent()가 처리 (하위 호환)
+     * - 커서는 응답의 nextCursorCdt, nextCursorId를 그대로 넘깁니다 (ISO-8601 일시)
+     *
+     * @param cursorCdt 이전 페이지의 nextCursorCdt (첫 페이지면 생략)
+     * @param cursorId 이전 페이지의 nextCursorId (첫 페이지면 생략)
+     * @param size 페이지 크기 (1 ~ 1000)
+     * @return 200 OK + 최근 결제 페이지
+     */
+    @GetMapping(value = "/recent", params = "size")
+    public ResponseEntity<PaymentRecentPageResponse> getRecentPage(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCdt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam int size) {
+        return ResponseEntity.ok(paymentService.getRecentPage(cursorCdt, cursorId, size));
     }
 
     /**
@@ -235,4 +374,20 @@ public class PaymentController {
     public ResponseEntity<String> handleError(IllegalArgumentException e) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
     }
+
+    /**
+     * [예외 처리] - 현재 상태에서 처리할 수 없는 요청일 때
+     *
+     * [409 Conflict]
+     * - 요청 자체는 올바르지만 결제의 현재 상태와 충돌합니다
+     * - 예: 이미 환불된 결제 환불, 동시에 들어온 환불 중 늦은 요청
+     * - OptimisticLockingFailureException: @Version 검사에서 다른 트랜잭션이 먼저 수정한 경우
+     *
+     * @param e 발생한 예외
+     * @return 409 Conflict + 에러 메시지
+     */
+    @ExceptionHandler({IllegalStateException.class, OptimisticLockingFailureException.class})
+    public ResponseEntity<String> handleConflict(RuntimeException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+    }
 }
@@ -0,0 +1,46 @@
+package com.example.payment.dto;
+
+import com.example.payment.entity.Payment;
+
+import java.util.List;
+
+/**
+ * ====================================================================
+ * PaymentPageResponse - 커서(Keyset) 페이지 응답 DTO
+ * ====================================================================
+ *
+ * [커서 페이지네이션이란?]
+ * - OFFSET 대신 "마지막으로 받은 ID 다음부터" 조회하는 방식입니다
+ * - OFFSET 100000은 앞의 10만 건을 읽고 버리지만, 커서는 인덱스로 바로 찾아갑니다
+ * - 다음 페이지 요청: GET /api/payments?size=100&cursor={nextCursor}
+ *
+ * @param content 이번 페이지의 결제 목록 (ID 오름차순)
+ * @param nextCursor 다음 페이지 요청에 사용할 커서 (마지막 페이지면 null)
+ * @param hasNext 다음 페이지 존재 여부
+ */
+public record PaymentPageResponse(
+        List<PaymentResponse> content,
+        Long nextCursor,
+        boolean hasNext
+) {
+
+    /**
+     * [조회 결과 → 페이지 변환]
+     * - Repository는 size + 1건을 조회합니다
+     * - 한 건이 더 있으면 다음 페이지가 있다는 뜻 (COUNT 쿼리 불필요)
+     *
+     * @param fetched size + 1건까지 조회한 결제 목록
+     * @param size 요청한 페이지 크기
+     */
+    public static PaymentPageResponse of(List<Payment> fetched, int size) {
+        boolean hasNext = fetched.size() > size;
+        List<Payment> page = hasNext ? fetched.subList(0, size) : fetched;
+        Long nextCursor = hasNext ? page.get(page.size() - 1).getId() : null;
+
+        return new PaymentPageResponse(
+                page.stream().map(PaymentResponse::from).toList(),
+                nextCursor,
+                hasNext
+        );
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.payment.dto;
+
+import com.example.payment.entity.Payment;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * ====================================================================
+ * PaymentRecentPageResponse - 최근 결제 커서(Keyset) 페이지 응답 DTO
+ * ====================================================================
+ *
+ * [PaymentPageResponse와 다른 점]
+ * - 생성일시 내림차순 목록이라 커서가 (cdt, id) 두 값입니다
+ * - cdt만으로는 같은 시각에 만들어진 결제를 구분할 수 없어 ID를 함께 넘깁니다
+ * - 다음 페이지 요청: GET /api/payments/recent?size=100&cursorCdt={nextCursorCdt}&cursorId={nextCursorId}
+ *
+ * @param content 이번 페이지의 결제 목록 (생성일시, ID 내림차순)
+ * @param nextCursorCdt 다음 페이지 커서의 생성일시 (마지막 페이지면 null)
+ * @param nextCursorId 다음 페이지 커서의 ID (마지막 페이지면 null)
+ * @param hasNext 다음 페이지 존재 여부
+ */
+public record PaymentRecentPageResponse(
+        List<PaymentResponse> content,
+        LocalDateTime nextCursorCdt,
+        Long nextCursorId,
+        boolean hasNext
+) {
+
+    /**
+     * [조회 결과 → 페이지 변환] - PaymentPageResponse.of()와 같이 size + 1건을 받습니다
+     *
+     * @param fetched size + 1건까지 조회한 결제 목록
+     * @param size 요청한 페이지 크기
+     */
+    public static PaymentRecentPageResponse of(List<Payment> fetched, int size) {
+        boolean hasNext = fetched.size() > size;
+        List<Payment> page = hasNext ? fetched.subList(0, size) : fetched;
+        Payment last = hasNext ? page.get(page.size() - 1) : null;
+
+        return new PaymentRecentPageResponse(
+                page.stream().map(PaymentResponse::from).toList(),
+                last != null ? last.getCdt() : null,
+                last != null ? last.getId() : null,
+                hasNext
+        );
+    }
+}
@@ -1,6 +1,12 @@
 package com.example.payment.entity;
 
+import com.example.persistence.PooledSequenceGenerator;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 import java.time.LocalDateTime;
 
 /**
@@ -26,6 +32,21 @@ import java.time.LocalDateTime;
  * - 매핑할 테이블 이름을 지정합니다
  * - 생략 시 클래스명이 테이블명으로 사용됩니다
  *
+ * [@Table(indexes = ...)] - PaymentRepository 조회 메서드용 인덱스
+ * - (stat, cd): findByStat, findByStatAndCd, 상태별 커서 페이지
+ * - (cd): findByCd
+ * - (flag, stat, cdt DESC): findByFlagAndStatOrderByCdtDesc (정렬까지 인덱스로 처리)
+ * - (cdt DESC): findByCdtBetween, findRecent (ORDER BY cdt DESC LIMIT), 최근 결제 커서 페이지
+ * - ddl-auto가 아닌 DB에는 resources/db/migration 스크립트로 적용합니다
+ * - 인덱스를 바꾸면 PaymentQueryPlanTest도 함께 확인하세요
+ *
+ * [@Cacheable, @Cache] - Hibernate 2차 캐시
+ * - findById/getData는 DB 대신 "payments" 캐시 리전에서 먼저 찾습니다
+ * - READ_WRITE: 상태 변경(환불 등)이 커밋되면 캐시 항목도 함께 갱신됩니다
+ * - 리전 크기/만료는 resources/application.conf (Caffeine JCache)에서 설정합니다
+ *
+ * [@Version] - ver 컬럼으로 동시 수정을 감지합니다 (낙관적 락)
+ *
  * [엔티티 규칙]
  * 1. @Entity 어노테이션 필수
  * 2. @Id로 기본키 지정 필수
@@ -33,7 +54,14 @@ import java.time.LocalDateTime;
  * 4. final 클래스 불가
  */
 @Entity
-@Table(name = "payments")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "payments")
+@Table(name = "payments", indexes = {
+        @Index(name = "idx_payments_stat_cd", columnList = "stat, cd"),
+        @Index(name = "idx_payments_cd", columnList = "cd"),
+        @Index(name = "idx_payments_flag_stat_cdt", columnList = "flag, stat, cdt DESC"),
+        @Index(name = "idx_payments_cdt", columnList = "cdt DESC")
+})
 public class Payment {
 
     /**
@@ -41,13 +69,26 @@ public class Payment {
      * - 엔티티를 식별하는 고유 값입니다
      * - 테이블의 PK 컬럼과 매핑됩니다
      *
-     * [@GeneratedValue(strategy = GenerationType.IDENTITY)]
-     * - 기본키 생성을 DB에 위임합니다
-     * - MySQL의 AUTO_INCREMENT와 동일
-     * - 다른 전략: SEQUENCE(Oracle), TABLE, AUTO
+     * [@GeneratedValue(strategy = GenerationType.SEQUENCE)]
+     * - DB 시퀀스에서 기본키를 받아옵니다
+     * - 다른 전략: IDENTITY(MySQL AUTO_INCREMENT), TABLE, AUTO
+     *
+     * [왜 IDENTITY가 아닌 SEQUENCE인가요?]
+     * - IDENTITY는 INSERT를 실행해야 ID를 알 수 있어서 INSERT를 묶어 보낼 수 없습니다
+     *   (Hibernate가 JDBC 배치 INSERT를 조용히 꺼버림)
+     * - SEQUENCE는 INSERT 전에 ID를 미리 받아오므로 배치 INSERT가 가능합니다
+     *
+     * [@GenericGenerator(type = PooledSequenceGenerator.class)]
+     * - 시퀀스를 한 번 호출할 때 ID 50개를 한 블록으로 받아 메모리에서 나눠 씁니다
+     * - 50건 저장에 시퀀스 조회는 1번뿐 (pooled 최적화)
+     * - 블록 크기는 모든 결제 엔티티가 설정 payment.id.increment_size 하나를 함께 씁니다
+     * - hibernate.jdbc.batch_size와 같은 값으로 맞추는 것이 일반적입니다
+     * - 값을 바꾸면 DB 시퀀스의 INCREMENT BY도 같이 바꿔야 합니다
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "payments_id_gen")
+    @GenericGenerator(name = "payments_id_gen", type = PooledSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "payments_seq"))
     private Long id;
 
     /**
@@ -105,6 +146,16 @@ public class Payment {
     @Column(nullable = false)
     private LocalDateTime udt;  // 수정 일시 (Updated DateTime)
 
+    /**
+     * [@Version] - 낙관적 락 (Optimistic Lock)
+     * - 변경 감지로 UPDATE할 때 WHERE ver = ? 조건이 붙고 값이 1 증가합니다
+     * - 그 사이 다른 트랜잭션이 먼저 수정했다면 0건 갱신 → OptimisticLockingFailureException
+     * - 환불은 PaymentRepository.updateStatIfCurrent(조건부 UPDATE)로 처리하며 ver도 함께 올립니다
+     */
+    @Version
+    @Column(nullable = false)
+    private Long ver;           // 버전 (Version)
+
     /**
      * [기본 생성자 - JPA 필수]
      *
@@ -207,6 +258,10 @@ public class Payment {
         return udt;
     }
 
+    public Long getVer() {
+        return ver;
+    }
+
     /**
      * [Setter 메서드]
      * - 상태와 수정일시만 변경 가능하도록 제한
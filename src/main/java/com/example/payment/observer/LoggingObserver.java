@@ -5,6 +5,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * LoggingObserver - 결제 로깅 옵저버
  */
@@ -17,4 +19,9 @@ public class LoggingObserver implements PaymentObserver {
     public void onPaymentCompleted(PaymentResult result) {
         log.info("[LOG] payment completed: {}", result.amt3());
     }
+
+    @Override
+    public void onPaymentsCompleted(List<PaymentResult> results) {
+        log.info("[LOG] payments completed: count={}", results.size());
+    }
 }
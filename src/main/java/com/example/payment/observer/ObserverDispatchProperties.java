@@ -0,0 +1,73 @@
+package com.example.payment.observer;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * ObserverDispatchProperties - 옵저버 알림 방식 설정 (payment.observer.*)
+ *
+ * [설정 예시] application.yml
+ * payment:
+ *   observer:
+ *     mode: ASYNC              # SYNC: 커밋 후 호출 스레드에서 실행, ASYNC: 전용 스레드 풀에서 실행
+ *     queue-capacity: 1000     # ASYNC 대기열 최대 크기
+ *     threads: 4               # ASYNC 작업 스레드 수
+ *     rejection-policy: BLOCK  # 대기열이 가득 찼을 때 동작
+ *     thread-type: VIRTUAL     # ASYNC 작업 스레드 종류 (VIRTUAL / PLATFORM)
+ *
+ * [@ConfigurationProperties + record]
+ * - Spring Boot 3부터 record의 생성자로 설정값을 바인딩합니다
+ * - @DefaultValue: 설정이 없을 때 사용할 기본값
+ */
+@ConfigurationProperties(prefix = "payment.observer")
+public record ObserverDispatchProperties(
+        @DefaultValue("ASYNC") Mode mode,
+        @DefaultValue("1000") int queueCapacity,
+        @DefaultValue("4") int threads,
+        @DefaultValue("BLOCK") RejectionPolicy rejectionPolicy,
+        @DefaultValue("VIRTUAL") ThreadType threadType
+) {
+
+    public ObserverDispatchProperties {
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("queue-capacity는 1 이상이어야 합니다: " + queueCapacity);
+        }
+        if (threads <= 0) {
+            throw new IllegalArgumentException("threads는 1 이상이어야 합니다: " + threads);
+        }
+    }
+
+    /**
+     * 동기 모드 설정 - 테스트나 단순 실행용
+     */
+    public static ObserverDispatchProperties sync() {
+        return new ObserverDispatchProperties(Mode.SYNC, 1, 1, RejectionPolicy.CALLER_RUNS, ThreadType.VIRTUAL);
+    }
+
+    public enum Mode {
+        SYNC,
+        ASYNC
+    }
+
+    /**
+     * 대기열이 가득 찼을 때의 동작 (Back-pressure)
+     * - BLOCK: 자리가 날 때까지 호출 스레드가 기다림 (알림 유실 없음)
+     * - DROP: 알림을 버리고 payment.observer.dropped 카운터 증가
+     * - CALLER_RUNS: 호출 스레드가 직접 실행
+     */
+    public enum RejectionPolicy {
+        BLOCK,
+        DROP,
+        CALLER_RUNS
+    }
+
+    /**
+     * ASYNC 작업 스레드 종류
+     * - VIRTUAL: 가상 스레드 (기본값) - 정산 DB 호출처럼 기다리는 동안 캐리어 스레드를 놓아줌
+     * - PLATFORM: 데몬 플랫폼 스레드 - synchronized 안에서 오래 블로킹하는 옵저버가 있을 때
+     */
+    public enum ThreadType {
+        VIRTUAL,
+        PLATFORM
+    }
+}
@@ -2,10 +2,22 @@ package com.example.payment.observer;
 
 import com.example.payment.dto.PaymentResult;
 
+import java.util.List;
+
 /**
  * PaymentObserver - 결제 이벤트 옵저버 인터페이스
  */
 public interface PaymentObserver {
 
     void onPaymentCompleted(PaymentResult result);
+
+    /**
+     * 일괄 결제 완료 알림 - 청크 단위로 한 번 호출됩니다
+     * 기본 구현은 건별 알림을 반복하므로, 묶어서 처리할 수 있는 옵저버는 재정의하세요
+     */
+    default void onPaymentsCompleted(List<PaymentResult> results) {
+        for (PaymentResult result : results) {
+            onPaymentCompleted(result);
+        }
+    }
 }
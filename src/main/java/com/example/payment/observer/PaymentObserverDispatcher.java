@@ -0,0 +1,115 @@
+package com.example.payment.observer;
+
+import com.example.payment.dto.PaymentResult;
+import com.example.payment.support.TransactionHooks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * ====================================================================
+ * PaymentObserverDispatcher - 옵저버 알림 전달자
+ * ====================================================================
+ *
+ * [왜 필요한가요?]
+ * - 이전에는 PaymentService가 트랜잭션 안에서 옵저버를 직접 호출했습니다
+ * - 옵저버 하나가 느리면 결제 응답도 느려지고, 그동안 DB 커넥션을 붙잡고 있었습니다
+ *
+ * [동작 방식]
+ * 1. 트랜잭션 안에서 호출되면 커밋 이후로 알림을 미룹니다 (롤백되면 알림 없음)
+ * 2. SYNC 모드: 커밋 후 호출 스레드에서 바로 실행
+ * 3. ASYNC 모드: 옵저버마다 작업을 만들어 paymentObserverExecutor에 넘김
+ *    - 대기열이 가득 차면 ObserverDispatchProperties.RejectionPolicy에 따라 동작
+ *
+ * [메트릭]
+ * - payment.observer.latency (tag: observer): 옵저버별 처리 시간
+ * - payment.observer.dropped: DROP 정책으로 버려진 알림 수
+ * - payment.observer.failures (tag: observer): 예외가 발생한 알림 수
+ *
+ * [옵저버 예외]
+ * - 커밋 이후이므로 결제를 되돌릴 수 없습니다 → 로그만 남기고 다른 옵저버는 계속 실행
+ */
+@Component
+public class PaymentObserverDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentObserverDispatcher.class);
+
+    private final List<PaymentObserver> observers;
+    private final ObserverDispatchProperties properties;
+    private final Executor executor;
+    private final Map<PaymentObserver, Timer> latencyTimers = new IdentityHashMap<>();
+    private final Map<PaymentObserver, Counter> failureCounters = new IdentityHashMap<>();
+    private final Counter droppedCounter;
+
+    public PaymentObserverDispatcher(List<PaymentObserver> observers,
+                                     ObserverDispatchProperties properties,
+                                     @Qualifier("paymentObserverExecutor") Executor executor,
+                                     MeterRegistry meterRegistry) {
+        this.observers = List.copyOf(observers);
+        this.properties = properties;
+        this.executor = executor;
+        this.droppedCounter = meterRegistry.counter("payment.observer.dropped");
+
+        for (PaymentObserver observer : this.observers) {
+            String name = observer.getClass().getSimpleName();
+            latencyTimers.put(observer, Timer.builder("payment.observer.latency")
+                    .tag("observer", name)
+                    .register(meterRegistry));
+            failureCounters.put(observer, meterRegistry.counter("payment.observer.failures", "observer", name));
+        }
+    }
+
+    /**
+     * 단건 결제 완료 알림
+     */
+    public void dispatch(PaymentResult result) {
+        TransactionHooks.afterCommit(() -> deliverAll(observer -> observer.onPaymentCompleted(result)));
+    }
+
+    /**
+     * 일괄 결제 완료 알림 - 청크 하나당 옵저버별로 한 번 호출됩니다
+     */
+    public void dispatchAll(List<PaymentResult> results) {
+        List<PaymentResult> snapshot = List.copyOf(results);
+        TransactionHooks.afterCommit(() -> deliverAll(observer -> observer.onPaymentsCompleted(snapshot)));
+    }
+
+    private void deliverAll(Consumer<PaymentObserver> call) {
+        for (PaymentObserver observer : observers) {
+            Runnable task = () -> invoke(observer, call);
+
+            if (properties.mode() == ObserverDispatchProperties.Mode.SYNC) {
+                task.run();
+                continue;
+            }
+
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                droppedCounter.increment();
+                log.warn("옵저버 알림 유실: observer={}, reason={}",
+                        observer.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+    }
+
+    private void invoke(PaymentObserver observer, Consumer<PaymentObserver> call) {
+        try {
+            latencyTimers.get(observer).record(() -> call.accept(observer));
+        } catch (RuntimeException e) {
+            failureCounters.get(observer).increment();
+            log.error("옵저버 처리 실패: observer={}", observer.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -5,6 +5,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * SettlementObserver - 정산 옵저버
  */
@@ -19,4 +21,14 @@ public class SettlementObserver implements PaymentObserver {
             log.info("정산 요청 발송");
         }
     }
+
+    @Override
+    public void onPaymentsCompleted(List<PaymentResult> results) {
+        long count = results.stream()
+                .filter(result -> result.amt3() > 100000)
+                .count();
+        if (count > 0) {
+            log.info("정산 요청 발송: {}건", count);
+        }
+    }
 }
@@ -0,0 +1,34 @@
+package com.example.payment.repository;
+
+import com.example.payment.entity.Payment;
+
+import java.util.List;
+
+/**
+ * ====================================================================
+ * PaymentBatchRepository - 대량 저장용 커스텀 Repository 조각(Fragment)
+ * ====================================================================
+ *
+ * [커스텀 Repository 조각이란?]
+ * - Spring Data JPA의 쿼리 메서드로 표현하기 어려운 기능을 직접 구현할 때 사용
+ * - 인터페이스 + "인터페이스명Impl" 구현 클래스를 만들면 자동으로 연결됩니다
+ * - PaymentRepository가 이 인터페이스를 상속하므로 같은 Repository에서 호출 가능
+ *
+ * [왜 saveAll()을 쓰지 않나요?]
+ * - saveAll()은 저장한 엔티티를 영속성 컨텍스트(1차 캐시)에 계속 쌓아둡니다
+ * - 10만 건을 저장하면 10만 개의 엔티티가 트랜잭션 끝까지 메모리에 남음
+ * - 청크마다 flush + clear 하면 메모리 사용량이 청크 크기로 제한됩니다
+ */
+public interface PaymentBatchRepository {
+
+    /**
+     * [청크 저장] - 결제 목록을 저장하고 즉시 DB에 반영한 뒤 영속성 컨텍스트를 비웁니다
+     *
+     * [주의사항]
+     * - clear() 이후 같은 트랜잭션의 다른 엔티티도 준영속(detached) 상태가 됩니다
+     * - 호출 후에는 전달한 Payment 객체를 수정해도 DB에 반영되지 않습니다
+     *
+     * @param payments 저장할 결제 목록 (하나의 청크)
+     */
+    void saveAllInBatch(List<Payment> payments);
+}
@@ -0,0 +1,38 @@
+package com.example.payment.repository;
+
+import com.example.payment.entity.Payment;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * PaymentBatchRepositoryImpl - PaymentBatchRepository 구현체
+ *
+ * [이름 규칙]
+ * - Spring Data JPA는 "조각 인터페이스명 + Impl" 클래스를 자동으로 찾아 연결합니다
+ * - 클래스 이름을 바꾸면 연결되지 않으니 주의!
+ *
+ * [@PersistenceContext]
+ * - 트랜잭션마다 알맞은 EntityManager를 주입받는 프록시입니다
+ */
+class PaymentBatchRepositoryImpl implements PaymentBatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public void saveAllInBatch(List<Payment> payments) {
+        for (Payment payment : payments) {
+            entityManager.persist(payment);
+        }
+
+        // 1. 쌓인 INSERT를 DB로 전송 (JDBC 배치가 켜져 있으면 묶어서 전송)
+        entityManager.flush();
+
+        // 2. 1차 캐시 비우기 → 청크 크기만큼만 메모리 사용
+        entityManager.clear();
+    }
+}
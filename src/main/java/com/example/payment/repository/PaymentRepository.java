@@ -1,9 +1,15 @@
 package com.example.payment.repository;
 
+import com.example.payment.dto.PaymentResponse;
 import com.example.payment.entity.Payment;
 import com.example.payment.entity.PaymentStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -40,9 +46,14 @@ import java.util.List;
  * - 이 인터페이스를 스프링 빈으로 등록합니다
  * - 데이터 접근 예외를 스프링 예외로 변환합니다
  * - 생략 가능 (JpaRepository 상속 시 자동 인식)
+ *
+ * [PaymentBatchRepository, PaymentStreamRepository]
+ * - 대량 저장(saveAllInBatch)과 대량 조회(streamAll)는 커스텀 조각으로 구현되어 있습니다
+ * - 구현체: PaymentBatchRepositoryImpl, PaymentStreamRepositoryImpl
  */
 @Repository
-public interface PaymentRepository extends JpaRepository<Payment, Long> {
+public interface PaymentRepository extends JpaRepository<Payment, Long>,
+        PaymentBatchRepository, PaymentStreamRepository {
 
     /**
      * [상태별 결제 조회] - 특정 상태의 결제 목록을 조회합니다
@@ -61,9 +72,15 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
      * - OrderBy: 정렬
      * - GreaterThan, LessThan: 비교 연산
      *
+     * [쿼리 캐시]
+     * - 같은 상태로 다시 조회하면 결과 ID 목록을 캐시에서 꺼내고
+     *   엔티티는 2차 캐시("payments")에서 채웁니다
+     * - payments 테이블이 변경되면 커밋 시점에 캐시된 결과가 무효화됩니다
+     *
      * @param stat 조회할 상태 (P, C, F, R)
      * @return 해당 상태의 결제 목록
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Payment> findByStat(PaymentStatus stat);
 
     /**
@@ -90,6 +107,7 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
      * @param cd 국가 코드
      * @return 조건을 만족하는 결제 목록
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Payment> findByStatAndCd(PaymentStatus stat, String cd);
 
     /**
@@ -140,6 +158,68 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
      */
     List<Payment> findByFlagAndStatOrderByCdtDesc(Boolean flag, PaymentStatus stat);
 
+    /**
+     * [커서 페이지 조회] - 커서(ID) 다음부터 ID 오름차순으로 조회합니다
+     *
+     * [Pageable을 List로 받으면]
+     * - LIMIT만 적용되고 COUNT 쿼리는 실행되지 않습니다
+     * - 첫 페이지(PageRequest.ofSize(n))만 사용하므로 OFFSET도 0
+     *
+     * [자동 생성되는 SQL]
+     * SELECT * FROM payments WHERE id > ? ORDER BY id ASC LIMIT ?
+     *
+     * @param cursor 이전 페이지의 마지막 ID (첫 페이지면 0)
+     * @param pageable 조회 건수
+     * @return 커서 이후의 결제 목록
+     */
+    List<Payment> findByIdGreaterThanOrderByIdAsc(Long cursor, Pageable pageable);
+
+    /**
+     * [상태별 커서 페이지 조회] - 특정 상태에서 커서(ID) 다음부터 조회합니다
+     *
+     * [자동 생성되는 SQL]
+     * SELECT * FROM payments WHERE stat = ? AND id > ? ORDER BY id ASC LIMIT ?
+     *
+     * @param stat 상태
+     * @param cursor 이전 페이지의 마지막 ID (첫 페이지면 0)
+     * @param pageable 조회 건수
+     * @return 커서 이후의 해당 상태 결제 목록
+     */
+    List<Payment> findByStatAndIdGreaterThanOrderByIdAsc(PaymentStatus stat, Long cursor, Pageable pageable);
+
+    /**
+     * [최근 결제 커서 페이지 - 첫 페이지] - 생성일시 내림차순으로 조회합니다
+     *
+     * [ID가 아닌 (cdt, id) 순서인 이유]
+     * - cdt는 애플리케이션 시각이라 ID(저장 순서)와 순서가 어긋날 수 있습니다
+     *   (여러 서버, 배치 저장, 시계 보정)
+     * - "최신순" 목록은 cdt 순서가 기준이고, 같은 cdt는 ID로 순서를 고정합니다
+     *
+     * [자동 생성되는 SQL]
+     * SELECT * FROM payments ORDER BY cdt DESC, id DESC LIMIT ?
+     *
+     * @param pageable 조회 건수
+     * @return 최근 결제 목록 (생성일시, ID 내림차순)
+     */
+    List<Payment> findByOrderByCdtDescIdDesc(Pageable pageable);
+
+    /**
+     * [최근 결제 커서 페이지 - 다음 페이지] - 커서 (cdt, id) 이후를 조회합니다
+     *
+     * [조건을 cdt <= ? AND (...) 로 쓰는 이유]
+     * - (cdt, id) < (?, ?) 비교를 OR로만 쓰면 인덱스 범위 조건이 되지 않습니다
+     * - cdt <= ? 가 idx_payments_cdt (cdt DESC) 범위 탐색을 만들고
+     *   같은 cdt 안에서만 id < ? 로 걸러냅니다
+     *
+     * @param cdt 이전 페이지 마지막 결제의 생성일시
+     * @param id 이전 페이지 마지막 결제의 ID
+     * @param pageable 조회 건수
+     * @return 커서 이후의 결제 목록 (생성일시, ID 내림차순)
+     */
+    @Query("SELECT p FROM Payment p WHERE p.cdt <= :cdt AND (p.cdt < :cdt OR p.id < :id) "
+            + "ORDER BY p.cdt DESC, p.id DESC")
+    List<Payment> findRecentAfter(@Param("cdt") LocalDateTime cdt, @Param("id") Long id, Pageable pageable);
+
     /**
      * [국가별 결제 건수] - 특정 국가의 결제 건수를 조회합니다
      *
@@ -177,6 +257,86 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
     @Query("SELECT COALESCE(SUM(p.amt3), 0) FROM Payment p WHERE p.stat = :stat")
     Double sumAmt3ByStat(@Param("stat") PaymentStatus stat);
 
+    /**
+     * [응답 DTO 프로젝션] - 엔티티 대신 PaymentResponse를 바로 만드는 SELECT 절
+     *
+     * [생성자 표현식 (SELECT new ...)]
+     * - 조회한 컬럼 값을 record 생성자에 바로 넘깁니다
+     * - 결과가 엔티티가 아니므로 영속성 컨텍스트, 변경 감지 스냅샷, 2차 캐시에 올라가지 않습니다
+     * - 수정하지 않고 JSON으로 내보내기만 하는 목록 API에 적합합니다
+     *
+     * [주의]
+     * - 생성자 파라미터 순서/타입이 PaymentResponse와 정확히 같아야 합니다
+     * - 반환된 DTO를 고쳐도 DB에는 반영되지 않습니다 (상태 변경은 엔티티로)
+     */
+    String RESPONSE_SELECT = "SELECT new com.example.payment.dto.PaymentResponse("
+            + "p.id, p.amt1, p.amt2, p.amt3, p.cd, p.flag, p.stat, p.cdt, p.udt) FROM Payment p";
+
+    /**
+     * [전체 결제 응답 조회] - findAll()의 DTO 프로젝션 버전
+     *
+     * @return 전체 결제 응답 목록
+     */
+    @Query(RESPONSE_SELECT)
+    List<PaymentResponse> findAllResponses();
+
+    /**
+     * [상태별 결제 응답 조회] - findByStat()의 DTO 프로젝션 버전
+     * - (stat, cd) 인덱스의 선두 컬럼으로 조회합니다
+     *
+     * @param stat 상태
+     * @return 해당 상태의 결제 응답 목록
+     */
+    @Query(RESPONSE_SELECT + " WHERE p.stat = :stat")
+    List<PaymentResponse> findResponsesByStat(@Param("stat") PaymentStatus stat);
+
+    /**
+     * [최근 결제 응답 N건 조회] - findRecent()의 DTO 프로젝션 버전
+     * - 네이티브 쿼리 대신 JPQL LIMIT을 사용합니다 (cdt DESC 인덱스 사용)
+     *
+     * @param limit 조회할 건수
+     * @return 최근 결제 응답 목록 (생성일시 내림차순)
+     */
+    @Query(RESPONSE_SELECT + " ORDER BY p.cdt DESC LIMIT :limit")
+    List<PaymentResponse> findRecentResponses(@Param("limit") int limit);
+
+    /**
+     * [조건부 상태 변경] - 현재 상태가 expected일 때만 to로 바꿉니다 (Compare-And-Set)
+     *
+     * [왜 조회 후 변경이 아닌가요?]
+     * - SELECT로 상태를 확인하고 UPDATE하면 그 사이에 다른 요청이 끼어들 수 있습니다
+     *   (동시에 환불 두 건이 모두 C를 보고 둘 다 성공)
+     * - WHERE 절에 상태 조건을 넣으면 확인과 변경이 UPDATE 한 문장으로 끝납니다
+     * - DB가 행 잠금으로 직렬화하므로 정확히 한 요청만 1건 갱신, 나머지는 0건
+     *
+     * [@Modifying]
+     * - flushAutomatically: 실행 전에 쓰기 지연된 변경을 먼저 반영
+     * - clearAutomatically: 실행 후 영속성 컨텍스트를 비움 (이전 상태의 엔티티가 남지 않도록)
+     *
+     * [2차 캐시와의 트레이드오프]
+     * - 벌크 UPDATE라 Hibernate가 "payments" 리전 전체와 이 테이블을 쓰는 쿼리 캐시를 무효화합니다
+     * - 엔티티 변경(조회 → 상태 확인 → flush)은 항목 하나만 갱신하지만 SELECT가 먼저 필요하고
+     *   동시 요청의 결과가 상태 검사 실패와 버전 충돌 두 가지로 갈립니다
+     * - 환불은 조회보다 훨씬 드물어서, 한 문장으로 확인과 변경을 끝내고 결과를 0/1로 받는 쪽을 택했습니다
+     *   (무효화된 항목은 다음 조회 때 다시 채워짐)
+     *
+     * [실행되는 SQL]
+     * UPDATE payments SET stat = ?, udt = ?, ver = ver + 1 WHERE id = ? AND stat = ?
+     *
+     * @param id 결제 ID
+     * @param expected 기대하는 현재 상태
+     * @param to 변경할 상태
+     * @param udt 수정 일시
+     * @return 갱신된 행 수 (1: 성공, 0: 결제가 없거나 상태가 expected가 아님)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Payment p SET p.stat = :to, p.udt = :udt, p.ver = p.ver + 1 "
+            + "WHERE p.id = :id AND p.stat = :expected")
+    int updateStatIfCurrent(@Param("id") Long id,
+                            @Param("expected") PaymentStatus expected,
+                            @Param("to") PaymentStatus to,
+                            @Param("udt") LocalDateTime udt);
+
     /**
      * [최근 결제 N건 조회] - 생성일시 기준 최근 N건을 조회합니다
      *
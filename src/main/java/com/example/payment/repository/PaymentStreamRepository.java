@@ -0,0 +1,28 @@
+package com.example.payment.repository;
+
+import com.example.payment.entity.Payment;
+
+import java.util.stream.Stream;
+
+/**
+ * ====================================================================
+ * PaymentStreamRepository - 대량 조회용 커스텀 Repository 조각(Fragment)
+ * ====================================================================
+ *
+ * [왜 findAll()을 쓰지 않나요?]
+ * - findAll()은 모든 행을 List로 만든 뒤에야 반환합니다 → 행이 많으면 OOM
+ * - Stream은 JDBC ResultSet을 열어둔 채 한 행씩 꺼내 씁니다
+ *
+ * [주의사항]
+ * - 반드시 트랜잭션 안에서 호출하고, try-with-resources로 닫아야 합니다
+ * - 닫지 않으면 DB 커넥션과 커서가 반환되지 않습니다
+ */
+public interface PaymentStreamRepository {
+
+    /**
+     * [전체 결제 스트림] - ID 오름차순으로 한 행씩 읽습니다
+     * - 꺼낸 엔티티는 바로 준영속(detached) 상태가 되어 1차 캐시에 쌓이지 않습니다
+     * - 스트림을 닫을 때까지 세션의 2차 캐시 사용을 끕니다 (CacheMode.IGNORE) - 전체 조회가 캐시 리전을 밀어내지 않음
+     */
+    Stream<Payment> streamAll();
+}
@@ -0,0 +1,49 @@
+package com.example.payment.repository;
+
+import com.example.payment.entity.Payment;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.stream.Stream;
+
+/**
+ * PaymentStreamRepositoryImpl - PaymentStreamRepository 구현체
+ *
+ * [쿼리 힌트]
+ * - HINT_FETCH_SIZE: JDBC 드라이버가 한 번에 가져올 행 수 (DB 왕복 횟수 조절)
+ * - HINT_READ_ONLY: 스냅샷을 만들지 않아 변경 감지 비용이 없음
+ *
+ * [2차 캐시 우회]
+ * - 스트림이 열려 있는 동안 세션의 CacheMode를 IGNORE로 바꾸고, 스트림을 닫을 때 되돌립니다
+ *   (행은 스트림을 소비하는 동안 읽히므로 쿼리 힌트만으로는 "payments" 리전에 들어갑니다)
+ * - 기동 시 RevenueAggregateLoader, /api/payments/stream이 자주 조회되는 결제를 밀어내지 않습니다
+ */
+class PaymentStreamRepositoryImpl implements PaymentStreamRepository {
+
+    static final int STREAM_FETCH_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Stream<Payment> streamAll() {
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode previous = session.getCacheMode();
+        session.setCacheMode(CacheMode.IGNORE);
+        try {
+            return entityManager.createQuery("SELECT p FROM Payment p ORDER BY p.id", Payment.class)
+                    .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                    .setHint(HibernateHints.HINT_READ_ONLY, true)
+                    .getResultStream()
+                    // 꺼낸 엔티티를 바로 분리 → 1차 캐시가 행 수만큼 커지지 않음
+                    .peek(entityManager::detach)
+                    .onClose(() -> session.setCacheMode(previous));
+        } catch (RuntimeException e) {
+            session.setCacheMode(previous);
+            throw e;
+        }
+    }
+}
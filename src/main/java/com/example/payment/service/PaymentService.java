@@ -1,20 +1,31 @@
 package com.example.payment.service;
 
+import com.example.payment.dto.PaymentPageResponse;
+import com.example.payment.dto.PaymentRecentPageResponse;
 import com.example.payment.dto.PaymentRequest;
+import com.example.payment.dto.PaymentResponse;
 import com.example.payment.dto.PaymentResult;
 import com.example.payment.entity.Payment;
 import com.example.payment.entity.PaymentStatus;
-import com.example.payment.observer.PaymentObserver;
+import com.example.payment.observer.PaymentObserverDispatcher;
 import com.example.payment.strategy.discount.DiscountStrategy;
 import com.example.payment.strategy.tax.TaxStrategy;
 import com.example.payment.repository.PaymentRepository;
+import com.example.payment.stats.RevenueAggregateStore;
+import com.example.payment.stats.RevenueKey;
+import com.example.payment.stats.RevenueStat;
+import com.example.payment.support.TransactionHooks;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * ====================================================================
@@ -52,10 +63,24 @@ public class PaymentService {
      */
     private static final Logger log = LoggerFactory.getLogger(PaymentService.class);
 
+    /**
+     * [일괄 처리 청크 크기]
+     * - executeBatch()는 이 건수마다 DB에 반영(flush)하고 옵저버에 알립니다
+     * - 너무 크면 메모리 사용량이, 너무 작으면 DB 왕복 횟수가 늘어납니다
+     */
+    public static final int BATCH_CHUNK_SIZE = 500;
+
+    /**
+     * [커서 페이지 최대 크기]
+     * - 한 번에 너무 많이 요청하면 목록 전체 조회와 다를 바 없으므로 제한합니다
+     */
+    public static final int MAX_PAGE_SIZE = 1000;
+
     private final PaymentRepository paymentRepository;
     private final DiscountStrategy discountStrategy;
     private final TaxStrategy taxStrategy;
-    private final List<PaymentObserver> observers;
+    private final PaymentObserverDispatcher observerDispatcher;
+    private final RevenueAggregateStore revenueAggregateStore;
 
     /**
      * [생성자 주입 (Constructor Injection)]
@@ -63,19 +88,24 @@ public class PaymentService {
      * - 필드 주입(@Autowired)보다 생성자 주입이 권장됨
      * - 이유: 불변성 보장, 테스트 용이성, 순환 참조 방지
      *
-     * [List<PaymentListener> 주입]
-     * - 스프링이 PaymentListener를 구현한 모든 빈을 List로 수집
-     * - @Component가 붙은 LoggingListener, SettlementListener 등이 자동 수집됨
-     * - 새 리스너 추가 시 코드 수정 없이 빈 등록만 하면 됨 (OCP 원칙)
+     * [PaymentObserverDispatcher 주입]
+     * - 스프링이 수집한 모든 PaymentObserver 빈에게 알림을 전달합니다
+     * - 알림은 트랜잭션 커밋 이후에 전달되며, 설정에 따라 비동기로 실행됩니다
+     * - 새 옵저버 추가 시 코드 수정 없이 빈 등록만 하면 됨 (OCP 원칙)
+     *
+     * [RevenueAggregateStore 주입]
+     * - 결제 생성/상태 변경 시 메모리 매출 집계를 커밋 이후에 갱신합니다
      */
     public PaymentService(PaymentRepository paymentRepository,
                           DiscountStrategy discountStrategy,
                           TaxStrategy taxStrategy,
-                          List<PaymentObserver> observers) {
+                          PaymentObserverDispatcher observerDispatcher,
+                          RevenueAggregateStore revenueAggregateStore) {
         this.paymentRepository = paymentRepository;
         this.discountStrategy = discountStrategy;
         this.taxStrategy = taxStrategy;
-        this.observers = observers;
+        this.observerDispatcher = observerDispatcher;
+        this.revenueAggregateStore = revenueAggregateStore;
     }
 
     /**
@@ -87,7 +117,7 @@ public class PaymentService {
      * 3. 세금 정책 적용 (한국 10%, 미국 7%)
      * 4. 결제 엔티티 생성 및 DB 저장
      * 5. 결제 상태를 완료(C)로 변경
-     * 6. 등록된 리스너들에게 완료 알림 (로깅, 정산 등)
+     * 6. 등록된 옵저버들에게 완료 알림 (로깅, 정산 등 - 커밋 이후)
      *
      * [@Transactional]
      * - 이 메서드를 하나의 트랜잭션으로 처리합니다
@@ -109,21 +139,10 @@ public class PaymentService {
                 request.amt1(), request.cd(), request.flag());
 
         // 1. 유효성 검증
-        if (request.amt1() < 0) {
-            throw new IllegalArgumentException("잘못된 값");
-        }
-
-        // 2. 할인 적용 (VIP 15%, 일반 10%)
-        double v1 = discountStrategy.apply(request.amt1(), request.flag());
+        validate(request);
 
-        // 3. 세금 적용 (한국 10%, 미국 7%)
-        double v2 = taxStrategy.apply(v1);
-
-        // 4. 결과 DTO 생성
-        PaymentResult result = new PaymentResult(
-                request.amt1(), v1, v2,
-                request.cd(), request.flag()
-        );
+        // 2~4. 할인/세금 적용 후 결과 DTO 생성
+        PaymentResult result = price(request);
 
         // 5. 엔티티 생성 및 저장
         Payment payment = Payment.create(
@@ -142,14 +161,100 @@ public class PaymentService {
         saved.setUdt(LocalDateTime.now());
         log.info("처리 완료: id={}, amt={}", saved.getId(), result.amt3());
 
-        // 7. 옵저버들에게 완료 알림
-        for (PaymentObserver observer : observers) {
-            observer.onPaymentCompleted(result);
-        }
+        // 매출 집계 갱신 (커밋 이후)
+        RevenueKey key = RevenueKey.of(saved);
+        TransactionHooks.afterCommit(() -> revenueAggregateStore.add(key, result.amt3()));
+
+        // 7. 옵저버들에게 완료 알림 (커밋 이후 전달)
+        observerDispatcher.dispatch(result);
 
         return result;
     }
 
+    /**
+     * [결제 일괄 처리] - 여러 건의 결제 요청을 한 트랜잭션에서 처리합니다
+     *
+     * [처리 흐름]
+     * 1. 모든 요청을 먼저 검증 (한 건이라도 잘못되면 아무것도 저장하지 않음)
+     * 2. BATCH_CHUNK_SIZE 단위로 나누어 할인/세금 적용
+     * 3. 청크마다 저장 후 flush/clear (영속성 컨텍스트가 커지지 않도록)
+     * 4. 청크마다 옵저버에게 한 번만 알림
+     *
+     * [execute()와 다른 점]
+     * - 저장 전에 완료(C) 상태로 만들어 INSERT 한 번으로 끝냅니다 (UPDATE 없음)
+     * - 옵저버 호출이 건별이 아니라 청크별입니다
+     *
+     * @param requests 결제 요청 목록
+     * @return 결제 결과 목록 (요청 순서와 동일)
+     * @throws IllegalArgumentException 금액이 음수인 요청이 포함된 경우
+     */
+    @Transactional
+    public List<PaymentResult> executeBatch(List<PaymentRequest> requests) {
+        log.debug("일괄 처리 시작: size={}", requests.size());
+
+        // 1. 전체 유효성 검증
+        for (PaymentRequest request : requests) {
+            validate(request);
+        }
+
+        List<PaymentResult> results = new ArrayList<>(requests.size());
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int from = 0; from < requests.size(); from += BATCH_CHUNK_SIZE) {
+            int to = Math.min(from + BATCH_CHUNK_SIZE, requests.size());
+
+            // 2. 청크 단위 계산 및 엔티티 생성
+            List<PaymentResult> chunkResults = new ArrayList<>(to - from);
+            List<Payment> chunk = new ArrayList<>(to - from);
+            for (PaymentRequest request : requests.subList(from, to)) {
+                PaymentResult result = price(request);
+                Payment payment = Payment.create(
+                        result.amt1(),
+                        result.amt2(),
+                        result.amt3(),
+                        result.cd(),
+                        result.flag()
+                );
+                payment.setStat(PaymentStatus.C);
+                payment.setUdt(now);
+
+                chunkResults.add(result);
+                chunk.add(payment);
+            }
+
+            // 3. 청크 저장 (flush + clear) 후 매출 집계 갱신 (커밋 이후)
+            paymentRepository.saveAllInBatch(chunk);
+            TransactionHooks.afterCommit(() -> chunk.forEach(payment ->
+                    revenueAggregateStore.add(RevenueKey.of(payment), payment.getAmt3())));
+
+            // 4. 옵저버들에게 청크 단위로 알림 (커밋 이후 전달)
+            observerDispatcher.dispatchAll(chunkResults);
+
+            results.addAll(chunkResults);
+        }
+
+        log.info("일괄 처리 완료: size={}", results.size());
+        return results;
+    }
+
+    private void validate(PaymentRequest request) {
+        if (request.amt1() < 0) {
+            throw new IllegalArgumentException("잘못된 값");
+        }
+    }
+
+    /**
+     * 할인(VIP 15%, 일반 10%) → 세금(한국 10%, 미국 7%) 순서로 적용합니다
+     */
+    private PaymentResult price(PaymentRequest request) {
+        double v1 = discountStrategy.apply(request.amt1(), request.flag());
+        double v2 = taxStrategy.apply(v1);
+        return new PaymentResult(
+                request.amt1(), v1, v2,
+                request.cd(), request.flag()
+        );
+    }
+
     /**
      * [결제 단건 조회] - ID로 결제 정보를 조회합니다
      *
@@ -177,8 +282,7 @@ public class PaymentService {
      *
      * [주의사항]
      * - 데이터가 많으면 성능 문제 발생 가능
-     * - 실무에서는 페이징(Pagination) 처리 필요
-     * - 예: findAll(Pageable pageable) 사용
+     * - 대량 조회는 getPage()(커서 페이지) 또는 streamAll()을 사용하세요
      *
      * @return 전체 결제 목록
      */
@@ -187,6 +291,111 @@ public class PaymentService {
         return paymentRepository.findAll();
     }
 
+    /**
+     * [전체 결제 응답 조회] - 엔티티를 거치지 않고 응답 DTO로 바로 조회합니다
+     *
+     * [getList()와 다른 점]
+     * - 엔티티를 영속성 컨텍스트/2차 캐시에 올리지 않으므로 건수가 많을수록 메모리와 시간이 적게 듭니다
+     * - 조회 API(GET /api/payments)는 이 메서드를 사용합니다
+     *
+     * @return 전체 결제 응답 목록
+     */
+    @Transactional(readOnly = true)
+    public List<PaymentResponse> getResponseList() {
+        return paymentRepository.findAllResponses();
+    }
+
+    /**
+     * [커서 페이지 조회] - 커서(마지막으로 받은 ID) 다음부터 size건을 조회합니다
+     *
+     * [처리 흐름]
+     * 1. size + 1건을 조회 (한 건 더 있으면 다음 페이지 존재)
+     * 2. size건만 응답에 담고 마지막 ID를 다음 커서로 반환
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기 (1 ~ MAX_PAGE_SIZE)
+     * @return 결제 페이지
+     * @throws IllegalArgumentException 페이지 크기가 범위를 벗어난 경우
+     */
+    @Transactional(readOnly = true)
+    public PaymentPageResponse getPage(Long cursor, int size) {
+        validatePageSize(size);
+        List<Payment> fetched = paymentRepository.findByIdGreaterThanOrderByIdAsc(
+                startOf(cursor), PageRequest.ofSize(size + 1));
+        return PaymentPageResponse.of(fetched, size);
+    }
+
+    /**
+     * [상태별 커서 페이지 조회] - getPage()와 같고 상태 조건만 추가됩니다
+     *
+     * @param stat 조회할 상태 (P, C, F, R)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기 (1 ~ MAX_PAGE_SIZE)
+     * @return 해당 상태의 결제 페이지
+     * @throws IllegalArgumentException 페이지 크기가 범위를 벗어난 경우
+     */
+    @Transactional(readOnly = true)
+    public PaymentPageResponse getPageByStat(PaymentStatus stat, Long cursor, int size) {
+        validatePageSize(size);
+        List<Payment> fetched = paymentRepository.findByStatAndIdGreaterThanOrderByIdAsc(
+                stat, startOf(cursor), PageRequest.ofSize(size + 1));
+        return PaymentPageResponse.of(fetched, size);
+    }
+
+    /**
+     * [최근 결제 커서 페이지 조회] - 생성일시 내림차순으로 커서 (cdt, id) 다음부터 조회합니다
+     *
+     * [getPage()와 다른 점]
+     * - getPage()는 ID 순서(저장 순서)로 전체를 훑는 용도입니다
+     * - 이 메서드는 "최신순" 화면용으로 cdt 인덱스(idx_payments_cdt) 순서로 읽습니다
+     *
+     * @param cursorCdt 이전 페이지의 nextCursorCdt (첫 페이지면 null)
+     * @param cursorId 이전 페이지의 nextCursorId (첫 페이지면 null)
+     * @param size 페이지 크기 (1 ~ MAX_PAGE_SIZE)
+     * @return 최근 결제 페이지
+     * @throws IllegalArgumentException 페이지 크기가 범위를 벗어나거나 커서 값이 하나만 있는 경우
+     */
+    @Transactional(readOnly = true)
+    public PaymentRecentPageResponse getRecentPage(LocalDateTime cursorCdt, Long cursorId, int size) {
+        validatePageSize(size);
+        if ((cursorCdt == null) != (cursorId == null)) {
+            throw new IllegalArgumentException("커서는 cursorCdt와 cursorId를 함께 보내야 합니다");
+        }
+
+        PageRequest limit = PageRequest.ofSize(size + 1);
+        List<Payment> fetched = cursorCdt == null
+                ? paymentRepository.findByOrderByCdtDescIdDesc(limit)
+                : paymentRepository.findRecentAfter(cursorCdt, cursorId, limit);
+        return PaymentRecentPageResponse.of(fetched, size);
+    }
+
+    /**
+     * [전체 결제 스트리밍] - 전체 결제를 한 건씩 consumer에게 넘깁니다
+     *
+     * [왜 List가 아닌 Consumer인가요?]
+     * - Stream은 트랜잭션(DB 커넥션)이 열려 있는 동안만 읽을 수 있습니다
+     * - 그래서 이 메서드 안에서 끝까지 소비하고 닫습니다
+     * - 메모리에는 JDBC fetch size만큼의 행만 올라옵니다
+     *
+     * @param consumer 결제 한 건마다 호출될 처리 로직 (예: 응답에 한 줄씩 쓰기)
+     */
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<Payment> consumer) {
+        try (Stream<Payment> payments = paymentRepository.streamAll()) {
+            payments.forEach(consumer);
+        }
+    }
+
+    private void validatePageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다: " + size);
+        }
+    }
+
+    private long startOf(Long cursor) {
+        return cursor == null ? 0L : cursor;
+    }
+
     /**
      * [상태별 결제 조회] - 특정 상태의 결제만 조회합니다
      *
@@ -204,6 +413,17 @@ public class PaymentService {
         return paymentRepository.findByStat(stat);
     }
 
+    /**
+     * [상태별 결제 응답 조회] - getListByStat()의 DTO 프로젝션 버전
+     *
+     * @param stat 조회할 상태 (P, C, F, R)
+     * @return 해당 상태의 결제 응답 목록
+     */
+    @Transactional(readOnly = true)
+    public List<PaymentResponse> getResponseListByStat(PaymentStatus stat) {
+        return paymentRepository.findResponsesByStat(stat);
+    }
+
     /**
      * [결제 환불 처리] - 완료된 결제를 환불 처리합니다
      *
@@ -212,23 +432,32 @@ public class PaymentService {
      * - 환불 후 상태가 R(Refunded)로 변경됨
      * - 수정 시간(udt)이 현재 시간으로 갱신됨
      *
+     * [동시 환불]
+     * - 상태 확인과 변경을 조건부 UPDATE 한 문장(updateStatIfCurrent)으로 처리합니다
+     * - 같은 결제에 환불이 동시에 들어와도 한 건만 성공하고 나머지는 IllegalStateException
+     * - 응답과 매출 집계에 쓸 결제는 UPDATE 이후에 한 번만 조회합니다
+     *
      * @param id 환불할 결제 ID
      * @return 환불 처리된 결제 엔티티
      * @throws IllegalArgumentException 결제를 찾을 수 없는 경우
-     * @throws IllegalStateException 환불 불가능한 상태인 경우
+     * @throws IllegalStateException 환불 불가능한 상태인 경우 (이미 다른 요청이 환불한 경우 포함)
      */
     @Transactional
     public Payment updateStatus(Long id) {
+        // 완료(C)인 경우에만 환불(R)로 변경
+        int updated = paymentRepository.updateStatIfCurrent(
+                id, PaymentStatus.C, PaymentStatus.R, LocalDateTime.now());
         Payment payment = getData(id);
 
-        // 완료(C) 상태만 환불 가능
-        if (payment.getStat() != PaymentStatus.C) {
+        if (updated == 0) {
             throw new IllegalStateException("처리 불가 상태");
         }
 
-        // 상태를 환불(R)로 변경
-        payment.setStat(PaymentStatus.R);
-        payment.setUdt(LocalDateTime.now());
+        // 매출 집계에서 완료(C) → 환불(R)로 이동 (커밋 이후)
+        RevenueKey after = RevenueKey.of(payment);
+        double amount = payment.getAmt3();
+        TransactionHooks.afterCommit(() ->
+                revenueAggregateStore.move(after.withStat(PaymentStatus.C), after, amount));
 
         log.info("상태 변경 완료: id={}", id);
         return payment;
@@ -237,16 +466,26 @@ public class PaymentService {
     /**
      * [완료된 결제 총액 조회] - 완료 상태 결제의 총액을 조회합니다
      *
-     * [JPQL 사용]
-     * - Repository의 @Query로 정의된 JPQL 사용
-     * - COALESCE: 결과가 NULL이면 0을 반환
+     * [메모리 집계 사용]
+     * - SUM 쿼리 대신 RevenueAggregateStore의 집계값을 사용합니다
+     * - 테이블 크기와 무관하게 빠르며 DB에 접근하지 않습니다
      *
-     * @param cd 국가 코드 (현재 사용되지 않음 - 버그)
+     * @param cd 국가 코드 (null이면 전체 국가)
      * @return 완료된 결제의 총액
      */
-    @Transactional(readOnly = true)
     public Double getSum(String cd) {
-        return paymentRepository.sumAmt3ByStat(PaymentStatus.C);
+        return revenueAggregateStore.total(cd, PaymentStatus.C);
+    }
+
+    /**
+     * [매출 집계 조회] - (국가, 상태, VIP 여부, 생성일) 버킷별 건수와 합계
+     *
+     * @param cd 국가 코드 (null이면 전체)
+     * @param stat 결제 상태 (null이면 전체)
+     * @return 버킷 목록 (날짜, 국가, 상태 순)
+     */
+    public List<RevenueStat> getStats(String cd, PaymentStatus stat) {
+        return revenueAggregateStore.snapshot(cd, stat);
     }
 
     /**
@@ -263,4 +502,15 @@ public class PaymentService {
     public List<Payment> getRecent(int limit) {
         return paymentRepository.findRecent(limit);
     }
+
+    /**
+     * [최근 결제 응답 조회] - getRecent()의 DTO 프로젝션 버전
+     *
+     * @param limit 조회할 건수
+     * @return 최근 결제 응답 목록 (생성일시 내림차순)
+     */
+    @Transactional(readOnly = true)
+    public List<PaymentResponse> getRecentResponses(int limit) {
+        return paymentRepository.findRecentResponses(limit);
+    }
 }
@@ -0,0 +1,42 @@
+package com.example.payment.stats;
+
+import com.example.payment.entity.Payment;
+import com.example.payment.repository.PaymentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Stream;
+
+/**
+ * RevenueAggregateLoader - 시작 시 매출 집계를 테이블에서 다시 계산합니다
+ *
+ * [SmartInitializingSingleton]
+ * - 모든 싱글톤 빈이 만들어진 직후, 웹 서버가 요청을 받기 전에 실행됩니다
+ * - 그래서 재계산 도중 들어온 결제가 빠지거나 두 번 집계되지 않습니다
+ */
+@Component
+public class RevenueAggregateLoader implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(RevenueAggregateLoader.class);
+
+    private final PaymentRepository paymentRepository;
+    private final RevenueAggregateStore revenueAggregateStore;
+
+    public RevenueAggregateLoader(PaymentRepository paymentRepository,
+                                  RevenueAggregateStore revenueAggregateStore) {
+        this.paymentRepository = paymentRepository;
+        this.revenueAggregateStore = revenueAggregateStore;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void afterSingletonsInstantiated() {
+        try (Stream<Payment> payments = paymentRepository.streamAll()) {
+            revenueAggregateStore.replaceAll(payments);
+        }
+        log.info("매출 집계 재계산 완료");
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.payment.stats;
+
+import com.example.payment.entity.Payment;
+import com.example.payment.entity.PaymentStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * ====================================================================
+ * RevenueAggregateStore - 메모리 매출 집계 저장소
+ * ====================================================================
+ *
+ * [왜 필요한가요?]
+ * - SUM(amt3) 쿼리는 호출할 때마다 테이블 전체를 읽습니다
+ * - 결제가 생기거나 상태가 바뀔 때마다 집계값을 조금씩 갱신해두면
+ *   조회 비용이 테이블 크기와 무관해집니다
+ *
+ * [두 가지 집계]
+ * - 버킷: (국가, 상태, VIP 여부, 날짜)별 건수/합계 - snapshot()으로 조회
+ *   (국가, 상태) 그룹 아래에 모아두므로 조건에 맞는 그룹의 버킷만 읽습니다
+ * - 누적 합계: (국가, 상태)별 건수/합계 - total()이 바로 읽는 값 (O(1), 저장된 날짜 수와 무관)
+ *   국가나 상태가 "전체"(null)인 조합도 함께 갱신해둡니다
+ *
+ * [동시성]
+ * - ConcurrentHashMap + LongAdder/DoubleAdder로 잠금 없이 갱신합니다
+ * - 여러 요청이 동시에 같은 버킷을 갱신해도 안전합니다
+ *
+ * [정합성]
+ * - 갱신은 트랜잭션 커밋 이후에만 호출해야 합니다 (PaymentService 참고)
+ * - 애플리케이션 시작 시 RevenueAggregateLoader가 테이블에서 다시 계산합니다
+ *   (버킷과 누적 합계를 함께 새로 만들어 한 번에 교체)
+ */
+@Component
+public class RevenueAggregateStore {
+
+    private volatile Aggregates aggregates = new Aggregates();
+
+    /**
+     * 버킷에 결제 한 건을 더합니다
+     */
+    public void add(RevenueKey key, double amount) {
+        aggregates.add(key, amount);
+    }
+
+    /**
+     * 결제 한 건을 다른 버킷으로 옮깁니다 (상태 변경)
+     */
+    public void move(RevenueKey from, RevenueKey to, double amount) {
+        Aggregates current = aggregates;
+        current.subtract(from, amount);
+        current.add(to, amount);
+    }
+
+    /**
+     * 전체 결제로 집계를 새로 만든 뒤 한 번에 교체합니다
+     */
+    public void replaceAll(Stream<Payment> payments) {
+        Aggregates rebuilt = new Aggregates();
+        payments.forEach(payment -> rebuilt.add(RevenueKey.of(payment), payment.getAmt3()));
+        aggregates = rebuilt;
+    }
+
+    /**
+     * [합계 조회] - 국가/상태 조건의 amt3 합계 (누적 합계 하나를 읽음)
+     *
+     * @param cd 국가 코드 (null이면 전체 국가)
+     * @param stat 결제 상태
+     */
+    public double total(String cd, PaymentStatus stat) {
+        Aggregate total = aggregates.totals.get(new Group(cd, stat));
+        return total == null ? 0.0 : total.total.sum();
+    }
+
+    /**
+     * [버킷 목록 조회] - 조건에 맞는 버킷을 날짜, 국가, 상태 순으로 반환합니다
+     *
+     * @param cd 국가 코드 (null이면 전체)
+     * @param stat 결제 상태 (null이면 전체)
+     */
+    public List<RevenueStat> snapshot(String cd, PaymentStatus stat) {
+        return aggregates.buckets.entrySet().stream()
+                .filter(group -> group.getKey().matches(cd, stat))
+                .flatMap(group -> group.getValue().entrySet().stream())
+                .map(entry -> entry.getValue().toStat(entry.getKey()))
+                .filter(revenueStat -> revenueStat.count() != 0)
+                .sorted(Comparator.comparing(RevenueStat::day)
+                        .thenComparing(RevenueStat::cd)
+                        .thenComparing(RevenueStat::stat)
+                        .thenComparing(RevenueStat::flag))
+                .toList();
+    }
+
+    /**
+     * (국가, 상태) 그룹 - null은 "전체"
+     */
+    private record Group(String cd, PaymentStatus stat) {
+
+        boolean matches(String cd, PaymentStatus stat) {
+            return (cd == null || cd.equals(this.cd))
+                    && (stat == null || stat == this.stat);
+        }
+    }
+
+    /**
+     * 버킷과 누적 합계 - replaceAll()이 통째로 교체합니다
+     */
+    private static final class Aggregates {
+        // 그룹(국가, 상태) → 버킷(VIP 여부, 날짜 포함)
+        private final Map<Group, Map<RevenueKey, Aggregate>> buckets = new ConcurrentHashMap<>();
+        // (국가 | 전체, 상태 | 전체) → 누적 합계
+        private final Map<Group, Aggregate> totals = new ConcurrentHashMap<>();
+
+        void add(RevenueKey key, double amount) {
+            bucket(key).add(amount);
+            for (Group group : totalGroups(key)) {
+                totals.computeIfAbsent(group, g -> new Aggregate()).add(amount);
+            }
+        }
+
+        void subtract(RevenueKey key, double amount) {
+            bucket(key).subtract(amount);
+            for (Group group : totalGroups(key)) {
+                totals.computeIfAbsent(group, g -> new Aggregate()).subtract(amount);
+            }
+        }
+
+        private Aggregate bucket(RevenueKey key) {
+            return buckets.computeIfAbsent(new Group(key.cd(), key.stat()), g -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(key, k -> new Aggregate());
+        }
+
+        private static List<Group> totalGroups(RevenueKey key) {
+            return List.of(
+                    new Group(key.cd(), key.stat()),
+                    new Group(null, key.stat()),
+                    new Group(key.cd(), null),
+                    new Group(null, null));
+        }
+    }
+
+    private static final class Aggregate {
+        private final LongAdder count = new LongAdder();
+        private final DoubleAdder total = new DoubleAdder();
+
+        void add(double amount) {
+            count.increment();
+            total.add(amount);
+        }
+
+        void subtract(double amount) {
+            count.decrement();
+            total.add(-amount);
+        }
+
+        RevenueStat toStat(RevenueKey key) {
+            return new RevenueStat(key.cd(), key.stat(), key.flag(), key.day(), count.sum(), total.sum());
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.payment.stats;
+
+import com.example.payment.entity.Payment;
+import com.example.payment.entity.PaymentStatus;
+
+import java.time.LocalDate;
+
+/**
+ * RevenueKey - 매출 집계 키 (국가, 상태, VIP 여부, 생성일)
+ *
+ * [시간 버킷]
+ * - 결제 생성일(cdt의 날짜)을 버킷으로 사용합니다
+ * - 상태가 바뀌어도 생성일은 그대로이므로 같은 날짜 안에서 상태만 이동합니다
+ */
+public record RevenueKey(String cd, PaymentStatus stat, boolean flag, LocalDate day) {
+
+    public static RevenueKey of(Payment payment) {
+        return new RevenueKey(
+                payment.getCd(),
+                payment.getStat(),
+                Boolean.TRUE.equals(payment.getFlag()),
+                payment.getCdt().toLocalDate()
+        );
+    }
+
+    public RevenueKey withStat(PaymentStatus newStat) {
+        return new RevenueKey(cd, newStat, flag, day);
+    }
+}
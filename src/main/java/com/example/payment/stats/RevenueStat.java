@@ -0,0 +1,25 @@
+package com.example.payment.stats;
+
+import com.example.payment.entity.PaymentStatus;
+
+import java.time.LocalDate;
+
+/**
+ * RevenueStat - 매출 집계 조회 결과 (버킷 하나)
+ *
+ * @param cd 국가 코드
+ * @param stat 결제 상태
+ * @param flag VIP 여부
+ * @param day 결제 생성일
+ * @param count 결제 건수
+ * @param total 세금 적용 후 금액(amt3) 합계
+ */
+public record RevenueStat(
+        String cd,
+        PaymentStatus stat,
+        boolean flag,
+        LocalDate day,
+        long count,
+        double total
+) {
+}
@@ -0,0 +1,34 @@
+package com.example.payment.support;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * TransactionHooks - 트랜잭션 커밋 이후 실행 도우미
+ *
+ * [왜 커밋 이후인가요?]
+ * - 트랜잭션 안에서 바로 실행하면, 나중에 롤백되어도 되돌릴 수 없습니다
+ *   (옵저버 알림, 메모리 집계 등)
+ * - 커밋이 확정된 뒤에만 실행하면 DB와 어긋나지 않습니다
+ *
+ * [트랜잭션이 없으면]
+ * - 되돌릴 것이 없으므로 바로 실행합니다 (단위 테스트 등)
+ */
+public final class TransactionHooks {
+
+    private TransactionHooks() {
+    }
+
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -25,9 +25,11 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * ├── application/     애플리케이션 레이어
  * │   ├── command/     Command 객체
  * │   ├── service/     애플리케이션 서비스
+ * │   ├── port/        인프라에 구현을 맡기는 인터페이스 (아웃박스 등)
  * │   └── eventhandler/ 이벤트 핸들러
  * ├── infrastructure/  인프라 레이어
  * │   ├── persistence/ JPA 구현
+ * │   ├── outbox/      이벤트 아웃박스 + 릴레이
  * │   └── config/      설정
  * └── interfaces/      인터페이스 레이어
  *     ├── dto/         DTO
@@ -0,0 +1,149 @@
+package com.example.payment_ddd.application.eventhandler;
+
+import com.example.payment_ddd.domain.event.DomainEvent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DomainEventDispatcher - 이벤트 타입별 핸들러 디스패처
+ *
+ * [왜 필요한가요?]
+ * - 이전에는 이벤트마다 모든 핸들러를 돌며 supportedEventType().isInstance()를 확인했습니다
+ * - 핸들러가 늘어날수록 (이벤트 수 x 핸들러 수)만큼 검사가 늘어납니다
+ *
+ * [동작 방식]
+ * 1. 생성 시점에 핸들러가 선언한 이벤트 타입마다 처리할 핸들러 목록을 만들어 둡니다
+ * 2. 처음 보는 구체 이벤트 클래스는 첫 발행 때 한 번만 목록을 계산해 저장합니다
+ *    - 핸들러가 상위 타입(인터페이스 포함)을 선언했다면 하위 이벤트에도 호출됩니다
+ * 3. 이후에는 이벤트 클래스로 목록을 바로 꺼내 호출합니다
+ *
+ * [호출 순서]
+ * - 핸들러 목록에 등록된 순서를 그대로 따릅니다 (기존 루프와 동일)
+ *
+ * [통계]
+ * - 핸들러가 선언한 이벤트 타입별로 발행 횟수와 핸들러 처리 시간 합계를 기록합니다
+ *   (예: DomainEvent를 선언한 핸들러가 받은 PaymentCompletedEvent는 "DomainEvent"에 기록)
+ * - 통계 키는 생성 시점에 모두 정해지므로 메트릭을 처음 한 번만 등록해도 빠지는 값이 없습니다
+ * - 처리할 핸들러가 없는 이벤트는 기록하지 않습니다
+ * - stats()로 조회하며, 인프라 계층에서 메트릭으로 노출합니다
+ */
+public class DomainEventDispatcher {
+
+    private final List<DomainEventHandler<?>> handlers;
+    private final Map<Class<?>, Route> routesByEventType = new ConcurrentHashMap<>();
+    private final Map<Class<?>, DispatchCounter> counters = new LinkedHashMap<>();
+
+    public DomainEventDispatcher(List<DomainEventHandler<?>> handlers) {
+        this.handlers = List.copyOf(handlers);
+        for (DomainEventHandler<?> handler : this.handlers) {
+            counters.computeIfAbsent(handler.supportedEventType(), type -> new DispatchCounter());
+        }
+        for (DomainEventHandler<?> handler : this.handlers) {
+            routeFor(handler.supportedEventType());
+        }
+    }
+
+    /**
+     * 이벤트 목록을 순서대로 발행
+     */
+    public void dispatchAll(List<DomainEvent> events) {
+        for (DomainEvent event : events) {
+            dispatch(event);
+        }
+    }
+
+    /**
+     * 이벤트 하나를 처리할 수 있는 모든 핸들러에 전달
+     * - 일치한 선언 타입마다 발행 횟수를 1 올리고, 핸들러 처리 시간은 그 핸들러의 선언 타입에 더합니다
+     */
+    public void dispatch(DomainEvent event) {
+        Route route = routeFor(event.getClass());
+        for (DispatchCounter counter : route.declaredTypeCounters()) {
+            counter.recordEvent();
+        }
+
+        List<DomainEventHandler<DomainEvent>> targets = route.handlers();
+        for (int i = 0; i < targets.size(); i++) {
+            long start = System.nanoTime();
+            try {
+                targets.get(i).handle(event);
+            } finally {
+                route.handlerCounters().get(i).addNanos(System.nanoTime() - start);
+            }
+        }
+    }
+
+    /**
+     * 선언 이벤트 타입별 통계 (이벤트 클래스 단순 이름 기준)
+     */
+    public Map<String, DispatchStat> stats() {
+        Map<String, DispatchStat> result = new LinkedHashMap<>();
+        counters.forEach((type, counter) -> result.put(type.getSimpleName(), counter.snapshot()));
+        return Collections.unmodifiableMap(result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Route routeFor(Class<?> eventType) {
+        return routesByEventType.computeIfAbsent(eventType, type -> {
+            List<DomainEventHandler<DomainEvent>> matched = new ArrayList<>();
+            List<DispatchCounter> handlerCounters = new ArrayList<>();
+            Set<DispatchCounter> declaredTypeCounters = new LinkedHashSet<>();
+            for (DomainEventHandler<?> handler : handlers) {
+                if (handler.supportedEventType().isAssignableFrom(type)) {
+                    DispatchCounter counter = counters.get(handler.supportedEventType());
+                    matched.add((DomainEventHandler<DomainEvent>) handler);
+                    handlerCounters.add(counter);
+                    declaredTypeCounters.add(counter);
+                }
+            }
+            return new Route(List.copyOf(matched), List.copyOf(handlerCounters), List.copyOf(declaredTypeCounters));
+        });
+    }
+
+    /**
+     * 구체 이벤트 클래스 하나의 전달 경로
+     *
+     * @param handlers             호출할 핸들러 (등록 순서)
+     * @param handlerCounters      handlers와 같은 순서의 선언 타입 카운터
+     * @param declaredTypeCounters 일치한 선언 타입 카운터 (중복 없음)
+     */
+    private record Route(List<DomainEventHandler<DomainEvent>> handlers,
+                         List<DispatchCounter> handlerCounters,
+                         List<DispatchCounter> declaredTypeCounters) {
+    }
+
+    /**
+     * 이벤트 타입별 통계 값
+     *
+     * @param count      발행 횟수
+     * @param totalNanos 핸들러 처리 시간 합계 (나노초)
+     */
+    public record DispatchStat(long count, long totalNanos) {
+    }
+
+    private static final class DispatchCounter {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+
+        void recordEvent() {
+            count.increment();
+        }
+
+        void addNanos(long nanos) {
+            totalNanos.add(nanos);
+        }
+
+        DispatchStat snapshot() {
+            return new DispatchStat(count.sum(), totalNanos.sum());
+        }
+    }
+}
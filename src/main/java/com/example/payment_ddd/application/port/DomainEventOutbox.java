@@ -0,0 +1,28 @@
+package com.example.payment_ddd.application.port;
+
+import com.example.payment_ddd.domain.event.DomainEvent;
+
+import java.util.List;
+
+/**
+ * DomainEventOutbox - 도메인 이벤트 아웃박스 (Application Port)
+ *
+ * [Transactional Outbox 패턴]
+ * - 결제 저장과 같은 트랜잭션에서 이벤트를 "기록"만 합니다
+ * - 핸들러 호출은 커밋 이후 별도 릴레이가 담당합니다
+ * - 결제가 롤백되면 이벤트 기록도 함께 롤백되므로 유령 이벤트가 없습니다
+ *
+ * [왜 Port인가요?]
+ * - 애플리케이션 레이어는 "기록한다"는 사실만 알고
+ * - 저장 방식(JPA 테이블, 메시지 브로커 등)은 인프라 레이어가 구현합니다
+ */
+public interface DomainEventOutbox {
+
+    /**
+     * 이벤트 기록
+     *
+     * @param aggregateId 이벤트가 발생한 Payment ID (저장 후 할당된 ID)
+     * @param events      기록할 이벤트 (발생 순서대로)
+     */
+    void append(Long aggregateId, List<DomainEvent> events);
+}
@@ -0,0 +1,23 @@
+package com.example.payment_ddd.application.port;
+
+import java.time.LocalDateTime;
+
+/**
+ * PaymentView - 조회 전용 결제 모델 (Read Model)
+ *
+ * [Aggregate와 다른 점]
+ * - 비즈니스 메서드, 도메인 이벤트, Value Object(Money, Country)가 없습니다
+ * - 저장소에서 읽은 값을 그대로 담으므로 Payment.reconstitute가 필요 없습니다
+ * - 상태를 바꾸려면 PaymentCommandService로 Aggregate를 통해야 합니다
+ */
+public record PaymentView(
+        Long id,
+        double originalPrice,
+        double discountedAmount,
+        double taxedAmount,
+        String country,
+        boolean vip,
+        String status,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,31 @@
+package com.example.payment_ddd.application.port;
+
+import com.example.payment_ddd.domain.model.PaymentStatus;
+
+import java.util.List;
+
+/**
+ * PaymentViewQuery - 결제 목록 조회 (Application Port)
+ *
+ * [왜 PaymentRepository가 아닌가요?]
+ * - 도메인 Repository는 Aggregate 단위로 저장/복원하는 것이 책임입니다
+ * - 목록 화면은 값만 필요하므로 Aggregate를 조립하지 않는 별도 조회 경로를 둡니다 (CQRS)
+ * - 구현은 인프라 레이어가 담당합니다 (JPA 프로젝션 등)
+ */
+public interface PaymentViewQuery {
+
+    /**
+     * 모든 결제 조회
+     */
+    List<PaymentView> findAll();
+
+    /**
+     * 상태별 결제 조회
+     */
+    List<PaymentView> findByStatus(PaymentStatus status);
+
+    /**
+     * 최근 결제 N건 조회 (생성일시 내림차순)
+     */
+    List<PaymentView> findRecent(int limit);
+}
@@ -2,11 +2,11 @@ package com.example.payment_ddd.application.service;
 
 import com.example.payment_ddd.application.command.CreatePaymentCommand;
 import com.example.payment_ddd.application.command.RefundPaymentCommand;
-import com.example.payment_ddd.application.eventhandler.DomainEventHandler;
-import com.example.payment_ddd.domain.event.DomainEvent;
+import com.example.payment_ddd.application.port.DomainEventOutbox;
 import com.example.payment_ddd.domain.model.Country;
 import com.example.payment_ddd.domain.model.Money;
 import com.example.payment_ddd.domain.model.Payment;
+import com.example.payment_ddd.domain.model.PaymentStatus;
 import com.example.payment_ddd.domain.repository.PaymentRepository;
 import com.example.payment_ddd.domain.service.PaymentDomainService;
 import org.springframework.transaction.annotation.Transactional;
@@ -35,14 +35,14 @@ public class PaymentCommandService {
 
     private final PaymentDomainService paymentDomainService;
     private final PaymentRepository paymentRepository;
-    private final List<DomainEventHandler<?>> eventHandlers;
+    private final DomainEventOutbox eventOutbox;
 
     public PaymentCommandService(PaymentDomainService paymentDomainService,
                                   PaymentRepository paymentRepository,
-                                  List<DomainEventHandler<?>> eventHandlers) {
+                                  DomainEventOutbox eventOutbox) {
         this.paymentDomainService = paymentDomainService;
         this.paymentRepository = paymentRepository;
-        this.eventHandlers = eventHandlers;
+        this.eventOutbox = eventOutbox;
     }
 
     /**
@@ -75,6 +75,11 @@ public class PaymentCommandService {
 
     /**
      * 결제 환불
+     *
+     * [동시 환불]
+     * - 저장은 updateStatusIfCurrent로 "아직 완료 상태일 때만" 반영합니다
+     * - 같은 결제를 동시에 환불하면 한 요청만 성공하고 나머지는 IllegalStateException
+     *   (이벤트도 성공한 요청에서만 발행)
      */
     @Transactional
     public Payment refundPayment(RefundPaymentCommand command) {
@@ -83,15 +88,18 @@ public class PaymentCommandService {
                 .orElseThrow(() -> new IllegalArgumentException("결제를 찾을 수 없습니다: " + command.paymentId()));
 
         // 2. 환불 처리 (엔티티의 비즈니스 메서드)
+        PaymentStatus before = payment.getStatus();
         payment.refund();
 
-        // 3. 저장
-        Payment savedPayment = paymentRepository.save(payment);
+        // 3. 조회 이후 상태가 바뀌지 않았을 때만 저장
+        if (!paymentRepository.updateStatusIfCurrent(payment, before)) {
+            throw new IllegalStateException("다른 요청이 먼저 결제 상태를 변경했습니다: " + command.paymentId());
+        }
 
         // 4. 도메인 이벤트 발행
-        publishEvents(savedPayment);
+        publishEvents(payment);
 
-        return savedPayment;
+        return payment;
     }
 
     /**
@@ -117,17 +125,13 @@ public class PaymentCommandService {
      * [이벤트 발행이 Application Service에 있는 이유]
      * - 트랜잭션 완료 후 이벤트 발행 보장
      * - 도메인은 이벤트를 "등록"만 하고, 발행은 Application이 담당
+     *
+     * [Transactional Outbox]
+     * - 핸들러를 직접 호출하지 않고 같은 트랜잭션에서 아웃박스에 기록만 합니다
+     * - 핸들러가 느리거나 실패해도 결제 응답과 커밋에 영향이 없습니다
+     * - 실제 전달은 인프라 레이어의 릴레이가 커밋 이후에 수행합니다
      */
-    @SuppressWarnings("unchecked")
     private void publishEvents(Payment payment) {
-        List<DomainEvent> events = payment.pullDomainEvents();
-
-        for (DomainEvent event : events) {
-            for (DomainEventHandler<?> handler : eventHandlers) {
-                if (handler.supportedEventType().isInstance(event)) {
-                    ((DomainEventHandler<DomainEvent>) handler).handle(event);
-                }
-            }
-        }
+        eventOutbox.append(payment.getId(), payment.pullDomainEvents());
     }
 }
@@ -0,0 +1,49 @@
+package com.example.payment_ddd.application.service;
+
+import com.example.payment_ddd.application.port.PaymentView;
+import com.example.payment_ddd.application.port.PaymentViewQuery;
+import com.example.payment_ddd.domain.model.PaymentStatus;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * PaymentQueryService - 결제 조회 애플리케이션 서비스
+ *
+ * [Command와 Query 분리]
+ * - 상태를 바꾸는 유스케이스는 PaymentCommandService가 Aggregate로 처리합니다
+ * - 목록 조회는 Aggregate를 조립할 필요가 없으므로 PaymentViewQuery로 값만 읽습니다
+ *   (Money/Country 생성, reconstitute, 도메인 이벤트 목록 할당 없음)
+ */
+public class PaymentQueryService {
+
+    private final PaymentViewQuery paymentViewQuery;
+
+    public PaymentQueryService(PaymentViewQuery paymentViewQuery) {
+        this.paymentViewQuery = paymentViewQuery;
+    }
+
+    /**
+     * 모든 결제 조회
+     */
+    @Transactional(readOnly = true)
+    public List<PaymentView> getAllPayments() {
+        return paymentViewQuery.findAll();
+    }
+
+    /**
+     * 상태별 결제 조회
+     */
+    @Transactional(readOnly = true)
+    public List<PaymentView> getPaymentsByStatus(PaymentStatus status) {
+        return paymentViewQuery.findByStatus(status);
+    }
+
+    /**
+     * 최근 결제 N건 조회
+     */
+    @Transactional(readOnly = true)
+    public List<PaymentView> getRecentPayments(int limit) {
+        return paymentViewQuery.findRecent(limit);
+    }
+}
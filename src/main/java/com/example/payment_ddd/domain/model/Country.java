@@ -1,7 +1,7 @@
 package com.example.payment_ddd.domain.model;
 
-import java.util.Objects;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Country - 국가 Value Object
@@ -13,43 +13,106 @@ import java.util.Set;
  * - 유효한 국가 코드만 허용 (자가 검증)
  * - 국가별 비즈니스 로직을 캡슐화 (isKorea, isUs)
  * - 타입 안전성 (String country vs Country country)
+ *
+ * [Flyweight - 국가당 인스턴스 하나]
+ * - 지원 국가는 클래스 로딩 시점에 한 번만 만들어 두고 of()는 항상 같은 인스턴스를 반환합니다
+ * - 두 글자 코드를 대소문자 구분 없이 26 x 26 배열 인덱스로 바꿔 찾으므로
+ *   toUpperCase()나 Set 조회 없이, 국가 수와 무관하게 O(1)입니다
+ * - 각 국가는 등록 순서대로 ordinal()을 가지며, 국가별 정책을 배열로 찾을 때 사용합니다
+ *
+ * [국가 추가]
+ * - 아래에 register("JP") 같은 상수를 한 줄 추가하면 됩니다
  */
-public class Country {
+public final class Country {
+
+    private static final int ALPHABET = 26;
+    private static final Country[] BY_CODE = new Country[ALPHABET * ALPHABET];
+    private static final List<Country> VALUES = new ArrayList<>();
 
-    private static final Set<String> SUPPORTED_COUNTRIES = Set.of("KR", "US");
+    public static final Country KR = register("KR");
+    public static final Country US = register("US");
 
     private final String code;
+    private final int ordinal;
 
-    private Country(String code) {
-        if (code == null || code.isBlank()) {
-            throw new IllegalArgumentException("국가 코드는 필수입니다");
-        }
-        String upperCode = code.toUpperCase();
-        if (!SUPPORTED_COUNTRIES.contains(upperCode)) {
-            throw new IllegalArgumentException("지원하지 않는 국가입니다: " + code);
-        }
-        this.code = upperCode;
+    private Country(String code, int ordinal) {
+        this.code = code;
+        this.ordinal = ordinal;
+    }
+
+    private static Country register(String code) {
+        Country country = new Country(code, VALUES.size());
+        BY_CODE[indexOf(code)] = country;
+        VALUES.add(country);
+        return country;
     }
 
     /**
-     * 정적 팩토리 메서드
+     * 정적 팩토리 메서드 - 새 객체를 만들지 않고 등록된 인스턴스를 반환합니다
      */
     public static Country of(String code) {
-        return new Country(code);
+        if (code == null || code.isBlank()) {
+            throw new IllegalArgumentException("국가 코드는 필수입니다");
+        }
+        int index = indexOf(code);
+        Country country = index < 0 ? null : BY_CODE[index];
+        if (country == null) {
+            throw new IllegalArgumentException("지원하지 않는 국가입니다: " + code);
+        }
+        return country;
     }
 
     /**
      * 한국
      */
     public static Country korea() {
-        return new Country("KR");
+        return KR;
     }
 
     /**
      * 미국
      */
     public static Country us() {
-        return new Country("US");
+        return US;
+    }
+
+    /**
+     * 등록된 전체 국가 (ordinal 순서)
+     */
+    public static List<Country> values() {
+        return List.copyOf(VALUES);
+    }
+
+    /**
+     * 등록된 국가 수 - 국가별 배열 크기로 사용
+     */
+    public static int count() {
+        return VALUES.size();
+    }
+
+    /**
+     * 두 글자 영문 코드를 대소문자 구분 없이 0 ~ 675 인덱스로 변환 (형식이 다르면 -1)
+     */
+    private static int indexOf(String code) {
+        if (code.length() != 2) {
+            return -1;
+        }
+        int first = letterIndex(code.charAt(0));
+        int second = letterIndex(code.charAt(1));
+        if (first < 0 || second < 0) {
+            return -1;
+        }
+        return first * ALPHABET + second;
+    }
+
+    private static int letterIndex(char c) {
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A';
+        }
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a';
+        }
+        return -1;
     }
 
     /**
@@ -59,31 +122,38 @@ public class Country {
         return code;
     }
 
+    /**
+     * 등록 순서 (0부터)
+     */
+    public int ordinal() {
+        return ordinal;
+    }
+
     /**
      * 한국인지 확인
      */
     public boolean isKorea() {
-        return "KR".equals(code);
+        return this == KR;
     }
 
     /**
      * 미국인지 확인
      */
     public boolean isUs() {
-        return "US".equals(code);
+        return this == US;
     }
 
+    /**
+     * 국가당 인스턴스가 하나뿐이므로 동일성 비교와 같습니다
+     */
     @Override
     public boolean equals(Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        Country country = (Country) o;
-        return Objects.equals(code, country.code);
+        return this == o;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(code);
+        return ordinal;
     }
 
     @Override
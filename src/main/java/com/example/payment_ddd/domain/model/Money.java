@@ -1,6 +1,6 @@
 package com.example.payment_ddd.domain.model;
 
-import java.util.Objects;
+import java.math.RoundingMode;
 
 /**
  * Money - 금액 Value Object
@@ -16,12 +16,40 @@ import java.util.Objects;
  * - 음수 금액 등 잘못된 값 방지 (자가 검증)
  * - 금액 연산 로직을 한 곳에서 관리
  * - 타입 안전성 (컴파일 타임에 실수 방지)
+ *
+ * [내부 표현: long 원 단위]
+ * - 원화는 소수 단위가 없으므로 최소 단위(원)를 long으로 저장합니다
+ * - double 누적 오차가 없어 정산 합계가 정확히 맞습니다
+ * - 비율은 백만분율(RATE_SCALE)의 정수로 바꿔 정수 연산 후 한 번만 반올림합니다
+ *
+ * [할당 줄이기]
+ * - 0원과 100원 단위 금액(100만원까지)은 미리 만들어 둔 객체를 재사용합니다
+ * - 할인/세금 계산은 rateOf()로 미리 변환한 비율을 multiplyByRate()에 넘기면
+ *   double → 비율 변환 없이 정수 연산만 수행합니다
+ * - 중간 계산만 필요하면 applyRate(long, long, RoundingMode)로 객체 없이 계산할 수 있습니다
  */
-public class Money {
+public final class Money {
+
+    /**
+     * 비율 정밀도 - 1.0 = 1,000,000 (0.0001% 단위까지 표현)
+     */
+    public static final long RATE_SCALE = 1_000_000L;
+
+    private static final long CACHE_STEP = 100L;
+    private static final long CACHE_MAX = 1_000_000L;
+    private static final Money[] CACHE = new Money[(int) (CACHE_MAX / CACHE_STEP) + 1];
 
-    private final double amount;
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new Money(i * CACHE_STEP);
+        }
+    }
+
+    public static final Money ZERO = CACHE[0];
 
-    private Money(double amount) {
+    private final long amount;
+
+    private Money(long amount) {
         if (amount < 0) {
             throw new IllegalArgumentException("금액은 0 이상이어야 합니다: " + amount);
         }
@@ -30,8 +58,25 @@ public class Money {
 
     /**
      * 정적 팩토리 메서드
+     * - 원 미만은 반올림(HALF_UP)합니다
      */
     public static Money of(double amount) {
+        if (Double.isNaN(amount) || Double.isInfinite(amount)) {
+            throw new IllegalArgumentException("금액은 유한한 숫자여야 합니다: " + amount);
+        }
+        if (amount < 0) {
+            throw new IllegalArgumentException("금액은 0 이상이어야 합니다: " + amount);
+        }
+        return of(Math.round(amount));
+    }
+
+    /**
+     * 원 단위 정수로 생성 - 캐시 범위 안이면 새 객체를 만들지 않습니다
+     */
+    public static Money of(long amount) {
+        if (amount >= 0 && amount <= CACHE_MAX && amount % CACHE_STEP == 0) {
+            return CACHE[(int) (amount / CACHE_STEP)];
+        }
         return new Money(amount);
     }
 
@@ -39,7 +84,51 @@ public class Money {
      * 0원
      */
     public static Money zero() {
-        return new Money(0);
+        return ZERO;
+    }
+
+    /**
+     * 비율(1.1, 0.9 등)을 RATE_SCALE 정수로 변환
+     * - 정책 클래스에서 상수로 한 번만 변환해 두고 multiplyByRate()에 사용합니다
+     */
+    public static long rateOf(double rate) {
+        if (Double.isNaN(rate) || rate < 0) {
+            throw new IllegalArgumentException("비율은 0 이상이어야 합니다: " + rate);
+        }
+        return Math.round(rate * RATE_SCALE);
+    }
+
+    /**
+     * 객체 생성 없이 금액 x 비율 계산
+     *
+     * @param amount   원 단위 금액 (0 이상)
+     * @param scaledRate rateOf()로 변환한 비율
+     * @param mode     원 미만 처리 방식
+     * @throws ArithmeticException 오버플로 또는 UNNECESSARY인데 나머지가 있는 경우
+     */
+    public static long applyRate(long amount, long scaledRate, RoundingMode mode) {
+        long product = Math.multiplyExact(amount, scaledRate);
+        long quotient = product / RATE_SCALE;
+        long remainder = product % RATE_SCALE;
+        if (remainder == 0) {
+            return quotient;
+        }
+
+        // amount, scaledRate 모두 0 이상이므로 양수 기준으로만 판단합니다
+        return switch (mode) {
+            case DOWN, FLOOR -> quotient;
+            case UP, CEILING -> quotient + 1;
+            case HALF_UP -> remainder * 2 >= RATE_SCALE ? quotient + 1 : quotient;
+            case HALF_DOWN -> remainder * 2 > RATE_SCALE ? quotient + 1 : quotient;
+            case HALF_EVEN -> {
+                long twice = remainder * 2;
+                if (twice != RATE_SCALE) {
+                    yield twice > RATE_SCALE ? quotient + 1 : quotient;
+                }
+                yield (quotient & 1) == 0 ? quotient : quotient + 1;
+            }
+            case UNNECESSARY -> throw new ArithmeticException("반올림이 필요한 계산입니다: " + amount + " x " + scaledRate);
+        };
     }
 
     /**
@@ -49,18 +138,49 @@ public class Money {
         return amount;
     }
 
+    /**
+     * 원 단위 정수 값 반환
+     */
+    public long longValue() {
+        return amount;
+    }
+
     /**
      * 두 금액 더하기 (새 객체 반환 - 불변)
      */
     public Money add(Money other) {
-        return new Money(this.amount + other.amount);
+        return of(Math.addExact(this.amount, other.amount));
     }
 
     /**
-     * 비율 적용 (할인, 세금 등)
+     * 비율 적용 (할인, 세금 등) - 원 미만 반올림
      */
     public Money multiply(double rate) {
-        return new Money(Math.round(this.amount * rate));
+        return multiplyByRate(rateOf(rate), RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 비율 적용 - 반올림 방식 지정
+     */
+    public Money multiply(double rate, RoundingMode mode) {
+        return multiplyByRate(rateOf(rate), mode);
+    }
+
+    /**
+     * rateOf()로 미리 변환한 비율 적용 - 원 미만 반올림
+     */
+    public Money multiplyByRate(long scaledRate) {
+        return multiplyByRate(scaledRate, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * rateOf()로 미리 변환한 비율 적용 - 반올림 방식 지정
+     */
+    public Money multiplyByRate(long scaledRate, RoundingMode mode) {
+        if (scaledRate == RATE_SCALE) {
+            return this;
+        }
+        return of(applyRate(this.amount, scaledRate, mode));
     }
 
     /**
@@ -82,16 +202,16 @@ public class Money {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Money money = (Money) o;
-        return Double.compare(money.amount, amount) == 0;
+        return amount == money.amount;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(amount);
+        return Long.hashCode(amount);
     }
 
     @Override
     public String toString() {
-        return String.format("Money(%.0f)", amount);
+        return "Money(" + amount + ")";
     }
 }
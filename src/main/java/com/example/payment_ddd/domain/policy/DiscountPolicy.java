@@ -24,4 +24,16 @@ public interface DiscountPolicy {
      * @return 할인된 금액
      */
     Money applyDiscount(Money originalPrice, boolean isVip);
+
+    /**
+     * 할인 적용 - 원 단위 정수 (객체 생성 없음)
+     * - 기본 구현은 Money 버전에 위임하므로 할당 없이 계산하려면 구현체에서 재정의합니다
+     *
+     * @param originalPrice 원래 가격 (원)
+     * @param isVip VIP 여부
+     * @return 할인된 금액 (원)
+     */
+    default long applyDiscount(long originalPrice, boolean isVip) {
+        return applyDiscount(Money.of(originalPrice), isVip).longValue();
+    }
 }
@@ -3,6 +3,8 @@ package com.example.payment_ddd.domain.policy;
 import com.example.payment_ddd.domain.model.Country;
 import com.example.payment_ddd.domain.model.Money;
 
+import java.math.RoundingMode;
+
 /**
  * KoreaTaxPolicy - 한국 세금 정책 구현체
  *
@@ -17,6 +19,7 @@ import com.example.payment_ddd.domain.model.Money;
 public class KoreaTaxPolicy implements TaxPolicy {
 
     private static final double KOREA_VAT_RATE = 0.10;
+    private static final long TAX_MULTIPLIER = Money.rateOf(1 + KOREA_VAT_RATE);
 
     @Override
     public boolean supports(Country country) {
@@ -25,7 +28,11 @@ public class KoreaTaxPolicy implements TaxPolicy {
 
     @Override
     public Money applyTax(Money amount) {
-        double taxMultiplier = 1 + KOREA_VAT_RATE;
-        return amount.multiply(taxMultiplier);
+        return Money.of(applyTax(amount.longValue()));
+    }
+
+    @Override
+    public long applyTax(long amount) {
+        return Money.applyRate(amount, TAX_MULTIPLIER, RoundingMode.HALF_UP);
     }
 }
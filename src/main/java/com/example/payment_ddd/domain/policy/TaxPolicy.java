@@ -31,4 +31,15 @@ public interface TaxPolicy {
      * @return 세후 금액
      */
     Money applyTax(Money amount);
+
+    /**
+     * 세금 적용 - 원 단위 정수 (객체 생성 없음)
+     * - 기본 구현은 Money 버전에 위임하므로 할당 없이 계산하려면 구현체에서 재정의합니다
+     *
+     * @param amount 세전 금액 (원)
+     * @return 세후 금액 (원)
+     */
+    default long applyTax(long amount) {
+        return applyTax(Money.of(amount)).longValue();
+    }
 }
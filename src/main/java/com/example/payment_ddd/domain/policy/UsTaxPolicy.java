@@ -3,6 +3,8 @@ package com.example.payment_ddd.domain.policy;
 import com.example.payment_ddd.domain.model.Country;
 import com.example.payment_ddd.domain.model.Money;
 
+import java.math.RoundingMode;
+
 /**
  * UsTaxPolicy - 미국 세금 정책 구현체
  *
@@ -16,6 +18,7 @@ import com.example.payment_ddd.domain.model.Money;
 public class UsTaxPolicy implements TaxPolicy {
 
     private static final double US_SALES_TAX_RATE = 0.08;
+    private static final long TAX_MULTIPLIER = Money.rateOf(1 + US_SALES_TAX_RATE);
 
     @Override
     public boolean supports(Country country) {
@@ -24,7 +27,11 @@ public class UsTaxPolicy implements TaxPolicy {
 
     @Override
     public Money applyTax(Money amount) {
-        double taxMultiplier = 1 + US_SALES_TAX_RATE;
-        return amount.multiply(taxMultiplier);
+        return Money.of(applyTax(amount.longValue()));
+    }
+
+    @Override
+    public long applyTax(long amount) {
+        return Money.applyRate(amount, TAX_MULTIPLIER, RoundingMode.HALF_UP);
     }
 }
@@ -2,6 +2,8 @@ package com.example.payment_ddd.domain.policy;
 
 import com.example.payment_ddd.domain.model.Money;
 
+import java.math.RoundingMode;
+
 /**
  * VipDiscountPolicy - VIP 할인 정책 구현체
  *
@@ -15,12 +17,20 @@ import com.example.payment_ddd.domain.model.Money;
 public class VipDiscountPolicy implements DiscountPolicy {
 
     private static final double VIP_DISCOUNT_RATE = 0.10;
+    private static final long DISCOUNT_MULTIPLIER = Money.rateOf(1 - VIP_DISCOUNT_RATE);
 
     @Override
     public Money applyDiscount(Money originalPrice, boolean isVip) {
         if (isVip) {
-            double discountMultiplier = 1 - VIP_DISCOUNT_RATE;
-            return originalPrice.multiply(discountMultiplier);
+            return Money.of(applyDiscount(originalPrice.longValue(), true));
+        }
+        return originalPrice;
+    }
+
+    @Override
+    public long applyDiscount(long originalPrice, boolean isVip) {
+        if (isVip) {
+            return Money.applyRate(originalPrice, DISCOUNT_MULTIPLIER, RoundingMode.HALF_UP);
         }
         return originalPrice;
     }
@@ -34,6 +34,19 @@ public interface PaymentRepository {
      */
     Payment save(Payment payment);
 
+    /**
+     * 조건부 상태 저장 - 저장소의 상태가 아직 expected일 때만 반영
+     *
+     * [왜 save가 아닌가요?]
+     * - 조회 → 상태 변경 → save는 동시에 두 요청이 같은 상태를 보고 둘 다 성공할 수 있습니다
+     * - 저장소에 남아 있는 상태가 expected일 때만 payment의 현재 상태를 반영합니다
+     *
+     * @param payment 상태가 바뀐 결제 (ID 필수)
+     * @param expected 변경 전 상태
+     * @return 반영했으면 true, 다른 요청이 먼저 상태를 바꿨거나 결제가 없으면 false
+     */
+    boolean updateStatusIfCurrent(Payment payment, PaymentStatus expected);
+
     /**
      * ID로 결제 조회
      *
@@ -32,11 +32,26 @@ import java.util.List;
 public class PaymentDomainService {
 
     private final DiscountPolicy discountPolicy;
-    private final List<TaxPolicy> taxPolicies;
+
+    /**
+     * Country.ordinal() → 세금 정책
+     * - 생성 시점에 국가마다 supports()를 한 번씩 호출해 미리 채워 둡니다
+     * - 결제마다 정책 목록을 순회하지 않고 배열 조회 한 번으로 찾습니다
+     * - 여러 정책이 같은 국가를 지원하면 목록에서 먼저 나온 정책을 사용합니다 (기존 findFirst와 동일)
+     */
+    private final TaxPolicy[] taxPolicyByCountry;
 
     public PaymentDomainService(DiscountPolicy discountPolicy, List<TaxPolicy> taxPolicies) {
         this.discountPolicy = discountPolicy;
-        this.taxPolicies = taxPolicies;
+        this.taxPolicyByCountry = new TaxPolicy[Country.count()];
+        for (Country country : Country.values()) {
+            for (TaxPolicy policy : taxPolicies) {
+                if (policy.supports(country)) {
+                    taxPolicyByCountry[country.ordinal()] = policy;
+                    break;
+                }
+            }
+        }
     }
 
     /**
@@ -64,14 +79,29 @@ public class PaymentDomainService {
         return Payment.create(originalPrice, discountedAmount, taxedAmount, country, isVip);
     }
 
+    /**
+     * 최종 결제 금액만 계산 (원 단위 정수, 객체 생성 없음)
+     * - 견적/대량 가격 계산처럼 Payment가 필요 없는 곳에서 사용합니다
+     * - createPayment()와 같은 정책, 같은 반올림으로 계산합니다
+     *
+     * @param originalPrice 원래 가격 (원)
+     * @param country 국가
+     * @param isVip VIP 여부
+     * @return 할인과 세금을 적용한 금액 (원)
+     */
+    public long calculateTaxedAmount(long originalPrice, Country country, boolean isVip) {
+        long discountedAmount = discountPolicy.applyDiscount(originalPrice, isVip);
+        return findApplicableTaxPolicy(country).applyTax(discountedAmount);
+    }
+
     /**
      * 적용 가능한 세금 정책 찾기
      */
     private TaxPolicy findApplicableTaxPolicy(Country country) {
-        return taxPolicies.stream()
-                .filter(policy -> policy.supports(country))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "해당 국가에 적용 가능한 세금 정책이 없습니다: " + country));
+        TaxPolicy policy = taxPolicyByCountry[country.ordinal()];
+        if (policy == null) {
+            throw new IllegalArgumentException("해당 국가에 적용 가능한 세금 정책이 없습니다: " + country);
+        }
+        return policy;
     }
 }
@@ -1,14 +1,33 @@
 package com.example.payment_ddd.infrastructure.config;
 
 import com.example.payment_ddd.application.eventhandler.*;
+import com.example.payment_ddd.application.port.DomainEventOutbox;
+import com.example.payment_ddd.application.port.PaymentViewQuery;
 import com.example.payment_ddd.application.service.PaymentCommandService;
+import com.example.payment_ddd.application.service.PaymentQueryService;
 import com.example.payment_ddd.domain.policy.*;
 import com.example.payment_ddd.domain.repository.PaymentRepository;
 import com.example.payment_ddd.domain.service.PaymentDomainService;
+import com.example.payment_ddd.infrastructure.outbox.OutboxProperties;
+import com.example.payment_ddd.infrastructure.persistence.CachingPaymentRepository;
+import com.example.payment_ddd.infrastructure.persistence.JpaPaymentRepository;
+import com.example.payment_ddd.infrastructure.persistence.PaymentCacheProperties;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * PaymentDddConfig - DDD 결제 시스템 설정
@@ -22,6 +41,8 @@ import java.util.List;
  * - 프레임워크 독립적인 도메인
  */
 @Configuration
+@EnableScheduling
+@EnableConfigurationProperties({OutboxProperties.class, PaymentCacheProperties.class})
 public class PaymentDddConfig {
 
     /**
@@ -64,13 +85,84 @@ public class PaymentDddConfig {
         );
     }
 
+    /**
+     * 이벤트 디스패처 - 핸들러 목록을 이벤트 타입별로 미리 색인
+     */
+    @Bean
+    public DomainEventDispatcher domainEventDispatcher(List<DomainEventHandler<?>> domainEventHandlers) {
+        return new DomainEventDispatcher(domainEventHandlers);
+    }
+
+    /**
+     * 이벤트 타입별 발행 횟수/처리 시간 메트릭
+     * - payment.domain.event.dispatch (tag: event)
+     * - 핸들러가 선언한 이벤트 타입 기준으로 등록됩니다
+     *   (디스패처도 같은 선언 타입으로 기록하므로 바인딩 후에 새 키가 생기지 않습니다)
+     */
+    @Bean
+    public MeterBinder domainEventDispatchMetrics(DomainEventDispatcher domainEventDispatcher) {
+        return registry -> domainEventDispatcher.stats().keySet().forEach(eventType ->
+                FunctionTimer.builder("payment.domain.event.dispatch", domainEventDispatcher,
+                                dispatcher -> stat(dispatcher, eventType).count(),
+                                dispatcher -> stat(dispatcher, eventType).totalNanos(),
+                                TimeUnit.NANOSECONDS)
+                        .tag("event", eventType)
+                        .register(registry));
+    }
+
+    private static DomainEventDispatcher.DispatchStat stat(DomainEventDispatcher dispatcher, String eventType) {
+        return dispatcher.stats().getOrDefault(eventType, new DomainEventDispatcher.DispatchStat(0, 0));
+    }
+
+    /**
+     * 아웃박스 릴레이 작업 스레드 풀
+     * - parallelism만큼의 결제(aggregate)를 동시에 처리합니다
+     * - spring.threads.virtual.enabled=true면 작업 스레드를 가상 스레드로 만듭니다
+     *   (동시 처리 수는 그대로 parallelism으로 제한)
+     * - 컨텍스트 종료 시 shutdown() 호출
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService outboxRelayExecutor(OutboxProperties properties, Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return Executors.newFixedThreadPool(properties.parallelism(),
+                    Thread.ofVirtual().name("outbox-relay-", 1).factory());
+        }
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(properties.parallelism(), runnable -> {
+            Thread thread = new Thread(runnable, "outbox-relay-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 결제 Repository 읽기 캐시 (JpaPaymentRepository를 감싸는 데코레이터)
+     * - @Primary: PaymentRepository 주입 시 JPA 구현체 대신 이 빈이 선택됩니다
+     * - payment.ddd.cache.enabled=false면 등록하지 않고 JPA 구현체를 그대로 사용합니다
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "payment.ddd.cache", name = "enabled", matchIfMissing = true)
+    public CachingPaymentRepository cachingPaymentRepository(JpaPaymentRepository jpaPaymentRepository,
+                                                             PaymentCacheProperties properties) {
+        return new CachingPaymentRepository(jpaPaymentRepository, properties);
+    }
+
     /**
      * 애플리케이션 서비스
      */
     @Bean
     public PaymentCommandService paymentCommandService(PaymentDomainService paymentDomainService,
                                                         PaymentRepository paymentRepository,
-                                                        List<DomainEventHandler<?>> eventHandlers) {
-        return new PaymentCommandService(paymentDomainService, paymentRepository, eventHandlers);
+                                                        DomainEventOutbox domainEventOutbox) {
+        return new PaymentCommandService(paymentDomainService, paymentRepository, domainEventOutbox);
+    }
+
+    /**
+     * 조회 전용 애플리케이션 서비스 (Aggregate 대신 PaymentView 프로젝션)
+     */
+    @Bean
+    public PaymentQueryService paymentQueryService(PaymentViewQuery paymentViewQuery) {
+        return new PaymentQueryService(paymentViewQuery);
     }
 }
@@ -0,0 +1,36 @@
+package com.example.payment_ddd.infrastructure.outbox;
+
+import com.example.payment_ddd.application.port.DomainEventOutbox;
+import com.example.payment_ddd.domain.event.DomainEvent;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JpaDomainEventOutbox - 아웃박스 Port의 JPA 구현체
+ *
+ * - 호출한 쪽의 트랜잭션(PaymentCommandService)에 참여하므로
+ *   결제 행과 이벤트 행이 같이 커밋되거나 같이 롤백됩니다
+ */
+@Repository
+public class JpaDomainEventOutbox implements DomainEventOutbox {
+
+    private final OutboxEventJpaRepository outboxRepository;
+
+    public JpaDomainEventOutbox(OutboxEventJpaRepository outboxRepository) {
+        this.outboxRepository = outboxRepository;
+    }
+
+    @Override
+    public void append(Long aggregateId, List<DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<OutboxEventJpaEntity> entities = new ArrayList<>(events.size());
+        for (DomainEvent event : events) {
+            entities.add(OutboxEventMapper.toEntity(aggregateId, event));
+        }
+        outboxRepository.saveAll(entities);
+    }
+}
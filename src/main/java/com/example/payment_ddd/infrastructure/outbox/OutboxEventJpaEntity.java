@@ -0,0 +1,79 @@
+package com.example.payment_ddd.infrastructure.outbox;
+
+import com.example.persistence.PooledSequenceGenerator;
+import jakarta.persistence.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+import java.time.LocalDateTime;
+
+/**
+ * OutboxEventJpaEntity - 아웃박스 이벤트 행 (인프라 레이어)
+ *
+ * [컬럼]
+ * - eventType: 이벤트 클래스 단순 이름 (OutboxEventMapper가 도메인 이벤트로 복원)
+ * - aggregateId: Payment ID - 같은 결제의 이벤트는 순서대로 전달됩니다
+ * - amount: 이벤트의 금액 (원 단위)
+ * - publishedAt: 핸들러 전달을 마친 시각 (null이면 대기 중)
+ * - attempts / lastError: 전달 실패 횟수와 마지막 오류
+ *
+ * [인덱스]
+ * - (published_at, id): 릴레이가 대기 중인 이벤트를 id 순으로 읽는 조회용
+ */
+@Entity
+@Table(name = "payment_outbox_ddd",
+        indexes = @Index(name = "idx_payment_outbox_ddd_pending", columnList = "publishedAt, id"))
+public class OutboxEventJpaEntity {
+
+    @Id
+    @GeneratedValue(generator = "payment_outbox_ddd_id_gen")
+    @GenericGenerator(name = "payment_outbox_ddd_id_gen", type = PooledSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "payment_outbox_ddd_seq"))
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String eventType;
+
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    @Column(nullable = false)
+    private long amount;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime publishedAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(length = 500)
+    private String lastError;
+
+    protected OutboxEventJpaEntity() {
+        // JPA 기본 생성자
+    }
+
+    public OutboxEventJpaEntity(String eventType, Long aggregateId, long amount, LocalDateTime occurredAt) {
+        this.eventType = eventType;
+        this.aggregateId = aggregateId;
+        this.amount = amount;
+        this.occurredAt = occurredAt;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public Long getId() { return id; }
+    public String getEventType() { return eventType; }
+    public Long getAggregateId() { return aggregateId; }
+    public long getAmount() { return amount; }
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getPublishedAt() { return publishedAt; }
+    public int getAttempts() { return attempts; }
+    public String getLastError() { return lastError; }
+}
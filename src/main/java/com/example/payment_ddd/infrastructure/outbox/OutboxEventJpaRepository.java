@@ -0,0 +1,56 @@
+package com.example.payment_ddd.infrastructure.outbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * OutboxEventJpaRepository - 아웃박스 Spring Data JPA Repository
+ *
+ * [벌크 UPDATE]
+ * - 전달 완료/실패 표시는 엔티티를 다시 읽지 않고 UPDATE 한 번으로 처리합니다
+ * - @Modifying 쿼리는 트랜잭션이 필요하므로 메서드에 @Transactional을 붙였습니다
+ */
+@Repository
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventJpaEntity, Long> {
+
+    /**
+     * 전달 대기 중인 이벤트를 id 순으로 조회 (최대 시도 횟수를 넘긴 이벤트 제외)
+     */
+    List<OutboxEventJpaEntity> findByPublishedAtIsNullAndAttemptsLessThanOrderByIdAsc(int maxAttempts, Pageable pageable);
+
+    /**
+     * 전달 대기 중인 이벤트 수 (최대 시도 횟수를 넘긴 이벤트 제외)
+     */
+    long countByPublishedAtIsNullAndAttemptsLessThan(int maxAttempts);
+
+    /**
+     * 최대 시도 횟수를 넘겨 더 이상 전달하지 않는 이벤트 수 (수동 처리 대상)
+     */
+    long countByPublishedAtIsNullAndAttemptsGreaterThanEqual(int maxAttempts);
+
+    /**
+     * 가장 오래 기다린 이벤트의 생성 시각 (지연 시간 메트릭용, 최대 시도 횟수를 넘긴 이벤트 제외)
+     */
+    @Query("SELECT MIN(e.createdAt) FROM OutboxEventJpaEntity e "
+            + "WHERE e.publishedAt IS NULL AND e.attempts < :maxAttempts")
+    LocalDateTime findOldestPendingCreatedAt(@Param("maxAttempts") int maxAttempts);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEventJpaEntity e SET e.publishedAt = :publishedAt WHERE e.id IN :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEventJpaEntity e SET e.attempts = e.attempts + 1, e.lastError = :error WHERE e.id = :id")
+    int markFailed(@Param("id") Long id, @Param("error") String error);
+}
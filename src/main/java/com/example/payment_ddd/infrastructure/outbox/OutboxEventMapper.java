@@ -0,0 +1,47 @@
+package com.example.payment_ddd.infrastructure.outbox;
+
+import com.example.payment_ddd.domain.event.DomainEvent;
+import com.example.payment_ddd.domain.event.PaymentCompletedEvent;
+import com.example.payment_ddd.domain.event.PaymentRefundedEvent;
+import com.example.payment_ddd.domain.model.Money;
+
+/**
+ * OutboxEventMapper - 도메인 이벤트 ↔ 아웃박스 행 변환
+ *
+ * [왜 JSON 직렬화 대신 명시적 매핑인가요?]
+ * - 도메인 이벤트(Money 포함)에 Jackson 어노테이션을 붙이지 않기 위해서입니다
+ * - 현재 이벤트는 모두 (결제 ID, 금액, 발생 시각) 형태라 컬럼으로 충분합니다
+ * - 새 이벤트를 추가하면 toEntity/toEvent 양쪽에 한 줄씩 추가합니다
+ */
+final class OutboxEventMapper {
+
+    private OutboxEventMapper() {
+    }
+
+    /**
+     * 이벤트의 paymentId 대신 aggregateId를 사용합니다
+     * - 신규 결제는 저장 전에 complete()가 호출되어 이벤트의 paymentId가 null입니다
+     */
+    static OutboxEventJpaEntity toEntity(Long aggregateId, DomainEvent event) {
+        if (event instanceof PaymentCompletedEvent completed) {
+            return new OutboxEventJpaEntity(PaymentCompletedEvent.class.getSimpleName(), aggregateId,
+                    completed.finalAmount().longValue(), completed.occurredAt());
+        }
+        if (event instanceof PaymentRefundedEvent refunded) {
+            return new OutboxEventJpaEntity(PaymentRefundedEvent.class.getSimpleName(), aggregateId,
+                    refunded.refundedAmount().longValue(), refunded.occurredAt());
+        }
+        throw new IllegalArgumentException("아웃박스에 기록할 수 없는 이벤트입니다: " + event.getClass().getName());
+    }
+
+    static DomainEvent toEvent(OutboxEventJpaEntity entity) {
+        Money amount = Money.of(entity.getAmount());
+        return switch (entity.getEventType()) {
+            case "PaymentCompletedEvent" ->
+                    new PaymentCompletedEvent(entity.getAggregateId(), amount, entity.getOccurredAt());
+            case "PaymentRefundedEvent" ->
+                    new PaymentRefundedEvent(entity.getAggregateId(), amount, entity.getOccurredAt());
+            default -> throw new IllegalStateException("알 수 없는 이벤트 타입입니다: " + entity.getEventType());
+        };
+    }
+}
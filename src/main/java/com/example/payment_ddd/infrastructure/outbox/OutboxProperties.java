@@ -0,0 +1,39 @@
+package com.example.payment_ddd.infrastructure.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * OutboxProperties - 아웃박스 릴레이 설정 (payment.ddd.outbox.*)
+ *
+ * [설정 예시] application.yml
+ * payment:
+ *   ddd:
+ *     outbox:
+ *       relay-enabled: true      # false면 릴레이를 돌리지 않음 (기록만)
+ *       poll-interval-ms: 500    # 대기 이벤트 조회 주기
+ *       batch-size: 100          # 한 번에 가져올 이벤트 수
+ *       parallelism: 4           # 동시에 처리할 결제(aggregate) 수
+ *       max-attempts: 10         # 이 횟수만큼 실패하면 더 이상 재시도하지 않음
+ */
+@ConfigurationProperties(prefix = "payment.ddd.outbox")
+public record OutboxProperties(
+        @DefaultValue("true") boolean relayEnabled,
+        @DefaultValue("500") long pollIntervalMs,
+        @DefaultValue("100") int batchSize,
+        @DefaultValue("4") int parallelism,
+        @DefaultValue("10") int maxAttempts
+) {
+
+    public OutboxProperties {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batch-size는 1 이상이어야 합니다: " + batchSize);
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism은 1 이상이어야 합니다: " + parallelism);
+        }
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("max-attempts는 1 이상이어야 합니다: " + maxAttempts);
+        }
+    }
+}
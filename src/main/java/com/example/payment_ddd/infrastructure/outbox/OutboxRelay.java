@@ -0,0 +1,157 @@
+package com.example.payment_ddd.infrastructure.outbox;
+
+import com.example.payment_ddd.application.eventhandler.DomainEventDispatcher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ====================================================================
+ * OutboxRelay - 아웃박스 이벤트를 핸들러로 전달하는 백그라운드 릴레이
+ * ====================================================================
+ *
+ * [동작 방식]
+ * 1. poll-interval-ms마다 전달 대기 중인 이벤트를 batch-size만큼 id 순으로 읽습니다
+ * 2. 결제(aggregateId)별로 묶어 outboxRelayExecutor에서 병렬로 처리합니다
+ *    - 같은 결제의 이벤트는 한 작업 안에서 순서대로 전달됩니다 (완료 → 환불 순서 보장)
+ * 3. 전달에 성공한 이벤트는 UPDATE 한 번으로 published_at을 채웁니다
+ * 4. 실패하면 attempts를 올리고, 같은 결제의 뒤 이벤트는 다음 주기로 미룹니다
+ *
+ * [At-least-once]
+ * - 핸들러 호출 후 published_at을 기록하기 전에 프로세스가 죽으면 다음 주기에 다시 전달됩니다
+ * - 따라서 핸들러는 같은 이벤트를 두 번 받아도 안전해야 합니다 (결제 ID로 중복 확인)
+ * - max-attempts를 넘긴 이벤트는 더 이상 읽지 않으므로 last_error를 보고 수동 처리합니다
+ *
+ * [릴레이 인스턴스]
+ * - 여러 인스턴스가 동시에 돌면 같은 이벤트를 중복 전달할 수 있습니다 (at-least-once 범위 안)
+ *
+ * [메트릭]
+ * - payment.ddd.outbox.lag: 가장 오래 기다린 이벤트의 대기 시간
+ * - payment.ddd.outbox.pending: 전달 대기 중인 이벤트 수
+ * - payment.ddd.outbox.dead: max-attempts를 넘겨 더 이상 전달하지 않는 이벤트 수
+ *   (lag/pending에서는 빠지므로, 한 이벤트가 계속 실패해도 지연 알림이 멈추지 않고 이 값으로 따로 알립니다)
+ * - payment.ddd.outbox.published / payment.ddd.outbox.failed: 전달 성공/실패 수
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxEventJpaRepository outboxRepository;
+    private final DomainEventDispatcher eventDispatcher;
+    private final OutboxProperties properties;
+    private final Executor executor;
+
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong dead = new AtomicLong();
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+
+    public OutboxRelay(OutboxEventJpaRepository outboxRepository,
+                       DomainEventDispatcher eventDispatcher,
+                       OutboxProperties properties,
+                       @Qualifier("outboxRelayExecutor") Executor executor,
+                       MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.eventDispatcher = eventDispatcher;
+        this.properties = properties;
+        this.executor = executor;
+
+        TimeGauge.builder("payment.ddd.outbox.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .register(meterRegistry);
+        meterRegistry.gauge("payment.ddd.outbox.pending", pending);
+        meterRegistry.gauge("payment.ddd.outbox.dead", dead);
+        this.publishedCounter = meterRegistry.counter("payment.ddd.outbox.published");
+        this.failedCounter = meterRegistry.counter("payment.ddd.outbox.failed");
+    }
+
+    @Scheduled(fixedDelayString = "${payment.ddd.outbox.poll-interval-ms:500}")
+    public void poll() {
+        if (!properties.relayEnabled()) {
+            return;
+        }
+        try {
+            relayOnce();
+        } catch (RuntimeException e) {
+            log.error("[DDD-아웃박스] 릴레이 실패", e);
+        }
+    }
+
+    /**
+     * 한 배치를 전달하고 전달에 성공한 이벤트 수를 반환
+     */
+    public int relayOnce() {
+        List<OutboxEventJpaEntity> batch = outboxRepository.findByPublishedAtIsNullAndAttemptsLessThanOrderByIdAsc(
+                properties.maxAttempts(), PageRequest.ofSize(properties.batchSize()));
+
+        Queue<Long> publishedIds = new ConcurrentLinkedQueue<>();
+        if (!batch.isEmpty()) {
+            Map<Long, List<OutboxEventJpaEntity>> byAggregate = new LinkedHashMap<>();
+            for (OutboxEventJpaEntity entity : batch) {
+                byAggregate.computeIfAbsent(entity.getAggregateId(), id -> new ArrayList<>()).add(entity);
+            }
+
+            CompletableFuture<?>[] tasks = byAggregate.values().stream()
+                    .map(events -> CompletableFuture.runAsync(() -> deliverInOrder(events, publishedIds), executor))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(tasks).join();
+
+            if (!publishedIds.isEmpty()) {
+                outboxRepository.markPublished(List.copyOf(publishedIds), LocalDateTime.now());
+            }
+        }
+
+        updateLag();
+        return publishedIds.size();
+    }
+
+    private void deliverInOrder(List<OutboxEventJpaEntity> events, Queue<Long> publishedIds) {
+        for (OutboxEventJpaEntity entity : events) {
+            try {
+                eventDispatcher.dispatch(OutboxEventMapper.toEvent(entity));
+                publishedIds.add(entity.getId());
+                publishedCounter.increment();
+            } catch (RuntimeException e) {
+                failedCounter.increment();
+                outboxRepository.markFailed(entity.getId(), truncate(String.valueOf(e.getMessage())));
+                log.warn("[DDD-아웃박스] 이벤트 전달 실패 - id: {}, type: {}, 결제 ID: {}, 시도: {}",
+                        entity.getId(), entity.getEventType(), entity.getAggregateId(), entity.getAttempts() + 1, e);
+                // 같은 결제의 뒤 이벤트는 순서를 지키기 위해 다음 주기로 미룸
+                return;
+            }
+        }
+    }
+
+    private void updateLag() {
+        int maxAttempts = properties.maxAttempts();
+        pending.set(outboxRepository.countByPublishedAtIsNullAndAttemptsLessThan(maxAttempts));
+        dead.set(outboxRepository.countByPublishedAtIsNullAndAttemptsGreaterThanEqual(maxAttempts));
+        LocalDateTime oldest = outboxRepository.findOldestPendingCreatedAt(maxAttempts);
+        lagMillis.set(oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis()));
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
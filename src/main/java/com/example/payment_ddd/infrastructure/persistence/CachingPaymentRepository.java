@@ -0,0 +1,162 @@
+package com.example.payment_ddd.infrastructure.persistence;
+
+import com.example.payment_ddd.domain.model.*;
+import com.example.payment_ddd.domain.repository.PaymentRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * CachingPaymentRepository - 결제 Repository 앞단의 읽기 캐시 (데코레이터)
+ *
+ * [왜 필요한가요?]
+ * - JpaPaymentRepository.findById는 매번 엔티티를 읽고
+ *   reconstitute로 Money/Country를 새로 만들어 Aggregate를 조립합니다
+ * - 자주 조회되는 결제는 조립에 필요한 값을 메모리에 두고 바로 복원합니다
+ *
+ * [무엇을 캐시하나요?]
+ * - Payment 인스턴스가 아니라 불변 스냅샷(Snapshot)을 보관합니다
+ * - Payment는 refund() 등으로 상태가 바뀌고 이벤트를 쌓으므로
+ *   같은 인스턴스를 여러 호출자가 나눠 쓰면 커밋 전 변경이 새어 나갑니다
+ * - 조회할 때마다 스냅샷에서 새 Payment를 복원합니다 (DB 조회, 값 객체 생성 없음)
+ *
+ * [트랜잭션과 캐시]
+ * - save: 바로 캐시에서 제거하고, 커밋된 뒤에 새 스냅샷을 넣습니다 (write-through)
+ *   롤백되면 아무것도 넣지 않으므로 다음 조회는 DB에서 읽습니다
+ * - updateStatusIfCurrent: 바로 제거하고, 반영된 경우에만 커밋 후 새 스냅샷을 넣습니다
+ * - deleteById: 바로 제거하고, 커밋 후에도 한 번 더 제거합니다
+ * - 쓰기 트랜잭션 안의 조회는 캐시를 거치지 않습니다
+ *   (커밋 전 변경을 읽어서 캐시에 넣으면 롤백 후에도 남기 때문)
+ * - 트랜잭션이 없으면 바로 반영합니다 (단위 테스트 등)
+ *
+ * [목록 조회]
+ * - findByStatus, findAll은 조건이 다양하므로 캐시 없이 위임합니다
+ *
+ * [메트릭] MeterBinder로 등록되면 cache.gets(hit/miss), cache.evictions 등 (cache=payment_ddd_aggregate)
+ */
+public class CachingPaymentRepository implements PaymentRepository, MeterBinder {
+
+    static final String CACHE_NAME = "payment_ddd_aggregate";
+
+    private final PaymentRepository delegate;
+    private final Cache<Long, Snapshot> cache;
+
+    public CachingPaymentRepository(PaymentRepository delegate, PaymentCacheProperties properties) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.expireAfterWrite())
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Payment save(Payment payment) {
+        Payment saved = delegate.save(payment);
+        Long id = saved.getId();
+        Snapshot snapshot = Snapshot.of(saved);
+
+        cache.invalidate(id);
+        afterCommit(() -> cache.put(id, snapshot));
+        return saved;
+    }
+
+    @Override
+    public boolean updateStatusIfCurrent(Payment payment, PaymentStatus expected) {
+        boolean updated = delegate.updateStatusIfCurrent(payment, expected);
+        Long id = payment.getId();
+
+        cache.invalidate(id);
+        if (updated) {
+            Snapshot snapshot = Snapshot.of(payment);
+            afterCommit(() -> cache.put(id, snapshot));
+        }
+        return updated;
+    }
+
+    @Override
+    public Optional<Payment> findById(Long id) {
+        if (isWriteTransaction()) {
+            return delegate.findById(id);
+        }
+        // 같은 키를 동시에 읽으면 DB 조회는 한 번만 (Caffeine이 키 단위로 잠금)
+        Snapshot snapshot = cache.get(id, key -> delegate.findById(key).map(Snapshot::of).orElse(null));
+        return Optional.ofNullable(snapshot).map(Snapshot::toPayment);
+    }
+
+    @Override
+    public List<Payment> findByStatus(PaymentStatus status) {
+        return delegate.findByStatus(status);
+    }
+
+    @Override
+    public List<Payment> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        delegate.deleteById(id);
+        cache.invalidate(id);
+        afterCommit(() -> cache.invalidate(id));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 테스트/모니터링용 - 현재 캐시에 들어 있는 결제 수 (근사값)
+     */
+    long cachedCount() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private static boolean isWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 캐시에 보관하는 Payment의 불변 스냅샷
+     * - Money, Country는 불변 값 객체라 그대로 공유해도 안전합니다
+     */
+    private record Snapshot(Long id, Money originalPrice, Money discountedAmount, Money taxedAmount,
+                            Country country, boolean vip, PaymentStatus status,
+                            LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+        static Snapshot of(Payment payment) {
+            return new Snapshot(payment.getId(), payment.getOriginalPrice(), payment.getDiscountedAmount(),
+                    payment.getTaxedAmount(), payment.getCountry(), payment.isVip(), payment.getStatus(),
+                    payment.getCreatedAt(), payment.getUpdatedAt());
+        }
+
+        Payment toPayment() {
+            return Payment.reconstitute(id, originalPrice, discountedAmount, taxedAmount,
+                    country, vip, status, createdAt, updatedAt);
+        }
+    }
+}
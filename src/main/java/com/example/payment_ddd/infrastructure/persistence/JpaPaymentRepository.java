@@ -3,6 +3,7 @@ package com.example.payment_ddd.infrastructure.persistence;
 import com.example.payment_ddd.domain.model.*;
 import com.example.payment_ddd.domain.repository.PaymentRepository;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -33,19 +34,32 @@ public class JpaPaymentRepository implements PaymentRepository {
         this.jpaRepository = jpaRepository;
     }
 
+    /**
+     * 기존 결제는 영속 엔티티를 조회해 그 자리에서 수정합니다
+     * (ID만 있고 version이 없는 엔티티를 새로 만들어 넘기면 새 결제로 취급되므로)
+     */
     @Override
+    @Transactional
     public Payment save(Payment payment) {
-        PaymentJpaEntity entity = toEntity(payment);
-        PaymentJpaEntity savedEntity = jpaRepository.save(entity);
-
-        // ID 할당 (새로 생성된 경우)
         if (payment.getId() == null) {
+            PaymentJpaEntity savedEntity = jpaRepository.save(toEntity(payment));
             payment.assignId(savedEntity.getId());
+            return payment;
         }
 
+        PaymentJpaEntity entity = jpaRepository.findById(payment.getId())
+                .orElseThrow(() -> new IllegalArgumentException("결제를 찾을 수 없습니다: " + payment.getId()));
+        entity.setStatus(payment.getStatus().name());
+        entity.setUpdatedAt(payment.getUpdatedAt());
         return payment;
     }
 
+    @Override
+    public boolean updateStatusIfCurrent(Payment payment, PaymentStatus expected) {
+        return jpaRepository.updateStatusIfCurrent(payment.getId(), expected.name(),
+                payment.getStatus().name(), payment.getUpdatedAt()) == 1;
+    }
+
     @Override
     public Optional<Payment> findById(Long id) {
         return jpaRepository.findById(id)
@@ -0,0 +1,39 @@
+package com.example.payment_ddd.infrastructure.persistence;
+
+import com.example.payment_ddd.application.port.PaymentView;
+import com.example.payment_ddd.application.port.PaymentViewQuery;
+import com.example.payment_ddd.domain.model.PaymentStatus;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * JpaPaymentViewQuery - 조회 Port의 JPA 구현체
+ *
+ * - PaymentJpaRepository의 생성자 표현식(SELECT new ...)으로 PaymentView를 바로 만듭니다
+ * - 엔티티를 영속성 컨텍스트/2차 캐시에 올리지 않고, 도메인 Payment도 복원하지 않습니다
+ */
+@Repository
+public class JpaPaymentViewQuery implements PaymentViewQuery {
+
+    private final PaymentJpaRepository jpaRepository;
+
+    public JpaPaymentViewQuery(PaymentJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public List<PaymentView> findAll() {
+        return jpaRepository.findAllViews();
+    }
+
+    @Override
+    public List<PaymentView> findByStatus(PaymentStatus status) {
+        return jpaRepository.findViewsByStatus(status.name());
+    }
+
+    @Override
+    public List<PaymentView> findRecent(int limit) {
+        return jpaRepository.findRecentViews(limit);
+    }
+}
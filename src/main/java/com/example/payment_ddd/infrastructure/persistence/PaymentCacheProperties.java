@@ -0,0 +1,34 @@
+package com.example.payment_ddd.infrastructure.persistence;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * PaymentCacheProperties - 결제 Aggregate 캐시 설정 (payment.ddd.cache.*)
+ *
+ * [설정 예시] application.yml
+ * payment:
+ *   ddd:
+ *     cache:
+ *       enabled: true              # false면 캐시 없이 JpaPaymentRepository만 사용
+ *       maximum-size: 10000        # 보관할 최대 결제 수 (넘치면 덜 쓰인 것부터 제거)
+ *       expire-after-write: 10m    # 저장/조회 후 이 시간이 지나면 다시 DB에서 읽음
+ */
+@ConfigurationProperties(prefix = "payment.ddd.cache")
+public record PaymentCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("10m") Duration expireAfterWrite
+) {
+
+    public PaymentCacheProperties {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximum-size는 1 이상이어야 합니다: " + maximumSize);
+        }
+        if (expireAfterWrite.isNegative() || expireAfterWrite.isZero()) {
+            throw new IllegalArgumentException("expire-after-write는 0보다 커야 합니다: " + expireAfterWrite);
+        }
+    }
+}
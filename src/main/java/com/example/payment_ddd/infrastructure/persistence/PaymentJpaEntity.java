@@ -1,6 +1,12 @@
 package com.example.payment_ddd.infrastructure.persistence;
 
+import com.example.persistence.PooledSequenceGenerator;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 import java.time.LocalDateTime;
 
 /**
@@ -18,13 +24,20 @@ import java.time.LocalDateTime;
  * [단점]
  * - 매핑 코드 필요 (toEntity, toDomain)
  * - 작은 프로젝트에서는 오버헤드
+ *
+ * [2차 캐시] "payments_ddd" 리전 - 도메인 모델이 아닌 이 엔티티 단위로 캐시됩니다
+ * [낙관적 락] version은 영속성 모델에만 있는 값이라 도메인 Payment에는 노출하지 않습니다
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "payments_ddd")
 @Table(name = "payments_ddd")
 public class PaymentJpaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "payments_ddd_id_gen")
+    @GenericGenerator(name = "payments_ddd_id_gen", type = PooledSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "payments_ddd_seq"))
     private Long id;
 
     @Column(nullable = false)
@@ -51,6 +64,10 @@ public class PaymentJpaEntity {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     protected PaymentJpaEntity() {
         // JPA 기본 생성자
     }
@@ -79,6 +96,7 @@ public class PaymentJpaEntity {
     public String getStatus() { return status; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public Long getVersion() { return version; }
 
     // Setters for JPA
     public void setId(Long id) { this.id = id; }
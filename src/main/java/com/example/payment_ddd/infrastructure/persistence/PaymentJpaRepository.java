@@ -1,8 +1,16 @@
 package com.example.payment_ddd.infrastructure.persistence;
 
+import com.example.payment_ddd.application.port.PaymentView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -11,9 +19,36 @@ import java.util.List;
  * [인프라 레이어]
  * - JPA 기술에 의존
  * - 도메인 Repository 인터페이스와 별개
+ * - 상태 조회 결과는 Hibernate 쿼리 캐시에 보관 (HINT_CACHEABLE)
+ * - find...Views: 조회 Port(JpaPaymentViewQuery)용 PaymentView 프로젝션
  */
 @Repository
 public interface PaymentJpaRepository extends JpaRepository<PaymentJpaEntity, Long> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<PaymentJpaEntity> findByStatus(String status);
+
+    String VIEW_SELECT = "SELECT new com.example.payment_ddd.application.port.PaymentView("
+            + "p.id, p.originalPrice, p.discountedAmount, p.taxedAmount, p.country, p.vip, "
+            + "p.status, p.createdAt) FROM PaymentJpaEntity p";
+
+    @Query(VIEW_SELECT)
+    List<PaymentView> findAllViews();
+
+    @Query(VIEW_SELECT + " WHERE p.status = :status")
+    List<PaymentView> findViewsByStatus(@Param("status") String status);
+
+    @Query(VIEW_SELECT + " ORDER BY p.createdAt DESC LIMIT :limit")
+    List<PaymentView> findRecentViews(@Param("limit") int limit);
+
+    /**
+     * 저장된 상태가 expected일 때만 상태를 바꾸는 조건부 UPDATE (갱신된 행 수 반환)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE PaymentJpaEntity p SET p.status = :status, p.updatedAt = :updatedAt, p.version = p.version + 1 "
+            + "WHERE p.id = :id AND p.status = :expected")
+    int updateStatusIfCurrent(@Param("id") Long id,
+                              @Param("expected") String expected,
+                              @Param("status") String status,
+                              @Param("updatedAt") LocalDateTime updatedAt);
 }
@@ -1,5 +1,6 @@
 package com.example.payment_ddd.interfaces.dto;
 
+import com.example.payment_ddd.application.port.PaymentView;
 import com.example.payment_ddd.domain.model.Payment;
 
 import java.time.LocalDateTime;
@@ -41,4 +42,20 @@ public record PaymentResponse(
                 payment.getCreatedAt()
         );
     }
+
+    /**
+     * 조회 모델 → DTO 변환 (값 복사만, Value Object 변환 없음)
+     */
+    public static PaymentResponse from(PaymentView view) {
+        return new PaymentResponse(
+                view.id(),
+                view.originalPrice(),
+                view.discountedAmount(),
+                view.taxedAmount(),
+                view.country(),
+                view.vip(),
+                view.status(),
+                view.createdAt()
+        );
+    }
 }
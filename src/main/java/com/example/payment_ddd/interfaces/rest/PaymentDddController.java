@@ -2,10 +2,15 @@ package com.example.payment_ddd.interfaces.rest;
 
 import com.example.payment_ddd.application.command.CreatePaymentCommand;
 import com.example.payment_ddd.application.command.RefundPaymentCommand;
+import com.example.payment_ddd.application.port.PaymentView;
 import com.example.payment_ddd.application.service.PaymentCommandService;
+import com.example.payment_ddd.application.service.PaymentQueryService;
 import com.example.payment_ddd.domain.model.Payment;
+import com.example.payment_ddd.domain.model.PaymentStatus;
 import com.example.payment_ddd.interfaces.dto.PaymentRequest;
 import com.example.payment_ddd.interfaces.dto.PaymentResponse;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -22,15 +27,19 @@ import java.util.List;
  * [계층 흐름]
  * HTTP Request → Controller → Command → Application Service → Domain
  * Domain → Application Service → Domain Object → Controller → DTO → HTTP Response
+ * (목록 조회: Controller → PaymentQueryService → PaymentView → DTO, Aggregate 복원 없음)
  */
 @RestController
 @RequestMapping("/api/v2/payments")
 public class PaymentDddController {
 
     private final PaymentCommandService paymentCommandService;
+    private final PaymentQueryService paymentQueryService;
 
-    public PaymentDddController(PaymentCommandService paymentCommandService) {
+    public PaymentDddController(PaymentCommandService paymentCommandService,
+                                PaymentQueryService paymentQueryService) {
         this.paymentCommandService = paymentCommandService;
+        this.paymentQueryService = paymentQueryService;
     }
 
     /**
@@ -69,14 +78,32 @@ public class PaymentDddController {
      * 모든 결제 조회
      *
      * GET /api/v2/payments
+     *
+     * [조회 모델 사용] Aggregate를 복원하지 않고 PaymentView 프로젝션을 그대로 변환합니다
      */
     @GetMapping
     public ResponseEntity<List<PaymentResponse>> getAllPayments() {
-        List<Payment> payments = paymentCommandService.getAllPayments();
-        List<PaymentResponse> responses = payments.stream()
-                .map(PaymentResponse::from)
-                .toList();
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok(toResponses(paymentQueryService.getAllPayments()));
+    }
+
+    /**
+     * 상태별 결제 조회
+     *
+     * GET /api/v2/payments/status?status=COMPLETED
+     */
+    @GetMapping("/status")
+    public ResponseEntity<List<PaymentResponse>> getPaymentsByStatus(@RequestParam PaymentStatus status) {
+        return ResponseEntity.ok(toResponses(paymentQueryService.getPaymentsByStatus(status)));
+    }
+
+    /**
+     * 최근 결제 조회
+     *
+     * GET /api/v2/payments/recent?limit=10
+     */
+    @GetMapping("/recent")
+    public ResponseEntity<List<PaymentResponse>> getRecentPayments(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(toResponses(paymentQueryService.getRecentPayments(limit)));
     }
 
     /**
@@ -90,4 +117,18 @@ public class PaymentDddController {
         Payment payment = paymentCommandService.refundPayment(command);
         return ResponseEntity.ok(PaymentResponse.from(payment));
     }
+
+    private static List<PaymentResponse> toResponses(List<PaymentView> views) {
+        return views.stream()
+                .map(PaymentResponse::from)
+                .toList();
+    }
+
+    /**
+     * 상태 충돌 (이미 환불됨, 동시 환불 중 늦은 요청 등) → 409 Conflict
+     */
+    @ExceptionHandler({IllegalStateException.class, OptimisticLockingFailureException.class})
+    public ResponseEntity<String> handleConflict(RuntimeException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+    }
 }
@@ -2,7 +2,13 @@ package com.example.payment_ddd_v1.domain.model;
 
 import com.example.payment_ddd_v1.infrastructure.converter.CountryConverter;
 import com.example.payment_ddd_v1.infrastructure.converter.MoneyConverter;
+import com.example.persistence.PooledSequenceGenerator;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.time.LocalDateTime;
 
@@ -38,13 +44,18 @@ import java.time.LocalDateTime;
  * [주의] Domain 계층이 Infrastructure(Converter)에 의존하는 것은
  * 순수 DDD 관점에서는 위반이지만, 실용적 선택으로 허용
  * 완전한 분리가 필요하면 별도 JPA Entity 클래스 생성 권장
+ * (2차 캐시 설정 @Cache도 같은 이유로 이 클래스에 둠)
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "payments_ddd_v1")
 @Table(name = "payments_ddd_v1")
 public class Payment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "payments_ddd_v1_id_gen")
+    @GenericGenerator(name = "payments_ddd_v1_id_gen", type = PooledSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "payments_ddd_v1_seq"))
     private Long id;
 
     @Convert(converter = MoneyConverter.class)
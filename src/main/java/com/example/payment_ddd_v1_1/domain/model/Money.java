@@ -1,7 +1,5 @@
 package com.example.payment_ddd_v1_1.domain.model;
 
-import java.util.Objects;
-
 /**
  * Money - 금액 Value Object (순수 Java)
  *
@@ -10,11 +8,32 @@ import java.util.Objects;
  * - 순수 Java로만 구성
  * - 불변, 자가 검증, 값 동등성
  */
-public class Money {
+public final class Money {
+
+    /**
+     * 비율 정밀도 - 1.0 = 1,000,000
+     */
+    private static final long RATE_SCALE = 1_000_000L;
 
-    private final double amount;
+    /**
+     * 0원 ~ 100만원의 100원 단위 금액은 미리 만들어 두고 재사용
+     */
+    private static final long CACHE_STEP = 100L;
+    private static final long CACHE_MAX = 1_000_000L;
+    private static final Money[] CACHE = new Money[(int) (CACHE_MAX / CACHE_STEP) + 1];
 
-    private Money(double amount) {
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new Money(i * CACHE_STEP);
+        }
+    }
+
+    /**
+     * 원 단위 정수 - double 누적 오차 없이 정산 합계를 맞춥니다
+     */
+    private final long amount;
+
+    private Money(long amount) {
         if (amount < 0) {
             throw new IllegalArgumentException("금액은 0 이상이어야 합니다: " + amount);
         }
@@ -22,23 +41,41 @@ public class Money {
     }
 
     public static Money of(double amount) {
+        if (Double.isNaN(amount) || Double.isInfinite(amount)) {
+            throw new IllegalArgumentException("금액은 유한한 숫자여야 합니다: " + amount);
+        }
+        if (amount < 0) {
+            throw new IllegalArgumentException("금액은 0 이상이어야 합니다: " + amount);
+        }
+        return of(Math.round(amount));
+    }
+
+    public static Money of(long amount) {
+        if (amount >= 0 && amount <= CACHE_MAX && amount % CACHE_STEP == 0) {
+            return CACHE[(int) (amount / CACHE_STEP)];
+        }
         return new Money(amount);
     }
 
     public static Money zero() {
-        return new Money(0);
+        return CACHE[0];
     }
 
     public Money add(Money other) {
-        return new Money(this.amount + other.amount);
+        return of(Math.addExact(this.amount, other.amount));
     }
 
     public Money subtract(Money other) {
-        return new Money(this.amount - other.amount);
+        return of(this.amount - other.amount);
     }
 
     public Money multiply(double rate) {
-        return new Money(Math.round(this.amount * rate));
+        if (Double.isNaN(rate) || rate < 0) {
+            throw new IllegalArgumentException("비율은 0 이상이어야 합니다: " + rate);
+        }
+        // 비율을 정수로 바꿔 계산하고 원 미만은 한 번만 반올림(HALF_UP)
+        long product = Math.multiplyExact(this.amount, Math.round(rate * RATE_SCALE));
+        return of((product + RATE_SCALE / 2) / RATE_SCALE);
     }
 
     public boolean isGreaterThan(Money other) {
@@ -54,16 +91,16 @@ public class Money {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Money money = (Money) o;
-        return Double.compare(money.amount, amount) == 0;
+        return amount == money.amount;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(amount);
+        return Long.hashCode(amount);
     }
 
     @Override
     public String toString() {
-        return String.format("Money(%.0f원)", amount);
+        return "Money(" + amount + "원)";
     }
 }
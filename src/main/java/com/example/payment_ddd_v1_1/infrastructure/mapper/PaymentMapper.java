@@ -28,6 +28,10 @@ import org.springframework.stereotype.Component;
  *    - Domain 객체를 DB 저장용으로 변환
  *    - Value Object를 원시 타입으로 풀어냄
  *
+ * 3. updateEntity(): Payment → 이미 로드된 PaymentJpaEntity
+ *    - 상태 전이(완료/실패/환불) 결과만 영속 상태의 엔티티에 반영
+ *    - 새 엔티티를 만들지 않으므로 merge 없이 변경 감지(dirty checking)로 UPDATE
+ *
  * ============================================================================
  * [왜 필요한가?]
  * ============================================================================
@@ -72,4 +76,13 @@ public class PaymentMapper {
         entity.setUpdatedAt(payment.getUpdatedAt());
         return entity;
     }
+
+    /**
+     * Domain 모델의 변경 가능한 값(상태, 수정 일시)을 JPA Entity에 반영
+     * - 금액, 국가, VIP 여부는 생성 후 바뀌지 않으므로 복사하지 않음
+     */
+    public void updateEntity(Payment payment, PaymentJpaEntity entity) {
+        entity.setStatus(payment.getStatus().name());
+        entity.setUpdatedAt(payment.getUpdatedAt());
+    }
 }
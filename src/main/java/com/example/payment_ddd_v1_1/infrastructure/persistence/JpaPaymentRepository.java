@@ -4,6 +4,7 @@ import com.example.payment_ddd_v1_1.domain.model.Payment;
 import com.example.payment_ddd_v1_1.domain.repository.PaymentRepository;
 import com.example.payment_ddd_v1_1.infrastructure.mapper.PaymentMapper;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -16,11 +17,17 @@ import java.util.stream.Collectors;
  * [정석 DDD - Infrastructure 계층]
  * ============================================================================
  *
- * 흐름:
+ * 흐름 (새 결제):
  * 1. Domain의 Payment 객체를 받음
  * 2. Mapper로 PaymentJpaEntity로 변환
- * 3. Spring Data JPA로 저장
- * 4. 다시 Mapper로 Payment로 변환하여 반환
+ * 3. Spring Data JPA로 저장 (persist)
+ * 4. 할당된 ID를 Payment에 넣어 반환
+ *
+ * 흐름 (기존 결제의 상태 전이):
+ * 1. 같은 트랜잭션에서 이미 로드된 PaymentJpaEntity를 영속성 컨텍스트에서 꺼냄 (추가 SELECT 없음)
+ * 2. Mapper로 상태/수정 일시만 덮어씀
+ * 3. 커밋 시 변경 감지로 UPDATE 한 번
+ *    → 새 엔티티를 만들어 merge하고 다시 Domain으로 변환하던 왕복을 없앰
  *
  * ============================================================================
  * [payment_ddd_v1과의 차이점]
@@ -58,16 +65,30 @@ public class JpaPaymentRepository implements PaymentRepository {
         this.mapper = mapper;
     }
 
+    /**
+     * 조회와 변경 감지가 같은 영속성 컨텍스트에서 일어나야 하므로 트랜잭션 필요
+     * (서비스 트랜잭션이 있으면 그대로 참여)
+     */
     @Override
+    @Transactional
     public Payment save(Payment payment) {
-        // 1. Domain → JPA Entity
-        PaymentJpaEntity entity = mapper.toEntity(payment);
+        if (payment.getId() == null) {
+            // 1. Domain → JPA Entity
+            PaymentJpaEntity entity = mapper.toEntity(payment);
+
+            // 2. JPA로 저장 (ID 없음 → persist)
+            PaymentJpaEntity savedEntity = springDataRepository.save(entity);
 
-        // 2. JPA로 저장
-        PaymentJpaEntity savedEntity = springDataRepository.save(entity);
+            // 3. 할당된 ID만 Domain에 반영
+            payment.assignId(savedEntity.getId());
+            return payment;
+        }
 
-        // 3. JPA Entity → Domain (ID가 할당된 상태)
-        return mapper.toDomain(savedEntity);
+        // 기존 결제: 영속 상태의 엔티티를 그 자리에서 수정 (merge 없음)
+        PaymentJpaEntity entity = springDataRepository.findById(payment.getId())
+                .orElseThrow(() -> new IllegalArgumentException("결제를 찾을 수 없습니다: " + payment.getId()));
+        mapper.updateEntity(payment, entity);
+        return payment;
     }
 
     @Override
@@ -1,6 +1,12 @@
 package com.example.payment_ddd_v1_1.infrastructure.persistence;
 
+import com.example.persistence.PooledSequenceGenerator;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.time.LocalDateTime;
 
@@ -30,13 +36,20 @@ import java.time.LocalDateTime;
  * 3. 기술 교체 용이
  *    - JPA → MongoDB: 이 클래스만 교체
  *    - Domain 코드 수정 없음
+ *
+ * 4. 캐시 같은 기술 설정도 여기에만
+ *    - @Cache(2차 캐시)는 이 클래스에 붙이고 Domain은 모름
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "payments_ddd_v1_1")
 @Table(name = "payments_ddd_v1_1")
 public class PaymentJpaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "payments_ddd_v1_1_id_gen")
+    @GenericGenerator(name = "payments_ddd_v1_1_id_gen", type = PooledSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "payments_ddd_v1_1_seq"))
     private Long id;
 
     @Column(name = "original_price", nullable = false)
@@ -4,6 +4,7 @@ import com.example.payment_step2.dto.PaymentRequest;
 import com.example.payment_step2.dto.PaymentResult;
 import com.example.payment_step2.entity.Payment;
 import com.example.payment_step2.service.PaymentService;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -50,4 +51,9 @@ public class PaymentController {
         Payment payment = paymentService.refundPayment(id);
         return ResponseEntity.ok(payment);
     }
+
+    @ExceptionHandler({IllegalStateException.class, OptimisticLockingFailureException.class})
+    public ResponseEntity<String> handleConflict(RuntimeException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+    }
 }
@@ -4,7 +4,13 @@ import com.example.payment_step2.converter.CountryConverter;
 import com.example.payment_step2.converter.MoneyConverter;
 import com.example.payment_step2.domain.model.Country;
 import com.example.payment_step2.domain.model.Money;
+import com.example.persistence.PooledSequenceGenerator;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.time.LocalDateTime;
 
@@ -37,13 +43,20 @@ import java.time.LocalDateTime;
  * - Country -> VARCHAR 컬럼 하나
  *
  * @Embedded는 여러 필드를 가진 Value Object에 적합 (예: Address)
+ *
+ * [2차 캐시] READ_WRITE 전략 - 같은 ID를 다시 조회하면 DB 대신 캐시에서 읽음
+ * [낙관적 락] @Version - payment_ul과 동일한 version 컬럼
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "payments_step1")
 @Table(name = "payments_step1")
 public class Payment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "payments_step1_id_gen")
+    @GenericGenerator(name = "payments_step1_id_gen", type = PooledSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "payments_step1_seq"))
     private Long id;
 
     /**
@@ -99,6 +112,10 @@ public class Payment {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     protected Payment() {
     }
 
@@ -137,6 +154,7 @@ public class Payment {
     public PaymentStatus getStatus() { return status; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public Long getVersion() { return version; }
 
     // Setters (payment_ul과 동일하게 유지)
     public void setStatus(PaymentStatus status) { this.status = status; }
@@ -2,11 +2,16 @@ package com.example.payment_step2.repository;
 
 import com.example.payment_step2.entity.Payment;
 import com.example.payment_step2.entity.PaymentStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -19,6 +24,7 @@ import java.util.List;
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Payment> findByStatus(PaymentStatus status);
 
     @Query("SELECT SUM(p.taxedAmount) FROM Payment p WHERE p.status = :status")
@@ -26,4 +32,16 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
     @Query("SELECT p FROM Payment p ORDER BY p.createdAt DESC LIMIT :limit")
     List<Payment> findRecentPayments(@Param("limit") int limit);
+
+    /**
+     * 현재 상태가 expected일 때만 상태를 바꿉니다 (UPDATE ... WHERE id = ? AND status = ?)
+     * 0을 반환하면 결제가 없거나 다른 요청이 먼저 상태를 바꾼 것입니다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Payment p SET p.status = :to, p.updatedAt = :updatedAt, p.version = p.version + 1 "
+            + "WHERE p.id = :id AND p.status = :expected")
+    int updateStatusIfCurrent(@Param("id") Long id,
+                              @Param("expected") PaymentStatus expected,
+                              @Param("to") PaymentStatus to,
+                              @Param("updatedAt") LocalDateTime updatedAt);
 }
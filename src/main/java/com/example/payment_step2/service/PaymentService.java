@@ -133,17 +133,15 @@ public class PaymentService {
 
     @Transactional
     public Payment refundPayment(Long id) {
+        // [변경] 상태 검증과 변경을 조건부 UPDATE 한 문장으로 처리 (동시 환불 시 한 건만 성공)
+        int updated = paymentRepository.updateStatusIfCurrent(
+                id, PaymentStatus.COMPLETED, PaymentStatus.REFUNDED, LocalDateTime.now());
         Payment payment = getPayment(id);
 
-        // [유지] payment_ul과 동일하게 Service에서 상태 검증
-        if (payment.getStatus() != PaymentStatus.COMPLETED) {
+        if (updated == 0) {
             throw new IllegalStateException("완료된 결제만 환불할 수 있습니다");
         }
 
-        // [유지] setter로 상태 변경
-        payment.setStatus(PaymentStatus.REFUNDED);
-        payment.setUpdatedAt(LocalDateTime.now());
-
         log.info("결제 환불 완료: id={}", id);
         return payment;
     }
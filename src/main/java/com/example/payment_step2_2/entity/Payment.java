@@ -4,7 +4,13 @@ import com.example.payment_step2_2.converter.CountryConverter;
 import com.example.payment_step2_2.converter.MoneyConverter;
 import com.example.payment_step2_2.domain.model.Country;
 import com.example.payment_step2_2.domain.model.Money;
+import com.example.persistence.PooledSequenceGenerator;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.time.LocalDateTime;
 
@@ -50,13 +56,19 @@ import java.time.LocalDateTime;
  * Rich (payment_step2_2):
  *   // Service에서
  *   payment.refund();  // 내부에서 검증 + 상태 변경
+ *
+ * refund() 등으로 바뀐 상태는 트랜잭션 커밋 시 2차 캐시에도 반영됩니다 (READ_WRITE)
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "payments_step2_2")
 @Table(name = "payments_step2_2")
 public class Payment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "payments_step2_2_id_gen")
+    @GenericGenerator(name = "payments_step2_2_id_gen", type = PooledSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "payments_step2_2_seq"))
     private Long id;
 
     @Convert(converter = MoneyConverter.class)
@@ -0,0 +1,96 @@
+package com.example.payment_step4_1;
+
+import com.example.payment_step4_1.domain.model.FailureType;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * ApprovalRetryEngine - 승인 시도를 백오프 후 다시 예약하는 재시도 엔진
+ *
+ * [이전 방식의 문제]
+ * - attemptApproval()이 실패하면 곧바로 자기 자신을 재귀 호출했습니다
+ * - 카드사 장애 중에는 대기 없이 연달아 요청을 보내 장애를 키웠습니다
+ *
+ * [동작 방식]
+ * 1. 첫 시도는 호출 스레드에서 바로 실행합니다
+ * 2. 재시도 대상 실패면 ApprovalRetryPolicy의 백오프만큼 기다린 뒤 다음 시도를 실행합니다
+ *    - ScheduledExecutorService는 대기 시간만 재고, 시간이 되면 작업을 worker Executor로 넘깁니다
+ *    - 다음 시도(카드사 호출, 최대 게이트웨이 타임아웃만큼 블로킹)는 worker에서 실행됩니다
+ *      → 스케줄러 스레드 하나에 여러 결제의 재시도가 줄 서지 않음
+ * 3. 성공하면 null, 시도 횟수를 다 쓰면 마지막 실패 유형으로 Future가 완료됩니다
+ *
+ * [메트릭]
+ * - payment.approval.retries (tag: failureType): 실패 유형별 재시도 횟수
+ */
+class ApprovalRetryEngine {
+
+    private final ApprovalRetryPolicy policy;
+    private final ScheduledExecutorService scheduler;
+    private final Executor workerExecutor;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @param scheduler      백오프 대기만 담당 (시도는 실행하지 않음)
+     * @param workerExecutor 재시도(두 번째 시도부터)를 실행할 Executor
+     */
+    ApprovalRetryEngine(ApprovalRetryPolicy policy, ScheduledExecutorService scheduler,
+                        Executor workerExecutor, MeterRegistry meterRegistry) {
+        this.policy = policy;
+        this.scheduler = scheduler;
+        this.workerExecutor = workerExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param vip     VIP 여부 (일반 고객은 재시도하지 않음)
+     * @param attempt 시도 번호(1부터)를 받아 실패 유형을 반환, 성공이면 null
+     * @return 성공이면 null, 최종 실패면 마지막 실패 유형으로 완료되는 Future
+     */
+    CompletableFuture<FailureType> execute(boolean vip, IntFunction<FailureType> attempt) {
+        CompletableFuture<FailureType> result = new CompletableFuture<>();
+        run(vip, attempt, 1, result);
+        return result;
+    }
+
+    private void run(boolean vip, IntFunction<FailureType> attempt, int attemptNumber,
+                     CompletableFuture<FailureType> result) {
+        FailureType failureType;
+        try {
+            failureType = attempt.apply(attemptNumber);
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+            return;
+        }
+
+        if (failureType == null || attemptNumber >= policy.maxAttempts(failureType, vip)) {
+            result.complete(failureType);
+            return;
+        }
+
+        meterRegistry.counter("payment.approval.retries", "failureType", failureType.name()).increment();
+        long delay = policy.backoffMillis(attemptNumber, ThreadLocalRandom.current().nextDouble());
+        try {
+            scheduler.schedule(() -> runOnWorker(vip, attempt, attemptNumber + 1, result),
+                    delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    // 스케줄러 스레드에서 호출됨 - 시도 자체는 worker로 넘기고 바로 반환
+    private void runOnWorker(boolean vip, IntFunction<FailureType> attempt, int attemptNumber,
+                             CompletableFuture<FailureType> result) {
+        try {
+            workerExecutor.execute(() -> run(vip, attempt, attemptNumber, result));
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.payment_step4_1;
+
+import com.example.payment_step4_1.domain.model.FailureType;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * ApprovalRetryPolicy - VIP 승인 재시도 정책
+ *
+ * [설정 항목]
+ * - vipMaxAttempts: 실패 유형별 최대 시도 횟수 (첫 시도 포함, 없는 유형은 1 = 재시도 없음)
+ * - initialBackoff / multiplier / maxBackoff: 지수 백오프 (50ms → 100ms → 200ms ... 최대 maxBackoff)
+ * - jitter: 대기 시간을 ±jitter 비율만큼 흔들어 여러 결제가 동시에 재시도하지 않게 함
+ *
+ * [일반 고객]
+ * - 기존 규칙대로 재시도하지 않습니다 (항상 1회)
+ */
+public record ApprovalRetryPolicy(
+        Map<FailureType, Integer> vipMaxAttempts,
+        Duration initialBackoff,
+        double multiplier,
+        Duration maxBackoff,
+        double jitter
+) {
+
+    public ApprovalRetryPolicy {
+        vipMaxAttempts = Map.copyOf(vipMaxAttempts);
+        if (initialBackoff.isNegative() || maxBackoff.compareTo(initialBackoff) < 0) {
+            throw new IllegalArgumentException("백오프 설정이 올바르지 않습니다: " + initialBackoff + " ~ " + maxBackoff);
+        }
+        if (multiplier < 1.0) {
+            throw new IllegalArgumentException("multiplier는 1 이상이어야 합니다: " + multiplier);
+        }
+        if (jitter < 0 || jitter > 1) {
+            throw new IllegalArgumentException("jitter는 0 ~ 1 사이여야 합니다: " + jitter);
+        }
+    }
+
+    /**
+     * 기본 정책 - VIP는 네트워크 오류/한도 초과 시 3회까지, 정책 거절은 즉시 종료
+     */
+    public static ApprovalRetryPolicy defaults() {
+        return new ApprovalRetryPolicy(
+                Map.of(FailureType.NETWORK_ERROR, 3, FailureType.CARD_LIMIT_EXCEEDED, 3),
+                Duration.ofMillis(50), 2.0, Duration.ofSeconds(1), 0.2);
+    }
+
+    /**
+     * 실패 유형과 고객 등급에 따른 최대 시도 횟수
+     */
+    public int maxAttempts(FailureType failureType, boolean vip) {
+        if (!vip) {
+            return 1;
+        }
+        return Math.max(1, vipMaxAttempts.getOrDefault(failureType, 1));
+    }
+
+    /**
+     * retry번째 재시도 전 대기 시간 (retry는 1부터)
+     *
+     * @param random 0 이상 1 미만의 난수 (jitter 계산용)
+     */
+    public long backoffMillis(int retry, double random) {
+        double base = initialBackoff.toMillis() * Math.pow(multiplier, retry - 1);
+        double capped = Math.min(base, maxBackoff.toMillis());
+        double jittered = capped * (1 + jitter * (2 * random - 1));
+        return Math.max(0, Math.round(jittered));
+    }
+}
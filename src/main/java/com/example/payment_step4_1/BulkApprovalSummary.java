@@ -0,0 +1,43 @@
+package com.example.payment_step4_1;
+
+import com.example.payment_step4_1.domain.model.FailureType;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * BulkApprovalSummary - 대량 승인 결과 요약
+ *
+ * @param requested         요청한 결제 수
+ * @param succeeded         승인 성공 수
+ * @param failed            승인 실패 수 (실패 이력이 남은 결제)
+ * @param failuresByType    실패 유형별 건수
+ * @param skippedPaymentIds 승인하지 못하고 건너뛴 결제 (없는 결제, 대기 상태가 아님, 이미 승인 중 등)
+ * @param results           처리된 결제의 승인 결과 (요청 순서, 건너뛴 결제 제외)
+ * @param elapsed           전체 소요 시간
+ */
+public record BulkApprovalSummary(
+        int requested,
+        int succeeded,
+        int failed,
+        Map<FailureType, Integer> failuresByType,
+        List<Long> skippedPaymentIds,
+        List<PaymentApprovalResult> results,
+        Duration elapsed
+) {
+
+    public BulkApprovalSummary {
+        failuresByType = Map.copyOf(failuresByType);
+        skippedPaymentIds = List.copyOf(skippedPaymentIds);
+        results = List.copyOf(results);
+    }
+
+    /**
+     * 초당 처리 건수 (건너뛴 결제 포함)
+     */
+    public double throughputPerSecond() {
+        long nanos = Math.max(elapsed.toNanos(), 1);
+        return requested * 1_000_000_000.0 / nanos;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.payment_step4_1;
+
+import com.example.payment_step4_1.domain.model.FailureType;
+import com.example.payment_step4_1.domain.model.Payment;
+
+/**
+ * CardApprovalGateway - 카드사 승인 연동 SPI
+ *
+ * [왜 분리했나요?]
+ * - 카드사 승인 시뮬레이션이 PaymentProcessor 안에 Math.random()으로 박혀 있어서
+ *   지연/장애 상황을 재현하거나 실제 연동으로 바꿀 방법이 없었습니다
+ *
+ * [구현체]
+ * - StubCardApprovalGateway: 지연/오류 분포를 설정할 수 있는 로컬 스텁
+ * - ResilientCardApprovalGateway: 서킷 브레이커, 동시 호출 제한, 타임아웃을 씌우는 데코레이터
+ */
+public interface CardApprovalGateway {
+
+    /**
+     * 승인 요청 1회
+     *
+     * @return 승인되면 null, 거절/실패면 실패 유형
+     */
+    FailureType approve(Payment payment);
+}
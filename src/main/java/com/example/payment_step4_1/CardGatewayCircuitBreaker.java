@@ -0,0 +1,124 @@
+package com.example.payment_step4_1;
+
+import java.util.function.LongSupplier;
+
+/**
+ * CardGatewayCircuitBreaker - 카드사 호출용 서킷 브레이커
+ *
+ * [상태]
+ * - CLOSED: 정상. 최근 호출 결과를 링 버퍼에 기록하고 실패 비율이 임계값을 넘으면 OPEN
+ * - OPEN: 카드사를 호출하지 않고 바로 거절. openDuration이 지나면 HALF_OPEN
+ * - HALF_OPEN: 시험 호출 1건만 허용. 성공하면 CLOSED(기록 초기화), 실패하면 다시 OPEN
+ *
+ * [동시성]
+ * - 상태 전이와 기록은 짧은 synchronized 구간에서만 처리합니다
+ * - 카드사 호출 자체는 락 밖에서 실행됩니다
+ */
+class CardGatewayCircuitBreaker {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openNanos;
+    private final LongSupplier nanoClock;
+
+    private final boolean[] window;
+    private int next;
+    private int recorded;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    CardGatewayCircuitBreaker(CardGatewayResiliencePolicy policy) {
+        this(policy, System::nanoTime);
+    }
+
+    CardGatewayCircuitBreaker(CardGatewayResiliencePolicy policy, LongSupplier nanoClock) {
+        this.minimumCalls = policy.minimumCalls();
+        this.failureRateThreshold = policy.failureRateThreshold();
+        this.openNanos = policy.openDuration().toNanos();
+        this.nanoClock = nanoClock;
+        this.window = new boolean[policy.slidingWindowSize()];
+    }
+
+    /**
+     * 호출 허용 여부 - true를 받았다면 결과를 onSuccess()/onFailure()로 꼭 알려야 합니다
+     */
+    synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < openNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            probeInFlight = false;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probeInFlight) {
+                return false;
+            }
+            probeInFlight = true;
+        }
+        return true;
+    }
+
+    synchronized void onSuccess() {
+        if (state == State.OPEN) {
+            return; // 서킷이 열리기 전에 시작된 호출
+        }
+        if (state == State.HALF_OPEN) {
+            close();
+            return;
+        }
+        record(false);
+    }
+
+    synchronized void onFailure() {
+        if (state == State.OPEN) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (recorded >= minimumCalls && (double) failures / recorded >= failureRateThreshold) {
+            open();
+        }
+    }
+
+    synchronized State state() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (recorded == window.length) {
+            if (window[next]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        window[next] = failure;
+        if (failure) {
+            failures++;
+        }
+        next = (next + 1) % window.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = nanoClock.getAsLong();
+        probeInFlight = false;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        probeInFlight = false;
+        next = 0;
+        recorded = 0;
+        failures = 0;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.payment_step4_1;
+
+import java.time.Duration;
+
+/**
+ * CardGatewayResiliencePolicy - 카드사 호출 보호 설정
+ *
+ * [설정 항목]
+ * - timeout: 카드사 응답을 기다리는 최대 시간 (넘기면 네트워크 오류로 처리)
+ * - maxConcurrentCalls: 동시에 진행할 수 있는 카드사 호출 수 (bulkhead)
+ * - slidingWindowSize / minimumCalls / failureRateThreshold:
+ *   최근 slidingWindowSize건 중 실패 비율이 임계값 이상이면 서킷을 엽니다 (minimumCalls건 이상 쌓인 뒤부터)
+ * - openDuration: 서킷이 열린 뒤 시험 호출을 허용하기까지 기다리는 시간
+ */
+public record CardGatewayResiliencePolicy(
+        Duration timeout,
+        int maxConcurrentCalls,
+        int slidingWindowSize,
+        int minimumCalls,
+        double failureRateThreshold,
+        Duration openDuration
+) {
+
+    public CardGatewayResiliencePolicy {
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("timeout은 0보다 커야 합니다: " + timeout);
+        }
+        if (maxConcurrentCalls <= 0) {
+            throw new IllegalArgumentException("maxConcurrentCalls는 1 이상이어야 합니다: " + maxConcurrentCalls);
+        }
+        if (slidingWindowSize <= 0 || minimumCalls <= 0 || minimumCalls > slidingWindowSize) {
+            throw new IllegalArgumentException("집계 구간 설정이 올바르지 않습니다: window="
+                    + slidingWindowSize + ", minimumCalls=" + minimumCalls);
+        }
+        if (failureRateThreshold <= 0 || failureRateThreshold > 1) {
+            throw new IllegalArgumentException("failureRateThreshold는 0 초과 1 이하여야 합니다: " + failureRateThreshold);
+        }
+        if (openDuration.isNegative()) {
+            throw new IllegalArgumentException("openDuration은 0 이상이어야 합니다: " + openDuration);
+        }
+    }
+
+    /**
+     * 기본 설정 - 500ms 타임아웃, 동시 32건, 최근 20건 중 절반 실패 시 5초간 차단
+     */
+    public static CardGatewayResiliencePolicy defaults() {
+        return new CardGatewayResiliencePolicy(
+                Duration.ofMillis(500), 32, 20, 10, 0.5, Duration.ofSeconds(5));
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.payment_step4_1;
+
+import com.example.payment_step4_1.domain.model.Country;
+import com.example.payment_step4_1.domain.model.FailureType;
+import com.example.payment_step4_1.domain.model.Money;
+import com.example.payment_step4_1.domain.model.Payment;
+
+/**
+ * FailureNotification - 결제 실패 알림 한 건
+ *
+ * - 승인 스레드에서는 값만 담아 큐에 넣고, 문자열 포맷은 알림 스레드에서 format()으로 만듭니다
+ * - Money, Country는 불변이라 그대로 담아도 안전합니다
+ */
+public record FailureNotification(
+        Long paymentId,
+        boolean vip,
+        FailureType failureType,
+        Money taxedAmount,
+        Country country
+) {
+
+    public static FailureNotification of(Payment payment, FailureType failureType) {
+        return new FailureNotification(payment.getId(), payment.isVip(), failureType,
+                payment.getTaxedAmount(), payment.getCountry());
+    }
+
+    /**
+     * 알림 메시지 포맷
+     *
+     * [요구사항 2] 알림 내용 포맷은 정책에 따라 달라질 수 있음
+     */
+    public String format() {
+        // VIP 고객은 다른 포맷
+        if (vip) {
+            return String.format("[VIP 고객 결제 실패 알림] " +
+                            "결제 ID: %d, 실패 유형: %s, 금액: %s, 국가: %s",
+                    paymentId,
+                    failureType.getDescription(),
+                    taxedAmount,
+                    country);
+        }
+
+        return String.format("[결제 실패 알림] 결제 ID: %d, 실패: %s",
+                paymentId, failureType.getDescription());
+    }
+}
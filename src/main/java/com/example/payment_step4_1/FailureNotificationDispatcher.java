@@ -0,0 +1,158 @@
+package com.example.payment_step4_1;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FailureNotificationDispatcher - 실패 알림을 모아서 비동기로 보내는 디스패처
+ *
+ * [이전 방식의 문제]
+ * - 승인 스레드가 실패할 때마다 String.format()으로 메시지를 만들고 알림 시스템을 직접 호출했습니다
+ * - 알림 시스템이 느리면 승인 처리도 같이 느려졌습니다
+ *
+ * [동작 방식]
+ * 1. enqueue(): 승인 스레드는 알림 값을 큐에 넣기만 합니다 (포맷/전송 없음, 대기 없음)
+ * 2. 알림 스레드 하나가 첫 알림을 꺼낸 뒤 window 동안 또는 maxBatchSize건이 찰 때까지 모읍니다
+ * 3. 모은 알림을 NotificationSink에 한 번에 넘깁니다 (digest)
+ *
+ * [넘침 처리]
+ * - 큐(capacity)가 가득 차면 승인 스레드를 막지 않고 해당 알림을 버리고 dropped를 셉니다
+ * - NotificationSink 오류는 sink_errors로 세고 다음 digest를 계속 보냅니다
+ *   ([요구사항 2] 알림 전송 실패가 결제에 영향을 주면 안 됨)
+ *
+ * [메트릭]
+ * - payment.notification.delivered / dropped / digests / sink_errors
+ * - payment.notification.queue_size: 대기 중인 알림 수
+ */
+public class FailureNotificationDispatcher implements AutoCloseable {
+
+    public static final int DEFAULT_CAPACITY = 10_000;
+    public static final Duration DEFAULT_WINDOW = Duration.ofMillis(100);
+    public static final int DEFAULT_MAX_BATCH_SIZE = 500;
+
+    private final NotificationSink sink;
+    private final BlockingQueue<FailureNotification> queue;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    private final Counter delivered;
+    private final Counter dropped;
+    private final Counter digests;
+    private final Counter sinkErrors;
+
+    public FailureNotificationDispatcher(NotificationSink sink, int capacity, Duration window,
+                                         int maxBatchSize, MeterRegistry meterRegistry) {
+        if (capacity <= 0 || maxBatchSize <= 0) {
+            throw new IllegalArgumentException("capacity, maxBatchSize는 1 이상이어야 합니다: "
+                    + capacity + ", " + maxBatchSize);
+        }
+        if (window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("window는 0보다 커야 합니다: " + window);
+        }
+        this.sink = sink;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+
+        this.delivered = meterRegistry.counter("payment.notification.delivered");
+        this.dropped = meterRegistry.counter("payment.notification.dropped");
+        this.digests = meterRegistry.counter("payment.notification.digests");
+        this.sinkErrors = meterRegistry.counter("payment.notification.sink_errors");
+        Gauge.builder("payment.notification.queue_size", queue, BlockingQueue::size).register(meterRegistry);
+
+        this.worker = new Thread(this::runLoop, "failure-notification");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * 기본 설정 - 최대 10,000건 대기, 100ms 또는 500건 단위로 묶어서 전송
+     */
+    public static FailureNotificationDispatcher withDefaults(NotificationSink sink, MeterRegistry meterRegistry) {
+        return new FailureNotificationDispatcher(sink, DEFAULT_CAPACITY, DEFAULT_WINDOW,
+                DEFAULT_MAX_BATCH_SIZE, meterRegistry);
+    }
+
+    /**
+     * 알림 접수 - 큐가 가득 찼거나 종료된 뒤면 버리고 false
+     */
+    public boolean enqueue(FailureNotification notification) {
+        if (running && queue.offer(notification)) {
+            return true;
+        }
+        dropped.increment();
+        return false;
+    }
+
+    /**
+     * 더 이상 접수하지 않고, 이미 받은 알림을 모두 보낸 뒤 종료
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            worker.join(TimeUnit.NANOSECONDS.toMillis(windowNanos) + 5_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runLoop() {
+        List<FailureNotification> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                FailureNotification first = queue.poll(windowNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collect(batch, System.nanoTime() + windowNanos);
+            } catch (InterruptedException e) {
+                // 종료 중 - 모아 둔 알림은 아래에서 보내고 남은 큐는 다음 루프에서 비웁니다
+            }
+            if (!batch.isEmpty()) {
+                deliver(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void collect(List<FailureNotification> batch, long deadline) throws InterruptedException {
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            if (batch.size() >= maxBatchSize) {
+                return;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            FailureNotification next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void deliver(List<FailureNotification> batch) {
+        try {
+            sink.send(List.copyOf(batch));
+            delivered.increment(batch.size());
+            digests.increment();
+        } catch (Exception e) {
+            sinkErrors.increment();
+            System.err.println("[Notification] 알림 전송 실패 (결제에 영향 없음): " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.payment_step4_1;
+
+import com.example.payment_step4_1.domain.model.FailureType;
+import com.example.payment_step4_1.domain.model.PaymentFailureRecord;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * FailureRecordIndex - 최근 실패 이력 N건을 색인해서 보관 (실습용)
+ *
+ * [왜 필요한가요?]
+ * - 실패 이력을 리스트 하나에 쌓고 stream().filter()로 찾으면
+ *   조회 비용이 "지금까지 쌓인 전체 실패 수"에 비례하고 메모리도 계속 늘어납니다
+ *
+ * [구조]
+ * - 링 버퍼: 최근 capacity건만 기록 순서대로 보관 (가득 차면 가장 오래된 것부터 덮어씀)
+ * - 결제 ID별 색인, 실패 유형별 색인: 각각 기록 순서대로 쌓인 Deque
+ * - 링 버퍼에서 밀려난 이력은 두 색인에서도 같이 빠지므로 메모리는 capacity에 비례합니다
+ *
+ * [조회 비용]
+ * - 결제별/유형별/최근 N건: 결과 크기 k에 비례 (O(k))
+ * - 유형별 최근 구간: 최신 이력부터 거꾸로 읽다가 구간을 벗어나면 멈춤 (O(k))
+ *
+ * [동시성]
+ * - 실패 기록은 결제 승인보다 훨씬 드물어서 락 하나로 쓰기/읽기를 보호합니다
+ * - 조회 결과는 락 안에서 복사한 리스트입니다
+ */
+class FailureRecordIndex {
+
+    static final int DEFAULT_CAPACITY = 10_000;
+
+    private final PaymentFailureRecord[] ring;
+    private int next;
+    private int size;
+
+    private final Map<Long, Deque<PaymentFailureRecord>> byPaymentId = new HashMap<>();
+    private final Map<FailureType, Deque<PaymentFailureRecord>> byType = new EnumMap<>(FailureType.class);
+    private final ReentrantLock lock = new ReentrantLock();
+
+    FailureRecordIndex(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity는 1 이상이어야 합니다: " + capacity);
+        }
+        this.ring = new PaymentFailureRecord[capacity];
+        for (FailureType type : FailureType.values()) {
+            byType.put(type, new ArrayDeque<>());
+        }
+    }
+
+    void add(PaymentFailureRecord record) {
+        lock.lock();
+        try {
+            if (size == ring.length) {
+                evict(ring[next]);
+            } else {
+                size++;
+            }
+            ring[next] = record;
+            next = (next + 1) % ring.length;
+
+            byPaymentId.computeIfAbsent(record.getPaymentId(), id -> new ArrayDeque<>()).addLast(record);
+            byType.get(record.getFailureType()).addLast(record);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 가장 오래된 이력은 각 색인의 맨 앞에 있으므로 앞에서 꺼내면 됩니다
+     */
+    private void evict(PaymentFailureRecord oldest) {
+        Deque<PaymentFailureRecord> paymentRecords = byPaymentId.get(oldest.getPaymentId());
+        paymentRecords.pollFirst();
+        if (paymentRecords.isEmpty()) {
+            byPaymentId.remove(oldest.getPaymentId());
+        }
+        byType.get(oldest.getFailureType()).pollFirst();
+    }
+
+    List<PaymentFailureRecord> findByPaymentId(Long paymentId) {
+        lock.lock();
+        try {
+            Deque<PaymentFailureRecord> records = byPaymentId.get(paymentId);
+            return records == null ? List.of() : List.copyOf(records);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    List<PaymentFailureRecord> findByType(FailureType type) {
+        lock.lock();
+        try {
+            return List.copyOf(byType.get(type));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * since 이후에 기록된 특정 유형의 실패 (기록 순서)
+     */
+    List<PaymentFailureRecord> findByTypeSince(FailureType type, LocalDateTime since) {
+        lock.lock();
+        try {
+            List<PaymentFailureRecord> result = new ArrayList<>();
+            Iterator<PaymentFailureRecord> newestFirst = byType.get(type).descendingIterator();
+            while (newestFirst.hasNext()) {
+                PaymentFailureRecord record = newestFirst.next();
+                if (record.getFailedAt().isBefore(since)) {
+                    break;
+                }
+                result.add(record);
+            }
+            Collections.reverse(result);
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 가장 최근 limit건 (최신순)
+     */
+    List<PaymentFailureRecord> findRecent(int limit) {
+        lock.lock();
+        try {
+            int count = Math.min(Math.max(limit, 0), size);
+            List<PaymentFailureRecord> result = new ArrayList<>(count);
+            for (int i = 1; i <= count; i++) {
+                result.add(ring[Math.floorMod(next - i, ring.length)]);
+            }
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 보관 중인 전체 이력 (기록 순서)
+     */
+    List<PaymentFailureRecord> findAll() {
+        lock.lock();
+        try {
+            List<PaymentFailureRecord> result = new ArrayList<>(size);
+            int oldest = size == ring.length ? next : 0;
+            for (int i = 0; i < size; i++) {
+                result.add(ring[(oldest + i) % ring.length]);
+            }
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.payment_step4_1;
+
+import com.example.payment_step4_1.domain.model.Payment;
+import com.example.payment_step4_1.domain.model.PaymentFailureRecord;
+import com.example.payment_step4_1.domain.model.PaymentStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * InMemoryPaymentStore - 동시 요청에 안전한 인메모리 저장소 (실습용)
+ *
+ * [왜 분리했나요?]
+ * - PaymentProcessor는 Spring 싱글톤이라 여러 요청 스레드가 동시에 호출합니다
+ * - HashMap, ArrayList, long 시퀀스를 그대로 쓰면
+ *   ID 중복, 저장 누락, 실패 이력 유실이 생깁니다
+ *
+ * [동시성 처리]
+ * - 결제/실패 이력 ID: AtomicLong으로 중복 없이 발급
+ * - 결제 저장: ConcurrentHashMap
+ * - 실패 이력: FailureRecordIndex (최근 N건만 보관, 결제/유형별 색인)
+ * - 상태 변경: 결제 ID로 고른 락(lock striping)을 잡고 실행
+ *   - 같은 결제의 승인/실패 처리는 한 번에 하나만 실행됩니다
+ *   - 서로 다른 결제는 대부분 다른 락을 쓰므로 함께 진행됩니다
+ * - 승인 진행 표시: 재시도 대기 중에는 락을 잡고 있지 않으므로
+ *   같은 결제의 승인이 겹치지 않도록 진행 중인 결제 ID를 따로 표시합니다
+ *
+ * [영속화]
+ * - 결제 생성, 상태 변경, 실패 이력을 PaymentJournal에 순서대로 남깁니다
+ * - 생성할 때 저널을 재생해서 결제, 실패 이력, ID 시퀀스를 복원합니다
+ */
+class InMemoryPaymentStore {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final Map<Long, Payment> payments = new ConcurrentHashMap<>();
+    private final FailureRecordIndex failureRecords = new FailureRecordIndex(FailureRecordIndex.DEFAULT_CAPACITY);
+    private final AtomicLong paymentIdSequence = new AtomicLong(1L);
+    private final AtomicLong failureRecordIdSequence = new AtomicLong(1L);
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+    private final Set<Long> approvalsInFlight = ConcurrentHashMap.newKeySet();
+    private final PaymentJournal journal;
+
+    InMemoryPaymentStore(PaymentJournal journal) {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.journal = journal;
+        journal.replay(new JournalReplay());
+    }
+
+    void close() {
+        journal.close();
+    }
+
+    /**
+     * 새 결제에 ID를 발급하고 저장
+     */
+    Payment save(Payment payment) {
+        payment.assignId(paymentIdSequence.getAndIncrement());
+        payments.put(payment.getId(), payment);
+        journal.paymentCreated(payment);
+        return payment;
+    }
+
+    /**
+     * 결제 상태 변경 기록 - 결제별 락 안에서 상태를 바꾼 직후 호출합니다
+     */
+    void statusChanged(Payment payment) {
+        journal.statusChanged(payment);
+    }
+
+    Payment findById(Long id) {
+        return payments.get(id);
+    }
+
+    List<Payment> findAll() {
+        return new ArrayList<>(payments.values());
+    }
+
+    /**
+     * 실패 이력에 ID를 발급하고 저장
+     */
+    PaymentFailureRecord saveFailureRecord(PaymentFailureRecord record) {
+        record.assignId(failureRecordIdSequence.getAndIncrement());
+        failureRecords.add(record);
+        journal.failureRecorded(record);
+        return record;
+    }
+
+    FailureRecordIndex failureRecords() {
+        return failureRecords;
+    }
+
+    /**
+     * 결제 하나의 상태 변경을 직렬화해서 실행
+     */
+    <T> T withPaymentLock(Long paymentId, Supplier<T> action) {
+        ReentrantLock lock = locks[Math.floorMod(Long.hashCode(paymentId), LOCK_STRIPES)];
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 승인 시작 표시 - 이미 진행 중이거나 대기 상태가 아니면 IllegalStateException
+     */
+    void beginApproval(Payment payment) {
+        if (!approvalsInFlight.add(payment.getId())) {
+            throw new IllegalStateException("이미 승인 처리 중인 결제입니다: " + payment.getId());
+        }
+        if (payment.getStatus() != PaymentStatus.PENDING) {
+            approvalsInFlight.remove(payment.getId());
+            throw new IllegalStateException("대기 상태의 결제만 승인할 수 있습니다. 현재: " + payment.getStatus());
+        }
+    }
+
+    void endApproval(Long paymentId) {
+        approvalsInFlight.remove(paymentId);
+    }
+
+    /**
+     * 저널 재생 - 기록 순서대로 적용하고 ID 시퀀스는 가장 큰 ID 다음부터 이어갑니다
+     */
+    private class JournalReplay implements PaymentJournal.Listener {
+
+        @Override
+        public void paymentCreated(Payment payment) {
+            payments.put(payment.getId(), payment);
+            paymentIdSequence.accumulateAndGet(payment.getId() + 1, Math::max);
+        }
+
+        @Override
+        public void statusChanged(Long paymentId, PaymentStatus status, LocalDateTime updatedAt) {
+            Payment payment = payments.get(paymentId);
+            payments.put(paymentId, Payment.reconstitute(paymentId, payment.getOriginalPrice(),
+                    payment.getDiscountedAmount(), payment.getTaxedAmount(), payment.getCountry(),
+                    payment.isVip(), status, payment.getCreatedAt(), updatedAt));
+        }
+
+        @Override
+        public void failureRecorded(PaymentFailureRecord record) {
+            failureRecords.add(record);
+            failureRecordIdSequence.accumulateAndGet(record.getId() + 1, Math::max);
+        }
+    }
+}
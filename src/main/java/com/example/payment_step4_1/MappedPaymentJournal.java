@@ -0,0 +1,487 @@
+package com.example.payment_step4_1;
+
+import com.example.payment_step4_1.domain.model.Country;
+import com.example.payment_step4_1.domain.model.FailureType;
+import com.example.payment_step4_1.domain.model.Money;
+import com.example.payment_step4_1.domain.model.Payment;
+import com.example.payment_step4_1.domain.model.PaymentFailureRecord;
+import com.example.payment_step4_1.domain.model.PaymentStatus;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * MappedPaymentJournal - 메모리 매핑 파일 기반 추가 전용 저널
+ *
+ * [파일 구조]
+ * - directory/segment-0000000001.journal, segment-0000000002.journal ...
+ * - 세그먼트 하나는 recordsPerSegment개의 고정 크기(256바이트) 레코드 칸으로 미리 매핑됩니다
+ * - 세그먼트가 가득 차면 디스크에 반영(force)하고 다음 세그먼트 파일을 새로 매핑합니다
+ *
+ * [레코드 구조] (256바이트, 사용하지 않는 칸은 0)
+ * - 0: 종류 (0 = 빈 칸, 1 = 결제 생성, 2 = 상태 변경, 3 = 실패 이력)
+ * - 4: CRC32 (종류 + 8번째 바이트부터 끝까지)
+ * - 8 ~: ID, 금액, 시각, 상태/실패 유형, 국가 코드, 정책 정보(UTF-8, 최대 171바이트)
+ * - 상태/실패 유형은 enum 순서로 저장하므로 값은 끝에만 추가해야 합니다
+ * - 정책 정보가 길면 글자 단위로 잘라서 저장합니다
+ *
+ * [그룹 커밋]
+ * - 기록하는 스레드는 매핑된 메모리에 복사만 하고, fsync를 직접 호출하지 않습니다
+ * - flusher 스레드가 groupCommitWindow 동안 들어온 기록을 모아 force() 한 번으로 반영하고
+ *   기다리던 스레드를 한꺼번에 깨웁니다
+ * - 각 기록 메서드는 자기 레코드가 반영된 뒤 반환합니다
+ *
+ * [재생]
+ * - 세그먼트를 순서대로 읽다가 빈 칸이나 CRC가 맞지 않는 칸(기록 도중 종료)을 만나면 멈춥니다
+ * - 다음 기록은 그 칸부터 덮어씁니다
+ * - 열 때 그 칸부터 세그먼트 끝까지를 0으로 지웁니다
+ *   (페이지가 순서 없이 디스크에 반영되면 손상된 칸 뒤에 유효한 레코드가 남을 수 있고,
+ *    지우지 않으면 새 기록이 그 칸을 채우는 순간 오래된 레코드가 이어서 재생됩니다)
+ * - 재생은 시작할 때 기록 전에 한 번만 호출한다고 가정합니다
+ */
+public class MappedPaymentJournal implements PaymentJournal {
+
+    public static final int DEFAULT_RECORDS_PER_SEGMENT = 65_536;   // 16MB
+    public static final Duration DEFAULT_GROUP_COMMIT_WINDOW = Duration.ofMillis(2);
+
+    static final int RECORD_SIZE = 256;
+
+    private static final byte EMPTY = 0;
+    private static final byte PAYMENT_CREATED = 1;
+    private static final byte STATUS_CHANGED = 2;
+    private static final byte FAILURE_RECORDED = 3;
+
+    private static final int CRC_OFFSET = 4;
+    private static final int BODY_OFFSET = 8;
+    private static final int ID_OFFSET = 8;
+    private static final int PAYMENT_ID_OFFSET = 16;
+    private static final int ORIGINAL_PRICE_OFFSET = 24;
+    private static final int DISCOUNTED_AMOUNT_OFFSET = 32;
+    private static final int AMOUNT_OFFSET = 40;
+    private static final int TIME_OFFSET = 48;
+    private static final int UPDATED_TIME_OFFSET = 60;
+    private static final int CODE_OFFSET = 72;
+    private static final int VIP_OFFSET = 73;
+    private static final int COUNTRY_LENGTH_OFFSET = 74;
+    private static final int COUNTRY_OFFSET = 75;
+    private static final int MAX_COUNTRY_BYTES = 8;
+    private static final int POLICY_LENGTH_OFFSET = 83;
+    private static final int POLICY_OFFSET = 85;
+    private static final int MAX_POLICY_BYTES = RECORD_SIZE - POLICY_OFFSET;
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final long groupCommitNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+    private final Condition flushed = lock.newCondition();
+
+    private long segmentIndex;
+    private MappedByteBuffer segment;
+    private int segmentCapacity;
+    private int slot;
+    private long appendedSeq;
+    private long durableSeq;
+    private RuntimeException flushFailure;
+    private boolean closed;
+
+    private final Thread flusher;
+
+    private MappedPaymentJournal(Path directory, int recordsPerSegment, Duration groupCommitWindow) {
+        if (recordsPerSegment <= 0) {
+            throw new IllegalArgumentException("recordsPerSegment는 1 이상이어야 합니다: " + recordsPerSegment);
+        }
+        this.directory = directory;
+        this.recordsPerSegment = recordsPerSegment;
+        this.groupCommitNanos = groupCommitWindow.toNanos();
+
+        openLastSegment();
+
+        this.flusher = new Thread(this::flushLoop, "payment-journal-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    public static MappedPaymentJournal open(Path directory) {
+        return open(directory, DEFAULT_RECORDS_PER_SEGMENT, DEFAULT_GROUP_COMMIT_WINDOW);
+    }
+
+    public static MappedPaymentJournal open(Path directory, int recordsPerSegment, Duration groupCommitWindow) {
+        return new MappedPaymentJournal(directory, recordsPerSegment, groupCommitWindow);
+    }
+
+    // ==========================================================================
+    // 기록
+    // ==========================================================================
+
+    @Override
+    public void paymentCreated(Payment payment) {
+        ByteBuffer record = newRecord(PAYMENT_CREATED);
+        record.putLong(ID_OFFSET, payment.getId());
+        record.putLong(ORIGINAL_PRICE_OFFSET, payment.getOriginalPrice().longValue());
+        record.putLong(DISCOUNTED_AMOUNT_OFFSET, payment.getDiscountedAmount().longValue());
+        record.putLong(AMOUNT_OFFSET, payment.getTaxedAmount().longValue());
+        putTime(record, TIME_OFFSET, payment.getCreatedAt());
+        putTime(record, UPDATED_TIME_OFFSET, payment.getUpdatedAt());
+        record.put(CODE_OFFSET, (byte) payment.getStatus().ordinal());
+        record.put(VIP_OFFSET, (byte) (payment.isVip() ? 1 : 0));
+        putCountry(record, payment.getCountry());
+        append(record);
+    }
+
+    @Override
+    public void statusChanged(Payment payment) {
+        ByteBuffer record = newRecord(STATUS_CHANGED);
+        record.putLong(ID_OFFSET, payment.getId());
+        putTime(record, UPDATED_TIME_OFFSET, payment.getUpdatedAt());
+        record.put(CODE_OFFSET, (byte) payment.getStatus().ordinal());
+        append(record);
+    }
+
+    @Override
+    public void failureRecorded(PaymentFailureRecord failureRecord) {
+        ByteBuffer record = newRecord(FAILURE_RECORDED);
+        record.putLong(ID_OFFSET, failureRecord.getId());
+        record.putLong(PAYMENT_ID_OFFSET, failureRecord.getPaymentId());
+        record.putLong(AMOUNT_OFFSET, failureRecord.getAmountAtFailure().longValue());
+        putTime(record, TIME_OFFSET, failureRecord.getFailedAt());
+        record.put(CODE_OFFSET, (byte) failureRecord.getFailureType().ordinal());
+        putPolicyInfo(record, failureRecord.getPolicyInfo());
+        append(record);
+    }
+
+    private void append(ByteBuffer record) {
+        record.putInt(CRC_OFFSET, checksum(record));
+
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("닫힌 저널입니다: " + directory);
+            }
+            if (slot == segmentCapacity) {
+                rollSegment();
+            }
+            segment.put(slot * RECORD_SIZE, record, 0, RECORD_SIZE);
+            slot++;
+            long seq = ++appendedSeq;
+            appended.signal();
+
+            // 그룹 커밋 - 기다리는 동안 락을 놓으므로 다른 스레드도 계속 기록할 수 있음
+            while (durableSeq < seq) {
+                if (flushFailure != null) {
+                    throw flushFailure;
+                }
+                flushed.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flushLoop() {
+        while (true) {
+            lock.lock();
+            try {
+                while (appendedSeq == durableSeq && !closed) {
+                    appended.awaitUninterruptibly();
+                }
+                if (appendedSeq == durableSeq) {
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            // 잠깐 기다려서 그동안 들어온 기록까지 한 번에 반영
+            if (groupCommitNanos > 0) {
+                LockSupport.parkNanos(groupCommitNanos);
+            }
+
+            MappedByteBuffer target;
+            long seq;
+            lock.lock();
+            try {
+                target = segment;
+                seq = appendedSeq;
+            } finally {
+                lock.unlock();
+            }
+
+            RuntimeException failure = null;
+            try {
+                // 이전 세그먼트는 교체할 때 이미 반영했으므로 현재 세그먼트만 반영하면 됩니다
+                target.force();
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+
+            lock.lock();
+            try {
+                if (failure != null) {
+                    flushFailure = failure;
+                    flushed.signalAll();
+                    return;
+                }
+                durableSeq = seq;
+                flushed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            appended.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        segment.force();
+    }
+
+    // ==========================================================================
+    // 재생
+    // ==========================================================================
+
+    @Override
+    public void replay(Listener listener) {
+        for (Path path : segmentFiles()) {
+            MappedByteBuffer buffer = map(path, FileChannel.MapMode.READ_ONLY, size(path));
+            int records = buffer.capacity() / RECORD_SIZE;
+            for (int i = 0; i < records; i++) {
+                ByteBuffer record = buffer.slice(i * RECORD_SIZE, RECORD_SIZE);
+                if (!isValid(record)) {
+                    return;
+                }
+                dispatch(record, listener);
+            }
+        }
+    }
+
+    private void dispatch(ByteBuffer record, Listener listener) {
+        switch (record.get(0)) {
+            case PAYMENT_CREATED -> listener.paymentCreated(Payment.reconstitute(
+                    record.getLong(ID_OFFSET),
+                    Money.of(record.getLong(ORIGINAL_PRICE_OFFSET)),
+                    Money.of(record.getLong(DISCOUNTED_AMOUNT_OFFSET)),
+                    Money.of(record.getLong(AMOUNT_OFFSET)),
+                    getCountry(record),
+                    record.get(VIP_OFFSET) == 1,
+                    PaymentStatus.values()[record.get(CODE_OFFSET)],
+                    getTime(record, TIME_OFFSET),
+                    getTime(record, UPDATED_TIME_OFFSET)));
+            case STATUS_CHANGED -> listener.statusChanged(
+                    record.getLong(ID_OFFSET),
+                    PaymentStatus.values()[record.get(CODE_OFFSET)],
+                    getTime(record, UPDATED_TIME_OFFSET));
+            case FAILURE_RECORDED -> listener.failureRecorded(PaymentFailureRecord.reconstitute(
+                    record.getLong(ID_OFFSET),
+                    record.getLong(PAYMENT_ID_OFFSET),
+                    FailureType.values()[record.get(CODE_OFFSET)],
+                    Money.of(record.getLong(AMOUNT_OFFSET)),
+                    getPolicyInfo(record),
+                    getTime(record, TIME_OFFSET)));
+            default -> throw new IllegalStateException("알 수 없는 저널 레코드 종류: " + record.get(0));
+        }
+    }
+
+    // ==========================================================================
+    // 세그먼트
+    // ==========================================================================
+
+    private void openLastSegment() {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        List<Path> segments = segmentFiles();
+        if (segments.isEmpty()) {
+            mapNewSegment(1);
+            return;
+        }
+
+        Path last = segments.get(segments.size() - 1);
+        segmentIndex = indexOf(last);
+        long length = Math.max(size(last), (long) recordsPerSegment * RECORD_SIZE);
+        segment = map(last, FileChannel.MapMode.READ_WRITE, length);
+        segmentCapacity = (int) (length / RECORD_SIZE);
+        slot = 0;
+        while (slot < segmentCapacity && isValid(segment.slice(slot * RECORD_SIZE, RECORD_SIZE))) {
+            slot++;
+        }
+        clearFrom(slot);
+    }
+
+    // 종류가 빈 칸이 아닌 칸만 지움 → 새로 늘어난 영역(이미 0)은 페이지를 건드리지 않음
+    private void clearFrom(int fromSlot) {
+        ByteBuffer empty = ByteBuffer.allocate(RECORD_SIZE);
+        boolean cleared = false;
+        for (int i = fromSlot; i < segmentCapacity; i++) {
+            if (segment.get(i * RECORD_SIZE) != EMPTY) {
+                segment.put(i * RECORD_SIZE, empty, 0, RECORD_SIZE);
+                cleared = true;
+            }
+        }
+        if (cleared) {
+            segment.force();
+        }
+    }
+
+    private void rollSegment() {
+        segment.force();
+        mapNewSegment(segmentIndex + 1);
+    }
+
+    private void mapNewSegment(long index) {
+        segmentIndex = index;
+        segment = map(directory.resolve(segmentName(index)), FileChannel.MapMode.READ_WRITE,
+                (long) recordsPerSegment * RECORD_SIZE);
+        segmentCapacity = recordsPerSegment;
+        slot = 0;
+    }
+
+    private List<Path> segmentFiles() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String segmentName(long index) {
+        return String.format("%s%010d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX);
+    }
+
+    private static long indexOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static MappedByteBuffer map(Path path, FileChannel.MapMode mode, long length) {
+        StandardOpenOption[] options = mode == FileChannel.MapMode.READ_ONLY
+                ? new StandardOpenOption[]{StandardOpenOption.READ}
+                : new StandardOpenOption[]{StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE};
+        // 매핑은 채널을 닫아도 유지됩니다
+        try (FileChannel channel = FileChannel.open(path, options)) {
+            return channel.map(mode, 0, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long size(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // ==========================================================================
+    // 레코드 인코딩
+    // ==========================================================================
+
+    private static ByteBuffer newRecord(byte type) {
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+        record.put(0, type);
+        return record;
+    }
+
+    private static boolean isValid(ByteBuffer record) {
+        return record.get(0) != EMPTY && record.getInt(CRC_OFFSET) == checksum(record);
+    }
+
+    private static int checksum(ByteBuffer record) {
+        CRC32 crc = new CRC32();
+        crc.update(record.get(0));
+        crc.update(record.slice(BODY_OFFSET, RECORD_SIZE - BODY_OFFSET));
+        return (int) crc.getValue();
+    }
+
+    private static void putTime(ByteBuffer record, int offset, LocalDateTime time) {
+        record.putLong(offset, time.toEpochSecond(ZoneOffset.UTC));
+        record.putInt(offset + 8, time.getNano());
+    }
+
+    private static LocalDateTime getTime(ByteBuffer record, int offset) {
+        return LocalDateTime.ofEpochSecond(record.getLong(offset), record.getInt(offset + 8), ZoneOffset.UTC);
+    }
+
+    private static void putCountry(ByteBuffer record, Country country) {
+        byte[] code = country.getCode().getBytes(StandardCharsets.US_ASCII);
+        if (code.length > MAX_COUNTRY_BYTES) {
+            throw new IllegalArgumentException("국가 코드가 너무 깁니다: " + country.getCode());
+        }
+        record.put(COUNTRY_LENGTH_OFFSET, (byte) code.length);
+        record.put(COUNTRY_OFFSET, code);
+    }
+
+    private static Country getCountry(ByteBuffer record) {
+        byte[] code = new byte[record.get(COUNTRY_LENGTH_OFFSET)];
+        record.get(COUNTRY_OFFSET, code);
+        return Country.of(new String(code, StandardCharsets.US_ASCII));
+    }
+
+    private static void putPolicyInfo(ByteBuffer record, String policyInfo) {
+        if (policyInfo == null) {
+            record.putShort(POLICY_LENGTH_OFFSET, (short) -1);
+            return;
+        }
+        // 넘치면 인코더가 글자 단위로 멈추므로 UTF-8 글자가 중간에 잘리지 않습니다
+        ByteBuffer out = record.slice(POLICY_OFFSET, MAX_POLICY_BYTES);
+        CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+        encoder.encode(CharBuffer.wrap(policyInfo), out, true);
+        record.putShort(POLICY_LENGTH_OFFSET, (short) out.position());
+    }
+
+    private static String getPolicyInfo(ByteBuffer record) {
+        short length = record.getShort(POLICY_LENGTH_OFFSET);
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        record.get(POLICY_OFFSET, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.payment_step4_1;
+
+import java.util.List;
+
+/**
+ * NotificationSink - 실패 알림을 실제로 내보내는 곳 (외부 알림 시스템)
+ *
+ * [요구사항 2] 알림 시스템은 추후 교체 가능함
+ *
+ * - FailureNotificationDispatcher가 일정 시간/건수 단위로 모은 알림을 한 번에 넘깁니다
+ * - 알림 스레드 하나에서만 호출됩니다
+ */
+public interface NotificationSink {
+
+    void send(List<FailureNotification> digest);
+
+    /**
+     * 콘솔 출력 (실습용) - 실제로는 외부 API 호출
+     */
+    static NotificationSink console() {
+        return digest -> {
+            for (FailureNotification notification : digest) {
+                System.out.println("[NOTIFICATION] " + notification.format());
+            }
+        };
+    }
+}
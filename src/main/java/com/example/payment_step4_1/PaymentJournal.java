@@ -0,0 +1,73 @@
+package com.example.payment_step4_1;
+
+import com.example.payment_step4_1.domain.model.Payment;
+import com.example.payment_step4_1.domain.model.PaymentFailureRecord;
+import com.example.payment_step4_1.domain.model.PaymentStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * PaymentJournal - 결제 상태 변경과 실패 이력을 순서대로 남기는 추가 전용 저널
+ *
+ * [왜 필요한가요?]
+ * - InMemoryPaymentStore는 힙에만 있어서 재시작하면 결제와 실패 이력이 모두 사라집니다
+ * - DB 없이도 변경 내역을 파일에 순서대로 남기고, 시작할 때 다시 읽어 복원합니다
+ *
+ * [구현체]
+ * - MappedPaymentJournal: 메모리 매핑 파일에 고정 크기 레코드로 기록 (PaymentProcessor 기본값)
+ * - none(): 아무것도 남기지 않음 (테스트처럼 재시작 후 복원이 필요 없을 때 직접 지정)
+ *
+ * - 각 기록 메서드는 내용이 디스크에 반영된 뒤 반환합니다
+ */
+public interface PaymentJournal extends AutoCloseable {
+
+    void paymentCreated(Payment payment);
+
+    void statusChanged(Payment payment);
+
+    void failureRecorded(PaymentFailureRecord record);
+
+    /**
+     * 기록된 순서대로 다시 읽어 listener에 전달
+     */
+    void replay(Listener listener);
+
+    @Override
+    void close();
+
+    /**
+     * 저널 재생 콜백
+     */
+    interface Listener {
+
+        void paymentCreated(Payment payment);
+
+        void statusChanged(Long paymentId, PaymentStatus status, LocalDateTime updatedAt);
+
+        void failureRecorded(PaymentFailureRecord record);
+    }
+
+    static PaymentJournal none() {
+        return new PaymentJournal() {
+            @Override
+            public void paymentCreated(Payment payment) {
+            }
+
+            @Override
+            public void statusChanged(Payment payment) {
+            }
+
+            @Override
+            public void failureRecorded(PaymentFailureRecord record) {
+            }
+
+            @Override
+            public void replay(Listener listener) {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+}
@@ -1,9 +1,28 @@
 package com.example.payment_step4_1;
 
 import com.example.payment_step4_1.domain.model.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.springframework.stereotype.Service;
 
-import java.util.*;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 /**
  * PaymentProcessor - 결제 처리기
@@ -30,20 +49,130 @@ import java.util.*;
  * - 외부 알림 전송 (요구사항 2)
  * - 정책별 분기 처리 (요구사항 3)
  * - VIP 재시도 로직
+ * - 대량 승인 (야간 배치)
+ * - 카드사 승인 연동 (CardApprovalGateway로 분리)
  * - 국가별 정책 적용
+ *
+ * [저널]
+ * - 기본 생성자는 payment.journal.dir 시스템 속성(기본 ./data/payment-journal)의
+ *   MappedPaymentJournal을 열어서 재시작해도 결제와 실패 이력이 남습니다
+ * - close()에서 저널을 닫습니다 (Spring 빈이면 종료 시 자동 호출)
+ * - 저장하지 않으려면 PaymentJournal.none()을 직접 넘깁니다 (테스트용)
  */
 @Service
-public class PaymentProcessor {
+public class PaymentProcessor implements AutoCloseable {
+
+    public static final String JOURNAL_DIR_PROPERTY = "payment.journal.dir";
+    static final String DEFAULT_JOURNAL_DIR = "./data/payment-journal";
+
+    // In-Memory 저장소 (실습용) - 여러 요청 스레드가 동시에 호출해도 안전, 저널로 재시작 후 복원
+    private final InMemoryPaymentStore store;
 
-    // In-Memory 저장소 (실습용)
-    private final Map<Long, Payment> paymentStore = new HashMap<>();
-    private final List<PaymentFailureRecord> failureRecords = new ArrayList<>();
-    private long paymentIdSequence = 1L;
-    private long failureRecordIdSequence = 1L;
+    // 카드사 승인 연동 (기본: 로컬 스텁 + 서킷 브레이커/동시 호출 제한/타임아웃)
+    private final CardApprovalGateway cardApprovalGateway;
 
-    // 외부 알림 시스템 (실습용 - 콘솔 출력)
+    // VIP 재시도 (스케줄러는 백오프 대기만, 시도는 worker 스레드에서 실행)
+    private final ApprovalRetryPolicy retryPolicy;
+    private final ApprovalRetryEngine retryEngine;
+    private final MeterRegistry meterRegistry;
+
+    // 외부 알림 시스템 (실습용 - 콘솔 출력, 알림 스레드에서 모아서 전송)
     // [질문] 이 외부 시스템 호출을 여기서 해도 되는가?
-    private final NotificationClient notificationClient = new NotificationClient();
+    private final FailureNotificationDispatcher notificationDispatcher;
+
+    // 대량 승인 기본 스레드 풀 (approveAll(ids, executor)로 바꿔 쓸 수 있음)
+    private final Executor bulkApprovalExecutor = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    public PaymentProcessor() {
+        this(configuredJournalDirectory());
+    }
+
+    /**
+     * @param journalDirectory 저널 세그먼트 파일을 둘 디렉터리 (없으면 만듭니다)
+     */
+    public PaymentProcessor(Path journalDirectory) {
+        this(MappedPaymentJournal.open(journalDirectory));
+    }
+
+    public PaymentProcessor(PaymentJournal journal) {
+        this(journal, new SimpleMeterRegistry());
+    }
+
+    private PaymentProcessor(PaymentJournal journal, MeterRegistry meterRegistry) {
+        this(journal, new ResilientCardApprovalGateway(
+                        StubCardApprovalGateway.defaults(),
+                        CardGatewayResiliencePolicy.defaults(),
+                        ResilientCardApprovalGateway.defaultCallExecutor(),
+                        meterRegistry),
+                FailureNotificationDispatcher.withDefaults(NotificationSink.console(), meterRegistry),
+                ApprovalRetryPolicy.defaults(), defaultRetryScheduler(), meterRegistry);
+    }
+
+    public PaymentProcessor(CardApprovalGateway cardApprovalGateway,
+                            FailureNotificationDispatcher notificationDispatcher,
+                            ApprovalRetryPolicy retryPolicy,
+                            ScheduledExecutorService retryScheduler,
+                            MeterRegistry meterRegistry) {
+        this(MappedPaymentJournal.open(configuredJournalDirectory()),
+                cardApprovalGateway, notificationDispatcher, retryPolicy, retryScheduler, meterRegistry);
+    }
+
+    /**
+     * @param journal 결제/실패 이력 저널 - 생성 시점에 재생해서 이전 상태를 복원합니다
+     */
+    public PaymentProcessor(PaymentJournal journal,
+                            CardApprovalGateway cardApprovalGateway,
+                            FailureNotificationDispatcher notificationDispatcher,
+                            ApprovalRetryPolicy retryPolicy,
+                            ScheduledExecutorService retryScheduler,
+                            MeterRegistry meterRegistry) {
+        this(journal, cardApprovalGateway, notificationDispatcher,
+                retryPolicy, retryScheduler, defaultRetryWorkerExecutor(), meterRegistry);
+    }
+
+    /**
+     * @param retryScheduler      백오프 대기만 담당하는 스케줄러
+     * @param retryWorkerExecutor 재시도 승인(카드사 호출)을 실행할 Executor
+     */
+    public PaymentProcessor(PaymentJournal journal,
+                            CardApprovalGateway cardApprovalGateway,
+                            FailureNotificationDispatcher notificationDispatcher,
+                            ApprovalRetryPolicy retryPolicy,
+                            ScheduledExecutorService retryScheduler,
+                            Executor retryWorkerExecutor,
+                            MeterRegistry meterRegistry) {
+        this.store = new InMemoryPaymentStore(journal);
+        this.cardApprovalGateway = cardApprovalGateway;
+        this.notificationDispatcher = notificationDispatcher;
+        this.retryPolicy = retryPolicy;
+        this.retryEngine = new ApprovalRetryEngine(retryPolicy, retryScheduler, retryWorkerExecutor, meterRegistry);
+        this.meterRegistry = meterRegistry;
+    }
+
+    private static Path configuredJournalDirectory() {
+        return Path.of(System.getProperty(JOURNAL_DIR_PROPERTY, DEFAULT_JOURNAL_DIR));
+    }
+
+    /**
+     * 저널을 닫습니다 (flusher 스레드 종료, 남은 기록 반영)
+     */
+    @Override
+    public void close() {
+        store.close();
+    }
+
+    private static ScheduledExecutorService defaultRetryScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "approval-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // 재시도 승인은 카드사 응답을 기다리며 블로킹되므로 시도마다 가상 스레드 하나 (동시 호출 수는 게이트웨이 bulkhead가 제한)
+    private static Executor defaultRetryWorkerExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("approval-retry-worker-", 0).factory());
+    }
 
     // ==========================================================================
     // 결제 생성
@@ -64,10 +193,7 @@ public class PaymentProcessor {
         Payment payment = Payment.create(originalPrice, discountedAmount, taxedAmount, country, isVip);
 
         // 저장
-        payment.assignId(paymentIdSequence++);
-        paymentStore.put(payment.getId(), payment);
-
-        return payment;
+        return store.save(payment);
     }
 
     // ==========================================================================
@@ -80,52 +206,98 @@ public class PaymentProcessor {
      * [요구사항 1] 실패 시 실패 사유 저장
      * [요구사항 2] 실패 시 외부 알림 전송
      * [요구사항 3] 정책별 분기 처리
+     *
+     * - approveAsync()가 끝날 때까지 기다리는 동기 버전입니다
+     * - VIP 재시도 중에는 백오프 시간만큼 호출 스레드가 기다립니다
      */
     public PaymentApprovalResult approve(Long paymentId) {
+        try {
+            return approveAsync(paymentId).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 결제 승인 시도 (비동기)
+     *
+     * [동시성] 같은 결제의 승인은 한 번에 하나만 진행됩니다
+     * - 진행 중이거나 이미 처리된 결제면 IllegalStateException
+     * - 상태 변경(완료/실패 처리)은 결제별 락 안에서 실행됩니다
+     *
+     * [재시도] VIP 재시도는 ApprovalRetryEngine이 백오프 후 예약 실행합니다
+     */
+    public CompletableFuture<PaymentApprovalResult> approveAsync(Long paymentId) {
         Payment payment = findPaymentById(paymentId);
+        store.beginApproval(payment);
+        long startedAt = System.nanoTime();
 
-        // [요구사항 3] 국가별 정책 분기
-        // [질문] 이 분기 로직은 도메인 규칙인가, 흐름 제어인가?
-        if (payment.getCountry().isUS()) {
-            return approveWithUSPolicy(payment);
+        CompletableFuture<PaymentApprovalResult> result;
+        try {
+            // [요구사항 3] 국가별 정책 분기
+            // [질문] 이 분기 로직은 도메인 규칙인가, 흐름 제어인가?
+            if (payment.getCountry().isUS() && rejectedByUSPolicy(payment)) {
+                result = CompletableFuture.completedFuture(store.withPaymentLock(paymentId,
+                        () -> handleFailure(payment, FailureType.POLICY_REJECTED, "US 고액 결제 정책 거절")));
+            } else {
+                // 기본 승인 로직
+                result = retryEngine.execute(payment.isVip(), attempt -> attemptApproval(payment, attempt))
+                        .thenApply(failureType -> store.withPaymentLock(paymentId,
+                                () -> finishApproval(payment, failureType)));
+            }
+        } catch (RuntimeException e) {
+            store.endApproval(paymentId);
+            throw e;
         }
 
-        // 기본 승인 로직
-        return attemptApproval(payment, 1);
+        return result.whenComplete((approval, error) -> {
+            store.endApproval(paymentId);
+            String outcome = error != null ? "error" : approval.isSuccess() ? "success" : "failure";
+            timeToApproval(outcome).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        });
     }
 
     /**
-     * 미국 정책으로 승인 시도
+     * 미국 정책 검증
      * [요구사항 3] 특정 국가 결제는 별도 정책 적용
      */
-    private PaymentApprovalResult approveWithUSPolicy(Payment payment) {
+    private boolean rejectedByUSPolicy(Payment payment) {
         System.out.println("[US Policy] 미국 결제는 추가 검증 수행");
 
         // 미국 정책: 추가 검증 후 승인 시도
         // [질문] 이 검증 로직은 어디에 있어야 하는가?
-        if (payment.getTaxedAmount().getAmount() > 100000) {
-            return handleFailure(payment, FailureType.POLICY_REJECTED, "US 고액 결제 정책 거절");
-        }
-
-        return attemptApproval(payment, 1);
+        return payment.getTaxedAmount().getAmount() > 100000;
     }
 
     /**
-     * 승인 시도 (재시도 포함)
+     * 승인 1회 시도 - 성공이면 null, 실패면 실패 유형
      *
-     * [요구사항 3] VIP 고객은 실패 시 재시도 로직을 가짐
+     * [요구사항 3] VIP 고객은 실패 시 재시도 로직을 가짐 (ApprovalRetryPolicy)
      */
-    private PaymentApprovalResult attemptApproval(Payment payment, int attempt) {
-        int maxAttempts = payment.isVip() ? 3 : 1;  // VIP는 3번까지 재시도
+    private FailureType attemptApproval(Payment payment, int attempt) {
+        System.out.println("[Approval] 승인 시도 " + attempt + " - 결제 ID: " + payment.getId());
 
-        System.out.println("[Approval] 승인 시도 " + attempt + "/" + maxAttempts);
+        // 외부 카드사 승인
+        FailureType failureType = cardApprovalGateway.approve(payment);
 
-        // 외부 카드사 승인 시뮬레이션
-        FailureType failureType = simulateCardApproval(payment);
+        if (failureType != null && payment.isVip()
+                && attempt < retryPolicy.maxAttempts(failureType, true)) {
+            System.out.println("[VIP Retry] VIP 고객 재시도 예약 - " + failureType.getDescription());
+        }
+        return failureType;
+    }
 
+    /**
+     * 최종 결과 반영
+     */
+    private PaymentApprovalResult finishApproval(Payment payment, FailureType failureType) {
         if (failureType == null) {
             // 승인 성공
             payment.complete();
+            store.statusChanged(payment);
             return PaymentApprovalResult.success(payment);
         }
 
@@ -135,10 +307,9 @@ public class PaymentProcessor {
             return handleFailure(payment, failureType, "정책 거절로 인한 즉시 종료");
         }
 
-        // [요구사항 3] VIP 고객 재시도
-        if (payment.isVip() && attempt < maxAttempts) {
-            System.out.println("[VIP Retry] VIP 고객 재시도 중...");
-            return attemptApproval(payment, attempt + 1);
+        // 카드사 장애로 호출 자체가 차단됨
+        if (failureType == FailureType.GATEWAY_UNAVAILABLE) {
+            return handleFailure(payment, failureType, "카드사 연동 차단으로 즉시 종료");
         }
 
         // 최종 실패
@@ -146,24 +317,13 @@ public class PaymentProcessor {
     }
 
     /**
-     * 카드사 승인 시뮬레이션
-     *
-     * [질문] 이 외부 시스템 호출 로직은 어디에 있어야 하는가?
+     * 요청부터 최종 결과까지 걸린 시간 (재시도 대기 포함)
      */
-    private FailureType simulateCardApproval(Payment payment) {
-        // 시뮬레이션: 금액에 따라 실패 유형 결정
-        double amount = payment.getTaxedAmount().getAmount();
-
-        if (amount > 50000 && !payment.isVip()) {
-            return FailureType.CARD_LIMIT_EXCEEDED;
-        }
-
-        // 랜덤 네트워크 오류 (10% 확률)
-        if (Math.random() < 0.1) {
-            return FailureType.NETWORK_ERROR;
-        }
-
-        return null; // 성공
+    private Timer timeToApproval(String outcome) {
+        return Timer.builder("payment.approval.time_to_approval")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
     /**
@@ -179,6 +339,7 @@ public class PaymentProcessor {
     private PaymentApprovalResult handleFailure(Payment payment, FailureType failureType, String additionalInfo) {
         // 결제 상태 변경
         payment.fail();
+        store.statusChanged(payment);
 
         // [요구사항 1] 실패 이력 저장
         // [질문] 이 실패 이력은 Payment의 상태인가, 기록용 데이터인가?
@@ -188,8 +349,7 @@ public class PaymentProcessor {
                 payment.getTaxedAmount(),
                 buildPolicyInfo(payment, additionalInfo)
         );
-        record.assignId(failureRecordIdSequence++);
-        failureRecords.add(record);
+        store.saveFailureRecord(record);
 
         // [요구사항 2] 외부 알림 전송
         // [질문] 외부 알림 호출을 여기서 해도 되는가?
@@ -220,45 +380,82 @@ public class PaymentProcessor {
      *
      * [요구사항 2]
      * - 알림 전송 실패가 결제 실패 자체에 영향을 주면 안 됨
-     * - 알림 시스템은 추후 교체 가능함
-     * - 알림 내용 포맷은 정책에 따라 달라질 수 있음
+     * - 알림 시스템은 추후 교체 가능함 (NotificationSink)
+     * - 알림 내용 포맷은 정책에 따라 달라질 수 있음 (FailureNotification.format)
+     *
+     * - 승인 스레드에서는 큐에 넣기만 하고, 포맷과 전송은 알림 스레드에서 모아서 처리합니다
      *
      * [질문] Processor에서 호출하면 괜찮은가?
      */
     private void sendFailureNotification(Payment payment, FailureType failureType) {
-        try {
-            // 알림 내용 포맷 (정책에 따라 달라짐)
-            String message = formatNotificationMessage(payment, failureType);
+        notificationDispatcher.enqueue(FailureNotification.of(payment, failureType));
+    }
+
+    // ==========================================================================
+    // 대량 승인
+    // ==========================================================================
 
-            // 외부 알림 시스템 호출
-            notificationClient.send(message);
+    /**
+     * 대기 중인 모든 결제 승인
+     */
+    public BulkApprovalSummary approvePending() {
+        return approveAll(store.findAll().stream()
+                .filter(payment -> payment.getStatus() == PaymentStatus.PENDING)
+                .map(Payment::getId)
+                .toList());
+    }
 
-        } catch (Exception e) {
-            // [요구사항 2] 알림 전송 실패로 결제 상태가 바뀌면 안 됨
-            System.err.println("[Notification] 알림 전송 실패 (결제에 영향 없음): " + e.getMessage());
-        }
+    public BulkApprovalSummary approveAll(Collection<Long> paymentIds) {
+        return approveAll(paymentIds, bulkApprovalExecutor);
     }
 
     /**
-     * 알림 메시지 포맷
+     * 여러 결제를 executor에서 나눠서 승인하고 결과를 요약
      *
-     * [요구사항 2] 알림 내용 포맷은 정책에 따라 달라질 수 있음
-     *
-     * [질문] 이 포맷 로직은 어디에 있어야 하는가?
+     * - 결제마다 approveAsync()를 호출하므로 국가별 정책, VIP 재시도가 그대로 적용됩니다
+     * - VIP 재시도 대기 중에는 executor 스레드를 붙잡지 않습니다
+     * - 승인할 수 없는 결제(없음, 대기 상태 아님, 이미 승인 중)는 건너뛰고 요약에 남깁니다
+     * - 동시에 진행되는 카드사 호출 수는 CardApprovalGateway의 동시 호출 제한을 따르므로
+     *   executor 병렬도를 그보다 크게 잡으면 GATEWAY_UNAVAILABLE 실패가 늘어납니다
      */
-    private String formatNotificationMessage(Payment payment, FailureType failureType) {
-        // VIP 고객은 다른 포맷
-        if (payment.isVip()) {
-            return String.format("[VIP 고객 결제 실패 알림] " +
-                            "결제 ID: %d, 실패 유형: %s, 금액: %s, 국가: %s",
-                    payment.getId(),
-                    failureType.getDescription(),
-                    payment.getTaxedAmount(),
-                    payment.getCountry());
+    public BulkApprovalSummary approveAll(Collection<Long> paymentIds, Executor executor) {
+        long startedAt = System.nanoTime();
+
+        List<CompletableFuture<PaymentApprovalResult>> approvals = new ArrayList<>(paymentIds.size());
+        for (Long paymentId : paymentIds) {
+            approvals.add(CompletableFuture.supplyAsync(() -> approveAsync(paymentId), executor)
+                    .thenCompose(Function.identity())
+                    .exceptionally(error -> null));
+        }
+        CompletableFuture.allOf(approvals.toArray(CompletableFuture[]::new)).join();
+
+        int succeeded = 0;
+        Map<FailureType, Integer> failuresByType = new EnumMap<>(FailureType.class);
+        List<Long> skipped = new ArrayList<>();
+        List<PaymentApprovalResult> results = new ArrayList<>(paymentIds.size());
+        Iterator<Long> ids = paymentIds.iterator();
+        for (CompletableFuture<PaymentApprovalResult> approval : approvals) {
+            Long paymentId = ids.next();
+            PaymentApprovalResult result = approval.join();
+            if (result == null) {
+                skipped.add(paymentId);
+                continue;
+            }
+            results.add(result);
+            if (result.isSuccess()) {
+                succeeded++;
+            } else {
+                failuresByType.merge(result.getFailureType(), 1, Integer::sum);
+            }
         }
 
-        return String.format("[결제 실패 알림] 결제 ID: %d, 실패: %s",
-                payment.getId(), failureType.getDescription());
+        BulkApprovalSummary summary = new BulkApprovalSummary(paymentIds.size(), succeeded,
+                results.size() - succeeded, failuresByType, skipped, results,
+                Duration.ofNanos(System.nanoTime() - startedAt));
+        System.out.printf("[Bulk] %d건 처리 - 성공 %d, 실패 %d, 건너뜀 %d (%.1f건/초)%n",
+                summary.requested(), summary.succeeded(), summary.failed(),
+                summary.skippedPaymentIds().size(), summary.throughputPerSecond());
+        return summary;
     }
 
     // ==========================================================================
@@ -266,7 +463,7 @@ public class PaymentProcessor {
     // ==========================================================================
 
     public Payment findPaymentById(Long id) {
-        Payment payment = paymentStore.get(id);
+        Payment payment = store.findById(id);
         if (payment == null) {
             throw new IllegalArgumentException("결제를 찾을 수 없습니다: " + id);
         }
@@ -274,34 +471,34 @@ public class PaymentProcessor {
     }
 
     public List<Payment> findAllPayments() {
-        return new ArrayList<>(paymentStore.values());
+        return store.findAll();
     }
 
+    // 실패 이력은 최근 FailureRecordIndex.DEFAULT_CAPACITY건만 보관합니다
+
     public List<PaymentFailureRecord> findFailureRecordsByPaymentId(Long paymentId) {
-        return failureRecords.stream()
-                .filter(r -> r.getPaymentId().equals(paymentId))
-                .toList();
+        return store.failureRecords().findByPaymentId(paymentId);
     }
 
-    public List<PaymentFailureRecord> findAllFailureRecords() {
-        return new ArrayList<>(failureRecords);
+    public List<PaymentFailureRecord> findFailureRecordsByType(FailureType failureType) {
+        return store.failureRecords().findByType(failureType);
     }
 
-    // ==========================================================================
-    // 내부 클래스: 알림 클라이언트 (실습용)
-    // ==========================================================================
+    /**
+     * 최근 window 동안 기록된 특정 유형의 실패 (예: 지난 5분간 네트워크 오류)
+     */
+    public List<PaymentFailureRecord> findRecentFailuresByType(FailureType failureType, Duration window) {
+        return store.failureRecords().findByTypeSince(failureType, LocalDateTime.now().minus(window));
+    }
 
     /**
-     * NotificationClient - 외부 알림 시스템 클라이언트
-     *
-     * [요구사항 2] 알림 시스템은 추후 교체 가능함
-     *
-     * [질문] 이 클래스가 Processor 안에 있는 게 맞는가?
+     * 가장 최근 실패 limit건 (최신순)
      */
-    private static class NotificationClient {
-        public void send(String message) {
-            // 실제로는 외부 API 호출
-            System.out.println("[NOTIFICATION] " + message);
-        }
+    public List<PaymentFailureRecord> findRecentFailureRecords(int limit) {
+        return store.failureRecords().findRecent(limit);
+    }
+
+    public List<PaymentFailureRecord> findAllFailureRecords() {
+        return store.failureRecords().findAll();
     }
 }
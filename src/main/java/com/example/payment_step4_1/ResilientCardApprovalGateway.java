@@ -0,0 +1,163 @@
+package com.example.payment_step4_1;
+
+import com.example.payment_step4_1.domain.model.FailureType;
+import com.example.payment_step4_1.domain.model.Payment;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * ResilientCardApprovalGateway - 카드사 호출 보호 데코레이터
+ *
+ * [왜 필요한가요?]
+ * - 카드사가 느려지면 승인 요청 스레드가 응답을 기다리며 계속 쌓입니다
+ * - 결국 카드사와 상관없는 요청까지 처리할 스레드가 없어집니다
+ *
+ * [보호 장치] (호출 순서대로)
+ * 1. Bulkhead: 동시에 진행 중인 카드사 호출이 maxConcurrentCalls를 넘으면 바로 거절
+ * 2. Circuit Breaker: 최근 실패 비율이 높으면 일정 시간 카드사를 호출하지 않고 바로 거절
+ * 3. Timeout: 호출은 별도 스레드에서 실행하고 timeout까지만 기다림 (넘기면 호출을 취소)
+ *
+ * [결과 해석]
+ * - 바로 거절된 경우: GATEWAY_UNAVAILABLE (카드사를 호출하지 않음)
+ * - 타임아웃/예외: NETWORK_ERROR (VIP는 재시도 정책에 따라 다시 시도)
+ * - 한도 초과 같은 카드사 거절은 카드사가 정상 응답한 것이므로 서킷 실패로 세지 않습니다
+ *
+ * [메트릭]
+ * - payment.card_gateway.calls (tag: outcome): success, declined, error, timeout, rejected_bulkhead, rejected_open
+ * - payment.card_gateway.in_flight: 진행 중인 카드사 호출 수
+ * - payment.card_gateway.circuit_state: 0 = CLOSED, 1 = OPEN, 2 = HALF_OPEN
+ */
+public class ResilientCardApprovalGateway implements CardApprovalGateway {
+
+    private final CardApprovalGateway delegate;
+    private final CardGatewayResiliencePolicy policy;
+    private final ExecutorService callExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore bulkhead;
+    private final CardGatewayCircuitBreaker circuitBreaker;
+
+    public ResilientCardApprovalGateway(CardApprovalGateway delegate,
+                                        CardGatewayResiliencePolicy policy,
+                                        ExecutorService callExecutor,
+                                        MeterRegistry meterRegistry) {
+        this(delegate, policy, callExecutor, meterRegistry, new CardGatewayCircuitBreaker(policy));
+    }
+
+    ResilientCardApprovalGateway(CardApprovalGateway delegate,
+                                 CardGatewayResiliencePolicy policy,
+                                 ExecutorService callExecutor,
+                                 MeterRegistry meterRegistry,
+                                 CardGatewayCircuitBreaker circuitBreaker) {
+        this.delegate = delegate;
+        this.policy = policy;
+        this.callExecutor = callExecutor;
+        this.meterRegistry = meterRegistry;
+        this.bulkhead = new Semaphore(policy.maxConcurrentCalls());
+        this.circuitBreaker = circuitBreaker;
+
+        Gauge.builder("payment.card_gateway.in_flight", bulkhead,
+                        semaphore -> policy.maxConcurrentCalls() - semaphore.availablePermits())
+                .register(meterRegistry);
+        Gauge.builder("payment.card_gateway.circuit_state", circuitBreaker, breaker -> breaker.state().ordinal())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 카드사 호출 전용 스레드 풀 - 동시 호출 수는 bulkhead가 제한하므로 필요한 만큼만 늘어납니다
+     */
+    public static ExecutorService defaultCallExecutor() {
+        return Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "card-gateway");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public FailureType approve(Payment payment) {
+        if (!bulkhead.tryAcquire()) {
+            count("rejected_bulkhead");
+            return FailureType.GATEWAY_UNAVAILABLE;
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            bulkhead.release();
+            count("rejected_open");
+            return FailureType.GATEWAY_UNAVAILABLE;
+        }
+
+        // 호출 슬롯은 카드사 호출이 실제로 끝날 때 반납합니다
+        // - 타임아웃으로 포기해도 카드사 호출이 남아 있는 동안은 슬롯을 차지하므로 스레드가 무한정 쌓이지 않음
+        // - 실행되기 전에 취소되면 호출한 쪽이 반납
+        AtomicBoolean claimed = new AtomicBoolean();
+        Future<FailureType> call;
+        try {
+            call = callExecutor.submit(() -> {
+                if (!claimed.compareAndSet(false, true)) {
+                    return null;
+                }
+                try {
+                    return delegate.approve(payment);
+                } finally {
+                    bulkhead.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            bulkhead.release();
+            circuitBreaker.onFailure();
+            count("error");
+            return FailureType.NETWORK_ERROR;
+        }
+
+        try {
+            FailureType result = call.get(policy.timeout().toNanos(), TimeUnit.NANOSECONDS);
+            if (result == FailureType.NETWORK_ERROR) {
+                circuitBreaker.onFailure();
+                count("error");
+            } else {
+                circuitBreaker.onSuccess();
+                count(result == null ? "success" : "declined");
+            }
+            return result;
+        } catch (TimeoutException e) {
+            cancel(call, claimed);
+            circuitBreaker.onFailure();
+            count("timeout");
+            return FailureType.NETWORK_ERROR;
+        } catch (ExecutionException e) {
+            circuitBreaker.onFailure();
+            count("error");
+            return FailureType.NETWORK_ERROR;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel(call, claimed);
+            circuitBreaker.onFailure();
+            count("error");
+            return FailureType.NETWORK_ERROR;
+        }
+    }
+
+    CardGatewayCircuitBreaker.State circuitState() {
+        return circuitBreaker.state();
+    }
+
+    private void cancel(Future<FailureType> call, AtomicBoolean claimed) {
+        call.cancel(true);
+        if (claimed.compareAndSet(false, true)) {
+            bulkhead.release();
+        }
+    }
+
+    private void count(String outcome) {
+        meterRegistry.counter("payment.card_gateway.calls", "outcome", outcome).increment();
+    }
+}
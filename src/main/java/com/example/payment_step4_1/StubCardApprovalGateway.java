@@ -0,0 +1,78 @@
+package com.example.payment_step4_1;
+
+import com.example.payment_step4_1.domain.model.FailureType;
+import com.example.payment_step4_1.domain.model.Payment;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * StubCardApprovalGateway - 로컬 카드사 스텁 (실습용)
+ *
+ * [기본 동작] 기존 simulateCardApproval()과 같습니다
+ * - 일반 고객의 50,000원 초과 결제는 한도 초과
+ * - 그 외에는 networkErrorRate 확률로 네트워크 오류
+ *
+ * [장애 주입]
+ * - minLatency ~ maxLatency 사이에서 균등하게 지연 (카드사 응답 지연 재현)
+ * - networkErrorRate를 높여 카드사 장애 재현
+ */
+public class StubCardApprovalGateway implements CardApprovalGateway {
+
+    private static final long CARD_LIMIT = 50000;
+
+    private final Duration minLatency;
+    private final Duration maxLatency;
+    private final double networkErrorRate;
+
+    public StubCardApprovalGateway(Duration minLatency, Duration maxLatency, double networkErrorRate) {
+        if (minLatency.isNegative() || maxLatency.compareTo(minLatency) < 0) {
+            throw new IllegalArgumentException("지연 설정이 올바르지 않습니다: " + minLatency + " ~ " + maxLatency);
+        }
+        if (networkErrorRate < 0 || networkErrorRate > 1) {
+            throw new IllegalArgumentException("networkErrorRate는 0 ~ 1 사이여야 합니다: " + networkErrorRate);
+        }
+        this.minLatency = minLatency;
+        this.maxLatency = maxLatency;
+        this.networkErrorRate = networkErrorRate;
+    }
+
+    /**
+     * 기본 스텁 - 지연 없음, 네트워크 오류 10%
+     */
+    public static StubCardApprovalGateway defaults() {
+        return new StubCardApprovalGateway(Duration.ZERO, Duration.ZERO, 0.1);
+    }
+
+    @Override
+    public FailureType approve(Payment payment) {
+        sleepLatency();
+
+        // 시뮬레이션: 금액에 따라 실패 유형 결정
+        if (payment.getTaxedAmount().getAmount() > CARD_LIMIT && !payment.isVip()) {
+            return FailureType.CARD_LIMIT_EXCEEDED;
+        }
+
+        // 랜덤 네트워크 오류
+        if (ThreadLocalRandom.current().nextDouble() < networkErrorRate) {
+            return FailureType.NETWORK_ERROR;
+        }
+
+        return null; // 성공
+    }
+
+    private void sleepLatency() {
+        long min = minLatency.toMillis();
+        long max = maxLatency.toMillis();
+        long latency = min == max ? min : ThreadLocalRandom.current().nextLong(min, max + 1);
+        if (latency == 0) {
+            return;
+        }
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            // 타임아웃으로 취소된 호출 - 인터럽트 상태만 복구하고 끝냄
+            Thread.currentThread().interrupt();
+        }
+    }
+}
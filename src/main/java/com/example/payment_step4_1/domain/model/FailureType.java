@@ -5,11 +5,15 @@ package com.example.payment_step4_1.domain.model;
  *
  * [요구사항 1]
  * 실패 사유는 문자열이 아닌 구분된 유형으로 관리
+ *
+ * - GATEWAY_UNAVAILABLE: 카드사 장애로 서킷이 열렸거나 동시 호출 한도를 넘어
+ *   카드사를 호출하지 않고 바로 실패시킨 경우
  */
 public enum FailureType {
     CARD_LIMIT_EXCEEDED("카드 한도 초과"),
     NETWORK_ERROR("네트워크 오류"),
-    POLICY_REJECTED("정책상 거절");
+    POLICY_REJECTED("정책상 거절"),
+    GATEWAY_UNAVAILABLE("카드사 연동 차단");
 
     private final String description;
 
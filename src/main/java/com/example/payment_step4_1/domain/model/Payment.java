@@ -17,9 +17,10 @@ public class Payment {
     private final Money taxedAmount;
     private final Country country;
     private final boolean vip;
-    private PaymentStatus status;
+    // 승인 스레드가 바꾼 상태를 조회 스레드가 바로 볼 수 있도록 volatile
+    private volatile PaymentStatus status;
     private final LocalDateTime createdAt;
-    private LocalDateTime updatedAt;
+    private volatile LocalDateTime updatedAt;
 
     private Payment(Long id, Money originalPrice, Money discountedAmount, Money taxedAmount,
                     Country country, boolean vip, PaymentStatus status,
@@ -29,11 +29,26 @@ public class PaymentFailureRecord {
 
     public PaymentFailureRecord(Long paymentId, FailureType failureType,
                                  Money amountAtFailure, String policyInfo) {
+        this(null, paymentId, failureType, amountAtFailure, policyInfo, LocalDateTime.now());
+    }
+
+    private PaymentFailureRecord(Long id, Long paymentId, FailureType failureType,
+                                 Money amountAtFailure, String policyInfo, LocalDateTime failedAt) {
+        this.id = id;
         this.paymentId = paymentId;
         this.failureType = failureType;
         this.amountAtFailure = amountAtFailure;
         this.policyInfo = policyInfo;
-        this.failedAt = LocalDateTime.now();
+        this.failedAt = failedAt;
+    }
+
+    /**
+     * 저장된 이력 복원 (저널 재생 등)
+     */
+    public static PaymentFailureRecord reconstitute(Long id, Long paymentId, FailureType failureType,
+                                                    Money amountAtFailure, String policyInfo,
+                                                    LocalDateTime failedAt) {
+        return new PaymentFailureRecord(id, paymentId, failureType, amountAtFailure, policyInfo, failedAt);
     }
 
     // Getters
@@ -1,16 +1,26 @@
 package com.example.payment_ul.controller;
 
+import com.example.payment_ul.dto.PaymentExportFormat;
 import com.example.payment_ul.dto.PaymentRequest;
 import com.example.payment_ul.dto.PaymentResponse;
 import com.example.payment_ul.dto.PaymentResult;
 import com.example.payment_ul.entity.Payment;
 import com.example.payment_ul.entity.PaymentStatus;
+import com.example.payment_ul.service.PaymentExportService;
 import com.example.payment_ul.service.PaymentService;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * ====================================================================
@@ -27,15 +37,19 @@ import java.util.List;
  * - GET    /api/payments          전체 조회
  * - GET    /api/payments/status   상태별 조회
  * - PATCH  /api/payments/{id}/refund  환불
+ * - GET    /api/payments/export   결제 내역 내보내기 (gzip 압축 CSV / NDJSON)
  */
 @RestController
 @RequestMapping("/api/payments")
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final PaymentExportService paymentExportService;
 
-    public PaymentController(PaymentService paymentService) {
+    public PaymentController(PaymentService paymentService,
+                             PaymentExportService paymentExportService) {
         this.paymentService = paymentService;
+        this.paymentExportService = paymentExportService;
     }
 
     @PostMapping
@@ -52,20 +66,12 @@ public class PaymentController {
 
     @GetMapping
     public ResponseEntity<List<PaymentResponse>> getAllPayments() {
-        List<Payment> payments = paymentService.getAllPayments();
-        List<PaymentResponse> responses = payments.stream()
-                .map(PaymentResponse::from)
-                .toList();
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok(paymentService.getAllPaymentResponses());
     }
 
     @GetMapping("/status")
     public ResponseEntity<List<PaymentResponse>> getPaymentsByStatus(@RequestParam PaymentStatus status) {
-        List<Payment> payments = paymentService.getPaymentsByStatus(status);
-        List<PaymentResponse> responses = payments.stream()
-                .map(PaymentResponse::from)
-                .toList();
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok(paymentService.getPaymentResponsesByStatus(status));
     }
 
     @PatchMapping("/{id}/refund")
@@ -77,15 +83,51 @@ public class PaymentController {
     @GetMapping("/recent")
     public ResponseEntity<List<PaymentResponse>> getRecentPayments(
             @RequestParam(defaultValue = "10") int limit) {
-        List<Payment> payments = paymentService.getRecentPayments(limit);
-        List<PaymentResponse> responses = payments.stream()
-                .map(PaymentResponse::from)
-                .toList();
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok(paymentService.getRecentPaymentResponses(limit));
+    }
+
+    /**
+     * 결제 내역 내보내기
+     * 예: GET /api/payments/export?format=NDJSON&from=2024-01-01T00:00:00&to=2024-02-01T00:00:00&status=COMPLETED
+     *
+     * [StreamingResponseBody]
+     * - 컨트롤러는 바로 반환하고, 본문은 비동기 스레드에서 읽는 대로 클라이언트에 씁니다
+     * - 응답 전체를 메모리에 만들지 않으므로 건수가 많아도 메모리 사용량이 일정합니다
+     * - 본문을 쓰기 시작한 뒤에는 상태 코드를 바꿀 수 없으므로 파라미터 검증은 여기서 먼저 합니다
+     * - 실행 시간 제한은 spring.mvc.async.request-timeout (application.yml)
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportPayments(
+            @RequestParam(defaultValue = "CSV") PaymentExportFormat format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) PaymentStatus status) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("조회 시작 일시는 종료 일시보다 앞서야 합니다");
+        }
+
+        StreamingResponseBody body = out -> {
+            GZIPOutputStream gzip = new GZIPOutputStream(out, 8192);
+            paymentExportService.export(format, from, to, status, gzip);
+            gzip.finish();
+        };
+
+        ContentDisposition attachment = ContentDisposition.attachment()
+                .filename("payments." + format.extension() + ".gz")
+                .build();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, attachment.toString())
+                .contentType(MediaType.parseMediaType("application/gzip"))
+                .body(body);
     }
 
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<String> handleError(IllegalArgumentException e) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
     }
+
+    @ExceptionHandler({IllegalStateException.class, OptimisticLockingFailureException.class})
+    public ResponseEntity<String> handleConflict(RuntimeException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+    }
 }
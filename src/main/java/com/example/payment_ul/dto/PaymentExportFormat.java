@@ -0,0 +1,24 @@
+package com.example.payment_ul.dto;
+
+/**
+ * PaymentExportFormat - 결제 내역 내보내기 형식
+ *
+ * - CSV: 첫 줄이 헤더인 쉼표 구분 파일 (엑셀/스프레드시트용)
+ * - NDJSON: 한 줄에 PaymentResponse JSON 하나 (줄 단위로 바로 파싱 가능)
+ *
+ * 두 형식 모두 gzip으로 압축해 "payments.{extension}.gz" 파일로 내려줍니다.
+ */
+public enum PaymentExportFormat {
+    CSV("csv"),
+    NDJSON("ndjson");
+
+    private final String extension;
+
+    PaymentExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String extension() {
+        return extension;
+    }
+}
@@ -1,6 +1,12 @@
 package com.example.payment_ul.entity;
 
+import com.example.persistence.PooledSequenceGenerator;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 import java.time.LocalDateTime;
 
 /**
@@ -19,13 +25,20 @@ import java.time.LocalDateTime;
  * | stat    | status            | 결제 상태               |
  * | cdt     | createdAt         | 생성 일시               |
  * | udt     | updatedAt         | 수정 일시               |
+ *
+ * 조회 결과는 "payments_ul" 2차 캐시 리전에 보관되고, 상태 변경 커밋 시 함께 갱신됩니다.
+ * version(@Version)은 동시에 같은 결제를 수정하면 나중 커밋을 실패시킵니다 (낙관적 락).
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "payments_ul")
 @Table(name = "payments_ul")
 public class Payment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "payments_ul_id_gen")
+    @GenericGenerator(name = "payments_ul_id_gen", type = PooledSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "payments_ul_seq"))
     private Long id;
 
     @Column(nullable = false)
@@ -53,6 +66,10 @@ public class Payment {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     protected Payment() {
     }
 
@@ -83,6 +100,7 @@ public class Payment {
     public PaymentStatus getStatus() { return status; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public Long getVersion() { return version; }
 
     // Setters
     public void setStatus(PaymentStatus status) { this.status = status; }
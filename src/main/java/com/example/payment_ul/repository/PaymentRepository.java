@@ -1,13 +1,19 @@
 package com.example.payment_ul.repository;
 
+import com.example.payment_ul.dto.PaymentResponse;
 import com.example.payment_ul.entity.Payment;
 import com.example.payment_ul.entity.PaymentStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * ====================================================================
@@ -24,13 +30,22 @@ import java.util.List;
  * | findByStat()               | findByStatus()               |
  * | findByCd()                 | findByCountry()              |
  * | sumAmt3ByStat()            | sumTaxedAmountByStatus()     |
+ *
+ * [쿼리 캐시] 상태 조건 조회는 결과를 쿼리 캐시에 보관합니다 (변경 커밋 시 무효화)
+ *
+ * [응답 프로젝션] find...Responses는 엔티티 대신 PaymentResponse를 바로 만듭니다 (SELECT new ...)
+ * - 영속성 컨텍스트와 2차 캐시를 거치지 않으므로 목록 조회 API에서 사용합니다
+ *
+ * [내보내기] streamForExport는 결과를 List로 모으지 않고 JDBC 커서로 한 행씩 읽습니다
  */
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Payment> findByStatus(PaymentStatus status);
 
     List<Payment> findByCountry(String country);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Payment> findByStatusAndCountry(PaymentStatus status, String country);
 
     List<Payment> findByTaxedAmountGreaterThan(Double amount);
@@ -48,4 +63,52 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
     @Query(value = "SELECT * FROM payments_ul ORDER BY created_at DESC LIMIT :limit",
            nativeQuery = true)
     List<Payment> findRecentPayments(@Param("limit") int limit);
+
+    String RESPONSE_SELECT = "SELECT new com.example.payment_ul.dto.PaymentResponse("
+            + "p.id, p.originalPrice, p.discountedAmount, p.taxedAmount, p.country, p.isVip, "
+            + "p.status, p.createdAt, p.updatedAt) FROM Payment p";
+
+    @Query(RESPONSE_SELECT)
+    List<PaymentResponse> findAllResponses();
+
+    @Query(RESPONSE_SELECT + " WHERE p.status = :status")
+    List<PaymentResponse> findResponsesByStatus(@Param("status") PaymentStatus status);
+
+    @Query(RESPONSE_SELECT + " ORDER BY p.createdAt DESC LIMIT :limit")
+    List<PaymentResponse> findRecentResponses(@Param("limit") int limit);
+
+    /** 내보내기 커서가 DB에서 한 번에 가져오는 행 수 */
+    String EXPORT_FETCH_SIZE = "500";
+
+    /**
+     * 결제 내역 내보내기용 커서 조회 (PaymentExportService)
+     * - 기간(from 이상, to 미만)과 상태 조건은 null이면 적용하지 않습니다
+     * - 읽기 전용 + 2차 캐시 미사용: 스냅샷을 만들지 않고 캐시 리전을 밀어내지 않습니다
+     * - 반환된 Stream은 트랜잭션 안에서 소비하고 반드시 닫아야 합니다 (try-with-resources)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT p FROM Payment p "
+            + "WHERE (:from IS NULL OR p.createdAt >= :from) "
+            + "AND (:to IS NULL OR p.createdAt < :to) "
+            + "AND (:status IS NULL OR p.status = :status) "
+            + "ORDER BY p.id")
+    Stream<Payment> streamForExport(@Param("from") LocalDateTime from,
+                                    @Param("to") LocalDateTime to,
+                                    @Param("status") PaymentStatus status);
+
+    /**
+     * 현재 상태가 expected일 때만 상태를 바꿉니다 (UPDATE ... WHERE id = ? AND status = ?)
+     * 0을 반환하면 결제가 없거나 다른 요청이 먼저 상태를 바꾼 것입니다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Payment p SET p.status = :to, p.updatedAt = :updatedAt, p.version = p.version + 1 "
+            + "WHERE p.id = :id AND p.status = :expected")
+    int updateStatusIfCurrent(@Param("id") Long id,
+                              @Param("expected") PaymentStatus expected,
+                              @Param("to") PaymentStatus to,
+                              @Param("updatedAt") LocalDateTime updatedAt);
 }
@@ -0,0 +1,126 @@
+package com.example.payment_ul.service;
+
+import com.example.payment_ul.dto.PaymentExportFormat;
+import com.example.payment_ul.dto.PaymentResponse;
+import com.example.payment_ul.entity.Payment;
+import com.example.payment_ul.entity.PaymentStatus;
+import com.example.payment_ul.repository.PaymentRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * ====================================================================
+ * PaymentExportService - 결제 내역 내보내기 (CSV / NDJSON)
+ * ====================================================================
+ *
+ * [왜 따로 만드나요?]
+ * - GET /api/payments는 전체 결제를 List로 모은 뒤 JSON 배열 하나로 응답합니다
+ *   → 건수에 비례해 메모리를 쓰고, 마지막 행을 읽을 때까지 첫 바이트도 보내지 못합니다
+ * - 내보내기는 커서로 한 행씩 읽어 바로 OutputStream에 쓰므로 메모리 사용량이 건수와 무관합니다
+ *
+ * [메모리를 일정하게 유지하는 방법]
+ * 1. PaymentRepository.streamForExport: fetch size만큼만 DB에서 가져오는 전진 전용 커서
+ * 2. 쓴 엔티티는 바로 detach → 영속성 컨텍스트에 10만 건이 쌓이지 않음
+ * 3. 읽기 전용 쿼리 + 2차 캐시 미사용 → 스냅샷/캐시 항목을 만들지 않음
+ *
+ * [주의]
+ * - 커서는 트랜잭션(= DB 커넥션)이 살아 있는 동안만 읽을 수 있으므로
+ *   export()가 끝날 때까지 커넥션 하나를 점유합니다
+ * - 압축(gzip)과 HTTP 응답은 PaymentController가 담당합니다
+ */
+@Service
+public class PaymentExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentExportService.class);
+
+    static final String CSV_HEADER =
+            "id,originalPrice,discountedAmount,taxedAmount,country,isVip,status,createdAt,updatedAt";
+
+    private final PaymentRepository paymentRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public PaymentExportService(PaymentRepository paymentRepository,
+                                EntityManager entityManager,
+                                ObjectMapper objectMapper) {
+        this.paymentRepository = paymentRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 조건에 맞는 결제를 id 순서로 out에 씁니다 (out은 닫지 않음)
+     *
+     * @param from   생성 일시 시작 (포함, null이면 처음부터)
+     * @param to     생성 일시 끝 (미포함, null이면 끝까지)
+     * @param status 결제 상태 (null이면 전체)
+     * @return 내보낸 결제 건수
+     */
+    @Transactional(readOnly = true)
+    public long export(PaymentExportFormat format, LocalDateTime from, LocalDateTime to,
+                       PaymentStatus status, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == PaymentExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long count = 0;
+        try (Stream<Payment> payments = paymentRepository.streamForExport(from, to, status)) {
+            Iterator<Payment> iterator = payments.iterator();
+            while (iterator.hasNext()) {
+                Payment payment = iterator.next();
+                writer.write(format == PaymentExportFormat.CSV ? toCsvLine(payment) : toJsonLine(payment));
+                writer.write('\n');
+                entityManager.detach(payment);
+                count++;
+            }
+        }
+        writer.flush();
+
+        log.info("결제 내역 내보내기 완료: format={}, from={}, to={}, status={}, count={}",
+                format, from, to, status, count);
+        return count;
+    }
+
+    private String toJsonLine(Payment payment) throws IOException {
+        return objectMapper.writeValueAsString(PaymentResponse.from(payment));
+    }
+
+    private static String toCsvLine(Payment payment) {
+        return payment.getId() + ","
+                + payment.getOriginalPrice() + ","
+                + payment.getDiscountedAmount() + ","
+                + payment.getTaxedAmount() + ","
+                + csvField(payment.getCountry()) + ","
+                + payment.getIsVip() + ","
+                + payment.getStatus() + ","
+                + payment.getCreatedAt() + ","
+                + payment.getUpdatedAt();
+    }
+
+    /**
+     * 쉼표, 따옴표, 줄바꿈이 들어간 값은 따옴표로 감쌉니다 (RFC 4180)
+     */
+    private static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
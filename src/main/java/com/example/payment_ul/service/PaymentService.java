@@ -1,6 +1,7 @@
 package com.example.payment_ul.service;
 
 import com.example.payment_ul.dto.PaymentRequest;
+import com.example.payment_ul.dto.PaymentResponse;
 import com.example.payment_ul.dto.PaymentResult;
 import com.example.payment_ul.entity.Payment;
 import com.example.payment_ul.entity.PaymentStatus;
@@ -111,17 +112,37 @@ public class PaymentService {
         return paymentRepository.findByStatus(status);
     }
 
+    // 조회 API용 - 엔티티 대신 응답 DTO를 바로 조회 (영속성 컨텍스트를 거치지 않음)
+
+    @Transactional(readOnly = true)
+    public List<PaymentResponse> getAllPaymentResponses() {
+        return paymentRepository.findAllResponses();
+    }
+
+    @Transactional(readOnly = true)
+    public List<PaymentResponse> getPaymentResponsesByStatus(PaymentStatus status) {
+        return paymentRepository.findResponsesByStatus(status);
+    }
+
+    @Transactional(readOnly = true)
+    public List<PaymentResponse> getRecentPaymentResponses(int limit) {
+        return paymentRepository.findRecentResponses(limit);
+    }
+
+    /**
+     * 완료(COMPLETED)된 결제만 환불합니다.
+     * 상태 확인과 변경을 조건부 UPDATE 한 문장으로 처리하므로 동시에 환불해도 한 건만 성공합니다.
+     */
     @Transactional
     public Payment refundPayment(Long id) {
+        int updated = paymentRepository.updateStatusIfCurrent(
+                id, PaymentStatus.COMPLETED, PaymentStatus.REFUNDED, LocalDateTime.now());
         Payment payment = getPayment(id);
 
-        if (payment.getStatus() != PaymentStatus.COMPLETED) {
+        if (updated == 0) {
             throw new IllegalStateException("완료된 결제만 환불할 수 있습니다");
         }
 
-        payment.setStatus(PaymentStatus.REFUNDED);
-        payment.setUpdatedAt(LocalDateTime.now());
-
         log.info("결제 환불 완료: id={}", id);
         return payment;
     }
@@ -0,0 +1,59 @@
+package com.example.persistence;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+/**
+ * ====================================================================
+ * PooledSequenceGenerator - 블록 크기를 설정에서 읽는 시퀀스 ID 생성기
+ * ====================================================================
+ *
+ * [왜 필요한가요?]
+ * - @SequenceGenerator(allocationSize = 50)는 엔티티마다 숫자를 직접 적어야 해서
+ *   블록 크기를 바꾸려면 모든 결제 엔티티를 고쳐야 합니다
+ * - 이 생성기는 Hibernate 설정 payment.id.increment_size 한 곳에서 블록 크기를 읽습니다
+ *   (application.yml의 spring.jpa.properties.payment.id.increment_size)
+ *
+ * [사용법]
+ * <pre>
+ * &#64;Id
+ * &#64;GeneratedValue(generator = "payments_id_gen")
+ * &#64;GenericGenerator(name = "payments_id_gen", type = PooledSequenceGenerator.class,
+ *         parameters = &#64;Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "payments_seq"))
+ * private Long id;
+ * </pre>
+ *
+ * [주의]
+ * - 블록 크기는 DB 시퀀스의 INCREMENT BY와 반드시 같아야 합니다
+ *   (다르면 pooled-lo가 나눠 준 ID 블록이 다른 인스턴스의 블록과 겹칩니다)
+ * - 운영 DB의 시퀀스는 resources/db/migration/V5__create_payment_id_sequences.sql로 만듭니다
+ * - 엔티티에 increment_size 파라미터를 직접 주면 그 값이 우선합니다
+ */
+public class PooledSequenceGenerator extends SequenceStyleGenerator {
+
+    /** 블록 크기 설정 키 (Hibernate 설정) */
+    public static final String INCREMENT_SIZE_SETTING = "payment.id.increment_size";
+
+    /** 설정이 없을 때의 블록 크기 (hibernate.jdbc.batch_size와 같은 값) */
+    public static final int DEFAULT_INCREMENT_SIZE = 50;
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) {
+        if (!parameters.containsKey(INCREMENT_PARAM)) {
+            int incrementSize = ConfigurationHelper.getInt(
+                    INCREMENT_SIZE_SETTING,
+                    serviceRegistry.getService(ConfigurationService.class).getSettings(),
+                    DEFAULT_INCREMENT_SIZE);
+            if (incrementSize < 1) {
+                throw new IllegalArgumentException(INCREMENT_SIZE_SETTING + "는 1 이상이어야 합니다: " + incrementSize);
+            }
+            parameters.put(INCREMENT_PARAM, String.valueOf(incrementSize));
+        }
+        super.configure(type, parameters, serviceRegistry);
+    }
+}
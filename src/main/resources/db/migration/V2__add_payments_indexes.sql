@@ -0,0 +1,21 @@
+-- =============================================================================
+-- payments 테이블 조회 인덱스 추가
+-- =============================================================================
+-- [적용 대상]
+-- - ddl-auto(create-drop)로 스키마를 만드는 개발/테스트 환경은 엔티티의
+--   @Table(indexes = ...)로 자동 생성되므로 이 스크립트가 필요 없습니다
+-- - 이미 운영 중인 DB(ddl-auto: validate/none)에 수동 또는 마이그레이션 도구로 적용합니다
+--
+-- [인덱스 이름/컬럼은 com.example.payment.entity.Payment와 반드시 같아야 합니다]
+
+-- findByStat, findByStatAndCd, 상태별 커서 페이지
+CREATE INDEX IF NOT EXISTS idx_payments_stat_cd ON payments (stat, cd);
+
+-- findByCd
+CREATE INDEX IF NOT EXISTS idx_payments_cd ON payments (cd);
+
+-- findByFlagAndStatOrderByCdtDesc (조건 + 정렬)
+CREATE INDEX IF NOT EXISTS idx_payments_flag_stat_cdt ON payments (flag, stat, cdt DESC);
+
+-- findByCdtBetween, findRecent (ORDER BY cdt DESC LIMIT), 최근 결제 커서 페이지 (findRecentAfter)
+CREATE INDEX IF NOT EXISTS idx_payments_cdt ON payments (cdt DESC);
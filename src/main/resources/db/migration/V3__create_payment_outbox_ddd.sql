@@ -0,0 +1,25 @@
+-- =============================================================================
+-- payment_outbox_ddd 테이블 생성 (com.example.payment_ddd 도메인 이벤트 아웃박스)
+-- =============================================================================
+-- [적용 대상]
+-- - ddl-auto(create-drop) 환경은 OutboxEventJpaEntity로 자동 생성되므로 필요 없습니다
+-- - 이미 운영 중인 DB(ddl-auto: validate/none)에 수동 또는 마이그레이션 도구로 적용합니다
+--
+-- [컬럼/인덱스는 com.example.payment_ddd.infrastructure.outbox.OutboxEventJpaEntity와 반드시 같아야 합니다]
+
+CREATE SEQUENCE IF NOT EXISTS payment_outbox_ddd_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS payment_outbox_ddd (
+    id           BIGINT       NOT NULL PRIMARY KEY,
+    event_type   VARCHAR(100) NOT NULL,
+    aggregate_id BIGINT       NOT NULL,
+    amount       BIGINT       NOT NULL,
+    occurred_at  TIMESTAMP    NOT NULL,
+    created_at   TIMESTAMP    NOT NULL,
+    published_at TIMESTAMP,
+    attempts     INTEGER      NOT NULL,
+    last_error   VARCHAR(500)
+);
+
+-- 릴레이: WHERE published_at IS NULL ORDER BY id
+CREATE INDEX IF NOT EXISTS idx_payment_outbox_ddd_pending ON payment_outbox_ddd (published_at, id);
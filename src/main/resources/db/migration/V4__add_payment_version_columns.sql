@@ -0,0 +1,21 @@
+-- =============================================================================
+-- 결제 테이블 낙관적 락(@Version) 컬럼 추가
+-- =============================================================================
+-- [적용 대상]
+-- - ddl-auto(create-drop) 환경은 엔티티의 @Version 필드로 자동 생성되므로 필요 없습니다
+-- - 이미 운영 중인 DB(ddl-auto: validate/none)에 수동 또는 마이그레이션 도구로 적용합니다
+-- - 기존 행은 0부터 시작합니다 (Hibernate가 새 엔티티에 부여하는 초기값과 같음)
+--
+-- [컬럼 이름은 각 엔티티와 반드시 같아야 합니다]
+-- - payments       : com.example.payment.entity.Payment#ver
+-- - payments_ul    : com.example.payment_ul.entity.Payment#version
+-- - payments_step1 : com.example.payment_step2.entity.Payment#version
+-- - payments_ddd   : com.example.payment_ddd.infrastructure.persistence.PaymentJpaEntity#version
+
+ALTER TABLE payments ADD COLUMN IF NOT EXISTS ver BIGINT DEFAULT 0 NOT NULL;
+
+ALTER TABLE payments_ul ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+
+ALTER TABLE payments_step1 ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+
+ALTER TABLE payments_ddd ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,49 @@
+-- =============================================================================
+-- 결제 테이블 ID 시퀀스 생성 (IDENTITY → SEQUENCE + pooled-lo)
+-- =============================================================================
+-- [적용 대상]
+-- - ddl-auto(create-drop) 환경은 엔티티의 PooledSequenceGenerator로 자동 생성되므로 필요 없습니다
+-- - 이미 운영 중인 DB(ddl-auto: validate/none)에 수동 또는 마이그레이션 도구로 적용합니다
+-- - 이 스크립트 없이 배포하면 첫 INSERT에서 시퀀스를 찾지 못해 실패합니다
+--
+-- [INCREMENT BY 50]
+-- - 설정 spring.jpa.properties.payment.id.increment_size(application.yml)와 반드시 같아야 합니다
+-- - 블록 크기를 바꾸면 아래 시퀀스도 ALTER SEQUENCE ... INCREMENT BY로 함께 바꿉니다
+--
+-- [시작 값]
+-- - 기존 IDENTITY로 쌓인 행과 겹치지 않도록 각 테이블의 max(id) + 1부터 시작합니다
+-- - pooled-lo는 시퀀스 값을 블록의 첫 ID로 쓰므로 max(id) + 1이면 충분합니다
+-- - 아래 RESTART WITH (서브쿼리)는 H2 문법입니다
+--   PostgreSQL은 식을 받지 않으므로 대신 다음을 실행합니다:
+--   SELECT setval('payments_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM payments), false);
+--
+-- [시퀀스 이름은 각 엔티티의 @GenericGenerator(sequence_name)와 반드시 같아야 합니다]
+-- - payments_seq           : com.example.payment.entity.Payment
+-- - payments_ul_seq        : com.example.payment_ul.entity.Payment
+-- - payments_step1_seq     : com.example.payment_step2.entity.Payment
+-- - payments_step2_2_seq   : com.example.payment_step2_2.entity.Payment
+-- - payments_ddd_seq       : com.example.payment_ddd.infrastructure.persistence.PaymentJpaEntity
+-- - payments_ddd_v1_seq    : com.example.payment_ddd_v1.domain.model.Payment
+-- - payments_ddd_v1_1_seq  : com.example.payment_ddd_v1_1.infrastructure.persistence.PaymentJpaEntity
+-- - payment_outbox_ddd_seq는 V3에서 테이블과 함께 만듭니다
+
+CREATE SEQUENCE IF NOT EXISTS payments_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE payments_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM payments);
+
+CREATE SEQUENCE IF NOT EXISTS payments_ul_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE payments_ul_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM payments_ul);
+
+CREATE SEQUENCE IF NOT EXISTS payments_step1_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE payments_step1_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM payments_step1);
+
+CREATE SEQUENCE IF NOT EXISTS payments_step2_2_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE payments_step2_2_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM payments_step2_2);
+
+CREATE SEQUENCE IF NOT EXISTS payments_ddd_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE payments_ddd_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM payments_ddd);
+
+CREATE SEQUENCE IF NOT EXISTS payments_ddd_v1_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE payments_ddd_v1_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM payments_ddd_v1);
+
+CREATE SEQUENCE IF NOT EXISTS payments_ddd_v1_1_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE payments_ddd_v1_1_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM payments_ddd_v1_1);
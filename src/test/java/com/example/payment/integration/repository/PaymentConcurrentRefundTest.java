@@ -0,0 +1,134 @@
+package com.example.payment.integration.repository;
+
+import com.example.payment.entity.Payment;
+import com.example.payment.entity.PaymentStatus;
+import com.example.payment.repository.PaymentRepository;
+import com.example.payment.service.PaymentService;
+import com.example.payment.stats.RevenueAggregateStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ============================================================================
+ * PaymentConcurrentRefundTest - 동시 환불 테스트
+ * ============================================================================
+ *
+ * [무엇을 검증하나요?]
+ * - 여러 스레드가 같은 결제를 동시에 환불(PaymentService.updateStatus)해도 한 건만 성공하는지
+ *   (조건부 UPDATE가 늦은 요청에는 0건을 돌려주므로 IllegalStateException 한 가지로 실패)
+ * - 변경 감지로 저장할 때 @Version이 늦은 쪽의 덮어쓰기를 막는지
+ *
+ * [왜 트랜잭션을 끄나요?]
+ * - 스레드마다 자기 트랜잭션을 커밋해야 실제 동시 갱신이 일어납니다
+ *   (PaymentSecondLevelCacheTest와 같은 방식)
+ * - @DataJpaTest는 서비스 빈을 만들지 않으므로 실제 리포지토리로 PaymentService를 직접 생성하고
+ *   TransactionTemplate 안에서 호출합니다 (환불에 쓰지 않는 의존성은 null)
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("동시 환불 테스트")
+class PaymentConcurrentRefundTest {
+
+    private static final int THREAD_COUNT = 16;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private PaymentService paymentService;
+    private Long paymentId;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        paymentService = new PaymentService(paymentRepository, null, null, null, new RevenueAggregateStore());
+        paymentId = transaction.execute(status -> {
+            Payment payment = Payment.create(10000.0, 9000.0, 9900.0, "KR", false);
+            payment.setStat(PaymentStatus.C);
+            return paymentRepository.save(payment).getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transaction.executeWithoutResult(status -> paymentRepository.deleteAll());
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 환불해도 정확히 한 건만 성공한다")
+    void onlyOneConcurrentRefundWins() throws Exception {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> futures = new ArrayList<>();
+
+        try {
+            // when - 모든 스레드가 같은 순간에 출발
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        transaction.executeWithoutResult(status -> paymentService.updateStatus(paymentId));
+                        return true;
+                    } catch (IllegalStateException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+
+            int succeeded = 0;
+            for (Future<Boolean> future : futures) {
+                if (future.get(30, TimeUnit.SECONDS)) {
+                    succeeded++;
+                }
+            }
+
+            // then
+            assertThat(succeeded).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Payment refunded = paymentRepository.findById(paymentId).orElseThrow();
+        assertThat(refunded.getStat()).isEqualTo(PaymentStatus.R);
+        assertThat(refunded.getVer()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("먼저 읽은 결제를 늦게 저장하면 낙관적 락 예외가 발생한다")
+    void staleWriteIsRejectedByVersion() {
+        // given - 같은 결제를 읽어 둔 상태에서 다른 트랜잭션이 먼저 환불
+        Payment stale = transaction.execute(status -> paymentRepository.findById(paymentId).orElseThrow());
+        transaction.executeWithoutResult(status -> paymentService.updateStatus(paymentId));
+
+        // when & then - 이전 버전으로 상태를 되돌리려 하면 실패
+        stale.setStat(PaymentStatus.F);
+        assertThatThrownBy(() -> transaction.executeWithoutResult(status -> paymentRepository.save(stale)))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(paymentRepository.findById(paymentId).orElseThrow().getStat()).isEqualTo(PaymentStatus.R);
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.payment.integration.repository;
+
+import com.example.payment.entity.Payment;
+import com.example.payment.entity.PaymentStatus;
+import com.example.payment.repository.PaymentRepository;
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ============================================================================
+ * PaymentQueryPlanTest - 조회 쿼리 실행 계획 회귀 테스트
+ * ============================================================================
+ *
+ * [무엇을 검증하나요?]
+ * - PaymentRepository 조회 메서드가 실제로 만드는 SQL을 가로채서
+ * - H2의 EXPLAIN으로 실행 계획을 확인하고
+ * - 테이블 전체 스캔(tableScan)이 나오면 실패합니다
+ *
+ * [언제 실패하나요?]
+ * - Payment의 @Table(indexes = ...)에서 인덱스를 지우거나 컬럼 순서를 바꿨을 때
+ * - 쿼리 메서드의 조건이 인덱스를 탈 수 없는 형태로 바뀌었을 때
+ *
+ * [StatementInspector]
+ * - Hibernate가 JDBC로 보내기 직전의 SQL을 받아볼 수 있는 확장 지점입니다
+ * - 여기서는 SQL을 기록만 하고 그대로 돌려줍니다
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.example.payment.integration.repository.PaymentQueryPlanTest$SqlCapture")
+@DisplayName("PaymentRepository 실행 계획 테스트")
+class PaymentQueryPlanTest {
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 20; i++) {
+            Payment payment = Payment.create(10000.0 + i, 9000.0, 9900.0, i % 2 == 0 ? "KR" : "US", i % 3 == 0);
+            payment.setStat(i % 4 == 0 ? PaymentStatus.R : PaymentStatus.C);
+            entityManager.persist(payment);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("findByStat은 (stat, cd) 인덱스를 사용한다")
+    void findByStatUsesIndex() {
+        String sql = captureSql(() -> paymentRepository.findByStat(PaymentStatus.C));
+        assertNoTableScan(sql, "C");
+    }
+
+    @Test
+    @DisplayName("findByCd는 cd 인덱스를 사용한다")
+    void findByCdUsesIndex() {
+        String sql = captureSql(() -> paymentRepository.findByCd("KR"));
+        assertNoTableScan(sql, "KR");
+    }
+
+    @Test
+    @DisplayName("findByStatAndCd는 (stat, cd) 인덱스를 사용한다")
+    void findByStatAndCdUsesIndex() {
+        String sql = captureSql(() -> paymentRepository.findByStatAndCd(PaymentStatus.C, "KR"));
+        assertNoTableScan(sql, "C", "KR");
+    }
+
+    @Test
+    @DisplayName("findByCdtBetween은 cdt 인덱스를 사용한다")
+    void findByCdtBetweenUsesIndex() {
+        LocalDateTime start = LocalDateTime.now().minusDays(1);
+        LocalDateTime end = LocalDateTime.now().plusDays(1);
+
+        String sql = captureSql(() -> paymentRepository.findByCdtBetween(start, end));
+        assertNoTableScan(sql, start, end);
+    }
+
+    @Test
+    @DisplayName("findByFlagAndStatOrderByCdtDesc는 (flag, stat, cdt) 인덱스를 사용한다")
+    void findByFlagAndStatOrderByCdtDescUsesIndex() {
+        String sql = captureSql(() -> paymentRepository.findByFlagAndStatOrderByCdtDesc(true, PaymentStatus.C));
+        assertNoTableScan(sql, true, "C");
+    }
+
+    @Test
+    @DisplayName("findRecent(ORDER BY cdt DESC LIMIT)는 cdt 인덱스 순서로 읽는다")
+    void findRecentUsesIndex() {
+        String sql = captureSql(() -> paymentRepository.findRecent(10));
+        assertNoTableScan(sql, 10);
+    }
+
+    @Test
+    @DisplayName("상태별 커서 페이지 조회는 인덱스를 사용한다")
+    void findByStatAndIdGreaterThanUsesIndex() {
+        String sql = captureSql(() -> paymentRepository.findByStatAndIdGreaterThanOrderByIdAsc(
+                PaymentStatus.C, 0L, PageRequest.ofSize(10)));
+        assertNoTableScan(sql, "C", 0L, 10);
+    }
+
+    @Test
+    @DisplayName("최근 결제 커서 페이지 조회는 cdt 인덱스 범위로 읽는다")
+    void findRecentAfterUsesIndex() {
+        LocalDateTime cursor = LocalDateTime.now();
+
+        String sql = captureSql(() -> paymentRepository.findRecentAfter(cursor, 10L, PageRequest.ofSize(10)));
+        assertNoTableScan(sql, cursor, cursor, 10L, 10);
+    }
+
+    // ========================================================================
+    // 테스트 헬퍼
+    // ========================================================================
+
+    private String captureSql(Runnable query) {
+        SqlCapture.CAPTURED.clear();
+        query.run();
+        assertThat(SqlCapture.CAPTURED).as("실행된 SELECT가 있어야 합니다").isNotEmpty();
+        return SqlCapture.CAPTURED.get(SqlCapture.CAPTURED.size() - 1);
+    }
+
+    /**
+     * 캡처한 SQL 앞에 EXPLAIN을 붙여 같은 파라미터로 실행하고 계획을 검사합니다
+     */
+    private void assertNoTableScan(String sql, Object... parameters) {
+        String plan = entityManager.getEntityManager().unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (int i = 0; i < parameters.length; i++) {
+                    statement.setObject(i + 1, parameters[i]);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getString(1);
+                }
+            }
+        });
+
+        assertThat(plan)
+                .as("전체 스캔 없이 인덱스를 사용해야 합니다%n%s", plan)
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    /**
+     * Hibernate가 실행하는 SELECT 문을 기록하는 StatementInspector
+     * - 설정 값으로 클래스 이름을 넘기므로 public + 기본 생성자가 필요합니다
+     */
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> CAPTURED = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            if (sql.trim().toLowerCase().startsWith("select")) {
+                CAPTURED.add(sql);
+            }
+            return sql;
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package com.example.payment.integration.repository;
 
+import com.example.payment.dto.PaymentResponse;
 import com.example.payment.entity.Payment;
 import com.example.payment.entity.PaymentStatus;
 import com.example.payment.repository.PaymentRepository;
+import com.example.persistence.PooledSequenceGenerator;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.generator.Generator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -10,9 +15,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -304,6 +311,195 @@ class PaymentRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("커서 페이지/스트리밍 조회 테스트")
+    class KeysetAndStreamTest {
+
+        @Test
+        @DisplayName("커서 다음 ID부터 오름차순으로 요청한 건수만 조회한다")
+        void shouldFindNextPageAfterCursor() {
+            // Given
+            Payment first = entityManager.persist(createCompletedPayment(10000.0));
+            Payment second = entityManager.persist(createCompletedPayment(20000.0));
+            Payment third = entityManager.persist(createTestPayment(30000.0));
+            Payment fourth = entityManager.persist(createCompletedPayment(40000.0));
+            entityManager.flush();
+            entityManager.clear();
+
+            // When
+            List<Payment> page = paymentRepository.findByIdGreaterThanOrderByIdAsc(
+                    first.getId(), PageRequest.ofSize(2));
+            List<Payment> completedPage = paymentRepository.findByStatAndIdGreaterThanOrderByIdAsc(
+                    PaymentStatus.C, first.getId(), PageRequest.ofSize(10));
+
+            // Then
+            assertThat(page).extracting(Payment::getId)
+                    .containsExactly(second.getId(), third.getId());
+            assertThat(completedPage).extracting(Payment::getId)
+                    .containsExactly(second.getId(), fourth.getId());
+        }
+
+        @Test
+        @DisplayName("최근 결제 커서는 (cdt, id) 내림차순으로 같은 시각의 결제도 빠짐없이 넘긴다")
+        void shouldPageRecentByCdtThenId() {
+            // Given - ID 순서와 cdt 순서가 다르고, 두 건은 cdt가 같다
+            Payment late = entityManager.persist(createCompletedPayment(10000.0));
+            Payment tieA = entityManager.persist(createCompletedPayment(20000.0));
+            Payment tieB = entityManager.persist(createCompletedPayment(30000.0));
+            Payment early = entityManager.persist(createCompletedPayment(40000.0));
+            entityManager.flush();
+            LocalDateTime base = LocalDateTime.of(2024, 1, 1, 12, 0);
+            setCdt(late, base.plusMinutes(2));
+            setCdt(tieA, base.plusMinutes(1));
+            setCdt(tieB, base.plusMinutes(1));
+            setCdt(early, base);
+            entityManager.clear();
+
+            // When
+            List<Payment> first = paymentRepository.findByOrderByCdtDescIdDesc(PageRequest.ofSize(2));
+            Payment last = first.get(first.size() - 1);
+            List<Payment> next = paymentRepository.findRecentAfter(
+                    last.getCdt(), last.getId(), PageRequest.ofSize(2));
+
+            // Then
+            assertThat(first).extracting(Payment::getId)
+                    .containsExactly(late.getId(), tieB.getId());
+            assertThat(next).extracting(Payment::getId)
+                    .containsExactly(tieA.getId(), early.getId());
+        }
+
+        @Test
+        @DisplayName("스트림으로 읽은 결제는 영속성 컨텍스트에 남지 않는다")
+        void shouldStreamDetachedPaymentsInIdOrder() {
+            // Given
+            entityManager.persist(createCompletedPayment(10000.0));
+            entityManager.persist(createCompletedPayment(20000.0));
+            entityManager.flush();
+            entityManager.clear();
+
+            // When
+            List<Payment> streamed;
+            try (Stream<Payment> stream = paymentRepository.streamAll()) {
+                streamed = stream.toList();
+            }
+
+            // Then
+            assertThat(streamed).extracting(Payment::getAmt1).containsExactly(10000.0, 20000.0);
+            assertThat(streamed)
+                    .noneMatch(payment -> entityManager.getEntityManager().contains(payment));
+        }
+    }
+
+    @Nested
+    @DisplayName("DTO 프로젝션 조회 테스트")
+    class ProjectionTest {
+
+        @Test
+        @DisplayName("응답 DTO로 바로 조회하면 엔티티가 영속성 컨텍스트에 올라가지 않는다")
+        void shouldFindResponsesWithoutManagedEntities() {
+            // Given
+            Payment saved = entityManager.persist(createCompletedPayment(10000.0));
+            entityManager.persist(createCompletedPayment(20000.0));
+            entityManager.flush();
+            entityManager.clear();
+
+            // When
+            List<PaymentResponse> responses = paymentRepository.findAllResponses();
+
+            // Then
+            assertThat(responses).hasSize(2)
+                    .filteredOn(response -> response.id().equals(saved.getId()))
+                    .singleElement()
+                    .satisfies(response -> {
+                        assertThat(response.amt1()).isEqualTo(10000.0);
+                        assertThat(response.cd()).isEqualTo("KR");
+                        assertThat(response.stat()).isEqualTo(PaymentStatus.C);
+                    });
+            assertThat(entityManager.getEntityManager().unwrap(SessionImplementor.class)
+                    .getPersistenceContextInternal().getNumberOfManagedEntities())
+                    .as("프로젝션 조회는 엔티티를 관리하지 않아야 합니다")
+                    .isZero();
+        }
+
+        @Test
+        @DisplayName("상태별/최근 N건도 응답 DTO로 조회할 수 있다")
+        void shouldFindResponsesByStatAndRecent() {
+            // Given
+            entityManager.persist(createCompletedPayment(10000.0));
+            entityManager.persist(createTestPayment(20000.0));
+            entityManager.persist(createCompletedPayment(30000.0));
+            entityManager.flush();
+            entityManager.clear();
+
+            // When
+            List<PaymentResponse> completed = paymentRepository.findResponsesByStat(PaymentStatus.C);
+            List<PaymentResponse> recent = paymentRepository.findRecentResponses(2);
+
+            // Then
+            assertThat(completed).extracting(PaymentResponse::amt1)
+                    .containsExactlyInAnyOrder(10000.0, 30000.0);
+            assertThat(recent).hasSize(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("일괄 저장 테스트")
+    class BatchSaveTest {
+
+        @Test
+        @DisplayName("시퀀스 블록 크기보다 많이 저장해도 모든 결제에 서로 다른 ID가 할당된다")
+        void shouldAssignDistinctIdsAcrossSequenceBlocks() {
+            // Given - ID 블록 크기(50)를 여러 번 넘는 건수
+            List<Payment> payments = java.util.stream.IntStream.range(0, 120)
+                    .mapToObj(i -> createCompletedPayment(10000.0 + i))
+                    .toList();
+
+            // When
+            paymentRepository.saveAllInBatch(payments);
+
+            // Then
+            assertThat(payments)
+                    .extracting(Payment::getId)
+                    .doesNotContainNull()
+                    .doesNotHaveDuplicates();
+            assertThat(paymentRepository.count()).isEqualTo(120);
+        }
+
+        @Test
+        @DisplayName("ID 블록 크기는 설정 payment.id.increment_size(50)를 따른다")
+        void shouldUseConfiguredSequenceIncrementSize() {
+            // Given
+            SessionFactoryImplementor sessionFactory = entityManager.getEntityManager()
+                    .getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class);
+
+            // When
+            Generator generator = sessionFactory.getMappingMetamodel()
+                    .getEntityDescriptor(Payment.class)
+                    .getGenerator();
+
+            // Then
+            assertThat(generator).isInstanceOf(PooledSequenceGenerator.class);
+            assertThat(((PooledSequenceGenerator) generator).getDatabaseStructure().getIncrementSize())
+                    .isEqualTo(50);
+        }
+
+        @Test
+        @DisplayName("일괄 저장 후 영속성 컨텍스트가 비워진다")
+        void shouldClearPersistenceContextAfterBatchSave() {
+            // Given
+            Payment payment = createCompletedPayment(10000.0);
+
+            // When
+            paymentRepository.saveAllInBatch(List.of(payment));
+
+            // Then
+            assertThat(entityManager.getEntityManager().contains(payment))
+                    .as("flush + clear 후에는 준영속 상태여야 합니다")
+                    .isFalse();
+        }
+    }
+
     // ========================================================================
     // 테스트 헬퍼 메서드
     // ========================================================================
@@ -327,4 +523,15 @@ class PaymentRepositoryTest {
         payment.setStat(PaymentStatus.C);
         return payment;
     }
+
+    /**
+     * cdt는 생성 시각으로만 정해지므로 정렬 테스트용으로 DB 값을 직접 바꿉니다
+     */
+    private void setCdt(Payment payment, LocalDateTime cdt) {
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE payments SET cdt = ? WHERE id = ?")
+                .setParameter(1, cdt)
+                .setParameter(2, payment.getId())
+                .executeUpdate();
+    }
 }
@@ -0,0 +1,170 @@
+package com.example.payment.integration.repository;
+
+import com.example.payment.entity.Payment;
+import com.example.payment.entity.PaymentStatus;
+import com.example.payment.repository.PaymentRepository;
+import com.example.payment.service.PaymentService;
+import com.example.payment.stats.RevenueAggregateStore;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ============================================================================
+ * PaymentSecondLevelCacheTest - 2차 캐시 / 쿼리 캐시 동작 테스트
+ * ============================================================================
+ *
+ * [무엇을 검증하나요?]
+ * - 같은 ID를 다시 조회하면 DB가 아닌 "payments" 리전에서 읽는지
+ * - 상태 조회(findByStat) 결과가 쿼리 캐시에서 재사용되는지
+ * - 상태를 바꾸고 커밋하면 이전 결과가 더 이상 나오지 않는지 (무효화)
+ * - 전체 스트림 조회(streamAll)가 2차 캐시 리전을 채우지 않는지
+ * - 조건부 UPDATE(벌크)로 환불해도 캐시에서 이전 상태가 나오지 않는지
+ *
+ * [왜 트랜잭션을 끄나요?]
+ * - @DataJpaTest는 테스트 전체를 하나의 트랜잭션으로 감싸고 롤백합니다
+ * - 2차 캐시는 커밋 시점에 채워지고 무효화되므로
+ *   TransactionTemplate으로 호출마다 트랜잭션을 나눠서 커밋합니다
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("PaymentRepository 2차 캐시 테스트")
+class PaymentSecondLevelCacheTest {
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private Statistics statistics;
+    private Long paymentId;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+
+        paymentId = transaction.execute(status -> {
+            Payment payment = Payment.create(10000.0, 9000.0, 9900.0, "KR", false);
+            payment.setStat(PaymentStatus.C);
+            return paymentRepository.save(payment).getId();
+        });
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transaction.executeWithoutResult(status -> paymentRepository.deleteAll());
+    }
+
+    @Test
+    @DisplayName("같은 ID를 다시 조회하면 DB 대신 2차 캐시에서 읽는다")
+    void findByIdHitsEntityCache() {
+        // given - 캐시를 비워서 첫 조회는 DB에서 읽게 함
+        entityManagerFactory.getCache().evictAll();
+
+        // when
+        transaction.executeWithoutResult(status -> paymentRepository.findById(paymentId).orElseThrow());
+        transaction.executeWithoutResult(status -> paymentRepository.findById(paymentId).orElseThrow());
+
+        // then
+        CacheRegionStatistics region = statistics.getDomainDataRegionStatistics("payments");
+        assertThat(region.getMissCount()).isEqualTo(1);
+        assertThat(region.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 상태로 다시 조회하면 쿼리 캐시를 사용한다")
+    void findByStatHitsQueryCache() {
+        // when
+        List<Payment> first = transaction.execute(status -> paymentRepository.findByStat(PaymentStatus.C));
+        List<Payment> second = transaction.execute(status -> paymentRepository.findByStat(PaymentStatus.C));
+
+        // then
+        assertThat(first).extracting(Payment::getId).containsExactly(paymentId);
+        assertThat(second).extracting(Payment::getId).containsExactly(paymentId);
+        assertThat(statistics.getQueryCacheMissCount()).isEqualTo(1);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("상태를 바꾸고 커밋하면 캐시된 조회 결과와 엔티티가 갱신된다")
+    void statusChangeInvalidatesCaches() {
+        // given - 엔티티와 쿼리 결과를 캐시에 올려 둠
+        transaction.executeWithoutResult(status -> paymentRepository.findByStat(PaymentStatus.C));
+        transaction.executeWithoutResult(status -> paymentRepository.findById(paymentId).orElseThrow());
+
+        // when - 환불 처리
+        transaction.executeWithoutResult(status -> {
+            Payment payment = paymentRepository.findById(paymentId).orElseThrow();
+            payment.setStat(PaymentStatus.R);
+        });
+
+        // then
+        List<Payment> completed = transaction.execute(status -> paymentRepository.findByStat(PaymentStatus.C));
+        Payment refunded = transaction.execute(status -> paymentRepository.findById(paymentId).orElseThrow());
+
+        assertThat(completed).isEmpty();
+        assertThat(refunded.getStat()).isEqualTo(PaymentStatus.R);
+    }
+
+    @Test
+    @DisplayName("전체 스트림 조회는 2차 캐시 리전에 결제를 넣지 않는다")
+    void streamAllBypassesEntityCache() {
+        // given
+        entityManagerFactory.getCache().evictAll();
+
+        // when
+        List<Long> streamed = transaction.execute(status -> {
+            try (Stream<Payment> stream = paymentRepository.streamAll()) {
+                return stream.map(Payment::getId).toList();
+            }
+        });
+
+        // then
+        assertThat(streamed).containsExactly(paymentId);
+        assertThat(entityManagerFactory.getCache().contains(Payment.class, paymentId)).isFalse();
+        assertThat(statistics.getDomainDataRegionStatistics("payments").getPutCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE로 환불하면 캐시에 있던 결제도 환불 상태로 다시 읽힌다")
+    void refundEvictsCachedEntity() {
+        // given - 완료 상태로 캐시에 올려 둠
+        transaction.executeWithoutResult(status -> paymentRepository.findById(paymentId).orElseThrow());
+        PaymentService paymentService =
+                new PaymentService(paymentRepository, null, null, null, new RevenueAggregateStore());
+
+        // when - 벌크 UPDATE는 "payments" 리전을 무효화함
+        transaction.executeWithoutResult(status -> paymentService.updateStatus(paymentId));
+
+        // then - 이전 스냅샷(C)이 아니라 DB의 환불 상태를 읽음
+        Payment refunded = transaction.execute(status -> paymentRepository.findById(paymentId).orElseThrow());
+        assertThat(refunded.getStat()).isEqualTo(PaymentStatus.R);
+        assertThat(refunded.getVer()).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.payment.unit.observer;
+
+import com.example.payment.dto.PaymentResult;
+import com.example.payment.observer.ObserverDispatchProperties;
+import com.example.payment.observer.ObserverDispatchProperties.Mode;
+import com.example.payment.observer.ObserverDispatchProperties.RejectionPolicy;
+import com.example.payment.observer.ObserverDispatchProperties.ThreadType;
+import com.example.payment.observer.PaymentObserver;
+import com.example.payment.observer.PaymentObserverDispatcher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PaymentObserverDispatcher 단위 테스트
+ *
+ * - 스프링 컨텍스트 없이 트랜잭션 동기화만 직접 켜서 커밋 이후 전달을 검증
+ * - 비동기 실행은 작업을 모아두는 Executor로 대체
+ */
+@DisplayName("PaymentObserverDispatcher 단위 테스트")
+class PaymentObserverDispatcherTest {
+
+    private static final PaymentResult RESULT = new PaymentResult(10000, 9000, 9900, "KR", false);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<PaymentResult> received = new ArrayList<>();
+    private final PaymentObserver recordingObserver = received::add;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Nested
+    @DisplayName("커밋 이후 전달")
+    class AfterCommitTest {
+
+        @Test
+        @DisplayName("트랜잭션 안에서는 커밋 전까지 알림이 전달되지 않는다")
+        void shouldDeliverOnlyAfterCommit() {
+            // Given
+            PaymentObserverDispatcher dispatcher = syncDispatcher(List.of(recordingObserver));
+            TransactionSynchronizationManager.initSynchronization();
+
+            // When
+            dispatcher.dispatch(RESULT);
+
+            // Then - 아직 커밋 전
+            assertThat(received).isEmpty();
+
+            // 커밋 시뮬레이션
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+            assertThat(received).containsExactly(RESULT);
+        }
+
+        @Test
+        @DisplayName("트랜잭션 밖에서는 바로 전달된다")
+        void shouldDeliverImmediatelyWithoutTransaction() {
+            // Given
+            PaymentObserverDispatcher dispatcher = syncDispatcher(List.of(recordingObserver));
+
+            // When
+            dispatcher.dispatch(RESULT);
+
+            // Then
+            assertThat(received).containsExactly(RESULT);
+        }
+    }
+
+    @Nested
+    @DisplayName("비동기 전달")
+    class AsyncTest {
+
+        @Test
+        @DisplayName("옵저버마다 작업을 Executor에 넘긴다")
+        void shouldSubmitOneTaskPerObserver() {
+            // Given
+            List<Runnable> tasks = new ArrayList<>();
+            PaymentObserverDispatcher dispatcher = asyncDispatcher(
+                    List.of(recordingObserver, recordingObserver), tasks::add);
+
+            // When
+            dispatcher.dispatch(RESULT);
+
+            // Then - 실행 전에는 전달되지 않음
+            assertThat(tasks).hasSize(2);
+            assertThat(received).isEmpty();
+
+            tasks.forEach(Runnable::run);
+            assertThat(received).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("대기열이 가득 차 거절되면 dropped 카운터가 증가한다")
+        void shouldCountDroppedNotifications() {
+            // Given
+            Executor rejecting = task -> {
+                throw new RejectedExecutionException("queue full");
+            };
+            PaymentObserverDispatcher dispatcher = asyncDispatcher(List.of(recordingObserver), rejecting);
+
+            // When
+            dispatcher.dispatch(RESULT);
+
+            // Then
+            assertThat(received).isEmpty();
+            assertThat(meterRegistry.counter("payment.observer.dropped").count()).isEqualTo(1.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("옵저버 예외 처리")
+    class FailureTest {
+
+        @Test
+        @DisplayName("한 옵저버가 실패해도 다음 옵저버는 실행된다")
+        void shouldContinueWhenObserverFails() {
+            // Given
+            PaymentObserver failing = result -> {
+                throw new IllegalStateException("정산 서버 오류");
+            };
+            PaymentObserverDispatcher dispatcher = syncDispatcher(List.of(failing, recordingObserver));
+
+            // When
+            dispatcher.dispatch(RESULT);
+
+            // Then
+            assertThat(received).containsExactly(RESULT);
+        }
+
+        @Test
+        @DisplayName("옵저버 처리 시간이 옵저버별로 기록된다")
+        void shouldRecordLatencyPerObserver() {
+            // Given
+            PaymentObserverDispatcher dispatcher = syncDispatcher(List.of(recordingObserver));
+
+            // When
+            dispatcher.dispatchAll(List.of(RESULT, RESULT));
+
+            // Then - 청크 알림도 옵저버당 1회로 기록
+            assertThat(meterRegistry.get("payment.observer.latency").timer().count()).isEqualTo(1);
+            assertThat(received).hasSize(2);
+        }
+    }
+
+    private PaymentObserverDispatcher syncDispatcher(List<PaymentObserver> observers) {
+        return new PaymentObserverDispatcher(
+                observers, ObserverDispatchProperties.sync(), Runnable::run, meterRegistry);
+    }
+
+    private PaymentObserverDispatcher asyncDispatcher(List<PaymentObserver> observers, Executor executor) {
+        ObserverDispatchProperties properties =
+                new ObserverDispatchProperties(Mode.ASYNC, 10, 1, RejectionPolicy.DROP, ThreadType.VIRTUAL);
+        return new PaymentObserverDispatcher(observers, properties, executor, meterRegistry);
+    }
+}
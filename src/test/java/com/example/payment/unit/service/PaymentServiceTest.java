@@ -1,14 +1,21 @@
 package com.example.payment.unit.service;
 
+import com.example.payment.dto.PaymentPageResponse;
+import com.example.payment.dto.PaymentRecentPageResponse;
 import com.example.payment.dto.PaymentRequest;
 import com.example.payment.dto.PaymentResult;
 import com.example.payment.entity.Payment;
 import com.example.payment.entity.PaymentStatus;
+import com.example.payment.observer.ObserverDispatchProperties;
 import com.example.payment.observer.PaymentObserver;
+import com.example.payment.observer.PaymentObserverDispatcher;
 import com.example.payment.repository.PaymentRepository;
 import com.example.payment.service.PaymentService;
+import com.example.payment.stats.RevenueAggregateStore;
+import com.example.payment.stats.RevenueKey;
 import com.example.payment.strategy.discount.DiscountStrategy;
 import com.example.payment.strategy.tax.TaxStrategy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -18,7 +25,9 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,6 +36,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.never;
@@ -55,15 +65,24 @@ class PaymentServiceTest {
     @Mock
     private PaymentObserver observer;
 
+    private RevenueAggregateStore revenueAggregateStore;
+
     private PaymentService paymentService;
 
     @BeforeEach
     void setUp() {
+        revenueAggregateStore = new RevenueAggregateStore();
         paymentService = new PaymentService(
                 paymentRepository,
                 discountStrategy,
                 taxStrategy,
-                List.of(observer)
+                new PaymentObserverDispatcher(
+                        List.of(observer),
+                        ObserverDispatchProperties.sync(),
+                        Runnable::run,
+                        new SimpleMeterRegistry()
+                ),
+                revenueAggregateStore
         );
     }
 
@@ -145,6 +164,77 @@ class PaymentServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("결제 일괄 처리 테스트")
+    class ExecuteBatchTest {
+
+        @Test
+        @DisplayName("모든 요청에 할인과 세금을 적용하고 완료 상태로 저장한다")
+        void shouldPriceAndSaveAllAsCompleted() {
+            // Given
+            List<PaymentRequest> requests = List.of(
+                    new PaymentRequest(10000, "KR", true),
+                    new PaymentRequest(20000, "KR", false)
+            );
+
+            given(discountStrategy.apply(anyDouble(), anyBoolean())).willReturn(8500.0);
+            given(taxStrategy.apply(anyDouble())).willReturn(9350.0);
+
+            // When
+            List<PaymentResult> results = paymentService.executeBatch(requests);
+
+            // Then
+            assertThat(results).hasSize(2);
+            assertThat(results).extracting(PaymentResult::amt1).containsExactly(10000.0, 20000.0);
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<Payment>> captor = ArgumentCaptor.forClass(List.class);
+            then(paymentRepository).should().saveAllInBatch(captor.capture());
+            assertThat(captor.getValue())
+                    .hasSize(2)
+                    .allMatch(payment -> payment.getStat() == PaymentStatus.C);
+        }
+
+        @Test
+        @DisplayName("청크 크기를 넘으면 청크마다 저장하고 옵저버에게 알린다")
+        void shouldSaveAndNotifyPerChunk() {
+            // Given
+            List<PaymentRequest> requests = java.util.stream.IntStream
+                    .range(0, PaymentService.BATCH_CHUNK_SIZE + 1)
+                    .mapToObj(i -> new PaymentRequest(10000, "KR", false))
+                    .toList();
+
+            given(discountStrategy.apply(anyDouble(), anyBoolean())).willReturn(9000.0);
+            given(taxStrategy.apply(anyDouble())).willReturn(9900.0);
+
+            // When
+            List<PaymentResult> results = paymentService.executeBatch(requests);
+
+            // Then
+            assertThat(results).hasSize(PaymentService.BATCH_CHUNK_SIZE + 1);
+            then(paymentRepository).should(times(2)).saveAllInBatch(any());
+            then(observer).should(times(2)).onPaymentsCompleted(any());
+            then(observer).should(never()).onPaymentCompleted(any());
+        }
+
+        @Test
+        @DisplayName("음수 금액이 하나라도 있으면 아무것도 저장하지 않는다")
+        void shouldNotSaveAnythingWhenOneRequestIsInvalid() {
+            // Given
+            List<PaymentRequest> requests = List.of(
+                    new PaymentRequest(10000, "KR", true),
+                    new PaymentRequest(-1000, "KR", true)
+            );
+
+            // When & Then
+            assertThatThrownBy(() -> paymentService.executeBatch(requests))
+                    .isInstanceOf(IllegalArgumentException.class);
+
+            then(paymentRepository).should(never()).saveAllInBatch(any());
+            then(observer).should(never()).onPaymentsCompleted(any());
+        }
+    }
+
     @Nested
     @DisplayName("결제 조회 테스트")
     class GetDataTest {
@@ -213,6 +303,90 @@ class PaymentServiceTest {
             assertThat(result).hasSize(1);
             then(paymentRepository).should().findByStat(PaymentStatus.C);
         }
+
+        @Test
+        @DisplayName("커서 페이지는 size + 1건을 조회해 다음 페이지 여부를 판단한다")
+        void shouldFetchOneMoreToDetectNextPage() {
+            // Given
+            List<Payment> fetched = List.of(
+                    Payment.create(10000.0, 8500.0, 9350.0, "KR", true),
+                    Payment.create(20000.0, 17000.0, 18700.0, "KR", true),
+                    Payment.create(30000.0, 25500.0, 28050.0, "KR", true)
+            );
+            given(paymentRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class)))
+                    .willReturn(fetched);
+
+            // When
+            PaymentPageResponse page = paymentService.getPage(null, 2);
+
+            // Then
+            assertThat(page.content()).hasSize(2);
+            assertThat(page.hasNext()).isTrue();
+
+            ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+            then(paymentRepository).should().findByIdGreaterThanOrderByIdAsc(eq(0L), captor.capture());
+            assertThat(captor.getValue().getPageSize()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("마지막 페이지면 다음 커서가 없다")
+        void shouldReturnNoCursorOnLastPage() {
+            // Given
+            given(paymentRepository.findByStatAndIdGreaterThanOrderByIdAsc(
+                    eq(PaymentStatus.C), eq(100L), any(Pageable.class)))
+                    .willReturn(List.of(Payment.create(10000.0, 8500.0, 9350.0, "KR", true)));
+
+            // When
+            PaymentPageResponse page = paymentService.getPageByStat(PaymentStatus.C, 100L, 2);
+
+            // Then
+            assertThat(page.content()).hasSize(1);
+            assertThat(page.hasNext()).isFalse();
+            assertThat(page.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("페이지 크기가 범위를 벗어나면 예외가 발생한다")
+        void shouldRejectInvalidPageSize() {
+            assertThatThrownBy(() -> paymentService.getPage(null, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> paymentService.getPage(null, PaymentService.MAX_PAGE_SIZE + 1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("최근 결제 페이지는 커서가 없으면 첫 페이지, 있으면 (cdt, id) 다음부터 조회한다")
+        void shouldPageRecentByCdtCursor() {
+            // Given
+            LocalDateTime cdt = LocalDateTime.of(2024, 1, 1, 12, 0);
+            given(paymentRepository.findByOrderByCdtDescIdDesc(any(Pageable.class)))
+                    .willReturn(List.of(Payment.create(10000.0, 8500.0, 9350.0, "KR", true)));
+            given(paymentRepository.findRecentAfter(eq(cdt), eq(5L), any(Pageable.class)))
+                    .willReturn(List.of());
+
+            // When
+            PaymentRecentPageResponse first = paymentService.getRecentPage(null, null, 2);
+            PaymentRecentPageResponse next = paymentService.getRecentPage(cdt, 5L, 2);
+
+            // Then
+            assertThat(first.content()).hasSize(1);
+            assertThat(first.hasNext()).isFalse();
+            assertThat(first.nextCursorCdt()).isNull();
+            assertThat(next.content()).isEmpty();
+
+            ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+            then(paymentRepository).should().findRecentAfter(eq(cdt), eq(5L), captor.capture());
+            assertThat(captor.getValue().getPageSize()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("최근 결제 커서 값이 하나만 있으면 예외가 발생한다")
+        void shouldRejectHalfRecentCursor() {
+            assertThatThrownBy(() -> paymentService.getRecentPage(LocalDateTime.now(), null, 10))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> paymentService.getRecentPage(null, 5L, 10))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
     }
 
     @Nested
@@ -222,9 +396,11 @@ class PaymentServiceTest {
         @Test
         @DisplayName("완료 상태의 결제를 환불할 수 있다")
         void shouldRefundCompletedPayment() {
-            // Given
+            // Given - 조건부 UPDATE 1건 성공 후 환불된 결제를 다시 읽음
             Payment payment = Payment.create(10000.0, 8500.0, 9350.0, "KR", true);
-            payment.setStat(PaymentStatus.C);
+            payment.setStat(PaymentStatus.R);
+            given(paymentRepository.updateStatIfCurrent(eq(1L), eq(PaymentStatus.C), eq(PaymentStatus.R), any()))
+                    .willReturn(1);
             given(paymentRepository.findById(1L)).willReturn(Optional.of(payment));
 
             // When
@@ -237,14 +413,78 @@ class PaymentServiceTest {
         @Test
         @DisplayName("완료 상태가 아닌 결제는 환불할 수 없다")
         void shouldNotRefundNonCompletedPayment() {
-            // Given
+            // Given - 상태 조건이 맞지 않아 0건 갱신
             Payment payment = Payment.create(10000.0, 8500.0, 9350.0, "KR", true);
             payment.setStat(PaymentStatus.P);  // 대기 상태
+            given(paymentRepository.updateStatIfCurrent(eq(1L), eq(PaymentStatus.C), eq(PaymentStatus.R), any()))
+                    .willReturn(0);
             given(paymentRepository.findById(1L)).willReturn(Optional.of(payment));
 
             // When & Then
             assertThatThrownBy(() -> paymentService.updateStatus(1L))
                     .isInstanceOf(IllegalStateException.class);
         }
+
+        @Test
+        @DisplayName("없는 결제를 환불하면 IllegalArgumentException이 발생한다")
+        void shouldRejectMissingPayment() {
+            // Given
+            given(paymentRepository.updateStatIfCurrent(eq(99L), eq(PaymentStatus.C), eq(PaymentStatus.R), any()))
+                    .willReturn(0);
+            given(paymentRepository.findById(99L)).willReturn(Optional.empty());
+
+            // When & Then
+            assertThatThrownBy(() -> paymentService.updateStatus(99L))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("매출 집계 테스트")
+    class RevenueStatsTest {
+
+        @Test
+        @DisplayName("결제 완료 시 국가별 완료 합계에 반영된다")
+        void shouldAddCompletedPaymentToCountryTotal() {
+            // Given
+            given(discountStrategy.apply(anyDouble(), anyBoolean())).willReturn(8500.0);
+            given(taxStrategy.apply(anyDouble())).willReturn(9350.0);
+            given(paymentRepository.save(any(Payment.class)))
+                    .willAnswer(inv -> inv.getArgument(0));
+
+            // When
+            paymentService.execute(new PaymentRequest(10000, "KR", true));
+            paymentService.execute(new PaymentRequest(10000, "US", true));
+
+            // Then - cd 인자가 반영되어야 함
+            assertThat(paymentService.getSum("KR")).isEqualTo(9350.0);
+            assertThat(paymentService.getSum(null)).isEqualTo(18700.0);
+            then(paymentRepository).should(never()).sumAmt3ByStat(any());
+        }
+
+        @Test
+        @DisplayName("환불 시 완료 합계에서 빠지고 환불 버킷으로 이동한다")
+        void shouldMoveRefundedPaymentOutOfCompletedTotal() {
+            // Given
+            Payment payment = Payment.create(10000.0, 8500.0, 9350.0, "KR", true);
+            payment.setStat(PaymentStatus.C);
+            revenueAggregateStore.add(RevenueKey.of(payment), payment.getAmt3());
+            payment.setStat(PaymentStatus.R);
+            given(paymentRepository.updateStatIfCurrent(eq(1L), eq(PaymentStatus.C), eq(PaymentStatus.R), any()))
+                    .willReturn(1);
+            given(paymentRepository.findById(1L)).willReturn(Optional.of(payment));
+
+            // When
+            paymentService.updateStatus(1L);
+
+            // Then
+            assertThat(paymentService.getSum("KR")).isZero();
+            assertThat(paymentService.getStats("KR", PaymentStatus.R))
+                    .singleElement()
+                    .satisfies(stat -> {
+                        assertThat(stat.count()).isEqualTo(1);
+                        assertThat(stat.total()).isEqualTo(9350.0);
+                    });
+        }
     }
 }
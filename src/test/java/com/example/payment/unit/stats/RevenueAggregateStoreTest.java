@@ -0,0 +1,121 @@
+package com.example.payment.unit.stats;
+
+import com.example.payment.entity.Payment;
+import com.example.payment.entity.PaymentStatus;
+import com.example.payment.stats.RevenueAggregateStore;
+import com.example.payment.stats.RevenueKey;
+import com.example.payment.stats.RevenueStat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * RevenueAggregateStore 단위 테스트
+ *
+ * - 누적 합계(total)가 날짜 버킷 합계와 같게 유지되는지 (add, move, replaceAll)
+ * - 국가/상태가 "전체"(null)인 조회
+ * - snapshot이 조건에 맞는 버킷만 돌려주는지
+ */
+@DisplayName("RevenueAggregateStore 단위 테스트")
+class RevenueAggregateStoreTest {
+
+    private static final LocalDate DAY1 = LocalDate.of(2024, 1, 1);
+    private static final LocalDate DAY2 = LocalDate.of(2024, 1, 2);
+
+    private RevenueAggregateStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new RevenueAggregateStore();
+    }
+
+    @Nested
+    @DisplayName("합계 조회")
+    class TotalTest {
+
+        @Test
+        @DisplayName("여러 날짜와 VIP 여부에 걸친 결제가 국가/상태 합계 하나로 모인다")
+        void totalSpansDaysAndFlags() {
+            // given
+            store.add(new RevenueKey("KR", PaymentStatus.C, true, DAY1), 1000.0);
+            store.add(new RevenueKey("KR", PaymentStatus.C, false, DAY2), 2000.0);
+            store.add(new RevenueKey("US", PaymentStatus.C, false, DAY1), 500.0);
+            store.add(new RevenueKey("KR", PaymentStatus.R, false, DAY1), 300.0);
+
+            // then
+            assertThat(store.total("KR", PaymentStatus.C)).isEqualTo(3000.0);
+            assertThat(store.total(null, PaymentStatus.C)).isEqualTo(3500.0);
+            assertThat(store.total("KR", PaymentStatus.R)).isEqualTo(300.0);
+            assertThat(store.total("JP", PaymentStatus.C)).isZero();
+        }
+
+        @Test
+        @DisplayName("상태를 옮기면 이전 상태 합계에서 빠지고 새 상태 합계에 더해진다")
+        void moveUpdatesTotals() {
+            // given
+            RevenueKey completed = new RevenueKey("KR", PaymentStatus.C, false, DAY1);
+            store.add(completed, 1000.0);
+            store.add(completed, 2000.0);
+
+            // when
+            store.move(completed, completed.withStat(PaymentStatus.R), 1000.0);
+
+            // then
+            assertThat(store.total("KR", PaymentStatus.C)).isEqualTo(2000.0);
+            assertThat(store.total("KR", PaymentStatus.R)).isEqualTo(1000.0);
+            assertThat(store.total(null, PaymentStatus.R)).isEqualTo(1000.0);
+        }
+
+        @Test
+        @DisplayName("전체 재계산은 이전 버킷과 합계를 함께 교체한다")
+        void replaceAllRebuildsTotals() {
+            // given
+            store.add(new RevenueKey("KR", PaymentStatus.C, false, DAY1), 99999.0);
+            Payment payment = Payment.create(10000.0, 9000.0, 9900.0, "KR", false);
+            payment.setStat(PaymentStatus.C);
+
+            // when
+            store.replaceAll(Stream.of(payment));
+
+            // then
+            assertThat(store.total("KR", PaymentStatus.C)).isEqualTo(9900.0);
+            assertThat(store.snapshot("KR", PaymentStatus.C))
+                    .singleElement()
+                    .extracting(RevenueStat::total)
+                    .isEqualTo(9900.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("버킷 조회")
+    class SnapshotTest {
+
+        @Test
+        @DisplayName("조건에 맞는 버킷만 날짜, 국가 순으로 반환하고 비어 있는 버킷은 뺀다")
+        void snapshotFiltersAndSorts() {
+            // given
+            RevenueKey krDay2 = new RevenueKey("KR", PaymentStatus.C, false, DAY2);
+            store.add(krDay2, 2000.0);
+            store.add(new RevenueKey("US", PaymentStatus.C, false, DAY1), 500.0);
+            store.add(new RevenueKey("KR", PaymentStatus.C, false, DAY1), 1000.0);
+            store.move(krDay2, krDay2.withStat(PaymentStatus.R), 2000.0);
+
+            // then
+            assertThat(store.snapshot(null, PaymentStatus.C))
+                    .extracting(RevenueStat::cd, RevenueStat::day)
+                    .containsExactly(
+                            tuple("KR", DAY1),
+                            tuple("US", DAY1));
+            assertThat(store.snapshot("KR", null))
+                    .extracting(RevenueStat::stat)
+                    .containsExactly(PaymentStatus.C, PaymentStatus.R);
+        }
+    }
+}
@@ -1,12 +1,15 @@
 package com.example.payment.web;
 
 import com.example.payment.controller.PaymentController;
+import com.example.payment.dto.PaymentPageResponse;
+import com.example.payment.dto.PaymentRecentPageResponse;
 import com.example.payment.dto.PaymentRequest;
 import com.example.payment.dto.PaymentResponse;
 import com.example.payment.dto.PaymentResult;
 import com.example.payment.entity.Payment;
 import com.example.payment.entity.PaymentStatus;
 import com.example.payment.service.PaymentService;
+import com.example.payment.stats.RevenueStat;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -16,16 +19,23 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.times;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -180,6 +190,58 @@ class PaymentControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /api/payments/batch - 결제 일괄 생성")
+    class CreatePaymentBatchTest {
+
+        @Test
+        @DisplayName("여러 건을 요청하면 201 Created와 요청 순서대로 결제 결과 목록을 반환한다")
+        void shouldCreatePaymentsInBatch() throws Exception {
+            // Given
+            List<PaymentRequest> requests = List.of(
+                    new PaymentRequest(ORIGINAL_PRICE, COUNTRY, true),
+                    new PaymentRequest(20000.0, COUNTRY, false)
+            );
+
+            given(paymentService.executeBatch(any()))
+                    .willReturn(List.of(
+                            new PaymentResult(ORIGINAL_PRICE, DISCOUNTED_AMOUNT, TAXED_AMOUNT, COUNTRY, true),
+                            new PaymentResult(20000.0, 18000.0, 19800.0, COUNTRY, false)
+                    ));
+
+            // When & Then
+            mockMvc.perform(post("/api/payments/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(requests)))
+                    .andDo(print())
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$", hasSize(2)))
+                    .andExpect(jsonPath("$[0].amt3").value(TAXED_AMOUNT))
+                    .andExpect(jsonPath("$[1].amt1").value(20000.0));
+
+            then(paymentService).should(times(1)).executeBatch(any());
+        }
+
+        @Test
+        @DisplayName("잘못된 값이 포함되면 400 Bad Request를 반환한다")
+        void shouldReturnBadRequestWhenBatchContainsInvalidRequest() throws Exception {
+            // Given
+            List<PaymentRequest> requests = List.of(
+                    new PaymentRequest(-1000.0, COUNTRY, true)
+            );
+
+            given(paymentService.executeBatch(any()))
+                    .willThrow(new IllegalArgumentException("잘못된 값"));
+
+            // When & Then
+            mockMvc.perform(post("/api/payments/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(requests)))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
     @Nested
     @DisplayName("GET /api/payments/{id} - 결제 조회")
     class GetPaymentTest {
@@ -228,8 +290,8 @@ class PaymentControllerTest {
                     createMockPayment(2L),
                     createMockPayment(3L)
             );
-            given(paymentService.getList())
-                    .willReturn(mockPayments);
+            given(paymentService.getResponseList())
+                    .willReturn(mockPayments.stream().map(PaymentResponse::from).toList());
 
             // When & Then
             mockMvc.perform(get("/api/payments"))
@@ -245,7 +307,7 @@ class PaymentControllerTest {
         @DisplayName("결제가 없으면 빈 배열을 반환한다")
         void shouldReturnEmptyListWhenNoPayments() throws Exception {
             // Given
-            given(paymentService.getList())
+            given(paymentService.getResponseList())
                     .willReturn(List.of());
 
             // When & Then
@@ -255,6 +317,149 @@ class PaymentControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /api/payments?size= - 커서 페이지 조회")
+    class GetPaymentPageTest {
+
+        @Test
+        @DisplayName("size 파라미터가 있으면 커서 페이지를 반환한다")
+        void shouldGetPaymentPage() throws Exception {
+            // Given
+            PaymentPageResponse page = new PaymentPageResponse(
+                    List.of(PaymentResponse.from(createMockPayment(11L)),
+                            PaymentResponse.from(createMockPayment(12L))),
+                    12L,
+                    true
+            );
+            given(paymentService.getPage(10L, 2)).willReturn(page);
+
+            // When & Then
+            mockMvc.perform(get("/api/payments")
+                            .param("size", "2")
+                            .param("cursor", "10"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(2)))
+                    .andExpect(jsonPath("$.content[0].id").value(11))
+                    .andExpect(jsonPath("$.nextCursor").value(12))
+                    .andExpect(jsonPath("$.hasNext").value(true));
+
+            then(paymentService).should(times(0)).getResponseList();
+        }
+
+        @Test
+        @DisplayName("상태별 조회도 size 파라미터가 있으면 커서 페이지를 반환한다")
+        void shouldGetPaymentPageByStatus() throws Exception {
+            // Given
+            PaymentPageResponse page = new PaymentPageResponse(
+                    List.of(PaymentResponse.from(createMockPayment(1L))), null, false);
+            given(paymentService.getPageByStat(PaymentStatus.C, null, 50)).willReturn(page);
+
+            // When & Then
+            mockMvc.perform(get("/api/payments/status")
+                            .param("stat", "C")
+                            .param("size", "50"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.hasNext").value(false));
+        }
+
+        @Test
+        @DisplayName("페이지 크기가 잘못되면 400 Bad Request를 반환한다")
+        void shouldReturnBadRequestForInvalidSize() throws Exception {
+            // Given
+            given(paymentService.getPage(null, 0))
+                    .willThrow(new IllegalArgumentException("페이지 크기는 1 ~ 1000 사이여야 합니다: 0"));
+
+            // When & Then
+            mockMvc.perform(get("/api/payments").param("size", "0"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("최근 결제도 size 파라미터가 있으면 (cdt, id) 커서 페이지를 반환한다")
+        void shouldGetRecentPage() throws Exception {
+            // Given
+            LocalDateTime cursorCdt = LocalDateTime.of(2024, 1, 1, 12, 0);
+            LocalDateTime nextCdt = LocalDateTime.of(2024, 1, 1, 11, 0);
+            PaymentRecentPageResponse page = new PaymentRecentPageResponse(
+                    List.of(PaymentResponse.from(createMockPayment(9L))), nextCdt, 9L, true);
+            given(paymentService.getRecentPage(cursorCdt, 10L, 1)).willReturn(page);
+
+            // When & Then
+            mockMvc.perform(get("/api/payments/recent")
+                            .param("size", "1")
+                            .param("cursorCdt", "2024-01-01T12:00:00")
+                            .param("cursorId", "10"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.nextCursorCdt").value("2024-01-01T11:00:00"))
+                    .andExpect(jsonPath("$.nextCursorId").value(9))
+                    .andExpect(jsonPath("$.hasNext").value(true));
+
+            then(paymentService).should(times(0)).getRecentResponses(anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/payments/stats - 매출 집계 조회")
+    class GetStatsTest {
+
+        @Test
+        @DisplayName("국가/상태 조건으로 버킷별 집계를 조회한다")
+        void shouldGetRevenueStats() throws Exception {
+            // Given
+            given(paymentService.getStats("KR", PaymentStatus.C))
+                    .willReturn(List.of(new RevenueStat(
+                            COUNTRY, PaymentStatus.C, true, LocalDate.of(2024, 1, 15), 3, 28050.0)));
+
+            // When & Then
+            mockMvc.perform(get("/api/payments/stats")
+                            .param("cd", "KR")
+                            .param("stat", "C"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(1)))
+                    .andExpect(jsonPath("$[0].count").value(3))
+                    .andExpect(jsonPath("$[0].total").value(28050.0))
+                    .andExpect(jsonPath("$[0].day").value("2024-01-15"));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/payments/stream - 결제 스트리밍")
+    class StreamPaymentsTest {
+
+        @Test
+        @DisplayName("결제를 한 줄에 하나씩 NDJSON으로 내려준다")
+        void shouldStreamPaymentsAsNdjson() throws Exception {
+            // Given
+            willAnswer(invocation -> {
+                Consumer<Payment> consumer = invocation.getArgument(0);
+                consumer.accept(createMockPayment(1L));
+                consumer.accept(createMockPayment(2L));
+                return null;
+            }).given(paymentService).streamAll(any());
+
+            // When - StreamingResponseBody는 비동기로 실행됨
+            MvcResult mvcResult = mockMvc.perform(get("/api/payments/stream"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // Then
+            String body = mockMvc.perform(asyncDispatch(mvcResult))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType("application/x-ndjson"))
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+
+            String[] lines = body.split("\n");
+            assertThat(lines).hasSize(2);
+            assertThat(objectMapper.readValue(lines[1], PaymentResponse.class).id()).isEqualTo(2L);
+        }
+    }
+
     @Nested
     @DisplayName("GET /api/payments/status?status={status} - 상태별 조회")
     class GetPaymentsByStatusTest {
@@ -267,8 +472,8 @@ class PaymentControllerTest {
                     createMockPayment(1L),
                     createMockPayment(2L)
             );
-            given(paymentService.getListByStat(PaymentStatus.C))
-                    .willReturn(completedPayments);
+            given(paymentService.getResponseListByStat(PaymentStatus.C))
+                    .willReturn(completedPayments.stream().map(PaymentResponse::from).toList());
 
             // When & Then - 쿼리 파라미터 방식
             mockMvc.perform(get("/api/payments/status")
@@ -283,7 +488,7 @@ class PaymentControllerTest {
         @DisplayName("P(대기) 상태의 결제를 조회할 수 있다")
         void shouldGetPendingPayments() throws Exception {
             // Given
-            given(paymentService.getListByStat(PaymentStatus.P))
+            given(paymentService.getResponseListByStat(PaymentStatus.P))
                     .willReturn(List.of());
 
             // When & Then - 쿼리 파라미터 방식
@@ -331,6 +536,18 @@ class PaymentControllerTest {
             mockMvc.perform(patch("/api/payments/{id}/refund", nonExistentId))
                     .andExpect(status().isBadRequest());
         }
+
+        @Test
+        @DisplayName("이미 환불된 결제를 다시 환불하면 409 Conflict를 반환한다")
+        void shouldReturn409ForAlreadyRefundedPayment() throws Exception {
+            // Given - 동시에 들어온 환불 중 늦은 요청도 같은 예외
+            given(paymentService.updateStatus(PAYMENT_ID))
+                    .willThrow(new IllegalStateException("처리 불가 상태"));
+
+            // When & Then
+            mockMvc.perform(patch("/api/payments/{id}/refund", PAYMENT_ID))
+                    .andExpect(status().isConflict());
+        }
     }
 
     @Nested
@@ -0,0 +1,135 @@
+package com.example.payment_ddd.application.eventhandler;
+
+import com.example.payment_ddd.domain.event.DomainEvent;
+import com.example.payment_ddd.domain.event.PaymentCompletedEvent;
+import com.example.payment_ddd.domain.event.PaymentRefundedEvent;
+import com.example.payment_ddd.domain.model.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * DomainEventDispatcherTest - 이벤트 디스패처 단위 테스트
+ *
+ * - 이벤트 타입별 핸들러 선택, 호출 순서, 통계 검증
+ */
+@DisplayName("DomainEventDispatcher 테스트")
+class DomainEventDispatcherTest {
+
+    private final List<String> calls = new ArrayList<>();
+
+    @Nested
+    @DisplayName("핸들러 선택")
+    class RoutingTest {
+
+        @Test
+        @DisplayName("이벤트 타입에 맞는 핸들러만 등록 순서대로 호출")
+        void dispatchToMatchingHandlersInOrder() {
+            // Given
+            DomainEventDispatcher dispatcher = new DomainEventDispatcher(List.of(
+                    recording("completed-1", PaymentCompletedEvent.class),
+                    recording("refunded", PaymentRefundedEvent.class),
+                    recording("completed-2", PaymentCompletedEvent.class)
+            ));
+
+            // When
+            dispatcher.dispatch(new PaymentCompletedEvent(1L, Money.of(9900)));
+
+            // Then
+            assertThat(calls).containsExactly("completed-1", "completed-2");
+        }
+
+        @Test
+        @DisplayName("상위 타입을 선언한 핸들러는 모든 하위 이벤트를 받는다")
+        void dispatchToSupertypeHandler() {
+            // Given
+            DomainEventDispatcher dispatcher = new DomainEventDispatcher(List.of(
+                    recording("all", DomainEvent.class),
+                    recording("refunded", PaymentRefundedEvent.class)
+            ));
+
+            // When
+            dispatcher.dispatchAll(List.of(
+                    new PaymentCompletedEvent(1L, Money.of(9900)),
+                    new PaymentRefundedEvent(1L, Money.of(9900))
+            ));
+
+            // Then
+            assertThat(calls).containsExactly("all", "all", "refunded");
+        }
+    }
+
+    @Nested
+    @DisplayName("통계")
+    class StatsTest {
+
+        @Test
+        @DisplayName("이벤트 타입별 발행 횟수를 기록")
+        void countPerEventType() {
+            // Given
+            DomainEventDispatcher dispatcher = new DomainEventDispatcher(List.of(
+                    recording("completed", PaymentCompletedEvent.class)
+            ));
+
+            // When
+            dispatcher.dispatch(new PaymentCompletedEvent(1L, Money.of(9900)));
+            dispatcher.dispatch(new PaymentCompletedEvent(2L, Money.of(9900)));
+            dispatcher.dispatch(new PaymentRefundedEvent(1L, Money.of(9900)));
+
+            // Then - 처리할 핸들러가 없는 환불 이벤트는 기록하지 않음
+            assertThat(dispatcher.stats().get("PaymentCompletedEvent").count()).isEqualTo(2);
+            assertThat(dispatcher.stats()).doesNotContainKey("PaymentRefundedEvent");
+        }
+
+        @Test
+        @DisplayName("상위 타입 핸들러가 받은 이벤트는 선언 타입으로 기록")
+        void countUnderDeclaredSupertype() {
+            // Given
+            DomainEventDispatcher dispatcher = new DomainEventDispatcher(List.of(
+                    recording("all", DomainEvent.class),
+                    recording("refunded", PaymentRefundedEvent.class)
+            ));
+
+            // When
+            dispatcher.dispatch(new PaymentCompletedEvent(1L, Money.of(9900)));
+            dispatcher.dispatch(new PaymentRefundedEvent(1L, Money.of(9900)));
+
+            // Then - 통계 키는 생성 시점의 선언 타입 그대로 (메트릭 바인딩 후 새 키가 생기지 않음)
+            assertThat(dispatcher.stats()).containsOnlyKeys("DomainEvent", "PaymentRefundedEvent");
+            assertThat(dispatcher.stats().get("DomainEvent").count()).isEqualTo(2);
+            assertThat(dispatcher.stats().get("PaymentRefundedEvent").count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("핸들러가 선언한 타입은 발행 전에도 0으로 노출")
+        void exposeDeclaredTypesBeforeDispatch() {
+            // Given
+            DomainEventDispatcher dispatcher = new DomainEventDispatcher(List.of(
+                    recording("refunded", PaymentRefundedEvent.class)
+            ));
+
+            // Then
+            assertThat(dispatcher.stats()).containsKey("PaymentRefundedEvent");
+            assertThat(dispatcher.stats().get("PaymentRefundedEvent").count()).isZero();
+        }
+    }
+
+    private <T extends DomainEvent> DomainEventHandler<T> recording(String name, Class<T> type) {
+        return new DomainEventHandler<>() {
+            @Override
+            public void handle(T event) {
+                calls.add(name);
+            }
+
+            @Override
+            public Class<T> supportedEventType() {
+                return type;
+            }
+        };
+    }
+}
@@ -2,8 +2,9 @@ package com.example.payment_ddd.application.service;
 
 import com.example.payment_ddd.application.command.CreatePaymentCommand;
 import com.example.payment_ddd.application.command.RefundPaymentCommand;
-import com.example.payment_ddd.application.eventhandler.DomainEventHandler;
-import com.example.payment_ddd.application.eventhandler.LoggingEventHandler;
+import com.example.payment_ddd.application.port.DomainEventOutbox;
+import com.example.payment_ddd.domain.event.DomainEvent;
+import com.example.payment_ddd.domain.event.PaymentCompletedEvent;
 import com.example.payment_ddd.domain.model.*;
 import com.example.payment_ddd.domain.policy.*;
 import com.example.payment_ddd.domain.repository.PaymentRepository;
@@ -30,6 +31,7 @@ class PaymentCommandServiceTest {
 
     private PaymentCommandService paymentCommandService;
     private InMemoryPaymentRepository paymentRepository;
+    private InMemoryEventOutbox eventOutbox;
 
     @BeforeEach
     void setUp() {
@@ -41,14 +43,14 @@ class PaymentCommandServiceTest {
         // 인메모리 저장소
         paymentRepository = new InMemoryPaymentRepository();
 
-        // 이벤트 핸들러
-        List<DomainEventHandler<?>> eventHandlers = List.of(new LoggingEventHandler());
+        // 이벤트 아웃박스
+        eventOutbox = new InMemoryEventOutbox();
 
         // 애플리케이션 서비스
         paymentCommandService = new PaymentCommandService(
                 paymentDomainService,
                 paymentRepository,
-                eventHandlers
+                eventOutbox
         );
     }
 
@@ -78,6 +80,19 @@ class PaymentCommandServiceTest {
             Optional<Payment> found = paymentRepository.findById(payment.getId());
             assertThat(found).isPresent();
         }
+
+        @Test
+        @DisplayName("완료 이벤트는 저장된 결제 ID로 아웃박스에 기록됨")
+        void appendedToOutbox() {
+            CreatePaymentCommand command = new CreatePaymentCommand(10000, "KR", true);
+
+            Payment payment = paymentCommandService.createAndCompletePayment(command);
+
+            assertThat(eventOutbox.appended).containsOnlyKeys(payment.getId());
+            assertThat(eventOutbox.appended.get(payment.getId()))
+                    .singleElement()
+                    .isInstanceOf(PaymentCompletedEvent.class);
+        }
     }
 
     @Nested
@@ -99,6 +114,37 @@ class PaymentCommandServiceTest {
             assertThat(refundedPayment.getStatus()).isEqualTo(PaymentStatus.REFUNDED);
         }
 
+        @Test
+        @DisplayName("조회 이후 다른 요청이 먼저 환불했다면 충돌 예외, 이벤트는 기록되지 않음")
+        void refundConflictsWithConcurrentRefund() {
+            // Given: 같은 결제를 읽은 뒤 다른 요청이 먼저 환불 저장
+            Payment payment = paymentCommandService.createAndCompletePayment(new CreatePaymentCommand(10000, "KR", true));
+            Long id = payment.getId();
+            PaymentCommandService racing = new PaymentCommandService(
+                    new PaymentDomainService(new VipDiscountPolicy(), List.of(new KoreaTaxPolicy())),
+                    new InMemoryPaymentRepository() {
+                        @Override
+                        public Optional<Payment> findById(Long paymentId) {
+                            Optional<Payment> stale = paymentRepository.findById(paymentId);
+                            paymentCommandService.refundPayment(new RefundPaymentCommand(paymentId));
+                            return stale;
+                        }
+
+                        @Override
+                        public boolean updateStatusIfCurrent(Payment target, PaymentStatus expected) {
+                            return paymentRepository.updateStatusIfCurrent(target, expected);
+                        }
+                    },
+                    eventOutbox);
+
+            // When & Then
+            assertThatThrownBy(() -> racing.refundPayment(new RefundPaymentCommand(id)))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("다른 요청");
+            assertThat(paymentRepository.findById(id).orElseThrow().getStatus()).isEqualTo(PaymentStatus.REFUNDED);
+            assertThat(eventOutbox.appended.get(id)).hasSize(2);
+        }
+
         @Test
         @DisplayName("존재하지 않는 결제 환불 시 예외")
         void refundNonExistentPayment() {
@@ -150,13 +196,23 @@ class PaymentCommandServiceTest {
                 payment.assignId(idSequence++);
             }
             // 복사본 저장 (도메인 객체 상태 변경 추적 방지)
-            store.put(payment.getId(), payment);
+            store.put(payment.getId(), copy(payment));
             return payment;
         }
 
+        @Override
+        public boolean updateStatusIfCurrent(Payment payment, PaymentStatus expected) {
+            Payment stored = store.get(payment.getId());
+            if (stored == null || stored.getStatus() != expected) {
+                return false;
+            }
+            store.put(payment.getId(), copy(payment));
+            return true;
+        }
+
         @Override
         public Optional<Payment> findById(Long id) {
-            return Optional.ofNullable(store.get(id));
+            return Optional.ofNullable(store.get(id)).map(InMemoryPaymentRepository::copy);
         }
 
         @Override
@@ -175,5 +231,23 @@ class PaymentCommandServiceTest {
         public void deleteById(Long id) {
             store.remove(id);
         }
+
+        private static Payment copy(Payment payment) {
+            return Payment.reconstitute(payment.getId(), payment.getOriginalPrice(), payment.getDiscountedAmount(),
+                    payment.getTaxedAmount(), payment.getCountry(), payment.isVip(), payment.getStatus(),
+                    payment.getCreatedAt(), payment.getUpdatedAt());
+        }
+    }
+
+    /**
+     * 테스트용 인메모리 아웃박스 - 기록된 이벤트를 결제 ID별로 보관
+     */
+    private static class InMemoryEventOutbox implements DomainEventOutbox {
+        private final Map<Long, List<DomainEvent>> appended = new HashMap<>();
+
+        @Override
+        public void append(Long aggregateId, List<DomainEvent> events) {
+            appended.computeIfAbsent(aggregateId, id -> new ArrayList<>()).addAll(events);
+        }
     }
 }
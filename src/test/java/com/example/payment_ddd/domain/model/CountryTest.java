@@ -95,4 +95,34 @@ class CountryTest {
             assertThat(korea1.hashCode()).isEqualTo(korea2.hashCode());
         }
     }
+
+    @Nested
+    @DisplayName("인스턴스 재사용 테스트")
+    class FlyweightTest {
+
+        @Test
+        @DisplayName("같은 코드는 대소문자와 관계없이 같은 인스턴스")
+        void sameInstanceForSameCode() {
+            assertThat(Country.of("KR")).isSameAs(Country.of("kr"));
+            assertThat(Country.of("Us")).isSameAs(Country.us());
+        }
+
+        @Test
+        @DisplayName("ordinal은 등록 순서와 같다")
+        void ordinalMatchesValues() {
+            for (int i = 0; i < Country.count(); i++) {
+                assertThat(Country.values().get(i).ordinal()).isEqualTo(i);
+            }
+        }
+
+        @Test
+        @DisplayName("두 글자 영문이 아닌 코드는 거부")
+        void rejectMalformedCode() {
+            assertThatThrownBy(() -> Country.of("KOR"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("지원하지 않는 국가");
+            assertThatThrownBy(() -> Country.of("K1"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
 }
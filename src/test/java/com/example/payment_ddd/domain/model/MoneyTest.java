@@ -4,6 +4,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.math.RoundingMode;
+
 import static org.assertj.core.api.Assertions.*;
 
 /**
@@ -120,4 +122,63 @@ class MoneyTest {
             assertThat(money1).isNotEqualTo(money2);
         }
     }
+
+    @Nested
+    @DisplayName("정수 연산 테스트")
+    class IntegerArithmeticTest {
+
+        @Test
+        @DisplayName("원 미만은 HALF_UP으로 반올림")
+        void roundHalfUp() {
+            // 10005 x 0.9 = 9004.5
+            Money result = Money.of(10005).multiply(0.9);
+
+            assertThat(result.longValue()).isEqualTo(9005);
+        }
+
+        @Test
+        @DisplayName("반올림 방식 지정")
+        void roundWithMode() {
+            Money money = Money.of(10005);
+
+            assertThat(money.multiply(0.9, RoundingMode.DOWN).longValue()).isEqualTo(9004);
+            assertThat(money.multiply(0.9, RoundingMode.HALF_EVEN).longValue()).isEqualTo(9004);
+            assertThat(money.multiply(0.9, RoundingMode.UP).longValue()).isEqualTo(9005);
+            assertThatThrownBy(() -> money.multiply(0.9, RoundingMode.UNNECESSARY))
+                    .isInstanceOf(ArithmeticException.class);
+        }
+
+        @Test
+        @DisplayName("여러 번 더해도 double 누적 오차가 없다")
+        void noDriftOnRepeatedAdd() {
+            // 100 x 1.1은 double로 110.00000000000001이 되어 더할수록 오차가 쌓입니다
+            double doubleTotal = 0;
+            Money total = Money.zero();
+            Money price = Money.of(100).multiply(1.1);
+
+            for (int i = 0; i < 100_000; i++) {
+                doubleTotal += 100 * 1.1;
+                total = total.add(price);
+            }
+
+            assertThat(doubleTotal).isNotEqualTo(11_000_000.0);
+            assertThat(total.longValue()).isEqualTo(11_000_000L);
+        }
+
+        @Test
+        @DisplayName("자주 쓰는 금액은 같은 인스턴스를 재사용")
+        void reuseCachedInstances() {
+            assertThat(Money.of(9000)).isSameAs(Money.of(9000.0));
+            assertThat(Money.zero()).isSameAs(Money.ZERO);
+            assertThat(Money.of(9001)).isNotSameAs(Money.of(9001));
+        }
+
+        @Test
+        @DisplayName("객체 없이 비율 계산")
+        void applyRateWithoutAllocation() {
+            long rate = Money.rateOf(1.08);
+
+            assertThat(Money.applyRate(9900, rate, RoundingMode.HALF_UP)).isEqualTo(10692);
+        }
+    }
 }
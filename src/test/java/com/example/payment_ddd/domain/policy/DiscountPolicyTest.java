@@ -49,5 +49,12 @@ class DiscountPolicyTest {
             // 10001 * 0.9 = 9000.9 → 반올림 → 9001
             assertThat(discountedPrice.getAmount()).isEqualTo(9001);
         }
+
+        @Test
+        @DisplayName("원 단위 정수로 할인 계산")
+        void discountLongAmount() {
+            assertThat(discountPolicy.applyDiscount(10001L, true)).isEqualTo(9001L);
+            assertThat(discountPolicy.applyDiscount(10001L, false)).isEqualTo(10001L);
+        }
     }
 }
@@ -41,6 +41,14 @@ class TaxPolicyTest {
 
             assertThat(taxedAmount.getAmount()).isEqualTo(11000);
         }
+
+        @Test
+        @DisplayName("원 단위 정수로 계산해도 Money와 같은 결과")
+        void applyVatToLong() {
+            // 9001 * 1.1 = 9901.1 → 반올림 → 9901
+            assertThat(taxPolicy.applyTax(9001L)).isEqualTo(9901L);
+            assertThat(taxPolicy.applyTax(9001L)).isEqualTo(taxPolicy.applyTax(Money.of(9001)).longValue());
+        }
     }
 
     @Nested
@@ -70,5 +78,13 @@ class TaxPolicyTest {
 
             assertThat(taxedAmount.getAmount()).isEqualTo(10800);
         }
+
+        @Test
+        @DisplayName("원 단위 정수로 계산해도 Money와 같은 결과")
+        void applySalesTaxToLong() {
+            // 9001 * 1.08 = 9721.08 → 반올림 → 9721
+            assertThat(taxPolicy.applyTax(9001L)).isEqualTo(9721L);
+            assertThat(taxPolicy.applyTax(9001L)).isEqualTo(taxPolicy.applyTax(Money.of(9001)).longValue());
+        }
     }
 }
@@ -91,4 +91,36 @@ class PaymentDomainServiceTest {
             assertThat(payment.getTaxedAmount().getAmount()).isEqualTo(10800);
         }
     }
+
+    @Nested
+    @DisplayName("금액만 계산")
+    class CalculateTaxedAmountTest {
+
+        @Test
+        @DisplayName("원 단위 정수 계산은 createPayment와 같은 최종 금액")
+        void sameAsCreatePayment() {
+            long taxedAmount = paymentDomainService.calculateTaxedAmount(10001, Country.korea(), true);
+            Payment payment = paymentDomainService.createPayment(Money.of(10001), Country.korea(), true);
+
+            // 10001 * 0.9 = 9000.9 → 9001, 9001 * 1.1 = 9901.1 → 9901
+            assertThat(taxedAmount).isEqualTo(9901L);
+            assertThat(taxedAmount).isEqualTo(payment.getTaxedAmount().longValue());
+        }
+    }
+
+    @Nested
+    @DisplayName("세금 정책 선택")
+    class TaxPolicyLookupTest {
+
+        @Test
+        @DisplayName("지원하는 세금 정책이 없는 국가는 거부")
+        void rejectCountryWithoutTaxPolicy() {
+            PaymentDomainService koreaOnly =
+                    new PaymentDomainService(new VipDiscountPolicy(), List.of(new KoreaTaxPolicy()));
+
+            assertThatThrownBy(() -> koreaOnly.createPayment(Money.of(10000), Country.us(), false))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("세금 정책이 없습니다");
+        }
+    }
 }
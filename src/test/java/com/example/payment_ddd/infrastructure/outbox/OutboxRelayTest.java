@@ -0,0 +1,166 @@
+package com.example.payment_ddd.infrastructure.outbox;
+
+import com.example.payment_ddd.application.eventhandler.DomainEventDispatcher;
+import com.example.payment_ddd.application.eventhandler.DomainEventHandler;
+import com.example.payment_ddd.domain.event.DomainEvent;
+import com.example.payment_ddd.domain.event.PaymentCompletedEvent;
+import com.example.payment_ddd.domain.event.PaymentRefundedEvent;
+import com.example.payment_ddd.domain.model.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * OutboxRelayTest - 아웃박스 릴레이 테스트
+ *
+ * - 실제 아웃박스 테이블(H2)에 이벤트를 기록하고 relayOnce()로 한 배치씩 전달
+ * - Executor는 호출 스레드에서 바로 실행해 테스트 트랜잭션 안에서 검증
+ */
+@DataJpaTest
+@DisplayName("OutboxRelay 테스트")
+class OutboxRelayTest {
+
+    private static final int MAX_ATTEMPTS = 10;
+
+    @Autowired
+    private OutboxEventJpaRepository outboxRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<DomainEvent> received = new ArrayList<>();
+    private JpaDomainEventOutbox outbox;
+
+    @BeforeEach
+    void setUp() {
+        outbox = new JpaDomainEventOutbox(outboxRepository);
+    }
+
+    @Nested
+    @DisplayName("전달")
+    class DeliveryTest {
+
+        @Test
+        @DisplayName("기록된 이벤트를 결제 ID와 함께 순서대로 전달하고 완료 표시")
+        void deliverAndMarkPublished() {
+            // Given - 이벤트의 paymentId는 저장 전이라 null
+            outbox.append(1L, List.of(
+                    new PaymentCompletedEvent(null, Money.of(9900)),
+                    new PaymentRefundedEvent(null, Money.of(9900))
+            ));
+            OutboxRelay relay = relay(recording());
+
+            // When
+            int published = relay.relayOnce();
+
+            // Then
+            assertThat(published).isEqualTo(2);
+            assertThat(received).hasSize(2);
+            assertThat(received.get(0)).isInstanceOfSatisfying(PaymentCompletedEvent.class,
+                    event -> assertThat(event.paymentId()).isEqualTo(1L));
+            assertThat(received.get(1)).isInstanceOf(PaymentRefundedEvent.class);
+
+            entityManager.clear();
+            assertThat(outboxRepository.countByPublishedAtIsNullAndAttemptsLessThan(MAX_ATTEMPTS)).isZero();
+            assertThat(relay.relayOnce()).isZero();
+        }
+
+        @Test
+        @DisplayName("핸들러가 실패하면 시도 횟수를 올리고 같은 결제의 뒤 이벤트는 보류")
+        void keepFailedEventsPending() {
+            // Given
+            outbox.append(1L, List.of(
+                    new PaymentCompletedEvent(null, Money.of(9900)),
+                    new PaymentRefundedEvent(null, Money.of(9900))
+            ));
+            outbox.append(2L, List.of(new PaymentCompletedEvent(null, Money.of(11000))));
+            DomainEventHandler<PaymentCompletedEvent> failingForFirst = handler(PaymentCompletedEvent.class, event -> {
+                if (event.paymentId() == 1L) {
+                    throw new IllegalStateException("정산 서버 오류");
+                }
+                received.add(event);
+            });
+            OutboxRelay relay = relay(failingForFirst);
+
+            // When
+            int published = relay.relayOnce();
+
+            // Then - 결제 2의 이벤트만 전달됨
+            assertThat(published).isEqualTo(1);
+            assertThat(received).hasSize(1);
+
+            entityManager.clear();
+            assertThat(outboxRepository.countByPublishedAtIsNullAndAttemptsLessThan(MAX_ATTEMPTS)).isEqualTo(2);
+            assertThat(outboxRepository.findAll())
+                    .filteredOn(e -> e.getEventType().equals("PaymentCompletedEvent") && e.getAggregateId() == 1L)
+                    .singleElement()
+                    .satisfies(e -> {
+                        assertThat(e.getAttempts()).isEqualTo(1);
+                        assertThat(e.getLastError()).contains("정산 서버 오류");
+                    });
+            assertThat(meterRegistry.counter("payment.ddd.outbox.failed").count()).isEqualTo(1.0);
+            assertThat(meterRegistry.get("payment.ddd.outbox.pending").gauge().value()).isEqualTo(2.0);
+        }
+
+        @Test
+        @DisplayName("최대 시도 횟수를 넘긴 이벤트는 대기/지연에서 빠지고 dead로 집계")
+        void excludeDeadEventsFromLag() {
+            // Given - 한 번만 시도하는 릴레이
+            outbox.append(1L, List.of(new PaymentCompletedEvent(null, Money.of(9900))));
+            OutboxRelay relay = relay(handler(PaymentCompletedEvent.class, event -> {
+                throw new IllegalStateException("정산 서버 오류");
+            }), 1);
+
+            // When
+            relay.relayOnce();
+            entityManager.clear();
+            relay.relayOnce();
+
+            // Then - 실패는 한 번뿐이고, 지연 메트릭이 계속 늘지 않음
+            assertThat(meterRegistry.counter("payment.ddd.outbox.failed").count()).isEqualTo(1.0);
+            assertThat(meterRegistry.get("payment.ddd.outbox.pending").gauge().value()).isZero();
+            assertThat(meterRegistry.get("payment.ddd.outbox.lag").timeGauge().value()).isZero();
+            assertThat(meterRegistry.get("payment.ddd.outbox.dead").gauge().value()).isEqualTo(1.0);
+        }
+    }
+
+    private OutboxRelay relay(DomainEventHandler<?> handler) {
+        return relay(handler, MAX_ATTEMPTS);
+    }
+
+    private OutboxRelay relay(DomainEventHandler<?> handler, int maxAttempts) {
+        OutboxProperties properties = new OutboxProperties(true, 500, 100, 4, maxAttempts);
+        return new OutboxRelay(outboxRepository, new DomainEventDispatcher(List.of(handler)),
+                properties, Runnable::run, meterRegistry);
+    }
+
+    private DomainEventHandler<DomainEvent> recording() {
+        return handler(DomainEvent.class, received::add);
+    }
+
+    private <T extends DomainEvent> DomainEventHandler<T> handler(Class<T> type, Consumer<T> action) {
+        return new DomainEventHandler<>() {
+            @Override
+            public void handle(T event) {
+                action.accept(event);
+            }
+
+            @Override
+            public Class<T> supportedEventType() {
+                return type;
+            }
+        };
+    }
+}
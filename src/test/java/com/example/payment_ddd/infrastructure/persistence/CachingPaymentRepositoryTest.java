@@ -0,0 +1,337 @@
+package com.example.payment_ddd.infrastructure.persistence;
+
+import com.example.payment_ddd.domain.model.*;
+import com.example.payment_ddd.domain.repository.PaymentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * CachingPaymentRepositoryTest - 결제 Aggregate 읽기 캐시 테스트
+ *
+ * - 반복 조회는 위임 Repository를 다시 부르지 않음
+ * - 캐시된 결제를 고쳐도 다른 호출자에게 새어 나가지 않음
+ * - 저장은 커밋 후 반영, 롤백되면 반영하지 않음, 삭제는 바로 제거
+ * - 조건부 상태 변경이 실패하면 캐시에서 제거
+ */
+@DisplayName("CachingPaymentRepository 테스트")
+class CachingPaymentRepositoryTest {
+
+    private CountingPaymentRepository delegate;
+    private CachingPaymentRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new CountingPaymentRepository();
+        repository = new CachingPaymentRepository(delegate,
+                new PaymentCacheProperties(true, 100, Duration.ofMinutes(10)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Nested
+    @DisplayName("조회")
+    class FindTest {
+
+        @Test
+        @DisplayName("같은 ID를 다시 조회하면 위임 Repository를 호출하지 않음")
+        void readThrough() {
+            // given
+            Long id = delegate.save(completedPayment()).getId();
+
+            // when
+            Payment first = repository.findById(id).orElseThrow();
+            Payment second = repository.findById(id).orElseThrow();
+
+            // then
+            assertThat(delegate.findByIdCalls).isEqualTo(1);
+            assertThat(second.getTaxedAmount()).isEqualTo(first.getTaxedAmount());
+            assertThat(second.getCountry()).isSameAs(first.getCountry());
+        }
+
+        @Test
+        @DisplayName("조회할 때마다 새 Payment를 돌려주므로 한쪽 변경이 캐시에 남지 않음")
+        void returnsIndependentInstances() {
+            // given
+            Long id = delegate.save(completedPayment()).getId();
+            Payment first = repository.findById(id).orElseThrow();
+
+            // when - 저장하지 않고 상태만 변경
+            first.refund();
+            Payment second = repository.findById(id).orElseThrow();
+
+            // then
+            assertThat(second).isNotSameAs(first);
+            assertThat(second.getStatus()).isEqualTo(PaymentStatus.COMPLETED);
+            assertThat(second.getDomainEvents()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("없는 결제는 캐시하지 않음")
+        void missingIsNotCached() {
+            // when
+            Optional<Payment> first = repository.findById(99L);
+            Optional<Payment> second = repository.findById(99L);
+
+            // then
+            assertThat(first).isEmpty();
+            assertThat(second).isEmpty();
+            assertThat(delegate.findByIdCalls).isEqualTo(2);
+            assertThat(repository.cachedCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("쓰기 트랜잭션 안의 조회는 캐시를 거치지 않음")
+        void writeTransactionBypassesCache() {
+            // given
+            Long id = delegate.save(completedPayment()).getId();
+            beginTransaction(false);
+
+            // when
+            repository.findById(id);
+            repository.findById(id);
+
+            // then
+            assertThat(delegate.findByIdCalls).isEqualTo(2);
+            assertThat(repository.cachedCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("읽기 전용 트랜잭션 안의 조회는 캐시를 사용")
+        void readOnlyTransactionUsesCache() {
+            // given
+            Long id = delegate.save(completedPayment()).getId();
+            beginTransaction(true);
+
+            // when
+            repository.findById(id);
+            repository.findById(id);
+
+            // then
+            assertThat(delegate.findByIdCalls).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("저장과 삭제")
+    class WriteTest {
+
+        @Test
+        @DisplayName("트랜잭션 없이 저장하면 바로 캐시에 반영 (write-through)")
+        void saveWritesThrough() {
+            // given
+            Long id = repository.save(completedPayment()).getId();
+            Payment payment = repository.findById(id).orElseThrow();
+
+            // when
+            payment.refund();
+            repository.save(payment);
+            Payment reloaded = repository.findById(id).orElseThrow();
+
+            // then
+            assertThat(reloaded.getStatus()).isEqualTo(PaymentStatus.REFUNDED);
+            assertThat(delegate.findByIdCalls).isZero();
+        }
+
+        @Test
+        @DisplayName("트랜잭션 안에서 저장하면 커밋된 뒤에 캐시에 반영")
+        void saveAppliesAfterCommit() {
+            // given
+            Long id = delegate.save(completedPayment()).getId();
+            repository.findById(id);
+            beginTransaction(false);
+
+            // when
+            Payment payment = repository.findById(id).orElseThrow();
+            payment.refund();
+            repository.save(payment);
+            long cachedBeforeCommit = repository.cachedCount();
+            commit();
+
+            // then
+            assertThat(cachedBeforeCommit).isZero();
+            assertThat(repository.findById(id).orElseThrow().getStatus()).isEqualTo(PaymentStatus.REFUNDED);
+        }
+
+        @Test
+        @DisplayName("롤백되면 캐시에 넣지 않고 다음 조회는 위임 Repository에서 읽음")
+        void rollbackLeavesCacheEmpty() {
+            // given
+            Long id = delegate.save(completedPayment()).getId();
+            repository.findById(id);
+            beginTransaction(false);
+            repository.save(repository.findById(id).orElseThrow());
+
+            // when
+            rollback();
+            int callsBefore = delegate.findByIdCalls;
+            repository.findById(id);
+
+            // then
+            assertThat(delegate.findByIdCalls).isEqualTo(callsBefore + 1);
+        }
+
+        @Test
+        @DisplayName("조건부 상태 변경이 실패하면 캐시를 비워 다음 조회는 저장된 상태를 읽음")
+        void failedCompareAndSetInvalidates() {
+            // given - 캐시에는 완료 상태, 저장소는 이미 다른 요청이 환불
+            Long id = delegate.save(completedPayment()).getId();
+            Payment stale = repository.findById(id).orElseThrow();
+            Payment winner = delegate.findById(id).orElseThrow();
+            winner.refund();
+            delegate.save(winner);
+
+            // when
+            stale.refund();
+            boolean updated = repository.updateStatusIfCurrent(stale, PaymentStatus.COMPLETED);
+
+            // then
+            assertThat(updated).isFalse();
+            assertThat(repository.cachedCount()).isZero();
+            assertThat(repository.findById(id).orElseThrow().getStatus()).isEqualTo(PaymentStatus.REFUNDED);
+        }
+
+        @Test
+        @DisplayName("삭제하면 캐시에서도 제거")
+        void deleteInvalidates() {
+            // given
+            Long id = delegate.save(completedPayment()).getId();
+            repository.findById(id);
+
+            // when
+            repository.deleteById(id);
+
+            // then
+            assertThat(repository.findById(id)).isEmpty();
+            assertThat(repository.cachedCount()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("적중/미스가 cache.gets 메트릭으로 남음")
+    void recordsHitAndMissMetrics() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        repository.bindTo(meterRegistry);
+        Long id = delegate.save(completedPayment()).getId();
+
+        // when
+        repository.findById(id);
+        repository.findById(id);
+        repository.findById(id);
+
+        // then
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    // ========================================================================
+    // 트랜잭션 흉내 - 스프링 트랜잭션 매니저 없이 동기화만 활성화
+    // ========================================================================
+
+    private static void beginTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        endTransaction();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+
+    private static void rollback() {
+        endTransaction();
+    }
+
+    private static void endTransaction() {
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    private static Payment completedPayment() {
+        Payment payment = Payment.create(Money.of(10000), Money.of(10000), Money.of(11000), Country.of("KR"), false);
+        payment.complete();
+        payment.pullDomainEvents();
+        return payment;
+    }
+
+    /**
+     * DB 대신 쓰는 인메모리 Repository - findById 호출 수를 셈
+     * - 실제 JPA 구현처럼 조회할 때마다 새 Payment를 복원합니다
+     */
+    private static class CountingPaymentRepository implements PaymentRepository {
+        private final Map<Long, Payment> store = new HashMap<>();
+        private long idSequence = 1L;
+        int findByIdCalls;
+
+        @Override
+        public Payment save(Payment payment) {
+            if (payment.getId() == null) {
+                payment.assignId(idSequence++);
+            }
+            store.put(payment.getId(), copy(payment));
+            return payment;
+        }
+
+        @Override
+        public boolean updateStatusIfCurrent(Payment payment, PaymentStatus expected) {
+            Payment stored = store.get(payment.getId());
+            if (stored == null || stored.getStatus() != expected) {
+                return false;
+            }
+            store.put(payment.getId(), copy(payment));
+            return true;
+        }
+
+        @Override
+        public Optional<Payment> findById(Long id) {
+            findByIdCalls++;
+            return Optional.ofNullable(store.get(id)).map(CountingPaymentRepository::copy);
+        }
+
+        @Override
+        public List<Payment> findByStatus(PaymentStatus status) {
+            return store.values().stream()
+                    .filter(p -> p.getStatus() == status)
+                    .map(CountingPaymentRepository::copy)
+                    .toList();
+        }
+
+        @Override
+        public List<Payment> findAll() {
+            return store.values().stream().map(CountingPaymentRepository::copy).toList();
+        }
+
+        @Override
+        public void deleteById(Long id) {
+            store.remove(id);
+        }
+
+        private static Payment copy(Payment payment) {
+            return Payment.reconstitute(payment.getId(), payment.getOriginalPrice(), payment.getDiscountedAmount(),
+                    payment.getTaxedAmount(), payment.getCountry(), payment.isVip(), payment.getStatus(),
+                    LocalDateTime.now(), LocalDateTime.now());
+        }
+    }
+}
@@ -3,7 +3,9 @@ package com.example.payment_ddd.integration;
 import com.example.payment_ddd.PaymentDddApplication;
 import com.example.payment_ddd.application.command.CreatePaymentCommand;
 import com.example.payment_ddd.application.command.RefundPaymentCommand;
+import com.example.payment_ddd.application.port.PaymentView;
 import com.example.payment_ddd.application.service.PaymentCommandService;
+import com.example.payment_ddd.application.service.PaymentQueryService;
 import com.example.payment_ddd.domain.model.Payment;
 import com.example.payment_ddd.domain.model.PaymentStatus;
 import org.junit.jupiter.api.DisplayName;
@@ -13,6 +15,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.*;
 
 /**
@@ -31,6 +35,9 @@ class PaymentDddIntegrationTest {
     @Autowired
     private PaymentCommandService paymentCommandService;
 
+    @Autowired
+    private PaymentQueryService paymentQueryService;
+
     @Nested
     @DisplayName("결제 전체 흐름")
     class FullFlowTest {
@@ -111,4 +118,37 @@ class PaymentDddIntegrationTest {
                     .isInstanceOf(IllegalStateException.class);
         }
     }
+
+    @Nested
+    @DisplayName("조회 모델 (PaymentView)")
+    class QueryTest {
+
+        @Test
+        @DisplayName("목록/상태별/최근 조회는 저장된 값을 그대로 돌려준다")
+        void queryViews() {
+            // given
+            Payment completed = paymentCommandService.createAndCompletePayment(new CreatePaymentCommand(10000, "KR", true));
+            Payment refunded = paymentCommandService.createAndCompletePayment(new CreatePaymentCommand(20000, "US", false));
+            paymentCommandService.refundPayment(new RefundPaymentCommand(refunded.getId()));
+
+            // when
+            List<PaymentView> all = paymentQueryService.getAllPayments();
+            List<PaymentView> refundedViews = paymentQueryService.getPaymentsByStatus(PaymentStatus.REFUNDED);
+            List<PaymentView> recent = paymentQueryService.getRecentPayments(1);
+
+            // then
+            assertThat(all).extracting(PaymentView::id)
+                    .containsExactlyInAnyOrder(completed.getId(), refunded.getId());
+            assertThat(all).filteredOn(view -> view.id().equals(completed.getId()))
+                    .singleElement()
+                    .satisfies(view -> {
+                        assertThat(view.taxedAmount()).isEqualTo(completed.getTaxedAmount().getAmount());
+                        assertThat(view.country()).isEqualTo("KR");
+                        assertThat(view.vip()).isTrue();
+                        assertThat(view.status()).isEqualTo("COMPLETED");
+                    });
+            assertThat(refundedViews).extracting(PaymentView::id).containsExactly(refunded.getId());
+            assertThat(recent).hasSize(1);
+        }
+    }
 }
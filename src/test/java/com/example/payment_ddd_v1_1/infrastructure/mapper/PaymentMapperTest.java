@@ -25,6 +25,7 @@ import static org.assertj.core.api.Assertions.*;
  *
  * - toDomain(): PaymentJpaEntity → Payment (Domain)
  * - toEntity(): Payment (Domain) → PaymentJpaEntity
+ * - updateEntity(): Payment (Domain) → 기존 PaymentJpaEntity
  *
  * ============================================================================
  * [왜 Mapper 테스트가 필요한가?]
@@ -189,6 +190,32 @@ class PaymentMapperTest {
         }
     }
 
+    @Nested
+    @DisplayName("updateEntity() 테스트 - 상태 전이 반영")
+    class UpdateEntityTest {
+
+        @Test
+        @DisplayName("상태와 수정 일시만 덮어쓰고 나머지 값은 유지")
+        void copiesOnlyMutableFields() {
+            // given
+            PaymentJpaEntity entity = mapper.toEntity(Payment.reconstitute(
+                    1L, Money.of(10000), Money.of(9000), Money.of(9900),
+                    Country.of("KR"), false, PaymentStatus.PENDING, createdAt, updatedAt));
+            Payment payment = mapper.toDomain(entity);
+            payment.complete();
+
+            // when
+            mapper.updateEntity(payment, entity);
+
+            // then
+            assertThat(entity.getStatus()).isEqualTo("COMPLETED");
+            assertThat(entity.getUpdatedAt()).isEqualTo(payment.getUpdatedAt());
+            assertThat(entity.getId()).isEqualTo(1L);
+            assertThat(entity.getTaxedAmount()).isEqualTo(9900.0);
+            assertThat(entity.getCreatedAt()).isEqualTo(createdAt);
+        }
+    }
+
     @Nested
     @DisplayName("왕복 변환 테스트 (Round-trip)")
     class RoundTripTest {
@@ -0,0 +1,126 @@
+package com.example.payment_ddd_v1_1.infrastructure.persistence;
+
+import com.example.payment_ddd_v1_1.PaymentDddV1_1Application;
+import com.example.payment_ddd_v1_1.application.PaymentService;
+import com.example.payment_ddd_v1_1.domain.model.Payment;
+import com.example.payment_ddd_v1_1.domain.model.PaymentStatus;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JpaPaymentRepository SQL 횟수 테스트
+ *
+ * ============================================================================
+ * [무엇을 검증하나요?]
+ * ============================================================================
+ *
+ * 상태 전이(완료/실패/환불) 한 번에 실행되는 SQL이
+ * - SELECT 1번 (결제 조회)
+ * - UPDATE 1번 (변경 감지)
+ * 뿐인지 확인합니다.
+ *
+ * save()가 새 엔티티를 만들어 merge하거나 다시 조회하면 실패합니다.
+ *
+ * ============================================================================
+ * [테스트 방법]
+ * ============================================================================
+ *
+ * - 서비스 트랜잭션이 실제로 커밋되어야 UPDATE가 나가므로 @Transactional을 붙이지 않음
+ * - 2차 캐시를 비워서 조회가 항상 DB로 가게 함
+ * - StatementInspector로 Hibernate가 보내는 SQL을 기록
+ */
+@SpringBootTest(classes = PaymentDddV1_1Application.class,
+        properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.example.payment_ddd_v1_1.infrastructure.persistence.JpaPaymentRepositorySqlCountTest$SqlCapture")
+@DisplayName("JpaPaymentRepository SQL 횟수 테스트")
+class JpaPaymentRepositorySqlCountTest {
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("결제 완료는 SELECT 1번, UPDATE 1번")
+    void completeIssuesOneReadAndOneWrite() {
+        // given
+        Long id = paymentService.createPayment(10000.0, "KR", false).getId();
+        startCapture();
+
+        // when
+        Payment completed = paymentService.completePayment(id);
+
+        // then
+        assertOneSelectAndOneUpdate();
+        assertThat(completed.getStatus()).isEqualTo(PaymentStatus.COMPLETED);
+        assertThat(paymentService.getPayment(id).getStatus()).isEqualTo(PaymentStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("결제 실패 처리는 SELECT 1번, UPDATE 1번")
+    void failIssuesOneReadAndOneWrite() {
+        // given
+        Long id = paymentService.createPayment(10000.0, "KR", false).getId();
+        startCapture();
+
+        // when
+        paymentService.failPayment(id);
+
+        // then
+        assertOneSelectAndOneUpdate();
+        assertThat(paymentService.getPayment(id).getStatus()).isEqualTo(PaymentStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("환불은 SELECT 1번, UPDATE 1번")
+    void refundIssuesOneReadAndOneWrite() {
+        // given
+        Long id = paymentService.createPayment(10000.0, "KR", false).getId();
+        paymentService.completePayment(id);
+        startCapture();
+
+        // when
+        paymentService.refundPayment(id);
+
+        // then
+        assertOneSelectAndOneUpdate();
+        assertThat(paymentService.getPayment(id).getStatus()).isEqualTo(PaymentStatus.REFUNDED);
+    }
+
+    private void startCapture() {
+        entityManagerFactory.getCache().evictAll();
+        SqlCapture.CAPTURED.clear();
+    }
+
+    private void assertOneSelectAndOneUpdate() {
+        List<String> statements = List.copyOf(SqlCapture.CAPTURED);
+        assertThat(statements).as("실행된 SQL%n%s", String.join("\n", statements)).hasSize(2);
+        assertThat(statements.get(0)).startsWithIgnoringCase("select");
+        assertThat(statements.get(1)).startsWithIgnoringCase("update");
+    }
+
+    /**
+     * Hibernate가 실행하는 모든 SQL을 기록하는 StatementInspector
+     * - 설정 값으로 클래스 이름을 넘기므로 public + 기본 생성자가 필요합니다
+     */
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> CAPTURED = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            CAPTURED.add(sql.trim());
+            return sql;
+        }
+    }
+}
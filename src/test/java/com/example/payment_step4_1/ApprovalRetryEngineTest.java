@@ -0,0 +1,240 @@
+package com.example.payment_step4_1;
+
+import com.example.payment_step4_1.domain.model.FailureType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ApprovalRetryEngine / ApprovalRetryPolicy 테스트
+ *
+ * - 지수 백오프와 상한, 실패 유형별 최대 시도 횟수
+ * - 스케줄러는 대기만 하고 재시도는 worker 스레드에서 실행되는지, 재시도 횟수가 메트릭으로 남는지
+ */
+@DisplayName("ApprovalRetryEngine 테스트")
+class ApprovalRetryEngineTest {
+
+    private ScheduledExecutorService scheduler;
+    private ExecutorService worker;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, "retry-test"));
+        worker = Executors.newCachedThreadPool(runnable -> new Thread(runnable, "retry-worker-test"));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+        worker.shutdownNow();
+    }
+
+    @Nested
+    @DisplayName("재시도 정책")
+    class PolicyTest {
+
+        @Test
+        @DisplayName("백오프는 배수로 늘어나고 최대값에서 멈춤")
+        void backoffGrowsAndCaps() {
+            // given
+            ApprovalRetryPolicy policy = new ApprovalRetryPolicy(
+                    Map.of(), Duration.ofMillis(50), 2.0, Duration.ofMillis(300), 0.0);
+
+            // then
+            assertThat(policy.backoffMillis(1, 0.5)).isEqualTo(50);
+            assertThat(policy.backoffMillis(2, 0.5)).isEqualTo(100);
+            assertThat(policy.backoffMillis(3, 0.5)).isEqualTo(200);
+            assertThat(policy.backoffMillis(4, 0.5)).isEqualTo(300);
+            assertThat(policy.backoffMillis(10, 0.5)).isEqualTo(300);
+        }
+
+        @Test
+        @DisplayName("jitter는 대기 시간을 ±비율 안에서 흔듦")
+        void jitterStaysInRange() {
+            // given
+            ApprovalRetryPolicy policy = new ApprovalRetryPolicy(
+                    Map.of(), Duration.ofMillis(100), 2.0, Duration.ofSeconds(1), 0.2);
+
+            // then
+            assertThat(policy.backoffMillis(1, 0.0)).isEqualTo(80);
+            assertThat(policy.backoffMillis(1, 0.5)).isEqualTo(100);
+            assertThat(policy.backoffMillis(1, 0.999)).isBetween(119L, 120L);
+        }
+
+        @Test
+        @DisplayName("일반 고객은 재시도하지 않고, VIP는 실패 유형별 횟수를 따름")
+        void maxAttemptsByTypeAndGrade() {
+            // given
+            ApprovalRetryPolicy policy = ApprovalRetryPolicy.defaults();
+
+            // then
+            assertThat(policy.maxAttempts(FailureType.NETWORK_ERROR, false)).isEqualTo(1);
+            assertThat(policy.maxAttempts(FailureType.NETWORK_ERROR, true)).isEqualTo(3);
+            assertThat(policy.maxAttempts(FailureType.POLICY_REJECTED, true)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("잘못된 설정은 생성 시점에 거부")
+        void rejectsInvalidSettings() {
+            assertThatThrownBy(() -> new ApprovalRetryPolicy(
+                    Map.of(), Duration.ofMillis(50), 0.5, Duration.ofSeconds(1), 0.2))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new ApprovalRetryPolicy(
+                    Map.of(), Duration.ofSeconds(2), 2.0, Duration.ofSeconds(1), 0.2))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("재시도 실행")
+    class ExecuteTest {
+
+        private final ApprovalRetryPolicy policy = new ApprovalRetryPolicy(
+                Map.of(FailureType.NETWORK_ERROR, 3), Duration.ofMillis(1), 2.0, Duration.ofMillis(5), 0.0);
+
+        @Test
+        @DisplayName("VIP 실패는 worker 스레드에서 재시도하고 성공하면 null로 완료")
+        void retriesOnWorkerUntilSuccess() throws Exception {
+            // given
+            ApprovalRetryEngine engine = new ApprovalRetryEngine(policy, scheduler, worker, meterRegistry);
+            List<String> threads = Collections.synchronizedList(new ArrayList<>());
+
+            // when
+            CompletableFuture<FailureType> result = engine.execute(true, attempt -> {
+                threads.add(Thread.currentThread().getName());
+                return attempt < 3 ? FailureType.NETWORK_ERROR : null;
+            });
+
+            // then
+            assertThat(result.get(5, TimeUnit.SECONDS)).isNull();
+            assertThat(threads).hasSize(3);
+            assertThat(threads.subList(1, 3)).containsOnly("retry-worker-test");
+            assertThat(meterRegistry.counter("payment.approval.retries", "failureType", "NETWORK_ERROR").count())
+                    .isEqualTo(2.0);
+        }
+
+        @Test
+        @DisplayName("블로킹되는 재시도가 있어도 다른 결제의 재시도는 스케줄러 뒤에 줄 서지 않음")
+        void blockedRetryDoesNotStallOthers() throws Exception {
+            // given - 첫 번째 결제의 재시도는 latch가 열릴 때까지 블로킹됨
+            ApprovalRetryEngine engine = new ApprovalRetryEngine(policy, scheduler, worker, meterRegistry);
+            CountDownLatch release = new CountDownLatch(1);
+
+            // when
+            CompletableFuture<FailureType> blocked = engine.execute(true, attempt -> {
+                if (attempt == 1) {
+                    return FailureType.NETWORK_ERROR;
+                }
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return null;
+            });
+            CompletableFuture<FailureType> other = engine.execute(true,
+                    attempt -> attempt < 2 ? FailureType.NETWORK_ERROR : null);
+
+            // then - 스케줄러 스레드가 하나뿐이어도 두 번째 결제의 재시도는 끝남
+            try {
+                assertThat(other.get(5, TimeUnit.SECONDS)).isNull();
+                assertThat(blocked).isNotDone();
+            } finally {
+                release.countDown();
+            }
+            assertThat(blocked.get(5, TimeUnit.SECONDS)).isNull();
+        }
+
+        @Test
+        @DisplayName("worker가 종료되어 재시도를 실행할 수 없으면 예외로 완료")
+        void failsWhenWorkerRejects() {
+            // given
+            worker.shutdown();
+            ApprovalRetryEngine engine = new ApprovalRetryEngine(policy, scheduler, worker, meterRegistry);
+
+            // when
+            CompletableFuture<FailureType> result = engine.execute(true, attempt -> FailureType.NETWORK_ERROR);
+
+            // then
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(RejectedExecutionException.class);
+        }
+
+        @Test
+        @DisplayName("최대 시도 횟수를 넘기면 마지막 실패 유형으로 완료")
+        void completesWithLastFailure() throws Exception {
+            // given
+            ApprovalRetryEngine engine = new ApprovalRetryEngine(policy, scheduler, worker, meterRegistry);
+            AtomicInteger attempts = new AtomicInteger();
+
+            // when
+            CompletableFuture<FailureType> result = engine.execute(true, attempt -> {
+                attempts.incrementAndGet();
+                return FailureType.NETWORK_ERROR;
+            });
+
+            // then
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(FailureType.NETWORK_ERROR);
+            assertThat(attempts).hasValue(3);
+        }
+
+        @Test
+        @DisplayName("재시도 대상이 아닌 실패와 일반 고객은 한 번만 시도")
+        void noRetryForNonRetryableOrNonVip() {
+            // given
+            ApprovalRetryEngine engine = new ApprovalRetryEngine(policy, scheduler, worker, meterRegistry);
+            AtomicInteger attempts = new AtomicInteger();
+
+            // when
+            CompletableFuture<FailureType> rejected = engine.execute(true, attempt -> {
+                attempts.incrementAndGet();
+                return FailureType.POLICY_REJECTED;
+            });
+            CompletableFuture<FailureType> nonVip = engine.execute(false, attempt -> {
+                attempts.incrementAndGet();
+                return FailureType.NETWORK_ERROR;
+            });
+
+            // then - 첫 시도는 호출 스레드에서 실행되므로 바로 완료됨
+            assertThat(rejected).isCompletedWithValue(FailureType.POLICY_REJECTED);
+            assertThat(nonVip).isCompletedWithValue(FailureType.NETWORK_ERROR);
+            assertThat(attempts).hasValue(2);
+            assertThat(meterRegistry.find("payment.approval.retries").counter()).isNull();
+        }
+
+        @Test
+        @DisplayName("스케줄러가 종료되어 재시도를 예약할 수 없으면 예외로 완료")
+        void failsWhenSchedulerRejects() {
+            // given
+            scheduler.shutdown();
+            ApprovalRetryEngine engine = new ApprovalRetryEngine(policy, scheduler, worker, meterRegistry);
+
+            // when
+            CompletableFuture<FailureType> result = engine.execute(true, attempt -> FailureType.NETWORK_ERROR);
+
+            // then
+            assertThat(result).isCompletedExceptionally();
+        }
+    }
+}
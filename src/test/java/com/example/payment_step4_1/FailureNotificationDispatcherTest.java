@@ -0,0 +1,171 @@
+package com.example.payment_step4_1;
+
+import com.example.payment_step4_1.domain.model.Country;
+import com.example.payment_step4_1.domain.model.FailureType;
+import com.example.payment_step4_1.domain.model.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * FailureNotificationDispatcher 테스트
+ *
+ * - 시간/건수 단위로 모아서 digest 전송
+ * - 큐가 가득 차면 버리고 dropped 집계, sink 오류는 다음 전송에 영향 없음
+ */
+@DisplayName("FailureNotificationDispatcher 테스트")
+class FailureNotificationDispatcherTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private List<List<FailureNotification>> digests;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        digests = new CopyOnWriteArrayList<>();
+    }
+
+    @Nested
+    @DisplayName("모아서 전송")
+    class CoalesceTest {
+
+        @Test
+        @DisplayName("window 안에 들어온 알림은 digest 하나로 전송")
+        void coalescesWithinWindow() {
+            // given
+            FailureNotificationDispatcher dispatcher = new FailureNotificationDispatcher(
+                    digests::add, 100, Duration.ofSeconds(1), 500, meterRegistry);
+
+            // when
+            for (long id = 1; id <= 5; id++) {
+                dispatcher.enqueue(notification(id));
+            }
+            dispatcher.close();
+
+            // then
+            assertThat(digests).hasSize(1);
+            assertThat(digests.get(0)).extracting(FailureNotification::paymentId)
+                    .containsExactly(1L, 2L, 3L, 4L, 5L);
+            assertThat(meterRegistry.counter("payment.notification.delivered").count()).isEqualTo(5.0);
+            assertThat(meterRegistry.counter("payment.notification.digests").count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("maxBatchSize건이 차면 window를 기다리지 않고 나눠서 전송")
+        void splitsByMaxBatchSize() {
+            // given
+            FailureNotificationDispatcher dispatcher = new FailureNotificationDispatcher(
+                    digests::add, 100, Duration.ofSeconds(1), 2, meterRegistry);
+
+            // when
+            for (long id = 1; id <= 5; id++) {
+                dispatcher.enqueue(notification(id));
+            }
+            dispatcher.close();
+
+            // then
+            assertThat(digests).allSatisfy(digest -> assertThat(digest).hasSizeLessThanOrEqualTo(2));
+            assertThat(digests.stream().mapToInt(List::size).sum()).isEqualTo(5);
+        }
+    }
+
+    @Nested
+    @DisplayName("넘침과 오류")
+    class OverflowTest {
+
+        @Test
+        @DisplayName("큐가 가득 차면 승인 스레드를 막지 않고 버린 뒤 dropped를 셈")
+        void dropsWhenQueueIsFull() throws Exception {
+            // given - 첫 digest 전송을 막아서 큐가 비워지지 않게 함
+            CountDownLatch sending = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            FailureNotificationDispatcher dispatcher = new FailureNotificationDispatcher(digest -> {
+                sending.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                digests.add(digest);
+            }, 2, Duration.ofMillis(1), 1, meterRegistry);
+            dispatcher.enqueue(notification(1L));
+            assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // when - 큐 용량 2를 넘겨서 접수
+            boolean second = dispatcher.enqueue(notification(2L));
+            boolean third = dispatcher.enqueue(notification(3L));
+            boolean fourth = dispatcher.enqueue(notification(4L));
+            release.countDown();
+            dispatcher.close();
+
+            // then
+            assertThat(second).isTrue();
+            assertThat(third).isTrue();
+            assertThat(fourth).isFalse();
+            assertThat(meterRegistry.counter("payment.notification.dropped").count()).isEqualTo(1.0);
+            assertThat(meterRegistry.counter("payment.notification.delivered").count()).isEqualTo(3.0);
+        }
+
+        @Test
+        @DisplayName("sink 오류가 나도 다음 알림은 계속 전송")
+        void keepsDeliveringAfterSinkError() {
+            // given - 첫 번째 전송만 실패하는 sink
+            FailureNotificationDispatcher dispatcher = new FailureNotificationDispatcher(digest -> {
+                if (digest.get(0).paymentId() == 1L) {
+                    throw new IllegalStateException("알림 서버 오류");
+                }
+                digests.add(digest);
+            }, 100, Duration.ofMillis(1), 1, meterRegistry);
+
+            // when
+            dispatcher.enqueue(notification(1L));
+            dispatcher.enqueue(notification(2L));
+            dispatcher.close();
+
+            // then
+            assertThat(meterRegistry.counter("payment.notification.sink_errors").count()).isEqualTo(1.0);
+            assertThat(digests).hasSize(1);
+            assertThat(digests.get(0).get(0).paymentId()).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("종료 후 접수된 알림은 버림")
+        void dropsAfterClose() {
+            // given
+            FailureNotificationDispatcher dispatcher = new FailureNotificationDispatcher(
+                    digests::add, 100, Duration.ofMillis(1), 10, meterRegistry);
+            dispatcher.close();
+
+            // when
+            boolean accepted = dispatcher.enqueue(notification(1L));
+
+            // then
+            assertThat(accepted).isFalse();
+            assertThat(meterRegistry.counter("payment.notification.dropped").count()).isEqualTo(1.0);
+        }
+    }
+
+    @Test
+    @DisplayName("VIP 알림은 금액과 국가를 포함한 포맷")
+    void vipFormat() {
+        FailureNotification notification = new FailureNotification(
+                7L, true, FailureType.NETWORK_ERROR, Money.of(11000L), Country.of("KR"));
+
+        assertThat(notification.format()).startsWith("[VIP 고객 결제 실패 알림] 결제 ID: 7, 실패 유형: 네트워크 오류");
+    }
+
+    private static FailureNotification notification(long paymentId) {
+        return new FailureNotification(paymentId, false, FailureType.CARD_LIMIT_EXCEEDED,
+                Money.of(60000L), Country.of("KR"));
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.payment_step4_1;
+
+import com.example.payment_step4_1.domain.model.FailureType;
+import com.example.payment_step4_1.domain.model.Money;
+import com.example.payment_step4_1.domain.model.PaymentFailureRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * FailureRecordIndex 테스트
+ *
+ * - 결제별/유형별 색인, 최근 N건 링 버퍼, 용량 초과 시 오래된 이력 제거
+ */
+@DisplayName("FailureRecordIndex 테스트")
+class FailureRecordIndexTest {
+
+    @Nested
+    @DisplayName("색인 조회")
+    class LookupTest {
+
+        @Test
+        @DisplayName("결제 ID별, 실패 유형별로 기록 순서대로 조회")
+        void findByPaymentIdAndType() {
+            // given
+            FailureRecordIndex index = new FailureRecordIndex(10);
+            PaymentFailureRecord first = record(1L, FailureType.NETWORK_ERROR);
+            PaymentFailureRecord second = record(2L, FailureType.CARD_LIMIT_EXCEEDED);
+            PaymentFailureRecord third = record(1L, FailureType.NETWORK_ERROR);
+
+            // when
+            index.add(first);
+            index.add(second);
+            index.add(third);
+
+            // then
+            assertThat(index.findByPaymentId(1L)).containsExactly(first, third);
+            assertThat(index.findByType(FailureType.NETWORK_ERROR)).containsExactly(first, third);
+            assertThat(index.findByType(FailureType.POLICY_REJECTED)).isEmpty();
+            assertThat(index.findByPaymentId(99L)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("최근 N건은 최신순으로 조회")
+        void findRecent() {
+            // given
+            FailureRecordIndex index = new FailureRecordIndex(10);
+            PaymentFailureRecord first = record(1L, FailureType.NETWORK_ERROR);
+            PaymentFailureRecord second = record(2L, FailureType.NETWORK_ERROR);
+            PaymentFailureRecord third = record(3L, FailureType.NETWORK_ERROR);
+            index.add(first);
+            index.add(second);
+            index.add(third);
+
+            // then
+            assertThat(index.findRecent(2)).containsExactly(third, second);
+            assertThat(index.findRecent(100)).containsExactly(third, second, first);
+        }
+
+        @Test
+        @DisplayName("구간 조회는 기준 시각 이후의 이력만 반환")
+        void findByTypeSince() {
+            // given
+            FailureRecordIndex index = new FailureRecordIndex(10);
+            PaymentFailureRecord record = record(1L, FailureType.NETWORK_ERROR);
+            index.add(record);
+
+            // then
+            assertThat(index.findByTypeSince(FailureType.NETWORK_ERROR, record.getFailedAt().minusMinutes(1)))
+                    .containsExactly(record);
+            assertThat(index.findByTypeSince(FailureType.NETWORK_ERROR, LocalDateTime.now().plusMinutes(1)))
+                    .isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("보관 용량")
+    class CapacityTest {
+
+        @Test
+        @DisplayName("용량을 넘으면 가장 오래된 이력이 모든 색인에서 빠진다")
+        void evictOldestFromAllIndexes() {
+            // given
+            FailureRecordIndex index = new FailureRecordIndex(2);
+            PaymentFailureRecord oldest = record(1L, FailureType.POLICY_REJECTED);
+            PaymentFailureRecord middle = record(2L, FailureType.NETWORK_ERROR);
+            PaymentFailureRecord newest = record(3L, FailureType.NETWORK_ERROR);
+
+            // when
+            index.add(oldest);
+            index.add(middle);
+            index.add(newest);
+
+            // then
+            assertThat(index.findAll()).containsExactly(middle, newest);
+            assertThat(index.findByPaymentId(1L)).isEmpty();
+            assertThat(index.findByType(FailureType.POLICY_REJECTED)).isEmpty();
+            assertThat(index.findByType(FailureType.NETWORK_ERROR)).containsExactly(middle, newest);
+        }
+    }
+
+    private PaymentFailureRecord record(Long paymentId, FailureType type) {
+        return new PaymentFailureRecord(paymentId, type, Money.of(10000), "VIP: false");
+    }
+}
@@ -0,0 +1,296 @@
+package com.example.payment_step4_1;
+
+import com.example.payment_step4_1.domain.model.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * MappedPaymentJournal 테스트
+ *
+ * - 재시작 후 결제/상태/실패 이력 복원
+ * - 세그먼트 교체, 기록 도중 종료된 마지막 레코드 무시
+ * - 여러 스레드가 동시에 기록해도 유실 없음 (그룹 커밋)
+ */
+@DisplayName("MappedPaymentJournal 테스트")
+class MappedPaymentJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Nested
+    @DisplayName("재시작 후 복원")
+    class RecoveryTest {
+
+        @Test
+        @DisplayName("결제, 상태 변경, 실패 이력이 복원되고 ID는 이어서 발급된다")
+        void restoresProcessorState() {
+            // given - 결제 3건 중 1건 승인, 1건 한도 초과 실패
+            ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+            try {
+                MappedPaymentJournal journal = MappedPaymentJournal.open(directory);
+                PaymentProcessor processor = processor(journal, scheduler);
+                Payment approved = processor.createPayment(10000, "KR", false);
+                Payment failed = processor.createPayment(60000, "US", false);
+                Payment pending = processor.createPayment(20000, "KR", true);
+                processor.approve(approved.getId());
+                processor.approve(failed.getId());
+                journal.close();
+
+                // when - 같은 디렉터리로 다시 시작
+                MappedPaymentJournal reopened = MappedPaymentJournal.open(directory);
+                PaymentProcessor restarted = processor(reopened, scheduler);
+
+                // then
+                assertThat(restarted.findPaymentById(approved.getId()).getStatus()).isEqualTo(PaymentStatus.COMPLETED);
+                assertThat(restarted.findPaymentById(failed.getId()).getStatus()).isEqualTo(PaymentStatus.FAILED);
+                Payment restoredPending = restarted.findPaymentById(pending.getId());
+                assertThat(restoredPending.getStatus()).isEqualTo(PaymentStatus.PENDING);
+                assertThat(restoredPending.isVip()).isTrue();
+                assertThat(restoredPending.getTaxedAmount()).isEqualTo(pending.getTaxedAmount());
+                assertThat(restoredPending.getCreatedAt()).isEqualTo(pending.getCreatedAt());
+
+                List<PaymentFailureRecord> records = restarted.findFailureRecordsByPaymentId(failed.getId());
+                assertThat(records).hasSize(1);
+                assertThat(records.get(0).getFailureType()).isEqualTo(FailureType.CARD_LIMIT_EXCEEDED);
+                assertThat(records.get(0).getPolicyInfo()).contains("Country: US");
+
+                assertThat(restarted.createPayment(1000, "KR", false).getId()).isEqualTo(pending.getId() + 1);
+                reopened.close();
+            } finally {
+                scheduler.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("디렉터리만 지정한 처리기도 저널에 남기고, 닫은 뒤 다시 열면 복원된다")
+        void directoryConstructorPersistsByDefault() {
+            // given
+            PaymentProcessor processor = new PaymentProcessor(directory);
+            Payment payment = processor.createPayment(10000, "KR", false);
+
+            // when - 닫으면 저널도 닫혀서 더 기록할 수 없음
+            processor.close();
+
+            // then
+            assertThatThrownBy(() -> processor.createPayment(20000, "KR", false))
+                    .isInstanceOf(IllegalStateException.class);
+            PaymentProcessor restarted = new PaymentProcessor(directory);
+            try {
+                assertThat(restarted.findPaymentById(payment.getId()).getTaxedAmount())
+                        .isEqualTo(payment.getTaxedAmount());
+            } finally {
+                restarted.close();
+            }
+        }
+
+        private PaymentProcessor processor(PaymentJournal journal, ScheduledExecutorService scheduler) {
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            return new PaymentProcessor(journal,
+                    new StubCardApprovalGateway(Duration.ZERO, Duration.ZERO, 0.0),
+                    FailureNotificationDispatcher.withDefaults(NotificationSink.console(), meterRegistry),
+                    ApprovalRetryPolicy.defaults(), scheduler, meterRegistry);
+        }
+    }
+
+    @Nested
+    @DisplayName("세그먼트와 손상된 꼬리")
+    class SegmentTest {
+
+        @Test
+        @DisplayName("세그먼트가 가득 차면 다음 파일로 넘어가고 재생은 순서대로 읽는다")
+        void rollsSegments() throws IOException {
+            // given
+            MappedPaymentJournal journal = MappedPaymentJournal.open(directory, 4, Duration.ZERO);
+
+            // when
+            for (long id = 1; id <= 10; id++) {
+                journal.paymentCreated(payment(id));
+            }
+            journal.close();
+
+            // then
+            assertThat(segmentCount()).isEqualTo(3);
+            assertThat(replayedPaymentIds(MappedPaymentJournal.open(directory, 4, Duration.ZERO)))
+                    .containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+        }
+
+        @Test
+        @DisplayName("기록 도중 끊긴 마지막 레코드는 버리고 그 칸부터 다시 기록한다")
+        void ignoresTornTail() throws IOException {
+            // given - 3건 기록 후 세 번째 레코드를 손상
+            MappedPaymentJournal journal = MappedPaymentJournal.open(directory, 16, Duration.ZERO);
+            for (long id = 1; id <= 3; id++) {
+                journal.paymentCreated(payment(id));
+            }
+            journal.close();
+            Path segment = onlySegment();
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.wrap(new byte[]{0x7f}), 2L * MappedPaymentJournal.RECORD_SIZE + 30);
+            }
+
+            // when
+            MappedPaymentJournal reopened = MappedPaymentJournal.open(directory, 16, Duration.ZERO);
+            List<Long> afterCrash = replayPaymentIds(reopened);
+            reopened.paymentCreated(payment(4L));
+            reopened.close();
+
+            // then
+            assertThat(afterCrash).containsExactly(1L, 2L);
+            assertThat(replayedPaymentIds(MappedPaymentJournal.open(directory, 16, Duration.ZERO)))
+                    .containsExactly(1L, 2L, 4L);
+        }
+
+        @Test
+        @DisplayName("손상된 칸 뒤에 남은 유효한 레코드는 새 기록 후에도 재생되지 않는다")
+        void discardsRecordsAfterHole() throws IOException {
+            // given - 4건 기록 후 두 번째 레코드만 손상 (세 번째, 네 번째는 유효한 채로 남음)
+            MappedPaymentJournal journal = MappedPaymentJournal.open(directory, 16, Duration.ZERO);
+            for (long id = 1; id <= 4; id++) {
+                journal.paymentCreated(payment(id));
+            }
+            journal.close();
+            Path segment = onlySegment();
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.wrap(new byte[]{0x7f}), MappedPaymentJournal.RECORD_SIZE + 30);
+            }
+
+            // when - 손상된 칸에 새 레코드를 기록
+            MappedPaymentJournal reopened = MappedPaymentJournal.open(directory, 16, Duration.ZERO);
+            List<Long> afterCrash = replayPaymentIds(reopened);
+            reopened.paymentCreated(payment(5L));
+            reopened.close();
+
+            // then - 구멍 뒤의 3, 4는 버려지고 새 기록만 이어짐
+            assertThat(afterCrash).containsExactly(1L);
+            assertThat(replayedPaymentIds(MappedPaymentJournal.open(directory, 16, Duration.ZERO)))
+                    .containsExactly(1L, 5L);
+        }
+
+        @Test
+        @DisplayName("긴 정책 정보는 글자가 깨지지 않게 잘라서 저장한다")
+        void truncatesPolicyInfoOnCharacterBoundary() {
+            // given
+            MappedPaymentJournal journal = MappedPaymentJournal.open(directory, 16, Duration.ZERO);
+            String policyInfo = "정책".repeat(100);
+            PaymentFailureRecord record = PaymentFailureRecord.reconstitute(
+                    1L, 1L, FailureType.NETWORK_ERROR, Money.of(1000L), policyInfo, LocalDateTime.now());
+
+            // when
+            journal.failureRecorded(record);
+            List<PaymentFailureRecord> replayed = new ArrayList<>();
+            journal.replay(new CollectingListener(new ArrayList<>(), replayed));
+            journal.close();
+
+            // then
+            assertThat(replayed).hasSize(1);
+            String restored = replayed.get(0).getPolicyInfo();
+            assertThat(policyInfo).startsWith(restored);
+            assertThat(restored).isNotEmpty().doesNotContain("�");
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 기록해도 유실 없이 모두 재생된다")
+    void concurrentAppendsAreAllDurable() throws Exception {
+        // given
+        MappedPaymentJournal journal = MappedPaymentJournal.open(directory, 64, Duration.ofMillis(1));
+        int threadCount = 16;
+        int perThread = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+        try {
+            // when
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threadCount; t++) {
+                long base = (long) t * perThread;
+                futures.add(executor.submit(() -> {
+                    for (long i = 1; i <= perThread; i++) {
+                        journal.paymentCreated(payment(base + i));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+            journal.close();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertThat(replayedPaymentIds(MappedPaymentJournal.open(directory, 64, Duration.ofMillis(1))))
+                .hasSize(threadCount * perThread)
+                .doesNotHaveDuplicates();
+    }
+
+    private static Payment payment(long id) {
+        Money price = Money.of(10000L);
+        return Payment.reconstitute(id, price, price, price, Country.of("KR"), false,
+                PaymentStatus.PENDING, LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    private static List<Long> replayedPaymentIds(MappedPaymentJournal journal) {
+        List<Long> ids = replayPaymentIds(journal);
+        journal.close();
+        return ids;
+    }
+
+    // 재생 후에도 이어서 기록해야 하는 경우 - 저널을 닫지 않음
+    private static List<Long> replayPaymentIds(MappedPaymentJournal journal) {
+        List<Payment> payments = new ArrayList<>();
+        journal.replay(new CollectingListener(payments, new ArrayList<>()));
+        return payments.stream().map(Payment::getId).toList();
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    private Path onlySegment() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.findFirst().orElseThrow();
+        }
+    }
+
+    private record CollectingListener(List<Payment> payments, List<PaymentFailureRecord> records)
+            implements PaymentJournal.Listener {
+
+        @Override
+        public void paymentCreated(Payment payment) {
+            payments.add(payment);
+        }
+
+        @Override
+        public void statusChanged(Long paymentId, PaymentStatus status, LocalDateTime updatedAt) {
+        }
+
+        @Override
+        public void failureRecorded(PaymentFailureRecord record) {
+            records.add(record);
+        }
+    }
+}
@@ -1,12 +1,27 @@
 package com.example.payment_step4_1;
 
 import com.example.payment_step4_1.domain.model.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -37,7 +52,8 @@ class PaymentProcessorTest {
 
     @BeforeEach
     void setUp() {
-        processor = new PaymentProcessor();
+        // 저널 없이 (테스트마다 빈 상태에서 시작)
+        processor = new PaymentProcessor(PaymentJournal.none());
     }
 
     @Nested
@@ -109,6 +125,23 @@ class PaymentProcessorTest {
             assertThat(record.getPolicyInfo()).contains("Country: KR");
             assertThat(record.getPolicyInfo()).contains("DiscountRate: 5%");
         }
+
+        @Test
+        @DisplayName("실패 유형별 최근 이력을 조회할 수 있다")
+        void findRecentFailuresByType() {
+            // given
+            Payment payment = processor.createPayment(60000, "KR", false);
+
+            // when
+            processor.approve(payment.getId());
+
+            // then
+            assertThat(processor.findRecentFailuresByType(FailureType.CARD_LIMIT_EXCEEDED, Duration.ofMinutes(1)))
+                    .extracting(PaymentFailureRecord::getPaymentId)
+                    .containsExactly(payment.getId());
+            assertThat(processor.findFailureRecordsByType(FailureType.POLICY_REJECTED)).isEmpty();
+            assertThat(processor.findRecentFailureRecords(10)).hasSize(1);
+        }
     }
 
     @Nested
@@ -128,11 +161,40 @@ class PaymentProcessorTest {
             assertThat(result.getPayment().getStatus()).isEqualTo(PaymentStatus.FAILED);
         }
 
+        @Test
+        @DisplayName("실패 알림은 알림 스레드에서 모아서 NotificationSink로 전송된다")
+        void notificationIsDeliveredToSink() throws Exception {
+            // given - 전달받은 알림을 모으는 sink
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            List<FailureNotification> received = new CopyOnWriteArrayList<>();
+            FailureNotificationDispatcher dispatcher = new FailureNotificationDispatcher(
+                    received::addAll, 100, Duration.ofMillis(10), 500, meterRegistry);
+            ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+            PaymentProcessor notifyingProcessor = new PaymentProcessor(
+                    PaymentJournal.none(), StubCardApprovalGateway.defaults(), dispatcher,
+                    ApprovalRetryPolicy.defaults(), scheduler, meterRegistry);
+            Payment payment = notifyingProcessor.createPayment(60000, "KR", false);
+
+            try {
+                // when
+                notifyingProcessor.approve(payment.getId());
+                dispatcher.close();
+
+                // then
+                assertThat(received).hasSize(1);
+                assertThat(received.get(0).paymentId()).isEqualTo(payment.getId());
+                assertThat(received.get(0).format())
+                        .isEqualTo("[결제 실패 알림] 결제 ID: " + payment.getId() + ", 실패: 카드 한도 초과");
+            } finally {
+                scheduler.shutdownNow();
+            }
+        }
+
         /**
          * [테스트 불편함]
          * - 외부 알림 시스템을 Mock 해야 검증 가능
-         * - 현재 구조에서는 NotificationClient가 내부 클래스라 Mock 어려움
-         * - "알림이 전송되었는지"를 어떻게 검증할 것인가?
+         * - NotificationSink를 주입하면 "알림이 전송되었는지"를 확인할 수 있지만
+         *   생성자 인자가 계속 늘어난다
          */
     }
 
@@ -184,6 +246,32 @@ class PaymentProcessorTest {
             assertThat(result.getFailureType()).isEqualTo(FailureType.POLICY_REJECTED);
             // VIP여도 재시도 없이 즉시 종료됨
         }
+
+        @Test
+        @DisplayName("비동기 승인은 결과를 Future로 돌려주고 승인 소요 시간을 기록한다")
+        void approveAsyncRecordsTimeToApproval() throws Exception {
+            // given
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+            PaymentProcessor asyncProcessor = new PaymentProcessor(
+                    PaymentJournal.none(), StubCardApprovalGateway.defaults(),
+                    FailureNotificationDispatcher.withDefaults(NotificationSink.console(), meterRegistry),
+                    ApprovalRetryPolicy.defaults(), scheduler, meterRegistry);
+            Payment payment = asyncProcessor.createPayment(60000, "KR", false);
+
+            try {
+                // when
+                PaymentApprovalResult result = asyncProcessor.approveAsync(payment.getId()).get(5, TimeUnit.SECONDS);
+
+                // then - 일반 고객 고액 결제는 재시도 없이 실패
+                assertThat(result.isSuccess()).isFalse();
+                assertThat(meterRegistry.find("payment.approval.time_to_approval")
+                        .tag("outcome", "failure").timer().count()).isEqualTo(1);
+                assertThat(meterRegistry.find("payment.approval.retries").counter()).isNull();
+            } finally {
+                scheduler.shutdownNow();
+            }
+        }
     }
 
     @Nested
@@ -220,6 +308,169 @@ class PaymentProcessorTest {
         }
     }
 
+    @Nested
+    @DisplayName("대량 승인 테스트")
+    class BulkApprovalTest {
+
+        @Test
+        @DisplayName("대기 중인 결제를 모두 승인하고 결과를 요약한다")
+        void approvePendingSummarizes() {
+            // given - 네트워크 오류가 없는 카드사
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+            PaymentProcessor bulkProcessor = new PaymentProcessor(
+                    PaymentJournal.none(), new StubCardApprovalGateway(Duration.ZERO, Duration.ZERO, 0.0),
+                    FailureNotificationDispatcher.withDefaults(NotificationSink.console(), meterRegistry),
+                    ApprovalRetryPolicy.defaults(), scheduler, meterRegistry);
+            for (int i = 0; i < 200; i++) {
+                bulkProcessor.createPayment(10000, "KR", i % 2 == 0);
+            }
+            bulkProcessor.createPayment(60000, "KR", false);   // 한도 초과
+            bulkProcessor.createPayment(150000, "US", true);   // US 고액 정책 거절
+
+            try {
+                // when
+                BulkApprovalSummary summary = bulkProcessor.approvePending();
+
+                // then
+                assertThat(summary.requested()).isEqualTo(202);
+                assertThat(summary.succeeded()).isEqualTo(200);
+                assertThat(summary.failed()).isEqualTo(2);
+                assertThat(summary.failuresByType()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                        FailureType.CARD_LIMIT_EXCEEDED, 1,
+                        FailureType.POLICY_REJECTED, 1));
+                assertThat(summary.skippedPaymentIds()).isEmpty();
+                assertThat(summary.throughputPerSecond()).isPositive();
+                assertThat(bulkProcessor.findAllPayments())
+                        .noneMatch(payment -> payment.getStatus() == PaymentStatus.PENDING);
+            } finally {
+                scheduler.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("승인할 수 없는 결제는 건너뛰고 나머지는 처리한다")
+        void skipsPaymentsThatCannotBeApproved() {
+            // given - 이미 처리된 결제와 없는 결제가 섞인 요청
+            Payment done = processor.createPayment(60000, "KR", false);
+            processor.approve(done.getId());
+            Payment pending = processor.createPayment(60000, "KR", false);
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+
+            try {
+                // when
+                BulkApprovalSummary summary = processor.approveAll(
+                        List.of(done.getId(), pending.getId(), 999L), executor);
+
+                // then
+                assertThat(summary.requested()).isEqualTo(3);
+                assertThat(summary.results()).extracting(result -> result.getPayment().getId())
+                        .containsExactly(pending.getId());
+                assertThat(summary.skippedPaymentIds()).containsExactly(done.getId(), 999L);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("동시성 테스트")
+    class ConcurrencyTest {
+
+        private static final int THREADS = 64;
+
+        @Test
+        @DisplayName("64개 스레드가 동시에 결제를 생성해도 ID 중복이나 누락이 없다")
+        void concurrentCreateHasNoDuplicateIds() throws Exception {
+            // given
+            int paymentsPerThread = 200;
+
+            // when
+            List<List<Payment>> created = runConcurrently(() -> {
+                List<Payment> payments = new ArrayList<>();
+                for (int i = 0; i < paymentsPerThread; i++) {
+                    payments.add(processor.createPayment(1000, "KR", i % 2 == 0));
+                }
+                return payments;
+            });
+
+            // then
+            Set<Long> ids = new HashSet<>();
+            created.forEach(payments -> payments.forEach(p -> ids.add(p.getId())));
+            assertThat(ids).hasSize(THREADS * paymentsPerThread);
+            assertThat(processor.findAllPayments()).hasSize(THREADS * paymentsPerThread);
+        }
+
+        @Test
+        @DisplayName("같은 결제를 64개 스레드가 동시에 승인하면 한 번만 처리된다")
+        void concurrentApproveOnSamePaymentRunsOnce() throws Exception {
+            // given - 일반 고객 고액 결제는 항상 한도 초과로 실패 이력을 남김
+            Payment payment = processor.createPayment(60000, "KR", false);
+
+            // when
+            List<Boolean> outcomes = runConcurrently(() -> {
+                try {
+                    processor.approve(payment.getId());
+                    return true;
+                } catch (IllegalStateException alreadyProcessed) {
+                    return false;
+                }
+            });
+
+            // then
+            assertThat(outcomes).filteredOn(Boolean::booleanValue).hasSize(1);
+            assertThat(processor.findFailureRecordsByPaymentId(payment.getId())).hasSize(1);
+            assertThat(payment.getStatus()).isEqualTo(PaymentStatus.FAILED);
+        }
+
+        @Test
+        @DisplayName("서로 다른 결제를 동시에 승인해도 실패 이력이 유실되지 않는다")
+        void concurrentApproveKeepsAllFailureRecords() throws Exception {
+            // given
+            List<Payment> payments = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                payments.add(processor.createPayment(60000, "KR", false));
+            }
+            List<Long> ids = payments.stream().map(Payment::getId).toList();
+            AtomicInteger next = new AtomicInteger();
+
+            // when - 스레드마다 다른 결제를 승인
+            runConcurrently(() -> processor.approve(ids.get(next.getAndIncrement())));
+
+            // then
+            List<PaymentFailureRecord> records = processor.findAllFailureRecords();
+            assertThat(records).hasSize(THREADS);
+            assertThat(records).extracting(PaymentFailureRecord::getId).doesNotHaveDuplicates();
+            ids.forEach(id -> assertThat(processor.findFailureRecordsByPaymentId(id)).hasSize(1));
+        }
+
+        /**
+         * THREADS개 스레드가 동시에 출발해 task를 실행하고 결과를 모음
+         */
+        private <T> List<T> runConcurrently(Callable<T> task) throws Exception {
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+            try {
+                List<Future<T>> futures = new ArrayList<>();
+                for (int i = 0; i < THREADS; i++) {
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        return task.call();
+                    }));
+                }
+                start.countDown();
+
+                List<T> results = new ArrayList<>();
+                for (Future<T> future : futures) {
+                    results.add(future.get(10, TimeUnit.SECONDS));
+                }
+                return results;
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
     /**
      * ============================================================================
      * [테스트 작성 후 느끼는 불편함 정리]
@@ -0,0 +1,265 @@
+package com.example.payment_step4_1;
+
+import com.example.payment_step4_1.domain.model.Country;
+import com.example.payment_step4_1.domain.model.FailureType;
+import com.example.payment_step4_1.domain.model.Money;
+import com.example.payment_step4_1.domain.model.Payment;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ResilientCardApprovalGateway 테스트
+ *
+ * - 서킷 브레이커 상태 전이 (CLOSED → OPEN → HALF_OPEN → CLOSED/OPEN)
+ * - 동시 호출 제한, 타임아웃
+ * - 지연 주입 부하 테스트: 카드사가 느려져도 요청 스레드가 쌓이지 않고 빨리 실패하는지
+ */
+@DisplayName("ResilientCardApprovalGateway 테스트")
+class ResilientCardApprovalGatewayTest {
+
+    private ExecutorService callExecutor;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        callExecutor = ResilientCardApprovalGateway.defaultCallExecutor();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        callExecutor.shutdownNow();
+    }
+
+    @Nested
+    @DisplayName("서킷 브레이커")
+    class CircuitBreakerTest {
+
+        private final AtomicLong now = new AtomicLong();
+        private final CardGatewayCircuitBreaker breaker = new CardGatewayCircuitBreaker(
+                new CardGatewayResiliencePolicy(Duration.ofSeconds(1), 10, 4, 4, 0.5, Duration.ofSeconds(5)),
+                now::get);
+
+        @Test
+        @DisplayName("최소 호출 수가 쌓인 뒤 실패 비율이 임계값 이상이면 열림")
+        void opensOnFailureRate() {
+            // given - 최근 4건 중 1건 실패
+            breaker.onSuccess();
+            breaker.onFailure();
+            breaker.onSuccess();
+            breaker.onSuccess();
+            assertThat(breaker.state()).isEqualTo(CardGatewayCircuitBreaker.State.CLOSED);
+
+            // when - 가장 오래된 성공이 밀려나고 최근 4건: 실패, 성공, 성공, 실패
+            breaker.onFailure();
+
+            // then
+            assertThat(breaker.state()).isEqualTo(CardGatewayCircuitBreaker.State.OPEN);
+            assertThat(breaker.tryAcquire()).isFalse();
+        }
+
+        @Test
+        @DisplayName("열린 뒤 대기 시간이 지나면 시험 호출 1건만 허용하고, 성공하면 닫힘")
+        void halfOpenProbeCloses() {
+            // given
+            openBreaker();
+            now.addAndGet(Duration.ofSeconds(5).toNanos());
+
+            // when
+            boolean probe = breaker.tryAcquire();
+            boolean second = breaker.tryAcquire();
+            breaker.onSuccess();
+
+            // then
+            assertThat(probe).isTrue();
+            assertThat(second).isFalse();
+            assertThat(breaker.state()).isEqualTo(CardGatewayCircuitBreaker.State.CLOSED);
+            assertThat(breaker.tryAcquire()).isTrue();
+        }
+
+        @Test
+        @DisplayName("시험 호출이 실패하면 다시 열림")
+        void halfOpenProbeReopens() {
+            // given
+            openBreaker();
+            now.addAndGet(Duration.ofSeconds(5).toNanos());
+            breaker.tryAcquire();
+
+            // when
+            breaker.onFailure();
+
+            // then
+            assertThat(breaker.state()).isEqualTo(CardGatewayCircuitBreaker.State.OPEN);
+            assertThat(breaker.tryAcquire()).isFalse();
+        }
+
+        private void openBreaker() {
+            for (int i = 0; i < 4; i++) {
+                breaker.onFailure();
+            }
+            assertThat(breaker.state()).isEqualTo(CardGatewayCircuitBreaker.State.OPEN);
+        }
+    }
+
+    @Nested
+    @DisplayName("타임아웃과 동시 호출 제한")
+    class TimeoutAndBulkheadTest {
+
+        @Test
+        @DisplayName("응답이 타임아웃을 넘기면 네트워크 오류로 처리")
+        void timeoutBecomesNetworkError() {
+            // given
+            ResilientCardApprovalGateway gateway = gateway(
+                    new StubCardApprovalGateway(Duration.ofSeconds(2), Duration.ofSeconds(2), 0.0),
+                    new CardGatewayResiliencePolicy(Duration.ofMillis(50), 4, 10, 10, 0.5, Duration.ofSeconds(5)));
+
+            // when
+            long start = System.nanoTime();
+            FailureType result = gateway.approve(payment(10000, false));
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            // then
+            assertThat(result).isEqualTo(FailureType.NETWORK_ERROR);
+            assertThat(elapsedMillis).isLessThan(1000);
+            assertThat(meterRegistry.counter("payment.card_gateway.calls", "outcome", "timeout").count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("동시 호출 한도를 넘으면 카드사를 호출하지 않고 바로 거절")
+        void bulkheadRejectsWhenFull() throws Exception {
+            // given - 동시 1건만 허용, 첫 호출이 끝나지 않도록 막아 둠
+            CountDownLatch entered = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CardApprovalGateway blocking = payment -> {
+                entered.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return null;
+            };
+            ResilientCardApprovalGateway gateway = gateway(blocking,
+                    new CardGatewayResiliencePolicy(Duration.ofSeconds(5), 1, 10, 10, 0.5, Duration.ofSeconds(5)));
+            ExecutorService caller = Executors.newSingleThreadExecutor();
+
+            try {
+                Future<FailureType> first = caller.submit(() -> gateway.approve(payment(10000, false)));
+                assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+                // when
+                FailureType second = gateway.approve(payment(10000, false));
+                release.countDown();
+
+                // then
+                assertThat(second).isEqualTo(FailureType.GATEWAY_UNAVAILABLE);
+                assertThat(first.get(5, TimeUnit.SECONDS)).isNull();
+                assertThat(meterRegistry.counter("payment.card_gateway.calls", "outcome", "rejected_bulkhead").count())
+                        .isEqualTo(1.0);
+            } finally {
+                caller.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("카드사 거절(한도 초과)은 정상 응답이므로 서킷을 열지 않음")
+        void declinesDoNotOpenCircuit() {
+            // given
+            ResilientCardApprovalGateway gateway = gateway(
+                    new StubCardApprovalGateway(Duration.ZERO, Duration.ZERO, 0.0),
+                    new CardGatewayResiliencePolicy(Duration.ofSeconds(1), 4, 4, 4, 0.5, Duration.ofSeconds(5)));
+
+            // when
+            for (int i = 0; i < 10; i++) {
+                assertThat(gateway.approve(payment(60000, false))).isEqualTo(FailureType.CARD_LIMIT_EXCEEDED);
+            }
+
+            // then
+            assertThat(gateway.circuitState()).isEqualTo(CardGatewayCircuitBreaker.State.CLOSED);
+        }
+    }
+
+    @Nested
+    @DisplayName("지연 주입 부하 테스트")
+    class LatencyLoadTest {
+
+        @Test
+        @DisplayName("카드사가 느려지면 서킷이 열려 나머지 요청은 카드사 지연을 기다리지 않고 바로 실패")
+        void degradedGatewayFailsFast() throws Exception {
+            // given - 카드사 응답 1~2초, 타임아웃 50ms, 최근 10건 중 절반 실패 시 차단
+            ResilientCardApprovalGateway gateway = gateway(
+                    new StubCardApprovalGateway(Duration.ofSeconds(1), Duration.ofSeconds(2), 0.0),
+                    new CardGatewayResiliencePolicy(Duration.ofMillis(50), 8, 10, 10, 0.5, Duration.ofSeconds(30)));
+            int threadCount = 16;
+            int requestsPerThread = 25;
+            ExecutorService requestThreads = Executors.newFixedThreadPool(threadCount);
+            CountDownLatch ready = new CountDownLatch(threadCount);
+            CountDownLatch start = new CountDownLatch(1);
+
+            try {
+                // when
+                List<Future<Long>> workers = new ArrayList<>();
+                for (int t = 0; t < threadCount; t++) {
+                    workers.add(requestThreads.submit(() -> {
+                        ready.countDown();
+                        start.await();
+                        long slowest = 0;
+                        for (int i = 0; i < requestsPerThread; i++) {
+                            long begin = System.nanoTime();
+                            FailureType result = gateway.approve(payment(10000, true));
+                            assertThat(result).isIn(FailureType.NETWORK_ERROR, FailureType.GATEWAY_UNAVAILABLE);
+                            slowest = Math.max(slowest, System.nanoTime() - begin);
+                        }
+                        return slowest;
+                    }));
+                }
+                ready.await();
+                long begin = System.nanoTime();
+                start.countDown();
+                long slowestCall = 0;
+                for (Future<Long> worker : workers) {
+                    slowestCall = Math.max(slowestCall, worker.get(30, TimeUnit.SECONDS));
+                }
+                long totalMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+
+                // then - 400건 모두 카드사 지연(1초 이상)보다 훨씬 빨리 끝남
+                double timeouts = meterRegistry.counter("payment.card_gateway.calls", "outcome", "timeout").count();
+                double rejected = meterRegistry.counter("payment.card_gateway.calls", "outcome", "rejected_open").count()
+                        + meterRegistry.counter("payment.card_gateway.calls", "outcome", "rejected_bulkhead").count();
+
+                assertThat(TimeUnit.NANOSECONDS.toMillis(slowestCall)).isLessThan(1000);
+                assertThat(totalMillis).isLessThan(5000);
+                assertThat(timeouts + rejected).isEqualTo(threadCount * requestsPerThread);
+                assertThat(rejected).isGreaterThan(timeouts);
+                assertThat(gateway.circuitState()).isEqualTo(CardGatewayCircuitBreaker.State.OPEN);
+            } finally {
+                requestThreads.shutdownNow();
+            }
+        }
+    }
+
+    private ResilientCardApprovalGateway gateway(CardApprovalGateway delegate, CardGatewayResiliencePolicy policy) {
+        return new ResilientCardApprovalGateway(delegate, policy, callExecutor, meterRegistry);
+    }
+
+    private static Payment payment(double amount, boolean vip) {
+        Money price = Money.of(amount);
+        return Payment.create(price, price, price, Country.of("KR"), vip);
+    }
+}
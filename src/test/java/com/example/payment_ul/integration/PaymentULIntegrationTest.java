@@ -1,10 +1,13 @@
 package com.example.payment_ul.integration;
 
 import com.example.payment_ul.PaymentULApplication;
+import com.example.payment_ul.dto.PaymentExportFormat;
 import com.example.payment_ul.dto.PaymentRequest;
+import com.example.payment_ul.dto.PaymentResponse;
 import com.example.payment_ul.dto.PaymentResult;
 import com.example.payment_ul.entity.Payment;
 import com.example.payment_ul.entity.PaymentStatus;
+import com.example.payment_ul.service.PaymentExportService;
 import com.example.payment_ul.service.PaymentService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -13,6 +16,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
 import static org.assertj.core.api.Assertions.*;
 
 /**
@@ -31,6 +38,9 @@ class PaymentULIntegrationTest {
     @Autowired
     private PaymentService paymentService;
 
+    @Autowired
+    private PaymentExportService paymentExportService;
+
     @Nested
     @DisplayName("결제 처리 테스트")
     class PaymentProcessTest {
@@ -102,6 +112,25 @@ class PaymentULIntegrationTest {
             // then
             assertThat(completedPayments).hasSize(2);
         }
+
+        @Test
+        @DisplayName("응답 DTO 프로젝션 조회 - 전체/상태별/최근 N건")
+        void getPaymentResponses() {
+            // given
+            paymentService.processPayment(new PaymentRequest(10000, "KR", true));
+            paymentService.processPayment(new PaymentRequest(20000, "US", false));
+
+            // when
+            var all = paymentService.getAllPaymentResponses();
+            var completed = paymentService.getPaymentResponsesByStatus(PaymentStatus.COMPLETED);
+            var recent = paymentService.getRecentPaymentResponses(1);
+
+            // then
+            assertThat(all).extracting(PaymentResponse::country).containsExactlyInAnyOrder("KR", "US");
+            assertThat(all).extracting(PaymentResponse::taxedAmount).contains(9350.0);
+            assertThat(completed).hasSize(2);
+            assertThat(recent).hasSize(1);
+        }
     }
 
     @Nested
@@ -139,6 +168,68 @@ class PaymentULIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("결제 내역 내보내기 테스트")
+    class PaymentExportTest {
+
+        @Test
+        @DisplayName("CSV - 헤더 다음에 결제 한 건당 한 줄")
+        void exportCsv() throws Exception {
+            // given
+            paymentService.processPayment(new PaymentRequest(10000, "KR", true));
+            paymentService.processPayment(new PaymentRequest(20000, "US", false));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // when
+            long count = paymentExportService.export(PaymentExportFormat.CSV, null, null, null, out);
+
+            // then
+            String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+            assertThat(count).isEqualTo(2);
+            assertThat(lines).hasSize(3);
+            assertThat(lines[0]).startsWith("id,originalPrice,discountedAmount,taxedAmount,country");
+            assertThat(lines[1]).contains(",10000.0,8500.0,9350.0,KR,true,COMPLETED,");
+        }
+
+        @Test
+        @DisplayName("NDJSON - 상태 조건에 맞는 결제만 한 줄에 JSON 하나")
+        void exportNdjsonFilteredByStatus() throws Exception {
+            // given
+            paymentService.processPayment(new PaymentRequest(10000, "KR", true));
+            paymentService.processPayment(new PaymentRequest(20000, "US", false));
+            Long refundedId = paymentService.getAllPayments().get(0).getId();
+            paymentService.refundPayment(refundedId);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // when
+            long count = paymentExportService.export(
+                    PaymentExportFormat.NDJSON, null, null, PaymentStatus.REFUNDED, out);
+
+            // then
+            String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+            assertThat(count).isEqualTo(1);
+            assertThat(lines).hasSize(1);
+            assertThat(lines[0]).startsWith("{").contains("\"id\":" + refundedId, "\"status\":\"REFUNDED\"");
+        }
+
+        @Test
+        @DisplayName("기간 밖의 결제는 내보내지 않음")
+        void exportFilteredByDateRange() throws Exception {
+            // given
+            paymentService.processPayment(new PaymentRequest(10000, "KR", true));
+            LocalDateTime tomorrow = LocalDateTime.now().plusDays(1);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // when
+            long count = paymentExportService.export(
+                    PaymentExportFormat.CSV, tomorrow, tomorrow.plusDays(1), null, out);
+
+            // then - 헤더만 남음
+            assertThat(count).isZero();
+            assertThat(out.toString(StandardCharsets.UTF_8).split("\n")).hasSize(1);
+        }
+    }
+
     @Nested
     @DisplayName("유비쿼터스 랭귀지 검증")
     class UbiquitousLanguageTest {